@@ -0,0 +1,252 @@
+package net.jqwik.api;
+
+import java.util.*;
+import java.util.function.*;
+
+import org.apiguardian.api.*;
+import org.jspecify.annotations.*;
+
+import static org.apiguardian.api.API.Status.*;
+
+/**
+ * Predicates to be used with {@linkplain Arbitrary#filter(Predicate)}.
+ *
+ * <p>
+ * Filtering with these predicates accepts the same values as filtering with an equivalent lambda.
+ * Built-in integral number arbitraries and list and set arbitraries, however,
+ * will narrow their bounds accordingly instead of generating and rejecting values
+ * that cannot fulfill the predicate.
+ * Generation, edge cases and the shrinking target of a narrowed arbitrary then follow the narrowed range or size,
+ * e.g. {@code Arbitraries.integers().between(0, 99).filter(Predicates.greaterThan(50))}
+ * has edge cases {@code 51} and {@code 52}, which filtering with a lambda would never produce.
+ * </p>
+ *
+ * <pre>{@code
+ * Arbitraries.integers().filter(Predicates.greaterThan(0))
+ * Arbitraries.strings().list().filter(Predicates.sizeAtLeast(3))
+ * }</pre>
+ */
+@API(status = EXPERIMENTAL, since = "1.11.0")
+public class Predicates {
+
+	private Predicates() {
+	}
+
+	/**
+	 * Accept values greater than {@code min}.
+	 */
+	public static <T extends Comparable<? super T>> RangePredicate<T> greaterThan(T min) {
+		return new RangePredicate<>(min, false, null, false);
+	}
+
+	/**
+	 * Accept values greater than or equal to {@code min}.
+	 */
+	public static <T extends Comparable<? super T>> RangePredicate<T> greaterOrEqual(T min) {
+		return new RangePredicate<>(min, true, null, false);
+	}
+
+	/**
+	 * Accept values less than {@code max}.
+	 */
+	public static <T extends Comparable<? super T>> RangePredicate<T> lessThan(T max) {
+		return new RangePredicate<>(null, false, max, false);
+	}
+
+	/**
+	 * Accept values less than or equal to {@code max}.
+	 */
+	public static <T extends Comparable<? super T>> RangePredicate<T> lessOrEqual(T max) {
+		return new RangePredicate<>(null, false, max, true);
+	}
+
+	/**
+	 * Accept values between {@code min} and {@code max}, both included.
+	 */
+	public static <T extends Comparable<? super T>> RangePredicate<T> between(T min, T max) {
+		return new RangePredicate<>(min, true, max, true);
+	}
+
+	/**
+	 * Accept collections with at least {@code minSize} elements.
+	 */
+	public static SizePredicate sizeAtLeast(int minSize) {
+		return new SizePredicate(minSize, Integer.MAX_VALUE);
+	}
+
+	/**
+	 * Accept collections with at most {@code maxSize} elements.
+	 */
+	public static SizePredicate sizeAtMost(int maxSize) {
+		return new SizePredicate(0, maxSize);
+	}
+
+	/**
+	 * Accept collections with {@code minSize} to {@code maxSize} elements.
+	 */
+	public static SizePredicate sizeBetween(int minSize, int maxSize) {
+		return new SizePredicate(minSize, maxSize);
+	}
+
+	/**
+	 * A predicate that accepts values within a range of comparable values.
+	 * Missing bounds are unrestricted.
+	 *
+	 * @param <T> The type of the range's values
+	 */
+	public static final class RangePredicate<T extends Comparable<? super T>> implements Predicate<T> {
+
+		private final @Nullable T min;
+		private final boolean minIncluded;
+		private final @Nullable T max;
+		private final boolean maxIncluded;
+
+		private RangePredicate(@Nullable T min, boolean minIncluded, @Nullable T max, boolean maxIncluded) {
+			this.min = min;
+			this.minIncluded = minIncluded;
+			this.max = max;
+			this.maxIncluded = maxIncluded;
+		}
+
+		public Optional<T> min() {
+			return Optional.ofNullable(min);
+		}
+
+		public boolean minIncluded() {
+			return minIncluded;
+		}
+
+		public Optional<T> max() {
+			return Optional.ofNullable(max);
+		}
+
+		public boolean maxIncluded() {
+			return maxIncluded;
+		}
+
+		@Override
+		public boolean test(T value) {
+			if (min != null) {
+				int comparison = value.compareTo(min);
+				if (comparison < 0 || (comparison == 0 && !minIncluded)) {
+					return false;
+				}
+			}
+			if (max != null) {
+				int comparison = value.compareTo(max);
+				return comparison < 0 || (comparison == 0 && maxIncluded);
+			}
+			return true;
+		}
+
+		/**
+		 * Combine with another range predicate so that the result can still narrow an arbitrary's range.
+		 */
+		public RangePredicate<T> and(RangePredicate<T> other) {
+			T newMin = min;
+			boolean newMinIncluded = minIncluded;
+			if (other.min != null) {
+				int comparison = newMin == null ? -1 : newMin.compareTo(other.min);
+				if (comparison < 0 || (comparison == 0 && !other.minIncluded)) {
+					newMin = other.min;
+					newMinIncluded = other.minIncluded;
+				}
+			}
+			T newMax = max;
+			boolean newMaxIncluded = maxIncluded;
+			if (other.max != null) {
+				int comparison = newMax == null ? 1 : newMax.compareTo(other.max);
+				if (comparison > 0 || (comparison == 0 && !other.maxIncluded)) {
+					newMax = other.max;
+					newMaxIncluded = other.maxIncluded;
+				}
+			}
+			return new RangePredicate<>(newMin, newMinIncluded, newMax, newMaxIncluded);
+		}
+
+		@Override
+		public boolean equals(Object o) {
+			if (this == o) return true;
+			if (o == null || getClass() != o.getClass()) return false;
+			RangePredicate<?> that = (RangePredicate<?>) o;
+			return minIncluded == that.minIncluded
+					   && maxIncluded == that.maxIncluded
+					   && Objects.equals(min, that.min)
+					   && Objects.equals(max, that.max);
+		}
+
+		@Override
+		public int hashCode() {
+			return Objects.hash(min, max);
+		}
+
+		@Override
+		public String toString() {
+			String left = min == null ? "]" : (minIncluded ? "[" : "]") + min;
+			String right = max == null ? "[" : max + (maxIncluded ? "]" : "[");
+			return String.format("RangePredicate<%s..%s>", left, right);
+		}
+	}
+
+	/**
+	 * A predicate that accepts collections within a range of sizes.
+	 */
+	public static final class SizePredicate implements Predicate<Collection<?>> {
+
+		private final int minSize;
+		private final int maxSize;
+
+		private SizePredicate(int minSize, int maxSize) {
+			if (minSize < 0 || maxSize < minSize) {
+				String message = String.format("Illegal size range [%s..%s]", minSize, maxSize);
+				throw new IllegalArgumentException(message);
+			}
+			this.minSize = minSize;
+			this.maxSize = maxSize;
+		}
+
+		public int minSize() {
+			return minSize;
+		}
+
+		/**
+		 * @return {@linkplain Integer#MAX_VALUE} if there is no upper bound
+		 */
+		public int maxSize() {
+			return maxSize;
+		}
+
+		@Override
+		public boolean test(Collection<?> collection) {
+			int size = collection.size();
+			return size >= minSize && size <= maxSize;
+		}
+
+		/**
+		 * Combine with another size predicate so that the result can still narrow an arbitrary's sizes.
+		 *
+		 * @throws IllegalArgumentException if the size ranges of both predicates do not overlap
+		 */
+		public SizePredicate and(SizePredicate other) {
+			return new SizePredicate(Math.max(minSize, other.minSize), Math.min(maxSize, other.maxSize));
+		}
+
+		@Override
+		public boolean equals(Object o) {
+			if (this == o) return true;
+			if (o == null || getClass() != o.getClass()) return false;
+			SizePredicate that = (SizePredicate) o;
+			return minSize == that.minSize && maxSize == that.maxSize;
+		}
+
+		@Override
+		public int hashCode() {
+			return Objects.hash(minSize, maxSize);
+		}
+
+		@Override
+		public String toString() {
+			return String.format("SizePredicate<[%s..%s]>", minSize, maxSize);
+		}
+	}
+}
@@ -38,6 +38,8 @@ public @interface Property {
 	int MAX_DISCARD_RATIO_NOT_SET = 0;
 	String SEED_NOT_SET = "";
 	String STEREOTYPE_NOT_SET = "";
+	int PARALLELISM_NOT_SET = 0;
+	String DURATION_NOT_SET = "";
 
 	/**
 	 * Tries are the test runs with different parameters. By default it is 1000. You can override globally in the property file
@@ -92,4 +94,38 @@ public @interface Property {
 	 */
 	@API(status = MAINTAINED, since = "1.4.0")
 	FixedSeedMode whenFixedSeed() default FixedSeedMode.NOT_SET;
+
+	/**
+	 * The number of tries that are allowed to run concurrently.
+	 * <p>
+	 * Default is 1, i.e. all tries are run one after the other on the property's thread.
+	 * With a higher value, parameters are still generated one after the other,
+	 * so that a given seed produces the same samples as in sequential execution.
+	 * The tries themselves, however, are run concurrently in a thread pool of the given size.
+	 * Results are evaluated in the order of generation; if more than one try fails,
+	 * the earliest one is reported and shrunk.
+	 * <p>
+	 * Concurrent tries share the same container instance.
+	 * Therefore the property method and all try-related lifecycle hooks must be thread-safe.
+	 *
+	 * @return the maximum number of concurrently running tries
+	 */
+	@API(status = EXPERIMENTAL, since = "1.11.0")
+	int parallelism() default PARALLELISM_NOT_SET;
+
+	/**
+	 * A wall-clock time budget for running tries, e.g. {@code "30s"}, {@code "500ms"}, {@code "2m"} or {@code "1h30m"}.
+	 * ISO-8601 durations like {@code "PT30S"} are also accepted.
+	 * <p>
+	 * If set, tries are generated until the time budget is used up instead of stopping after {@link #tries()} tries.
+	 * The number of tries achieved and the tries per second are reported after the run.
+	 * Shrinking is not included in the time budget.
+	 * <p>
+	 * Default is no time budget. It can be set globally through the {@code jqwik.tries.duration}
+	 * configuration property, which only applies to properties without explicitly set {@link #tries()}.
+	 *
+	 * @return the time budget for generating and running tries
+	 */
+	@API(status = EXPERIMENTAL, since = "1.11.0")
+	String duration() default DURATION_NOT_SET;
 }
@@ -107,6 +107,26 @@ public interface PropertyAttributes {
 	@API(status = MAINTAINED, since = "1.4.0")
 	Optional<FixedSeedMode> whenFixedSeed();
 
+	/**
+	 * The number of tries that can run concurrently in the property at hand.
+	 * Only present when set explicitly through {@linkplain Property#parallelism()}
+	 * or {@linkplain #setParallelism(Integer)}.
+	 *
+	 * @return optional parallelism
+	 */
+	@API(status = EXPERIMENTAL, since = "1.11.0")
+	Optional<Integer> parallelism();
+
+	/**
+	 * The time budget for running tries in the property at hand.
+	 * Only present when set explicitly through {@linkplain Property#duration()}
+	 * or {@linkplain #setDuration(String)}.
+	 *
+	 * @return optional time budget
+	 */
+	@API(status = EXPERIMENTAL, since = "1.11.0")
+	Optional<String> duration();
+
 	void setTries(Integer tries);
 
 	void setMaxDiscardRatio(Integer maxDiscardRatio);
@@ -125,4 +145,10 @@ public interface PropertyAttributes {
 
 	void setWhenFixedSeed(FixedSeedMode fixedSeedMode);
 
+	@API(status = EXPERIMENTAL, since = "1.11.0")
+	void setParallelism(Integer parallelism);
+
+	@API(status = EXPERIMENTAL, since = "1.11.0")
+	void setDuration(String duration);
+
 }
@@ -37,6 +37,8 @@ public interface Store<T> {
 
 		public abstract <T extends @Nullable Object> Store<T> get(Object identifier);
 
+		public abstract <T extends @Nullable Object> Store<T> getOrCreate(Object identifier, Lifespan lifespan, Supplier<? extends T> initialValueSupplier);
+
 		public abstract <T extends @Nullable Object> Store<T> free(Supplier<? extends T> initialValueSupplier);
 	}
 
@@ -85,20 +87,7 @@ public interface Store<T> {
 	 * @return New or existing store instance
 	 */
 	static <T extends @Nullable Object> Store<T> getOrCreate(Object identifier, Lifespan lifespan, Supplier<T> initialValueSupplier) {
-		try {
-			Store<T> store = Store.get(identifier);
-			if (!store.lifespan().equals(lifespan)) {
-				String message = String.format(
-					"Trying to recreate existing store [%s] with different lifespan [%s]",
-					store,
-					lifespan
-				);
-				throw new JqwikException(message);
-			}
-			return store;
-		} catch (CannotFindStoreException cannotFindStore) {
-			return Store.create(identifier, lifespan, initialValueSupplier);
-		}
+		return StoreFacade.implementation.getOrCreate(identifier, lifespan, initialValueSupplier);
 	}
 
 	/**
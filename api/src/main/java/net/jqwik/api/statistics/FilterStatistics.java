@@ -0,0 +1,56 @@
+package net.jqwik.api.statistics;
+
+import java.time.*;
+import java.util.function.*;
+
+import org.apiguardian.api.*;
+
+import net.jqwik.api.*;
+
+import static org.apiguardian.api.API.Status.*;
+
+/**
+ * Describes how many values a filter, i.e. {@linkplain Arbitrary#filter(Predicate)},
+ * had to generate during the current property in order to accept some of them.
+ *
+ * <p>
+ * Only random generation is tracked. Exhaustive generation and edge cases are not considered.
+ * </p>
+ *
+ * @see Statistics#filters()
+ */
+@API(status = EXPERIMENTAL, since = "1.11.0")
+public interface FilterStatistics {
+
+	/**
+	 * A description of the filter, usually derived from the filter predicate
+	 */
+	String label();
+
+	/**
+	 * The number of values that were generated and checked by the filter
+	 */
+	long countGenerated();
+
+	/**
+	 * The number of values that were accepted by the filter
+	 */
+	long countAccepted();
+
+	/**
+	 * The time spent in generating and filtering values,
+	 * including the time spent in nested generators
+	 */
+	Duration timeSpent();
+
+	/**
+	 * The ratio of accepted to generated values between 0.0 and 1.0
+	 */
+	default double acceptanceRate() {
+		long generated = countGenerated();
+		if (generated == 0) {
+			return 1.0;
+		}
+		return (double) countAccepted() / generated;
+	}
+}
@@ -1,5 +1,6 @@
 package net.jqwik.api.statistics;
 
+import java.util.*;
 import java.util.function.*;
 
 import org.apiguardian.api.*;
@@ -28,6 +29,8 @@ public class Statistics {
 		public abstract StatisticsCollector collectorByLabel(String label);
 
 		public abstract StatisticsCollector defaultCollector();
+
+		public abstract List<FilterStatistics> filterStatistics();
 	}
 
 	private Statistics() {
@@ -111,4 +114,18 @@ public class Statistics {
 		StatisticsFacade.implementation.defaultCollector().coverage(checker);
 	}
 
+	/**
+	 * Get statistics about all filters that have been used to randomly generate values
+	 * in the current property so far. Filters with the lowest acceptance rate come first.
+	 * <p>
+	 * This can be called in the property method itself,
+	 * but also in property lifecycle hooks after the property has been executed.
+	 *
+	 * @return list of filter statistics or an empty list if no filter has been used
+	 */
+	@API(status = EXPERIMENTAL, since = "1.11.0")
+	public static List<FilterStatistics> filters() {
+		return StatisticsFacade.implementation.filterStatistics();
+	}
+
 }
@@ -1,6 +1,7 @@
 package net.jqwik.engine;
 
 import java.nio.file.*;
+import java.time.*;
 import java.util.*;
 import java.util.logging.*;
 
@@ -34,7 +35,11 @@ public class DefaultJqwikConfiguration implements JqwikConfiguration {
 			properties.defaultEdgeCases(),
 			properties.defaultShrinking(),
 			properties.boundedShrinkingSeconds(),
-			properties.fixedSeedMode()
+			properties.fixedSeedMode(),
+			properties.virtualThreadTries(),
+			properties.defaultTriesDuration(),
+			properties.prefetchedTries(),
+			properties.filterAcceptanceWarning()
 		);
 	}
 
@@ -61,6 +66,21 @@ public class DefaultJqwikConfiguration implements JqwikConfiguration {
 		return properties.hideAntiAiClause();
 	}
 
+	@Override
+	public int executionParallelism() {
+		return properties.executionParallelism();
+	}
+
+	@Override
+	public int failFastMaxFailures() {
+		return properties.failFastMaxFailures();
+	}
+
+	@Override
+	public boolean failFastShrinkOnlyFirst() {
+		return properties.failFastShrinkOnlyFirst();
+	}
+
 	private TestEngineConfiguration createTestEngineConfiguration() {
 		String databasePath = properties.databasePath();
 		if (databasePath == null || databasePath.trim().isEmpty()) {
@@ -86,11 +106,16 @@ public class DefaultJqwikConfiguration implements JqwikConfiguration {
 			public Set<UniqueId> previousFailures() {
 				return Collections.emptySet();
 			}
+
+			@Override
+			public Map<UniqueId, Duration> previousDurations() {
+				return Collections.emptyMap();
+			}
 		};
 	}
 
 	private TestEngineConfiguration testEngineConfigurationFromDatabase(String databasePath) {
-		TestRunDatabase database = new TestRunDatabase(Paths.get(databasePath));
+		TestRunDatabase database = new TestRunDatabase(Paths.get(databasePath), properties.runLongestFirst());
 		TestRunData previousRun = database.previousRun();
 		return new TestEngineConfiguration() {
 			@Override
@@ -109,6 +134,13 @@ public class DefaultJqwikConfiguration implements JqwikConfiguration {
 					return Collections.emptySet();
 				return previousRun.allNonSuccessfulTests().map(TestRun::getUniqueId).collect(CollectorsSupport.toLinkedHashSet());
 			}
+
+			@Override
+			public Map<UniqueId, Duration> previousDurations() {
+				if (!properties.runLongestFirst())
+					return Collections.emptyMap();
+				return previousRun.allTestDurations();
+			}
 		};
 	}
 }
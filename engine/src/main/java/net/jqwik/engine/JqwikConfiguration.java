@@ -10,4 +10,10 @@ public interface JqwikConfiguration {
 	boolean reportOnlyFailures();
 
 	boolean hideAntiAiClause();
+
+	int executionParallelism();
+
+	int failFastMaxFailures();
+
+	boolean failFastShrinkOnlyFirst();
 }
@@ -20,6 +20,7 @@ public class JqwikProperties {
 
 	private static final String DEFAULT_DATABASE_PATH = ".jqwik-database";
 	private static final boolean DEFAULT_RERUN_FAILURES_FIRST = false;
+	private static final boolean DEFAULT_RUN_LONGEST_FIRST = false;
 	private static final int DEFAULT_MAX_DISCARD_RATIO = 5;
 	private static final AfterFailureMode DEFAULT_AFTER_FAILURE = AfterFailureMode.SAMPLE_FIRST;
 	private static final boolean DEFAULT_REPORT_ONLY_FAILURES = false;
@@ -28,6 +29,13 @@ public class JqwikProperties {
 	private static final EdgeCasesMode DEFAULT_EDGE_CASES = EdgeCasesMode.MIXIN;
 	private static final ShrinkingMode DEFAULT_SHRINKING = ShrinkingMode.BOUNDED;
 	private static final int DEFAULT_BOUNDED_SHRINKING_SECONDS = 10;
+	private static final int DEFAULT_EXECUTION_PARALLELISM = 1;
+	private static final boolean DEFAULT_VIRTUAL_THREAD_TRIES = false;
+	private static final String DEFAULT_TRIES_DURATION = Property.DURATION_NOT_SET;
+	private static final int DEFAULT_PREFETCHED_TRIES = 0;
+	private static final int DEFAULT_FAIL_FAST_MAX_FAILURES = 0;
+	private static final boolean DEFAULT_FAIL_FAST_SHRINK_ONLY_FIRST = false;
+	private static final double DEFAULT_FILTER_ACCEPTANCE_WARNING = 10.0;
 
 	// TODO: Change default to true as soon as Gradle has support for platform reporter
 	// see https://github.com/gradle/gradle/issues/4605
@@ -35,6 +43,7 @@ public class JqwikProperties {
 
 	private final String databasePath;
 	private final boolean runFailuresFirst;
+	private final boolean runLongestFirst;
 	private final int defaultTries;
 	private final int defaultMaxDiscardRatio;
 	private final boolean useJunitPlatformReporter;
@@ -46,6 +55,13 @@ public class JqwikProperties {
 	private final ShrinkingMode defaultShrinking;
 	private final int boundedShrinkingSeconds;
 	private final FixedSeedMode fixedSeedMode;
+	private final int executionParallelism;
+	private final boolean virtualThreadTries;
+	private final String defaultTriesDuration;
+	private final int prefetchedTries;
+	private final int failFastMaxFailures;
+	private final boolean failFastShrinkOnlyFirst;
+	private final double filterAcceptanceWarning;
 
 	public String databasePath() {
 		return databasePath;
@@ -55,6 +71,10 @@ public class JqwikProperties {
 		return runFailuresFirst;
 	}
 
+	public boolean runLongestFirst() {
+		return runLongestFirst;
+	}
+
 	public int defaultTries() {
 		return defaultTries;
 	}
@@ -99,9 +119,38 @@ public class JqwikProperties {
 		return fixedSeedMode;
 	}
 
+	public int executionParallelism() {
+		return executionParallelism;
+	}
+
+	public boolean virtualThreadTries() {
+		return virtualThreadTries;
+	}
+
+	public String defaultTriesDuration() {
+		return defaultTriesDuration;
+	}
+
+	public int prefetchedTries() {
+		return prefetchedTries;
+	}
+
+	public int failFastMaxFailures() {
+		return failFastMaxFailures;
+	}
+
+	public boolean failFastShrinkOnlyFirst() {
+		return failFastShrinkOnlyFirst;
+	}
+
+	public double filterAcceptanceWarning() {
+		return filterAcceptanceWarning;
+	}
+
 	JqwikProperties(ConfigurationParameters parameters) {
 		databasePath = parameters.get("database").orElse(DEFAULT_DATABASE_PATH);
 		runFailuresFirst = parameters.getBoolean("failures.runfirst").orElse(DEFAULT_RERUN_FAILURES_FIRST);
+		runLongestFirst = parameters.getBoolean("execution.longestfirst").orElse(DEFAULT_RUN_LONGEST_FIRST);
 		defaultTries = parameters.get("tries.default", Integer::parseInt).orElse(DEFAULT_TRIES);
 		defaultMaxDiscardRatio = parameters.get("maxdiscardratio.default", Integer::parseInt).orElse(DEFAULT_MAX_DISCARD_RATIO);
 		useJunitPlatformReporter = parameters.getBoolean("reporting.usejunitplatform").orElse(DEFAULT_USE_JUNIT_PLATFORM_REPORTER);
@@ -113,6 +162,13 @@ public class JqwikProperties {
 		defaultShrinking = parameters.get("shrinking.default", ShrinkingMode::valueOf).orElse(DEFAULT_SHRINKING);
 		boundedShrinkingSeconds = parameters.get("shrinking.bounded.seconds", Integer::parseInt).orElse(DEFAULT_BOUNDED_SHRINKING_SECONDS);
 		fixedSeedMode = parameters.get("seeds.whenfixed", FixedSeedMode::valueOf).orElse(FixedSeedMode.ALLOW);
+		executionParallelism = parameters.get("execution.parallelism", Integer::parseInt).orElse(DEFAULT_EXECUTION_PARALLELISM);
+		virtualThreadTries = parameters.getBoolean("tries.virtualthreads").orElse(DEFAULT_VIRTUAL_THREAD_TRIES);
+		defaultTriesDuration = parameters.get("tries.duration").orElse(DEFAULT_TRIES_DURATION);
+		prefetchedTries = parameters.get("tries.prefetch", Integer::parseInt).orElse(DEFAULT_PREFETCHED_TRIES);
+		failFastMaxFailures = parameters.get("failfast.maxfailures", Integer::parseInt).orElse(DEFAULT_FAIL_FAST_MAX_FAILURES);
+		failFastShrinkOnlyFirst = parameters.getBoolean("failfast.shrinkonlyfirst").orElse(DEFAULT_FAIL_FAST_SHRINK_ONLY_FIRST);
+		filterAcceptanceWarning = parameters.get("reporting.filteracceptance", Double::parseDouble).orElse(DEFAULT_FILTER_ACCEPTANCE_WARNING);
 	}
 
 	static JqwikProperties load(ConfigurationParameters fromJunit) {
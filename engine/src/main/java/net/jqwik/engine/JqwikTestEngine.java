@@ -65,9 +65,12 @@ public class JqwikTestEngine implements TestEngine {
 				lifecycleRegistry,
 				recorder,
 				configuration.testEngineConfiguration().previousFailures(),
+				configuration.testEngineConfiguration().previousDurations(),
 				configuration.useJunitPlatformReporter(),
 				configuration.reportOnlyFailures(),
-				configuration.hideAntiAiClause()
+				configuration.hideAntiAiClause(),
+				configuration.executionParallelism(),
+				new FailFast(configuration.failFastMaxFailures(), configuration.failFastShrinkOnlyFirst())
 			).execute(root, listener);
 		}
 	}
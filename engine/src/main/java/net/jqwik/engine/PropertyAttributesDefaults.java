@@ -19,6 +19,20 @@ public interface PropertyAttributesDefaults {
 	// This is currently a global parameter
 	int boundedShrinkingSeconds();
 
+	// This is currently a global parameter
+	boolean virtualThreadTries();
+
+	// This is currently a global parameter
+	// Only applies to properties without explicitly set tries
+	String duration();
+
+	// This is currently a global parameter
+	int prefetchedTries();
+
+	// This is currently a global parameter
+	// Filters accepting a lower percentage of generated values are reported
+	double filterAcceptanceWarning();
+
 	static PropertyAttributesDefaults with(
 		int tries,
 		int maxDiscardRatio,
@@ -27,7 +41,11 @@ public interface PropertyAttributesDefaults {
 		EdgeCasesMode edgeCasesMode,
 		ShrinkingMode shrinkingMode,
 		int boundedShrinkingSeconds,
-		FixedSeedMode fixedSeedMode
+		FixedSeedMode fixedSeedMode,
+		boolean virtualThreadTries,
+		String duration,
+		int prefetchedTries,
+		double filterAcceptanceWarning
 	) {
 		return new PropertyAttributesDefaults() {
 			@Override
@@ -74,6 +92,26 @@ public interface PropertyAttributesDefaults {
 			public FixedSeedMode whenFixedSeed() {
 				return fixedSeedMode;
 			}
+
+			@Override
+			public boolean virtualThreadTries() {
+				return virtualThreadTries;
+			}
+
+			@Override
+			public String duration() {
+				return duration;
+			}
+
+			@Override
+			public int prefetchedTries() {
+				return prefetchedTries;
+			}
+
+			@Override
+			public double filterAcceptanceWarning() {
+				return filterAcceptanceWarning;
+			}
 		};
 	}
 }
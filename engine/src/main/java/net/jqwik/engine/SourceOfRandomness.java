@@ -4,6 +4,8 @@ import java.util.*;
 import java.util.concurrent.*;
 import java.util.function.*;
 
+import org.jspecify.annotations.*;
+
 import net.jqwik.api.*;
 
 public class SourceOfRandomness {
@@ -20,10 +22,14 @@ public class SourceOfRandomness {
 	}
 
 	public static Random create(String seed) {
+		Random random = newRandom(parseSeed(seed));
+		current.set(random);
+		return random;
+	}
+
+	private static long parseSeed(String seed) {
 		try {
-			Random random = newRandom(Long.parseLong(seed));
-			current.set(random);
-			return random;
+			return Long.parseLong(seed);
 		} catch (NumberFormatException nfe) {
 			throw new JqwikException(String.format("[%s] is not a valid random seed.", seed));
 		}
@@ -37,10 +43,49 @@ public class SourceOfRandomness {
 		return new XORShiftRandom(seed);
 	}
 
+	/**
+	 * Create a random source that can derive independent random sources through {@linkplain SplitMix64Random#split()}
+	 * and skip ahead through {@linkplain SplitMix64Random#jump(long)}.
+	 */
+	public static SplitMix64Random newSplittableRandom(final long seed) {
+		return new SplitMix64Random(seed);
+	}
+
+	/**
+	 * Create a splittable random source from the same kind of seed as {@linkplain #create(String)}.
+	 * Its values are independent of the random source created by {@linkplain #create(String)} from the same seed.
+	 * Without a seed the splittable random source is seeded randomly.
+	 */
+	public static SplitMix64Random newSplittableRandom(@Nullable String seed) {
+		return newSplittableRandom(seed == null ? RNG.get().nextLong() : parseSeed(seed));
+	}
+
 	public static Random current() {
 		return current.get();
 	}
 
+	/**
+	 * Use {@code random} as {@linkplain #current()} random source while {@code executable} is running on this thread.
+	 */
+	public static <T extends @Nullable Object> T runWithRandom(Random random, Supplier<? extends T> executable) {
+		Random previous = current.get();
+		current.set(random);
+		try {
+			return executable.get();
+		} finally {
+			current.set(previous);
+		}
+	}
+
+	/**
+	 * See <a href="http://zimbry.blogspot.com/2011/09/better-bit-mixing-improving-on.html">Better Bit Mixing - Improving on MurmurHash3's 64-bit Finalizer</a>
+	 */
+	private static long mix64(long z) {
+		z = (z ^ (z >>> 30)) * 0xbf58476d1ce4e5b9L;
+		z = (z ^ (z >>> 27)) * 0x94d049bb133111ebL;
+		return z ^ (z >>> 31);
+	}
+
 	/**
 	 * A faster but not thread safe implementation of {@linkplain java.util.Random}.
 	 * It also has a period of 2^n - 1 and better statistical randomness.
@@ -69,15 +114,6 @@ public class SourceOfRandomness {
 			}
 		}
 
-		/**
-		* See <a href="http://zimbry.blogspot.com/2011/09/better-bit-mixing-improving-on.html">Better Bit Mixing - Improving on MurmurHash3's 64-bit Finalizer</a>
-		*/
-		private static long mix64(long z) {
-			z = (z ^ (z >>> 30)) * 0xbf58476d1ce4e5b9L;
-			z = (z ^ (z >>> 27)) * 0x94d049bb133111ebL;
-			return z ^ (z >>> 31);
-		}
-
 		@Override
 		protected int next(int nbits) {
 			long x = nextLong();
@@ -98,4 +134,140 @@ public class SourceOfRandomness {
 			return x;
 		}
 	}
+
+	/**
+	 * A splittable implementation of {@linkplain java.util.Random} based on SplitMix64,
+	 * which is also the algorithm behind {@linkplain java.util.SplittableRandom}.
+	 * It is not thread safe; use {@linkplain #split()} to hand out random sources to other threads.
+	 *
+	 * See for details: <a href="https://doi.org/10.1145/2714064.2660195">Fast Splittable Pseudorandom Number Generators</a>
+	 */
+	public static class SplitMix64Random extends Random {
+		private static final long GOLDEN_GAMMA = 0x9e3779b97f4a7c15L;
+		private static final double DOUBLE_UNIT = 0x1.0p-53;
+		private static final float FLOAT_UNIT = 0x1.0p-24f;
+
+		private long seed;
+		private final long gamma;
+		private boolean initialized = false;
+
+		private SplitMix64Random(long seed) {
+			this(seed, GOLDEN_GAMMA);
+		}
+
+		private SplitMix64Random(long seed, long gamma) {
+			this.seed = seed;
+			this.gamma = gamma;
+			this.initialized = true;
+		}
+
+		/**
+		 * Same as in {@linkplain java.util.SplittableRandom}: gamma must be odd and have enough bit transitions
+		 */
+		private static long mixGamma(long z) {
+			z = (z ^ (z >>> 33)) * 0xff51afd7ed558ccdL;
+			z = (z ^ (z >>> 33)) * 0xc4ceb9fe1a85ec53L;
+			z = (z ^ (z >>> 33)) | 1L;
+			int n = Long.bitCount(z ^ (z >>> 1));
+			return (n < 24) ? z ^ 0xaaaaaaaaaaaaaaaaL : z;
+		}
+
+		private long nextSeed() {
+			return seed += gamma;
+		}
+
+		/**
+		 * Create a new random source whose values are statistically independent of this one.
+		 * Splitting advances this random source by two values.
+		 */
+		public SplitMix64Random split() {
+			return new SplitMix64Random(nextLong(), mixGamma(nextSeed()));
+		}
+
+		/**
+		 * Advance this random source by {@code steps} values in constant time.
+		 */
+		public void jump(long steps) {
+			seed += steps * gamma;
+		}
+
+		/**
+		 * Only the call from {@linkplain Random}'s constructor is ignored.
+		 * Setting the seed afterwards is not supported because it would break reproducibility of splits.
+		 */
+		@Override
+		public void setSeed(long seed) {
+			if (initialized) {
+				throw new UnsupportedOperationException("Seed of a splittable random source cannot be changed");
+			}
+		}
+
+		@Override
+		protected int next(int nbits) {
+			return (int) (nextLong() >>> (64 - nbits));
+		}
+
+		@Override
+		public long nextLong() {
+			return mix64(nextSeed());
+		}
+
+		@Override
+		public int nextInt() {
+			return (int) (nextLong() >>> 32);
+		}
+
+		/**
+		 * Uses Lemire's multiply and shift method which avoids division in almost all cases.
+		 * See <a href="https://arxiv.org/abs/1805.10941">Fast Random Integer Generation in an Interval</a>
+		 */
+		@Override
+		public int nextInt(int bound) {
+			if (bound <= 0) {
+				throw new IllegalArgumentException("bound must be positive");
+			}
+			long product = (nextLong() >>> 32) * bound;
+			long low = product & 0xffffffffL;
+			if (low < bound) {
+				long threshold = (0x100000000L - bound) % bound;
+				while (low < threshold) {
+					product = (nextLong() >>> 32) * bound;
+					low = product & 0xffffffffL;
+				}
+			}
+			return (int) (product >>> 32);
+		}
+
+		@Override
+		public boolean nextBoolean() {
+			return nextLong() < 0;
+		}
+
+		@Override
+		public double nextDouble() {
+			return (nextLong() >>> 11) * DOUBLE_UNIT;
+		}
+
+		@Override
+		public float nextFloat() {
+			return (nextInt() >>> 8) * FLOAT_UNIT;
+		}
+
+		@Override
+		public void nextBytes(byte[] bytes) {
+			int i = 0;
+			int fullWords = bytes.length >>> 3;
+			for (int word = 0; word < fullWords; word++) {
+				long value = nextLong();
+				for (int b = 0; b < 8; b++, value >>>= 8) {
+					bytes[i++] = (byte) value;
+				}
+			}
+			if (i < bytes.length) {
+				for (long value = nextLong(); i < bytes.length; value >>>= 8) {
+					bytes[i++] = (byte) value;
+				}
+			}
+		}
+	}
 }
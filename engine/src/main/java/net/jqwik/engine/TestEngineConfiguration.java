@@ -1,5 +1,6 @@
 package net.jqwik.engine;
 
+import java.time.*;
 import java.util.*;
 
 import org.junit.platform.engine.*;
@@ -12,4 +13,6 @@ public interface TestEngineConfiguration {
 	TestRunData previousRun();
 
 	Set<UniqueId> previousFailures();
+
+	Map<UniqueId, Duration> previousDurations();
 }
@@ -1,9 +1,13 @@
 package net.jqwik.engine.descriptor;
 
+import java.time.*;
+import java.util.*;
+
 import net.jqwik.api.*;
 import net.jqwik.api.lifecycle.*;
 import net.jqwik.engine.*;
 import net.jqwik.engine.execution.*;
+import net.jqwik.engine.support.*;
 
 public class PropertyConfiguration {
 
@@ -135,6 +139,42 @@ public class PropertyConfiguration {
 		return propertyAttributes.whenFixedSeed().orElse(propertyAttributesDefaults.whenFixedSeed());
 	}
 
+	public int getParallelism() {
+		return propertyAttributes.parallelism().orElse(1);
+	}
+
+	// This is currently a global value and not property specific
+	public boolean useVirtualThreadsForTries() {
+		return propertyAttributesDefaults.virtualThreadTries();
+	}
+
+	// This is currently a global value and not property specific
+	public int prefetchedTries() {
+		return propertyAttributesDefaults.prefetchedTries();
+	}
+
+	// This is currently a global value and not property specific
+	public double filterAcceptanceWarning() {
+		return propertyAttributesDefaults.filterAcceptanceWarning();
+	}
+
+	/**
+	 * A time budget is ignored when the number of tries has been overridden, e.g. for exhaustive generation.
+	 * The global time budget only applies if tries have not been set explicitly.
+	 */
+	public Optional<Duration> getDuration() {
+		if (overriddenTries != null) {
+			return Optional.empty();
+		}
+		if (propertyAttributes.duration().isPresent()) {
+			return propertyAttributes.duration().map(JqwikDurationSupport::parse);
+		}
+		if (propertyAttributes.tries().isPresent() || propertyAttributesDefaults.duration().equals(Property.DURATION_NOT_SET)) {
+			return Optional.empty();
+		}
+		return Optional.of(JqwikDurationSupport.parse(propertyAttributesDefaults.duration()));
+	}
+
 	public boolean hasFixedSeed() {
 		return !getSeed().equals(Property.SEED_NOT_SET);
 	}
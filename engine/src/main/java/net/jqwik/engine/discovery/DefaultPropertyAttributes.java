@@ -43,6 +43,14 @@ public class DefaultPropertyAttributes implements PropertyAttributes {
 											  ? null
 											  : property.whenFixedSeed();
 
+		Integer parallelism = property.parallelism() == Property.PARALLELISM_NOT_SET
+								  ? null
+								  : property.parallelism();
+
+		String duration = property.duration().equals(Property.DURATION_NOT_SET)
+							  ? null
+							  : property.duration();
+
 		return new DefaultPropertyAttributes(
 			tries,
 			maxDiscardRatio,
@@ -52,7 +60,9 @@ public class DefaultPropertyAttributes implements PropertyAttributes {
 			edgeCases,
 			stereotype,
 			seed,
-			whenFixedSeed
+			whenFixedSeed,
+			parallelism,
+			duration
 		);
 	}
 
@@ -65,6 +75,8 @@ public class DefaultPropertyAttributes implements PropertyAttributes {
 	private String stereotype;
 	private String seed;
 	private FixedSeedMode whenFixedSeed;
+	private Integer parallelism;
+	private String duration;
 
 	// Only public for testing purposes
 	public DefaultPropertyAttributes(
@@ -76,7 +88,9 @@ public class DefaultPropertyAttributes implements PropertyAttributes {
 			EdgeCasesMode edgeCasesMode,
 			String stereotype,
 			String seed,
-			FixedSeedMode whenFixedSeed
+			FixedSeedMode whenFixedSeed,
+			Integer parallelism,
+			String duration
 	) {
 		this.tries = tries;
 		this.maxDiscardRatio = maxDiscardRatio;
@@ -87,6 +101,8 @@ public class DefaultPropertyAttributes implements PropertyAttributes {
 		this.stereotype = stereotype;
 		this.seed = seed;
 		this.whenFixedSeed = whenFixedSeed;
+		this.parallelism = parallelism;
+		this.duration = duration;
 	}
 
 	@Override
@@ -134,6 +150,16 @@ public class DefaultPropertyAttributes implements PropertyAttributes {
 		return Optional.ofNullable(whenFixedSeed);
 	}
 
+	@Override
+	public Optional<Integer> parallelism() {
+		return Optional.ofNullable(parallelism);
+	}
+
+	@Override
+	public Optional<String> duration() {
+		return Optional.ofNullable(duration);
+	}
+
 	@Override
 	public void setTries(Integer tries) {
 		this.tries = tries;
@@ -178,4 +204,14 @@ public class DefaultPropertyAttributes implements PropertyAttributes {
 	public void setWhenFixedSeed(FixedSeedMode fixedSeedMode) {
 		this.whenFixedSeed = fixedSeedMode;
 	}
+
+	@Override
+	public void setParallelism(Integer parallelism) {
+		this.parallelism = parallelism;
+	}
+
+	@Override
+	public void setDuration(String duration) {
+		this.duration = duration;
+	}
 }
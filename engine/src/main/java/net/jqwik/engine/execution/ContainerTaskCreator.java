@@ -16,6 +16,9 @@ import net.jqwik.engine.support.*;
 
 class ContainerTaskCreator {
 
+	// The finishing task of each container must also run after the finishing tasks of its child containers
+	private final Map<ExecutionTask, ExecutionTask> finishingTasks = new IdentityHashMap<>();
+
 	ExecutionTask createTask(
 		TestDescriptor containerDescriptor,
 		ExecutionTaskCreator childTaskCreator,
@@ -98,11 +101,18 @@ class ContainerTaskCreator {
 		if (childrenTasks.length == 0)
 			pipeline.submit(finishContainerTask, prepareContainerTask);
 		else
-			pipeline.submit(finishContainerTask, childrenTasks);
+			pipeline.submit(finishContainerTask, lastTasksOf(childrenTasks));
 
+		finishingTasks.put(prepareContainerTask, finishContainerTask);
 		return prepareContainerTask;
 	}
 
+	private ExecutionTask[] lastTasksOf(ExecutionTask[] childrenTasks) {
+		return Arrays.stream(childrenTasks)
+					 .map(childTask -> finishingTasks.getOrDefault(childTask, childTask))
+					 .toArray(ExecutionTask[]::new);
+	}
+
 	private ContainerLifecycleContext createLifecycleContext(
 		TestDescriptor containerDescriptor,
 		Reporter reporter,
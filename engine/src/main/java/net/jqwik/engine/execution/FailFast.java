@@ -0,0 +1,71 @@
+package net.jqwik.engine.execution;
+
+import java.util.concurrent.atomic.*;
+
+import org.junit.platform.engine.*;
+import org.junit.platform.engine.reporting.*;
+
+import net.jqwik.api.lifecycle.*;
+
+/**
+ * Counts the properties that have failed during a test run
+ * so that the remaining properties can be skipped once {@code maxFailures} is reached
+ * and so that only the first failure is shrunk if {@code shrinkOnlyFirstFailure} is set.
+ */
+public class FailFast {
+
+	public static FailFast off() {
+		return new FailFast(0, false);
+	}
+
+	private final int maxFailures;
+	private final boolean shrinkOnlyFirstFailure;
+	private final AtomicInteger failures = new AtomicInteger(0);
+
+	/**
+	 * @param maxFailures Properties are never skipped if {@code maxFailures <= 0}
+	 */
+	public FailFast(int maxFailures, boolean shrinkOnlyFirstFailure) {
+		this.maxFailures = maxFailures;
+		this.shrinkOnlyFirstFailure = shrinkOnlyFirstFailure;
+	}
+
+	public boolean maxFailuresReached() {
+		return maxFailures > 0 && failures.get() >= maxFailures;
+	}
+
+	public boolean shrinkingAllowed() {
+		return !shrinkOnlyFirstFailure || failures.get() == 0;
+	}
+
+	public String skippingReason() {
+		return String.format("Skipped because %s properties have already failed (jqwik.failfast.maxfailures)", failures.get());
+	}
+
+	public PropertyExecutionListener countingFailures(PropertyExecutionListener listener) {
+		return new PropertyExecutionListener() {
+			@Override
+			public void executionSkipped(TestDescriptor testDescriptor, String reason) {
+				listener.executionSkipped(testDescriptor, reason);
+			}
+
+			@Override
+			public void executionStarted(TestDescriptor testDescriptor) {
+				listener.executionStarted(testDescriptor);
+			}
+
+			@Override
+			public void executionFinished(TestDescriptor testDescriptor, PropertyExecutionResult executionResult) {
+				if (testDescriptor.isTest() && executionResult.status() == PropertyExecutionResult.Status.FAILED) {
+					failures.incrementAndGet();
+				}
+				listener.executionFinished(testDescriptor, executionResult);
+			}
+
+			@Override
+			public void reportingEntryPublished(TestDescriptor testDescriptor, ReportEntry entry) {
+				listener.reportingEntryPublished(testDescriptor, entry);
+			}
+		};
+	}
+}
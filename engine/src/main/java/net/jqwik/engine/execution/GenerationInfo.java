@@ -82,7 +82,9 @@ public class GenerationInfo implements Serializable {
 
 	private @Nullable List<Shrinkable<Object>> useGenerationIndex(ParametersGenerator generator, TryLifecycleContext context) {
 		List<Shrinkable<Object>> sample = null;
-		for (int i = 0; i < generationIndex; i++) {
+		// Generators that can address samples by index do not have to generate all samples before
+		int skipped = generationIndex > 0 ? generator.skip(generationIndex - 1) : 0;
+		for (int i = skipped; i < generationIndex; i++) {
 			if (generator.hasNext()) {
 				sample = generator.next(context);
 			} else {
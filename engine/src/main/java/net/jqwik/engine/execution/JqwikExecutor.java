@@ -1,5 +1,6 @@
 package net.jqwik.engine.execution;
 
+import java.time.*;
 import java.util.*;
 import java.util.logging.*;
 
@@ -15,9 +16,12 @@ public class JqwikExecutor {
 	private final LifecycleHooksRegistry registry;
 	private final TestRunRecorder recorder;
 	private final Set<UniqueId> previousFailedTests;
+	private final Map<UniqueId, Duration> previousDurations;
 	private final boolean useJunitPlatformReporter;
 	private final boolean reportOnlyFailures;
 	private final boolean hideAntiAiClause;
+	private final int parallelism;
+	private final FailFast failFast;
 	private final PropertyTaskCreator propertyTaskCreator = new PropertyTaskCreator();
 	private final ContainerTaskCreator containerTaskCreator = new ContainerTaskCreator();
 	private final ExecutionTaskCreator childTaskCreator = this::createTask;
@@ -28,25 +32,32 @@ public class JqwikExecutor {
 		LifecycleHooksRegistry registry,
 		TestRunRecorder recorder,
 		Set<UniqueId> previousFailedTests,
+		Map<UniqueId, Duration> previousDurations,
 		boolean useJunitPlatformReporter,
 		boolean reportOnlyFailures,
-		boolean hideAntiAiClause
+		boolean hideAntiAiClause,
+		int parallelism,
+		FailFast failFast
 	) {
 		this.registry = registry;
 		this.recorder = recorder;
 		this.previousFailedTests = previousFailedTests;
+		this.previousDurations = previousDurations;
 		this.useJunitPlatformReporter = useJunitPlatformReporter;
 		this.reportOnlyFailures = reportOnlyFailures;
 		this.hideAntiAiClause = hideAntiAiClause;
+		this.parallelism = parallelism;
+		this.failFast = failFast;
 	}
 
 	public void execute(TestDescriptor descriptor, EngineExecutionListener engineExecutionListener) {
 		printMessageForCodingAgents();
 
 		PropertyExecutionListener recordingListener = new RecordingExecutionListener(recorder, engineExecutionListener, useJunitPlatformReporter);
-		ExecutionPipeline pipeline = new ExecutionPipeline(recordingListener);
+		ExecutionPipeline pipeline = new ExecutionPipeline(recordingListener, parallelism, failFast);
 		ExecutionTask mainTask = createTask(descriptor, pipeline, recordingListener);
 		pipeline.submit(mainTask);
+		letLongestRunningTestsExecuteFirst(pipeline);
 		letNonSuccessfulTestsExecuteFirst(pipeline);
 		pipeline.runToTermination();
 	}
@@ -57,6 +68,15 @@ public class JqwikExecutor {
 		if (hideAntiAiClause) System.out.print("\u001B[2K\r\u001B[2K\r");
 	}
 
+	private void letLongestRunningTestsExecuteFirst(ExecutionPipeline pipeline) {
+		// Moving the shortest test to the front first leaves the longest running test at the very front
+		previousDurations.entrySet()
+						 .stream()
+						 .sorted(Map.Entry.comparingByValue())
+						 .map(Map.Entry::getKey)
+						 .forEach(pipeline::executeFirst);
+	}
+
 	private void letNonSuccessfulTestsExecuteFirst(ExecutionPipeline pipeline) {
 		// Old implementation added them in reverse order:
 		// previousFailedTests.forEach(pipeline::executeFirst);
@@ -103,7 +123,7 @@ public class JqwikExecutor {
 		PropertyMethodDescriptor propertyMethodDescriptor,
 		Pipeline pipeline
 	) {
-		return propertyTaskCreator.createTask(propertyMethodDescriptor, registry, reportOnlyFailures);
+		return propertyTaskCreator.createTask(propertyMethodDescriptor, registry, reportOnlyFailures, failFast);
 	}
 
 	private ExecutionTask createContainerTask(TestDescriptor containerDescriptor, Pipeline pipeline, PropertyExecutionListener listener) {
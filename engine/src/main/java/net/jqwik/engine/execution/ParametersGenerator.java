@@ -17,5 +17,14 @@ public interface ParametersGenerator {
 
 	GenerationInfo generationInfo(String randomSeed);
 
+	/**
+	 * Skip the next {@code count} samples without generating them, if the generator can do so.
+	 *
+	 * @return the number of samples that have actually been skipped
+	 */
+	default int skip(int count) {
+		return 0;
+	}
+
 	void reset();
 }
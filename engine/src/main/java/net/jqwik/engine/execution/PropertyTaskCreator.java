@@ -17,9 +17,10 @@ class PropertyTaskCreator {
 	ExecutionTask createTask(
 		PropertyMethodDescriptor methodDescriptor,
 		LifecycleHooksSupplier lifecycleSupplier,
-		boolean reportOnlyFailures
+		boolean reportOnlyFailures,
+		FailFast failFast
 	) {
-		return ExecutionTask.from(
+		return ExecutionTask.skippable(
 			(listener, predecessorResult) -> {
 
 				if (!predecessorResult.successful()) {
@@ -45,6 +46,10 @@ class PropertyTaskCreator {
 
 					listener.executionStarted(methodDescriptor);
 
+					if (!failFast.shrinkingAllowed()) {
+						propertyLifecycleContext.attributes().setShrinking(ShrinkingMode.OFF);
+					}
+
 					try {
 						DomainContext domainContext = createDomainContext(methodDescriptor, propertyLifecycleContext);
 						CurrentDomainContext.runWithContext(domainContext, () -> {
@@ -1,5 +1,10 @@
 package net.jqwik.engine.execution;
 
+import java.time.*;
+import java.util.*;
+import java.util.concurrent.*;
+
+import org.jspecify.annotations.*;
 import org.junit.platform.engine.*;
 import org.junit.platform.engine.reporting.*;
 
@@ -13,6 +18,9 @@ public class RecordingExecutionListener implements PropertyExecutionListener {
 	private final EngineExecutionListener listener;
 	private final boolean useJunitPlatformReporter;
 
+	// Properties can be executed concurrently
+	private final Map<UniqueId, Long> propertyStartNanos = new ConcurrentHashMap<>();
+
 	RecordingExecutionListener(TestRunRecorder recorder, EngineExecutionListener listener, boolean useJunitPlatformReporter) {
 		this.recorder = recorder;
 		this.listener = listener;
@@ -26,6 +34,9 @@ public class RecordingExecutionListener implements PropertyExecutionListener {
 
 	@Override
 	public void executionStarted(TestDescriptor testDescriptor) {
+		if (testDescriptor.isTest()) {
+			propertyStartNanos.put(testDescriptor.getUniqueId(), System.nanoTime());
+		}
 		listener.executionStarted(testDescriptor);
 	}
 
@@ -56,10 +67,18 @@ public class RecordingExecutionListener implements PropertyExecutionListener {
 			// This should never happen
 			generationInfo = new GenerationInfo(executionResult.seed().orElse(null));
 		}
-		TestRun run = new TestRun(testDescriptor.getUniqueId(), executionResult.status(), generationInfo);
+		TestRun run = new TestRun(testDescriptor.getUniqueId(), executionResult.status(), generationInfo, duration(testDescriptor));
 		recorder.record(run);
 	}
 
+	private @Nullable Duration duration(TestDescriptor testDescriptor) {
+		Long startNanos = propertyStartNanos.remove(testDescriptor.getUniqueId());
+		if (startNanos == null) {
+			return null;
+		}
+		return Duration.ofNanos(System.nanoTime() - startNanos);
+	}
+
 	@Override
 	public void reportingEntryPublished(TestDescriptor testDescriptor, ReportEntry entry) {
 		if (useJunitPlatformReporter) {
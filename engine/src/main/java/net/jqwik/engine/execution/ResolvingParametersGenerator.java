@@ -73,6 +73,13 @@ public class ResolvingParametersGenerator implements ParametersGenerator {
 		return new ShrinkableResolvedParameter(parameterSupplier, parameterContext, tryLifecycleContext);
 	}
 
+	@Override
+	public int skip(int count) {
+		int skipped = forAllParametersGenerator.skip(count);
+		currentGenerationIndex += skipped;
+		return skipped;
+	}
+
 	@Override
 	public void reset() {
 		currentGenerationIndex = 0;
@@ -0,0 +1,67 @@
+package net.jqwik.engine.execution.lifecycle;
+
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.function.*;
+
+import org.jspecify.annotations.*;
+
+/**
+ * Holds the values of {@linkplain net.jqwik.api.lifecycle.Lifespan#TRY} stores for a single try
+ * that is generated or executed concurrently with other tries of the same property.
+ * The same values are used while generating the try's parameters and while executing it,
+ * and they are dropped together with the try.
+ * Tries that are generated and executed one after the other on the property's thread use the value kept by the store itself.
+ */
+public class ConcurrentTryValues {
+
+	private static final ThreadLocal<@Nullable ConcurrentTryValues> current = new ThreadLocal<>();
+
+	public static ConcurrentTryValues forNewTry() {
+		return new ConcurrentTryValues();
+	}
+
+	public static <T extends @Nullable Object> T runInOwnTry(Supplier<? extends T> executable) {
+		return forNewTry().run(executable);
+	}
+
+	static @Nullable ConcurrentTryValues current() {
+		return current.get();
+	}
+
+	// Code within a try might access its stores from more than one thread
+	private final Map<ScopedStore<?>, Object> valuesByStore = new ConcurrentHashMap<>();
+
+	private ConcurrentTryValues() {
+	}
+
+	public <T extends @Nullable Object> T run(Supplier<? extends T> executable) {
+		ConcurrentTryValues previous = current.get();
+		current.set(this);
+		try {
+			return executable.get();
+		} finally {
+			if (previous == null) {
+				current.remove();
+			} else {
+				current.set(previous);
+			}
+		}
+	}
+
+	<V> V computeIfAbsent(ScopedStore<?> store, Supplier<V> valueSupplier) {
+		@SuppressWarnings("unchecked")
+		V value = (V) valuesByStore.computeIfAbsent(store, ignore -> valueSupplier.get());
+		return value;
+	}
+
+	@SuppressWarnings("unchecked")
+	<V> @Nullable V get(ScopedStore<?> store) {
+		return (V) valuesByStore.get(store);
+	}
+
+	@SuppressWarnings("unchecked")
+	<V> @Nullable V remove(ScopedStore<?> store) {
+		return (V) valuesByStore.remove(store);
+	}
+}
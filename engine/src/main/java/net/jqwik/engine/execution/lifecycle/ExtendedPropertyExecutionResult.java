@@ -1,9 +1,11 @@
 package net.jqwik.engine.execution.lifecycle;
 
+import java.time.*;
 import java.util.*;
 
 import net.jqwik.api.*;
 import net.jqwik.api.lifecycle.*;
+import net.jqwik.api.statistics.*;
 import net.jqwik.engine.execution.*;
 
 public interface ExtendedPropertyExecutionResult extends PropertyExecutionResult {
@@ -21,6 +23,20 @@ public interface ExtendedPropertyExecutionResult extends PropertyExecutionResult
 
 	EdgeCasesExecutionResult edgeCases();
 
+	/**
+	 * Only present if tries were run with a time budget
+	 */
+	default Optional<TimeBudgetExecutionResult> timeBudget() {
+		return Optional.empty();
+	}
+
+	/**
+	 * Statistics of all filters used in random generation, lowest acceptance rate first
+	 */
+	default List<FilterStatistics> filterStatistics() {
+		return Collections.emptyList();
+	}
+
 	class EdgeCasesExecutionResult {
 
 		private final EdgeCasesMode mode;
@@ -46,4 +62,28 @@ public interface ExtendedPropertyExecutionResult extends PropertyExecutionResult
 		}
 	}
 
+	class TimeBudgetExecutionResult {
+
+		private final Duration budget;
+		private final Duration elapsed;
+
+		public TimeBudgetExecutionResult(Duration budget, Duration elapsed) {
+			this.budget = budget;
+			this.elapsed = elapsed;
+		}
+
+		public Duration budget() {
+			return budget;
+		}
+
+		public Duration elapsed() {
+			return elapsed;
+		}
+
+		public long triesPerSecond(int countTries) {
+			long elapsedNanos = Math.max(1, elapsed.toNanos());
+			return Math.round(countTries * 1_000_000_000.0 / elapsedNanos);
+		}
+	}
+
 }
@@ -1,5 +1,6 @@
 package net.jqwik.engine.execution.lifecycle;
 
+import java.util.concurrent.locks.*;
 import java.util.function.*;
 import java.util.logging.*;
 
@@ -20,8 +21,11 @@ public class ScopedStore<T extends @Nullable Object> implements Store<T> {
 	private final TestDescriptor scope;
 	private final Supplier<? extends T> initialValueSupplier;
 
-	private T value;
-	private boolean initialized = false;
+	// Concurrent tries keep their own values of TRY stores in ConcurrentTryValues
+	private final Value<T> sharedValue = new Value<>();
+
+	// A lock instead of synchronized methods so that virtual threads are not pinned
+	private final Lock sharedValueLock = new ReentrantLock();
 
 	public ScopedStore(
 		Object identifier,
@@ -36,12 +40,36 @@ public class ScopedStore<T extends @Nullable Object> implements Store<T> {
 	}
 
 	@Override
-	public synchronized T get() {
-		if (!initialized) {
-			value = initialValueSupplier.get();
-			initialized = true;
+	public T get() {
+		ConcurrentTryValues tryValues = concurrentTryValues();
+		if (tryValues != null) {
+			return initializedValue(tryValues.computeIfAbsent(this, Value::new));
+		}
+		return withSharedValue(() -> initializedValue(sharedValue));
+	}
+
+	private T initializedValue(Value<T> current) {
+		if (!current.initialized) {
+			current.value = initialValueSupplier.get();
+			current.initialized = true;
 		}
-		return value;
+		return current.value;
+	}
+
+	private <R extends @Nullable Object> R withSharedValue(Supplier<R> action) {
+		sharedValueLock.lock();
+		try {
+			return action.get();
+		} finally {
+			sharedValueLock.unlock();
+		}
+	}
+
+	private @Nullable ConcurrentTryValues concurrentTryValues() {
+		if (lifespan != Lifespan.TRY) {
+			return null;
+		}
+		return ConcurrentTryValues.current();
 	}
 
 	@Override
@@ -50,17 +78,34 @@ public class ScopedStore<T extends @Nullable Object> implements Store<T> {
 	}
 
 	@Override
-	public synchronized void update(Function<T, T> updater) {
-		value = updater.apply(get());
+	public void update(Function<T, T> updater) {
+		ConcurrentTryValues tryValues = concurrentTryValues();
+		if (tryValues != null) {
+			Value<T> current = tryValues.computeIfAbsent(this, Value::new);
+			current.value = updater.apply(initializedValue(current));
+			return;
+		}
+		withSharedValue(() -> sharedValue.value = updater.apply(initializedValue(sharedValue)));
 	}
 
 	@Override
-	public synchronized void reset() {
-		close();
-		initialized = false;
-
-		// Free memory as soon as possible, the store object might go live on for a while:
-		value = null;
+	public void reset() {
+		ConcurrentTryValues tryValues = concurrentTryValues();
+		if (tryValues != null) {
+			Value<T> current = tryValues.remove(this);
+			if (current != null) {
+				closeOnReset(current);
+			}
+			return;
+		}
+		withSharedValue(() -> {
+			closeOnReset(sharedValue);
+			sharedValue.initialized = false;
+
+			// Free memory as soon as possible, the store object might go live on for a while:
+			sharedValue.value = null;
+			return null;
+		});
 	}
 
 	public Object getIdentifier() {
@@ -84,6 +129,9 @@ public class ScopedStore<T extends @Nullable Object> implements Store<T> {
 
 	@Override
 	public String toString() {
+		ConcurrentTryValues tryValues = concurrentTryValues();
+		Value<T> current = tryValues == null ? sharedValue : tryValues.get(this);
+		T value = current == null ? null : current.value;
 		return String.format(
 			"Store(%s, %s, %s): [%s]",
 			displayString(identifier),
@@ -94,16 +142,19 @@ public class ScopedStore<T extends @Nullable Object> implements Store<T> {
 	}
 
 	public void close() {
-		if (!initialized) {
-			return;
-		}
-		closeOnReset();
+		withSharedValue(() -> {
+			closeOnReset(sharedValue);
+			return null;
+		});
 	}
 
-	private void closeOnReset() {
-		if (value instanceof Store.CloseOnReset) {
+	private void closeOnReset(Value<T> current) {
+		if (!current.initialized) {
+			return;
+		}
+		if (current.value instanceof Store.CloseOnReset) {
 			try {
-				((Store.CloseOnReset) value).close();
+				((Store.CloseOnReset) current.value).close();
 			} catch (Throwable throwable) {
 				JqwikExceptionSupport.rethrowIfBlacklisted(throwable);
 				String message = String.format("Exception while closing store [%s]", this);
@@ -112,5 +163,8 @@ public class ScopedStore<T extends @Nullable Object> implements Store<T> {
 		}
 	}
 
+	private static class Value<T extends @Nullable Object> {
+		private @Nullable T value;
+		private boolean initialized = false;
+	}
 }
-
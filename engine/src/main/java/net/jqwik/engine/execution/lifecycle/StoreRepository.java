@@ -1,8 +1,8 @@
 package net.jqwik.engine.execution.lifecycle;
 
 import java.util.*;
+import java.util.concurrent.*;
 import java.util.function.*;
-import java.util.stream.*;
 
 import org.jspecify.annotations.*;
 import org.junit.platform.engine.*;
@@ -11,7 +11,14 @@ import net.jqwik.api.*;
 import net.jqwik.api.lifecycle.*;
 
 /**
- * StoreRepository and ScopedStore CANNOT handle concurrent execution of properties!
+ * Stores are indexed by their scope and identifier.
+ * Looking up the store that is visible for a retriever walks up the retriever's ancestors;
+ * the result of this walk is cached per retriever and identifier.
+ *
+ * <p>
+ * Retrieval does not lock and can be done concurrently.
+ * Creation and removal of stores are serialized and invalidate the cached lookups.
+ * </p>
  */
 public class StoreRepository {
 
@@ -26,9 +33,13 @@ public class StoreRepository {
 		return current;
 	}
 
-	private static class IdentifiedStores extends LinkedHashMap<TestDescriptor, ScopedStore<?>> {}
+	private final Object modificationLock = new Object();
 
-	private final Map<Object, IdentifiedStores> storesByIdentifier = new LinkedHashMap<>();
+	private final Map<TestDescriptor, Map<Object, ScopedStore<?>>> storesByScope = new ConcurrentHashMap<>();
+	private final Map<Object, Set<ScopedStore<?>>> storesByIdentifier = new ConcurrentHashMap<>();
+
+	private final Map<StoreKey, ResolvedStore> resolvedStores = new ConcurrentHashMap<>();
+	private volatile long version = 0;
 
 	public <T extends @Nullable Object> ScopedStore<T> create(
 		TestDescriptor scope,
@@ -49,16 +60,52 @@ public class StoreRepository {
 			throw new IllegalArgumentException("identifier must not be null");
 		}
 		ScopedStore<T> store = new ScopedStore<>(identifier, lifespan, scope, initialValueSupplier);
-		addStore(identifier, store);
+		synchronized (modificationLock) {
+			addStore(identifier, store);
+		}
+		return store;
+	}
+
+	/**
+	 * Getting and creating a store must be atomic since concurrent tries of the same property
+	 * might try to create the same store.
+	 */
+	public <T extends @Nullable Object> ScopedStore<T> getOrCreate(
+		TestDescriptor scope,
+		Object identifier,
+		Lifespan lifespan,
+		Supplier<? extends T> initialValueSupplier
+	) {
+		Optional<ScopedStore<T>> existingStore = get(scope, identifier);
+		if (existingStore.isPresent()) {
+			return checkLifespan(existingStore.get(), lifespan);
+		}
+		synchronized (modificationLock) {
+			Optional<ScopedStore<T>> storeCreatedMeanwhile = get(scope, identifier);
+			if (storeCreatedMeanwhile.isPresent()) {
+				return checkLifespan(storeCreatedMeanwhile.get(), lifespan);
+			}
+			return create(scope, identifier, lifespan, initialValueSupplier);
+		}
+	}
+
+	private <T extends @Nullable Object> ScopedStore<T> checkLifespan(ScopedStore<T> store, Lifespan lifespan) {
+		if (!store.lifespan().equals(lifespan)) {
+			String message = String.format(
+				"Trying to recreate existing store [%s] with different lifespan [%s]",
+				store,
+				lifespan
+			);
+			throw new JqwikException(message);
+		}
 		return store;
 	}
 
 	private <T extends @Nullable Object> void addStore(Object identifier, ScopedStore<T> newStore) {
-		IdentifiedStores identifiedStores = storesByIdentifier.computeIfAbsent(newStore.getIdentifier(), ignore -> new IdentifiedStores());
+		Set<ScopedStore<?>> identifiedStores = storesByIdentifier.getOrDefault(identifier, Collections.emptySet());
 
 		Optional<ScopedStore<?>> conflictingStore =
 			identifiedStores
-				.values()
 				.stream()
 				.filter(store -> isVisibleInAncestorOrDescendant(newStore, store))
 				.findFirst();
@@ -73,91 +120,150 @@ public class StoreRepository {
 			throw new JqwikException(message);
 		});
 
-		identifiedStores.put(newStore.getScope(), newStore);
-		storesByIdentifier.put(identifier, identifiedStores);
+		storesByScope.computeIfAbsent(newStore.getScope(), ignore -> new ConcurrentHashMap<>())
+					 .put(identifier, newStore);
+		storesByIdentifier.computeIfAbsent(identifier, ignore -> ConcurrentHashMap.newKeySet())
+						  .add(newStore);
+		invalidateResolvedStores();
 	}
 
 	private <T extends @Nullable Object> boolean isVisibleInAncestorOrDescendant(ScopedStore<T> newStore, ScopedStore<?> store) {
 		return store.isVisibleFor(newStore.getScope()) || newStore.isVisibleFor(store.getScope());
 	}
 
+	@SuppressWarnings("unchecked")
 	public <T extends @Nullable Object> Optional<ScopedStore<T>> get(TestDescriptor retriever, Object identifier) {
 		if (identifier == null) {
 			throw new IllegalArgumentException("identifier must not be null");
 		}
 
-		IdentifiedStores identifiedStores = storesByIdentifier.get(identifier);
-		if (identifiedStores == null) {
-			return Optional.empty();
-		} else {
-			return getFirstVisibleStore(retriever, identifiedStores);
+		StoreKey key = new StoreKey(retriever, identifier);
+		long currentVersion = version;
+		ResolvedStore resolved = resolvedStores.get(key);
+		if (resolved == null || resolved.version != currentVersion) {
+			resolved = new ResolvedStore(findFirstVisibleStore(retriever, identifier), currentVersion);
+			resolvedStores.put(key, resolved);
 		}
+		return Optional.ofNullable((ScopedStore<T>) resolved.store);
 	}
 
-	@SuppressWarnings("unchecked")
-	private <T extends @Nullable Object> Optional<ScopedStore<T>> getFirstVisibleStore(TestDescriptor retriever, IdentifiedStores identifiedStores) {
-		return identifiedStores.values()
-							   .stream()
-							   .filter(store -> store.isVisibleFor(retriever))
-							   .map(store -> (ScopedStore<T>) store)
-							   .findFirst();
+	private @Nullable ScopedStore<?> findFirstVisibleStore(TestDescriptor retriever, Object identifier) {
+		TestDescriptor scope = retriever;
+		while (scope != null) {
+			Map<Object, ScopedStore<?>> storesInScope = storesByScope.get(scope);
+			if (storesInScope != null) {
+				ScopedStore<?> store = storesInScope.get(identifier);
+				if (store != null) {
+					return store;
+				}
+			}
+			scope = scope.getParent().orElse(null);
+		}
+		return null;
 	}
 
 	public void finishScope(TestDescriptor scope) {
-		List<ScopedStore<?>> storesToRemove =
-			streamAllStores()
-				.filter(store -> isStoreIn(store, scope))
-				.collect(Collectors.toList());
+		List<ScopedStore<?>> storesToRemove = new ArrayList<>();
+		storesInScope(scope).forEach(storesToRemove::add);
+		scope.getDescendants().forEach(descendant -> storesInScope(descendant).forEach(storesToRemove::add));
 
-		// forEach does not work because map underlying the stream is changed
-		for (ScopedStore<?> store : storesToRemove) {
-			store.close();
-			removeStore(store);
+		if (storesToRemove.isEmpty()) {
+			return;
+		}
+		synchronized (modificationLock) {
+			for (ScopedStore<?> store : storesToRemove) {
+				store.close();
+				removeStore(store);
+			}
+			invalidateResolvedStores();
 		}
 	}
 
-	private void removeStore(ScopedStore<?> store) {
-		IdentifiedStores identifiedStores = storesByIdentifier.get(store.getIdentifier());
-		identifiedStores.remove(store.getScope());
-		if (identifiedStores.isEmpty()) {
-			storesByIdentifier.remove(store.getIdentifier());
+	private Collection<ScopedStore<?>> storesInScope(TestDescriptor scope) {
+		Map<Object, ScopedStore<?>> storesInScope = storesByScope.get(scope);
+		if (storesInScope == null) {
+			return Collections.emptyList();
 		}
+		return storesInScope.values();
 	}
 
-	private Stream<ScopedStore<?>> streamAllStores() {
-		Collection<IdentifiedStores> values = new ArrayList<>(storesByIdentifier.values());
-		return values
-			.stream()
-			.flatMap(identifiedStores -> new ArrayList<>(identifiedStores.values()).stream());
-
-		// TODO: Above implementation tries to get rid of ConcurrentModificationException
-		//       reported in https://github.com/jqwik-team/jqwik/issues/210.
-		//       Evaluate if it really does.
-		// return storesByIdentifier
-		// 		   .values()
-		// 		   .stream()
-		// 		   .flatMap(identifiedStores -> identifiedStores.values().stream());
+	private void removeStore(ScopedStore<?> store) {
+		Map<Object, ScopedStore<?>> storesInScope = storesByScope.get(store.getScope());
+		if (storesInScope != null) {
+			storesInScope.remove(store.getIdentifier());
+			if (storesInScope.isEmpty()) {
+				storesByScope.remove(store.getScope());
+			}
+		}
+		Set<ScopedStore<?>> identifiedStores = storesByIdentifier.get(store.getIdentifier());
+		if (identifiedStores != null) {
+			identifiedStores.remove(store);
+			if (identifiedStores.isEmpty()) {
+				storesByIdentifier.remove(store.getIdentifier());
+			}
+		}
 	}
 
-	private boolean isStoreIn(ScopedStore<?> store, TestDescriptor scope) {
-		return store.getScope().equals(scope) || scope.getDescendants().contains(store.getScope());
+	// Must only be called while holding the modification lock
+	private void invalidateResolvedStores() {
+		version++;
+		resolvedStores.clear();
 	}
 
 	public void finishProperty(TestDescriptor scope) {
-		streamAllStores()
-			.filter(store -> store.lifespan() == Lifespan.PROPERTY)
-			.filter(store -> store.isVisibleFor(scope))
-			.forEach(Store::reset);
+		resetVisibleStores(scope, Lifespan.PROPERTY);
 	}
 
 	public void finishTry(TestDescriptor scope) {
-		streamAllStores()
-			.filter(store -> store.lifespan() == Lifespan.TRY)
-			.filter(store -> store.isVisibleFor(scope))
-			.forEach(Store::reset);
+		resetVisibleStores(scope, Lifespan.TRY);
+	}
+
+	private void resetVisibleStores(TestDescriptor retriever, Lifespan lifespan) {
+		TestDescriptor scope = retriever;
+		while (scope != null) {
+			for (ScopedStore<?> store : storesInScope(scope)) {
+				if (store.lifespan() == lifespan) {
+					store.reset();
+				}
+			}
+			scope = scope.getParent().orElse(null);
+		}
 	}
 
 	public int size() {
-		return storesByIdentifier.values().stream().mapToInt(HashMap::size).sum();
+		return storesByScope.values().stream().mapToInt(Map::size).sum();
+	}
+
+	private static class StoreKey {
+		private final TestDescriptor retriever;
+		private final Object identifier;
+
+		private StoreKey(TestDescriptor retriever, Object identifier) {
+			this.retriever = retriever;
+			this.identifier = identifier;
+		}
+
+		@Override
+		public boolean equals(Object o) {
+			if (this == o) return true;
+			if (o == null || getClass() != o.getClass()) return false;
+			StoreKey storeKey = (StoreKey) o;
+			return retriever.equals(storeKey.retriever) && identifier.equals(storeKey.identifier);
+		}
+
+		@Override
+		public int hashCode() {
+			return 31 * retriever.hashCode() + identifier.hashCode();
+		}
+	}
+
+	private static class ResolvedStore {
+		private final @Nullable ScopedStore<?> store;
+		private final long version;
+
+		private ResolvedStore(@Nullable ScopedStore<?> store, long version) {
+			this.store = store;
+			this.version = version;
+		}
 	}
 }
@@ -9,13 +9,30 @@ import net.jqwik.engine.execution.*;
 
 public class ExecutionPipeline implements Pipeline {
 
-	private final List<ExecutionTask> tasks = new ArrayList<>();
+	private final TaskQueue tasks = new TaskQueue();
 	private final Map<ExecutionTask, Boolean> taskFinished = new IdentityHashMap<>();
 	private final Map<ExecutionTask, ExecutionTask[]> taskPredecessors = new IdentityHashMap<>();
 	private final PropertyExecutionListener executionListener;
+	private final int parallelism;
+	private final FailFast failFast;
 
 	public ExecutionPipeline(PropertyExecutionListener executionListener) {
-		this.executionListener = executionListener;
+		this(executionListener, 1);
+	}
+
+	public ExecutionPipeline(PropertyExecutionListener executionListener, int parallelism) {
+		this(executionListener, parallelism, FailFast.off());
+	}
+
+	/**
+	 * @param parallelism Tasks are run sequentially on the calling thread if {@code parallelism <= 1}.
+	 *                    Otherwise tasks whose predecessors have finished are run on up to {@code parallelism} threads.
+	 * @param failFast    Skippable tasks are skipped instead of executed once the maximum number of failed properties is reached
+	 */
+	public ExecutionPipeline(PropertyExecutionListener executionListener, int parallelism, FailFast failFast) {
+		this.executionListener = failFast.countingFailures(executionListener);
+		this.parallelism = parallelism;
+		this.failFast = failFast;
 	}
 
 	@Override
@@ -25,7 +42,7 @@ public class ExecutionPipeline implements Pipeline {
 		taskFinished.putIfAbsent(task, false);
 		taskPredecessors.put(task, predecessors);
 		if (!taskFinished.get(task))
-			tasks.add(task);
+			tasks.addLast(task);
 	}
 
 	private void ensurePredecessorsSubmitted(ExecutionTask task, ExecutionTask[] predecessors) {
@@ -40,26 +57,10 @@ public class ExecutionPipeline implements Pipeline {
 	}
 
 	public void executeFirst(UniqueId ownerId) {
-		List<ExecutionTask> tasks = activeTasksOwnedBy(ownerId);
+		List<ExecutionTask> tasks = this.tasks.tasksOwnedBy(ownerId);
 		executeFirst(tasks);
 	}
 
-	private List<ExecutionTask> activeTasksOwnedBy(UniqueId ownerId) {
-		return tasks.stream().filter(task -> isSameOrOwner(ownerId, task.ownerId())).collect(Collectors.toList());
-	}
-
-	private boolean isSameOrOwner(UniqueId ownerId, UniqueId taskId) {
-		List<UniqueId.Segment> ownerSegments = ownerId.getSegments();
-		List<UniqueId.Segment> taskSegments = taskId.getSegments();
-		if (ownerSegments.size() > taskSegments.size())
-			return false;
-		for (int i = 0; i < ownerSegments.size(); i++) {
-			if (!ownerSegments.get(i).equals(taskSegments.get(i)))
-				return false;
-		}
-		return true;
-	}
-
 	public void executeFirst(List<ExecutionTask> executionTaskList) {
 		for (int i = executionTaskList.size() - 1; i >= 0; i--) {
 			moveToTopOfQueue(executionTaskList.get(i));
@@ -67,24 +68,44 @@ public class ExecutionPipeline implements Pipeline {
 	}
 
 	private void moveToTopOfQueue(ExecutionTask task) {
-		if (tasks.contains(task)) {
-			tasks.remove(task);
-			tasks.add(0, task);
-		}
+		tasks.moveToFront(task);
 	}
 
 	public void runToTermination() {
+		if (parallelism > 1) {
+			runInParallel();
+		} else {
+			runSequentially();
+		}
+	}
+
+	private void runInParallel() {
+		List<ExecutionTask> tasksToRun = tasks.toList();
+		for (ExecutionTask task : tasksToRun) {
+			ensurePredecessorsSubmitted(task, taskPredecessors.get(task));
+		}
+		new ParallelTaskExecutor(parallelism, executionListener, failFast).runToTermination(tasksToRun, taskPredecessors);
+		tasksToRun.forEach(task -> taskFinished.put(task, true));
+		tasks.clear();
+	}
+
+	private void runSequentially() {
 		TaskExecutionResult predecessorResult = TaskExecutionResult.success();
 		while (!tasks.isEmpty()) {
-			ExecutionTask head = tasks.get(0);
+			ExecutionTask head = tasks.first();
 			if (movedPredecessorsToTopOfQueue(head))
 				continue;
-			predecessorResult = head.execute(executionListener, predecessorResult);
+			if (!skippedDueToFailFast(head))
+				predecessorResult = head.execute(executionListener, predecessorResult);
 			taskFinished.put(head, true);
-			tasks.remove(0);
+			tasks.removeFirst();
 		}
 	}
 
+	private boolean skippedDueToFailFast(ExecutionTask task) {
+		return failFast.maxFailuresReached() && task.skip(executionListener, failFast.skippingReason());
+	}
+
 	private boolean movedPredecessorsToTopOfQueue(ExecutionTask head) {
 		ExecutionTask[] predecessors = taskPredecessors.get(head);
 		ensurePredecessorsSubmitted(head, predecessors);
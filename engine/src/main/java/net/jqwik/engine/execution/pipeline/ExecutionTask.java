@@ -14,6 +14,15 @@ public interface ExecutionTask {
 
 	TaskExecutionResult execute(PropertyExecutionListener listener, TaskExecutionResult predecessorResult);
 
+	/**
+	 * Report this task as skipped instead of executing it.
+	 *
+	 * @return {@code false} if the task cannot be skipped, e.g. because it prepares or finishes a container
+	 */
+	default boolean skip(PropertyExecutionListener listener, String reason) {
+		return false;
+	}
+
 	static ExecutionTask from(
 		BiFunction<PropertyExecutionListener, TaskExecutionResult, TaskExecutionResult> executor,
 		TestDescriptor owner,
@@ -42,4 +51,37 @@ public interface ExecutionTask {
 		};
 	}
 
+	/**
+	 * Create a task that can be skipped by reporting its owner as skipped.
+	 */
+	static ExecutionTask skippable(
+		BiFunction<PropertyExecutionListener, TaskExecutionResult, TaskExecutionResult> executor,
+		TestDescriptor owner,
+		String description
+	) {
+		ExecutionTask task = from(executor, owner, description);
+		return new ExecutionTask() {
+			@Override
+			public UniqueId ownerId() {
+				return task.ownerId();
+			}
+
+			@Override
+			public TaskExecutionResult execute(PropertyExecutionListener listener, TaskExecutionResult predecessorResult) {
+				return task.execute(listener, predecessorResult);
+			}
+
+			@Override
+			public boolean skip(PropertyExecutionListener listener, String reason) {
+				listener.executionSkipped(owner, reason);
+				return true;
+			}
+
+			@Override
+			public String toString() {
+				return task.toString();
+			}
+		};
+	}
+
 }
@@ -0,0 +1,156 @@
+package net.jqwik.engine.execution.pipeline;
+
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.*;
+
+import net.jqwik.engine.execution.*;
+import net.jqwik.engine.support.*;
+
+/**
+ * Runs a fixed set of tasks on a work-stealing pool.
+ * A task is started as soon as all of its predecessors have finished.
+ *
+ * <p>
+ * Other than in sequential execution a task does not get the result of the task
+ * that happened to run immediately before it but the combined result of its predecessors:
+ * The first failed predecessor result if there is one, success otherwise.
+ * </p>
+ */
+class ParallelTaskExecutor {
+
+	private final int parallelism;
+	private final PropertyExecutionListener executionListener;
+	private final FailFast failFast;
+
+	ParallelTaskExecutor(int parallelism, PropertyExecutionListener executionListener, FailFast failFast) {
+		this.parallelism = parallelism;
+		this.executionListener = executionListener;
+		this.failFast = failFast;
+	}
+
+	/**
+	 * @param tasks        All tasks in the order in which they should be started if possible
+	 * @param predecessors The predecessors of each task
+	 */
+	void runToTermination(List<ExecutionTask> tasks, Map<ExecutionTask, ExecutionTask[]> predecessors) {
+		if (tasks.isEmpty()) {
+			return;
+		}
+		ForkJoinPool pool = createPool();
+		try {
+			new Run(tasks, predecessors, pool).execute();
+		} finally {
+			pool.shutdownNow();
+		}
+	}
+
+	private ForkJoinPool createPool() {
+		ClassLoader contextClassLoader = Thread.currentThread().getContextClassLoader();
+		AtomicInteger threadCounter = new AtomicInteger(0);
+		ForkJoinPool.ForkJoinWorkerThreadFactory threadFactory = pool -> {
+			ForkJoinWorkerThread thread = new JqwikWorkerThread(pool);
+			thread.setName("jqwik-worker-" + threadCounter.incrementAndGet());
+			// Service loading and class resolution must work as on the calling thread
+			thread.setContextClassLoader(contextClassLoader);
+			return thread;
+		};
+		// asyncMode = true: Tasks are taken in FIFO order which keeps the order of submission
+		return new ForkJoinPool(parallelism, threadFactory, null, true);
+	}
+
+	private static class JqwikWorkerThread extends ForkJoinWorkerThread {
+		private JqwikWorkerThread(ForkJoinPool pool) {
+			super(pool);
+		}
+	}
+
+	private class Run {
+		private final List<ExecutionTask> tasks;
+		private final ForkJoinPool pool;
+
+		private final Map<ExecutionTask, Integer> taskIndices = new IdentityHashMap<>();
+		private final List<List<Integer>> successors = new ArrayList<>();
+		private final AtomicIntegerArray unfinishedPredecessors;
+		private final AtomicReferenceArray<TaskExecutionResult> predecessorResults;
+		private final AtomicInteger unfinishedTasks;
+		private final CompletableFuture<Void> termination = new CompletableFuture<>();
+
+		private Run(List<ExecutionTask> tasks, Map<ExecutionTask, ExecutionTask[]> predecessors, ForkJoinPool pool) {
+			this.tasks = tasks;
+			this.pool = pool;
+			this.unfinishedPredecessors = new AtomicIntegerArray(tasks.size());
+			this.predecessorResults = new AtomicReferenceArray<>(tasks.size());
+			this.unfinishedTasks = new AtomicInteger(tasks.size());
+
+			for (int i = 0; i < tasks.size(); i++) {
+				taskIndices.put(tasks.get(i), i);
+				successors.add(new ArrayList<>());
+			}
+			for (int i = 0; i < tasks.size(); i++) {
+				ExecutionTask task = tasks.get(i);
+				for (ExecutionTask predecessor : predecessors.get(task)) {
+					Integer predecessorIndex = taskIndices.get(predecessor);
+					if (predecessorIndex == null) {
+						// Predecessor has already been run in a previous run
+						continue;
+					}
+					successors.get(predecessorIndex).add(i);
+					unfinishedPredecessors.incrementAndGet(i);
+				}
+			}
+		}
+
+		private void execute() {
+			for (int i = 0; i < tasks.size(); i++) {
+				if (unfinishedPredecessors.get(i) == 0) {
+					schedule(i);
+				}
+			}
+			try {
+				termination.join();
+			} catch (CompletionException completionException) {
+				JqwikExceptionSupport.throwAsUncheckedException(completionException.getCause());
+			}
+		}
+
+		private void schedule(int taskIndex) {
+			pool.execute(() -> runTask(taskIndex));
+		}
+
+		private void runTask(int taskIndex) {
+			if (termination.isDone()) {
+				return;
+			}
+			try {
+				TaskExecutionResult predecessorResult = predecessorResults.get(taskIndex);
+				if (predecessorResult == null) {
+					predecessorResult = TaskExecutionResult.success();
+				}
+				ExecutionTask task = tasks.get(taskIndex);
+				if (failFast.maxFailuresReached() && task.skip(executionListener, failFast.skippingReason())) {
+					finished(taskIndex, predecessorResult);
+					return;
+				}
+				TaskExecutionResult result = task.execute(executionListener, predecessorResult);
+				finished(taskIndex, result);
+			} catch (Throwable throwable) {
+				termination.completeExceptionally(throwable);
+			}
+		}
+
+		private void finished(int taskIndex, TaskExecutionResult result) {
+			for (int successor : successors.get(taskIndex)) {
+				if (!result.successful()) {
+					predecessorResults.compareAndSet(successor, null, result);
+				}
+				if (unfinishedPredecessors.decrementAndGet(successor) == 0) {
+					schedule(successor);
+				}
+			}
+			if (unfinishedTasks.decrementAndGet() == 0) {
+				termination.complete(null);
+			}
+		}
+	}
+}
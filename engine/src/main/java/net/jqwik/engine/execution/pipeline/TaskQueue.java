@@ -0,0 +1,193 @@
+package net.jqwik.engine.execution.pipeline;
+
+import java.util.*;
+
+import org.jspecify.annotations.*;
+import org.junit.platform.engine.*;
+
+/**
+ * A queue of execution tasks in which tasks can be moved to the front in constant time.
+ *
+ * <p>
+ * Queued tasks are indexed in a trie over the segments of their owner's {@linkplain UniqueId}
+ * so that the tasks belonging to an owner or its descendants can be found
+ * without looking at any other task.
+ * The index is only built when it is needed for the first time.
+ * </p>
+ */
+class TaskQueue {
+
+	private static class Node {
+		private final ExecutionTask task;
+		private @Nullable OwnerNode owner;
+		private long order;
+		private @Nullable Node previous;
+		private @Nullable Node next;
+
+		private Node(ExecutionTask task) {
+			this.task = task;
+		}
+	}
+
+	private static class OwnerNode {
+		private final Map<UniqueId.Segment, OwnerNode> children = new HashMap<>(4);
+		private final Set<Node> ownedNodes = new HashSet<>(4);
+
+		private void collectOwnedNodes(List<Node> collector) {
+			collector.addAll(ownedNodes);
+			for (OwnerNode child : children.values()) {
+				child.collectOwnedNodes(collector);
+			}
+		}
+	}
+
+	private final Map<ExecutionTask, Node> nodes = new IdentityHashMap<>();
+	private @Nullable OwnerNode ownerRoot = null;
+
+	private @Nullable Node first = null;
+	private @Nullable Node last = null;
+
+	// Nodes added to the front get decreasing and nodes added to the back increasing order values.
+	// Sorting by order value thereby reproduces the order of the queue.
+	private long frontOrder = 0;
+	private long backOrder = 0;
+
+	boolean isEmpty() {
+		return first == null;
+	}
+
+	void addLast(ExecutionTask task) {
+		Node node = new Node(task);
+		node.order = ++backOrder;
+		linkLast(node);
+		nodes.put(task, node);
+		if (ownerRoot != null) {
+			index(ownerRoot, node);
+		}
+	}
+
+	private void index(OwnerNode root, Node node) {
+		OwnerNode owner = root;
+		for (UniqueId.Segment segment : node.task.ownerId().getSegments()) {
+			owner = owner.children.computeIfAbsent(segment, ignore -> new OwnerNode());
+		}
+		node.owner = owner;
+		owner.ownedNodes.add(node);
+	}
+
+	private OwnerNode ownerIndex() {
+		if (ownerRoot == null) {
+			OwnerNode root = new OwnerNode();
+			for (Node node = first; node != null; node = node.next) {
+				index(root, node);
+			}
+			ownerRoot = root;
+		}
+		return ownerRoot;
+	}
+
+	ExecutionTask first() {
+		if (first == null) {
+			throw new NoSuchElementException();
+		}
+		return first.task;
+	}
+
+	void removeFirst() {
+		if (first == null) {
+			throw new NoSuchElementException();
+		}
+		remove(first);
+	}
+
+	void moveToFront(ExecutionTask task) {
+		Node node = nodes.get(task);
+		if (node == null) {
+			return;
+		}
+		unlink(node);
+		node.order = --frontOrder;
+		linkFirst(node);
+	}
+
+	/**
+	 * @return All queued tasks whose owner is {@code ownerId} or one of its descendants in the order of the queue
+	 */
+	List<ExecutionTask> tasksOwnedBy(UniqueId ownerId) {
+		OwnerNode owner = ownerIndex();
+		for (UniqueId.Segment segment : ownerId.getSegments()) {
+			owner = owner.children.get(segment);
+			if (owner == null) {
+				return Collections.emptyList();
+			}
+		}
+		List<Node> sortedNodes = new ArrayList<>();
+		owner.collectOwnedNodes(sortedNodes);
+		sortedNodes.sort(Comparator.comparingLong(node -> node.order));
+		List<ExecutionTask> ownedTasks = new ArrayList<>(sortedNodes.size());
+		for (Node node : sortedNodes) {
+			ownedTasks.add(node.task);
+		}
+		return ownedTasks;
+	}
+
+	List<ExecutionTask> toList() {
+		List<ExecutionTask> tasks = new ArrayList<>(nodes.size());
+		for (Node node = first; node != null; node = node.next) {
+			tasks.add(node.task);
+		}
+		return tasks;
+	}
+
+	void clear() {
+		nodes.clear();
+		ownerRoot = null;
+		first = null;
+		last = null;
+	}
+
+	private void remove(Node node) {
+		unlink(node);
+		nodes.remove(node.task);
+		if (node.owner != null) {
+			node.owner.ownedNodes.remove(node);
+		}
+	}
+
+	private void linkFirst(Node node) {
+		node.previous = null;
+		node.next = first;
+		if (first == null) {
+			last = node;
+		} else {
+			first.previous = node;
+		}
+		first = node;
+	}
+
+	private void linkLast(Node node) {
+		node.next = null;
+		node.previous = last;
+		if (last == null) {
+			first = node;
+		} else {
+			last.next = node;
+		}
+		last = node;
+	}
+
+	private void unlink(Node node) {
+		if (node.previous == null) {
+			first = node.next;
+		} else {
+			node.previous.next = node.next;
+		}
+		if (node.next == null) {
+			last = node.previous;
+		} else {
+			node.next.previous = node.previous;
+		}
+		node.previous = null;
+		node.next = null;
+	}
+}
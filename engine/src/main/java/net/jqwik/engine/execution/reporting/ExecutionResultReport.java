@@ -8,6 +8,7 @@ import org.opentest4j.*;
 
 import net.jqwik.api.*;
 import net.jqwik.api.lifecycle.*;
+import net.jqwik.api.statistics.*;
 import net.jqwik.engine.descriptor.*;
 import net.jqwik.engine.execution.lifecycle.*;
 import net.jqwik.engine.support.*;
@@ -16,6 +17,8 @@ public class ExecutionResultReport {
 
 	private static final String TRIES_KEY = "tries";
 	private static final String CHECKS_KEY = "checks";
+	private static final String DURATION_KEY = "duration";
+	private static final String TRIES_PER_SECOND_KEY = "tries-per-second";
 	private static final String GENERATION_KEY = "generation";
 	private static final String EDGE_CASES_MODE_KEY = "edge-cases#mode";
 	private static final String EDGE_CASES_TOTAL_KEY = "edge-cases#total";
@@ -23,6 +26,7 @@ public class ExecutionResultReport {
 	private static final String AFTER_FAILURE_KEY = "after-failure";
 	private static final String FIXED_SEED_KEY = "when-fixed-seed";
 	private static final String SEED_KEY = "seed";
+	private static final String FILTER_ACCEPTANCE_KEY = "filter#acceptance";
 	private static final String SAMPLE_HEADLINE = "Sample";
 	private static final String SHRUNK_SAMPLE_HEADLINE = "Shrunk Sample";
 	private static final String ORIGINAL_SAMPLE_HEADLINE = "Original Sample";
@@ -35,6 +39,7 @@ public class ExecutionResultReport {
 		return buildJqwikReport(
 			methodDescriptor.getConfiguration().getAfterFailureMode(),
 			methodDescriptor.getConfiguration().getFixedSeedMode(),
+			methodDescriptor.getConfiguration().filterAcceptanceWarning(),
 			methodDescriptor.getTargetMethod(),
 			executionResult,
 			reportingFormats
@@ -44,6 +49,7 @@ public class ExecutionResultReport {
 	private static String buildJqwikReport(
 		AfterFailureMode afterFailureMode,
 		FixedSeedMode fixedSeedMode,
+		double filterAcceptanceWarning,
 		Method propertyMethod,
 		ExtendedPropertyExecutionResult executionResult,
 		Collection<SampleReportingFormat> sampleReportingFormats
@@ -51,7 +57,7 @@ public class ExecutionResultReport {
 		StringBuilder reportBuilder = new StringBuilder();
 
 		appendThrowableMessage(reportBuilder, executionResult);
-		appendFixedSizedProperties(reportBuilder, executionResult, afterFailureMode, fixedSeedMode);
+		appendFixedSizedProperties(reportBuilder, executionResult, afterFailureMode, fixedSeedMode, filterAcceptanceWarning);
 		appendSamples(reportBuilder, propertyMethod, executionResult, sampleReportingFormats);
 
 		return reportBuilder.toString();
@@ -149,7 +155,8 @@ public class ExecutionResultReport {
 		StringBuilder reportBuilder,
 		ExtendedPropertyExecutionResult executionResult,
 		AfterFailureMode afterFailureMode,
-		FixedSeedMode fixedSeedMode
+		FixedSeedMode fixedSeedMode,
+		double filterAcceptanceWarning
 	) {
 		List<String> propertiesLines = new ArrayList<>();
 		int countTries = 0;
@@ -172,6 +179,14 @@ public class ExecutionResultReport {
 
 		appendProperty(propertiesLines, TRIES_KEY, Integer.toString(countTries), "# of calls to property");
 		appendProperty(propertiesLines, CHECKS_KEY, Integer.toString(countChecks), "# of not rejected calls");
+		if (executionResult.isExtended()) {
+			int triesForTimeBudget = countTries;
+			executionResult.timeBudget().ifPresent(timeBudget -> {
+				String budget = JqwikDurationSupport.displayString(timeBudget.budget());
+				appendProperty(propertiesLines, DURATION_KEY, JqwikDurationSupport.displayString(timeBudget.elapsed()), "time spent on tries with budget " + budget);
+				appendProperty(propertiesLines, TRIES_PER_SECOND_KEY, Long.toString(timeBudget.triesPerSecond(triesForTimeBudget)), "# of calls to property per second");
+			});
+		}
 		appendProperty(propertiesLines, GENERATION_KEY, generationMode, helpGenerationMode);
 		if (afterFailureMode != AfterFailureMode.NOT_SET) {
 			appendProperty(propertiesLines, AFTER_FAILURE_KEY, afterFailureMode.name(), helpAfterFailureMode(afterFailureMode));
@@ -186,12 +201,33 @@ public class ExecutionResultReport {
 																				 .tried(), "# of edge cases tried in current run");
 		}
 		appendProperty(propertiesLines, SEED_KEY, randomSeed, "random seed to reproduce generated values");
+		appendFilterWarnings(propertiesLines, executionResult.filterStatistics(), filterAcceptanceWarning);
 
 		prependFixedSizedPropertiesHeader(reportBuilder, propertiesLines);
 		propertiesLines.forEach(reportBuilder::append);
 
 	}
 
+	private static void appendFilterWarnings(
+		List<String> propertiesLines,
+		List<FilterStatistics> filterStatistics,
+		double filterAcceptanceWarning
+	) {
+		for (FilterStatistics filter : filterStatistics) {
+			double acceptancePercentage = filter.acceptanceRate() * 100;
+			if (acceptancePercentage >= filterAcceptanceWarning) {
+				continue;
+			}
+			String acceptance = String.format("%.1f%%", acceptancePercentage);
+			String help = String.format(
+				"%s accepted %d of %d values in %s",
+				filter.label(), filter.countAccepted(), filter.countGenerated(),
+				JqwikDurationSupport.displayString(filter.timeSpent())
+			);
+			appendProperty(propertiesLines, FILTER_ACCEPTANCE_KEY, acceptance, help);
+		}
+	}
+
 	private static void prependFixedSizedPropertiesHeader(StringBuilder reportBuilder, List<String> propertiesLines) {
 		int halfBorderLength =
 			(propertiesLines.stream().mapToInt(String::length).max().orElse(50) - 37) / 2 + 1;
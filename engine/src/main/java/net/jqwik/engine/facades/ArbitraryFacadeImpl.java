@@ -48,7 +48,9 @@ public class ArbitraryFacadeImpl extends Arbitrary.ArbitraryFacade {
 
 	@Override
 	public <T extends @Nullable Object> Arbitrary<T> filter(Arbitrary<T> self, Predicate<? super T> filterPredicate, int maxMisses) {
-		return new ArbitraryFilter<>(self, filterPredicate, maxMisses);
+		// Predicates from the Predicates DSL can narrow some arbitraries so that fewer values are rejected
+		Arbitrary<T> narrowed = FilterNarrowable.narrowIfPossible(self, filterPredicate);
+		return new ArbitraryFilter<>(narrowed, filterPredicate, maxMisses);
 	}
 
 	@Override
@@ -13,6 +13,10 @@ import org.jspecify.annotations.*;
 public class ExhaustiveGeneratorFacadeImpl extends ExhaustiveGenerator.ExhaustiveGeneratorFacade {
 	@Override
 	public <T extends @Nullable Object, U extends @Nullable Object> ExhaustiveGenerator<U> map(ExhaustiveGenerator<T> self, Function<? super T, ? extends U> mapper) {
+		if (self instanceof IndexedExhaustiveGenerator) {
+			IndexedExhaustiveGenerator<T> indexed = (IndexedExhaustiveGenerator<T>) self;
+			return ExhaustiveGenerators.indexed(indexed.maxCount(), index -> mapper.apply(indexed.get(index)));
+		}
 		return new MappedExhaustiveGenerator<>(self, mapper);
 	}
 
@@ -23,6 +27,10 @@ public class ExhaustiveGeneratorFacadeImpl extends ExhaustiveGenerator.Exhaustiv
 
 	@Override
 	public <T extends @Nullable Object> ExhaustiveGenerator<@Nullable T> injectNull(ExhaustiveGenerator<T> self) {
+		if (self instanceof IndexedExhaustiveGenerator) {
+			IndexedExhaustiveGenerator<T> indexed = (IndexedExhaustiveGenerator<T>) self;
+			return ExhaustiveGenerators.indexed(indexed.maxCount() + 1, index -> index == 0 ? null : indexed.get(index - 1));
+		}
 		return new WithNullExhaustiveGenerator<>(self);
 	}
 
@@ -37,19 +37,29 @@ public class Memoize {
 	}
 
 	// Had to roll my on computeIfAbsent because HashMap.computeIfAbsent()
-	// does not allow modifications of the map within the mapping function
+	// does not allow modifications of the map within the mapping function.
+	// The cache is access ordered and shared by concurrent tries, hence all access is synchronized.
+	// The mapping function runs outside the lock, so it may itself memoize other generators.
 	private static <K extends @Nullable Object, V extends @Nullable Object> V computeIfAbsent(
 			Map<K, V> cache,
 			K key,
 			Function<? super K, ? extends V> mappingFunction
 	) {
-		V result = cache.get(key);
+		synchronized (cache) {
+			V result = cache.get(key);
+			if (result != null) {
+				return result;
+			}
+		}
 
-		if (result == null) {
-			result = mappingFunction.apply(key);
+		V result = mappingFunction.apply(key);
+		synchronized (cache) {
+			V concurrentResult = cache.get(key);
+			if (concurrentResult != null) {
+				return concurrentResult;
+			}
 			cache.put(key, result);
 		}
-
 		return result;
 	}
 
@@ -34,8 +34,10 @@ class SampleStreamFacade {
 		return runInDescriptor(() -> getGenerator((Arbitrary<Object>) arbitrary));
 	}
 
+	// Synchronized because properties running in parallel share the access ordered cache.
+	// The monitor is reentrant, so creating a generator may itself sample from other arbitraries.
 	@SuppressWarnings("unchecked")
-	private static <T> RandomGenerator<T> getGenerator(Arbitrary<Object> arbitrary) {
+	private static synchronized <T> RandomGenerator<T> getGenerator(Arbitrary<Object> arbitrary) {
 		RandomGenerator<Object> generator = generators.get(arbitrary);
 		if (generator == null) {
 			generator = arbitrary.generator(JqwikProperties.DEFAULT_TRIES, true);
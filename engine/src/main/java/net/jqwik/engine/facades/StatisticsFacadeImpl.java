@@ -23,4 +23,9 @@ public class StatisticsFacadeImpl extends Statistics.StatisticsFacade {
 	public StatisticsCollector defaultCollector() {
 		return collectorByLabel(DEFAULT_LABEL);
 	}
+
+	@Override
+	public List<FilterStatistics> filterStatistics() {
+		return FilterStatisticsImpl.currentFilterStatistics();
+	}
 }
@@ -27,6 +27,12 @@ public class StoreFacadeImpl extends Store.StoreFacade {
 		return store.orElseThrow(() -> new CannotFindStoreException(identifier, retriever.getUniqueId().toString()));
 	}
 
+	@Override
+	public <T extends @Nullable Object> Store<T> getOrCreate(Object identifier, Lifespan lifespan, Supplier<? extends T> initialValueSupplier) {
+		TestDescriptor scope = CurrentTestDescriptor.get();
+		return StoreRepository.getCurrent().getOrCreate(scope, identifier, lifespan, initialValueSupplier);
+	}
+
 	@Override
 	public <T extends @Nullable Object> Store<T> free(Supplier<? extends T> initialValueSupplier) {
 		return new Store<T>() {
@@ -0,0 +1,99 @@
+package net.jqwik.engine.hooks.statistics;
+
+import java.time.*;
+import java.util.*;
+import java.util.concurrent.atomic.*;
+import java.util.function.*;
+import java.util.stream.*;
+
+import org.jspecify.annotations.*;
+import org.junit.platform.engine.*;
+
+import net.jqwik.api.*;
+import net.jqwik.api.statistics.*;
+import net.jqwik.engine.execution.lifecycle.*;
+
+/**
+ * Counters of a single filter within a property.
+ * Filters can be used from several threads concurrently, e.g. with parallel tries.
+ */
+public class FilterStatisticsImpl implements FilterStatistics {
+	public static final Object FILTERS_ID = Tuple.of(FilterStatisticsImpl.class, "filters");
+
+	// Filters are identified by their predicate instance
+	static final Supplier<Map<Object, FilterStatisticsImpl>> FILTERS_MAP_SUPPLIER =
+		() -> Collections.synchronizedMap(new IdentityHashMap<>());
+
+	public static List<FilterStatistics> currentFilterStatistics() {
+		if (CurrentTestDescriptor.isEmpty()) {
+			return Collections.emptyList();
+		}
+		return filtersMap(CurrentTestDescriptor.get())
+				   .map(FilterStatisticsImpl::sortedByAcceptance)
+				   .orElse(Collections.emptyList());
+	}
+
+	/**
+	 * @return null if filter statistics are not collected for {@code descriptor}
+	 */
+	public static @Nullable FilterStatisticsImpl forFilter(TestDescriptor descriptor, Object filter, Supplier<String> label) {
+		return filtersMap(descriptor)
+				   .map(filters -> filters.computeIfAbsent(filter, ignore -> new FilterStatisticsImpl(label.get())))
+				   .orElse(null);
+	}
+
+	private static Optional<Map<Object, FilterStatisticsImpl>> filtersMap(TestDescriptor descriptor) {
+		Optional<ScopedStore<Map<Object, FilterStatisticsImpl>>> store = StoreRepository.getCurrent().get(descriptor, FILTERS_ID);
+		return store.map(ScopedStore::get);
+	}
+
+	private static List<FilterStatistics> sortedByAcceptance(Map<Object, FilterStatisticsImpl> filters) {
+		synchronized (filters) {
+			return filters.values().stream()
+						  .sorted(Comparator.comparingDouble(FilterStatistics::acceptanceRate))
+						  .collect(Collectors.toList());
+		}
+	}
+
+	private final String label;
+	private final AtomicLong countGenerated = new AtomicLong();
+	private final AtomicLong countAccepted = new AtomicLong();
+	private final AtomicLong nanosSpent = new AtomicLong();
+
+	public FilterStatisticsImpl(String label) {
+		this.label = label;
+	}
+
+	public void record(int generated, boolean accepted, long nanos) {
+		countGenerated.addAndGet(generated);
+		if (accepted) {
+			countAccepted.incrementAndGet();
+		}
+		nanosSpent.addAndGet(nanos);
+	}
+
+	@Override
+	public String label() {
+		return label;
+	}
+
+	@Override
+	public long countGenerated() {
+		return countGenerated.get();
+	}
+
+	@Override
+	public long countAccepted() {
+		return countAccepted.get();
+	}
+
+	@Override
+	public Duration timeSpent() {
+		return Duration.ofNanos(nanosSpent.get());
+	}
+
+	@Override
+	public String toString() {
+		return String.format("%s: %d of %d accepted in %s", label, countAccepted(), countGenerated(), timeSpent());
+	}
+}
@@ -12,6 +12,10 @@ import net.jqwik.api.statistics.*;
 import net.jqwik.api.statistics.StatisticsCoverage.*;
 import net.jqwik.engine.facades.*;
 
+/**
+ * Collecting and querying is synchronized because tries of properties
+ * with parallelism > 1 share the same collector.
+ */
 public class StatisticsCollectorImpl implements StatisticsCollector {
 	public static final Object COLLECTORS_ID = Tuple.of(StatisticsCollectorImpl.class, "collectors");
 
@@ -26,7 +30,7 @@ public class StatisticsCollectorImpl implements StatisticsCollector {
 	}
 
 	@Override
-	public StatisticsCollector collect(Object... values) {
+	public synchronized StatisticsCollector collect(Object... values) {
 		ensureAtLeastOneParameter(values);
 		List<Object> key = keyFrom(values);
 		ensureSameNumberOfValues(key);
@@ -114,7 +118,7 @@ public class StatisticsCollectorImpl implements StatisticsCollector {
 				   );
 	}
 
-	public int countAllCollects() {
+	public synchronized int countAllCollects() {
 		return counts.values().stream().mapToInt(aCount -> aCount).sum();
 	}
 
@@ -124,7 +128,7 @@ public class StatisticsCollectorImpl implements StatisticsCollector {
 	}
 
 	@Override
-	public void coverage(Consumer<StatisticsCoverage> checker) {
+	public synchronized void coverage(Consumer<StatisticsCoverage> checker) {
 		// The same checker shall only be used once
 		if (!coverageCheckers.contains(checker)) {
 			coverageCheckers.add(checker);
@@ -142,7 +146,7 @@ public class StatisticsCollectorImpl implements StatisticsCollector {
 		return counts;
 	}
 
-	public List<StatisticsEntryImpl> statisticsEntries() {
+	public synchronized List<StatisticsEntryImpl> statisticsEntries() {
 		if (statisticsEntries != null) {
 			return statisticsEntries;
 		}
@@ -17,10 +17,11 @@ public class StatisticsHook implements AroundPropertyHook {
 
 	private static final Logger LOG = Logger.getLogger(StatisticsHook.class.getName());
 
+	// Collectors are looked up concurrently by tries of properties with parallelism > 1
 	private static final Supplier<Map<String, StatisticsCollectorImpl>> STATISTICS_MAP_SUPPLIER =
 		() -> new LinkedHashMap<String, StatisticsCollectorImpl>() {
 			@Override
-			public StatisticsCollectorImpl get(Object key) {
+			public synchronized StatisticsCollectorImpl get(Object key) {
 				return this.computeIfAbsent((String) key, StatisticsCollectorImpl::new);
 			}
 		};
@@ -33,6 +34,11 @@ public class StatisticsHook implements AroundPropertyHook {
 				Lifespan.PROPERTY,
 				STATISTICS_MAP_SUPPLIER
 			);
+		Store.create(
+			FilterStatisticsImpl.FILTERS_ID,
+			Lifespan.PROPERTY,
+			FilterStatisticsImpl.FILTERS_MAP_SUPPLIER
+		);
 
 		PropertyExecutionResult testExecutionResult = property.execute();
 
@@ -0,0 +1,114 @@
+package net.jqwik.engine.properties;
+
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.function.*;
+
+import org.junit.platform.engine.*;
+
+import net.jqwik.api.domains.*;
+import net.jqwik.api.lifecycle.*;
+import net.jqwik.engine.execution.lifecycle.*;
+import net.jqwik.engine.support.*;
+
+/**
+ * Takes generated tries in the same order as {@linkplain SequentialTries}
+ * but executes up to {@code parallelism} tries concurrently - either on platform threads or on virtual threads.
+ * Evaluated tries are handed out in the order of generation.
+ * Each try must have been generated with its own values of TRY stores.
+ */
+class ConcurrentTries implements EvaluatedTries {
+
+	private final GeneratedTries generatedTries;
+	private final BiFunction<TryLifecycleContext, List<Object>, TryExecutionResult> tryEvaluator;
+	private final int parallelism;
+
+	private final ExecutorService executorService;
+	private final TestDescriptor currentDescriptor;
+	private final DomainContext currentDomainContext;
+	private final Deque<Future<EvaluatedTry>> triesInFlight = new ArrayDeque<>();
+
+	ConcurrentTries(
+		GeneratedTries generatedTries,
+		BiFunction<TryLifecycleContext, List<Object>, TryExecutionResult> tryEvaluator,
+		int parallelism,
+		boolean useVirtualThreads
+	) {
+		this.generatedTries = generatedTries;
+		this.tryEvaluator = tryEvaluator;
+		this.parallelism = parallelism;
+		this.currentDescriptor = CurrentTestDescriptor.get();
+		this.currentDomainContext = CurrentDomainContext.get();
+		this.executorService = TryExecutors.create(parallelism, useVirtualThreads);
+	}
+
+	@Override
+	public boolean hasNext() {
+		fillUpTriesInFlight();
+		return !triesInFlight.isEmpty();
+	}
+
+	@Override
+	public EvaluatedTry next() {
+		fillUpTriesInFlight();
+		if (triesInFlight.isEmpty()) {
+			throw new NoSuchElementException();
+		}
+		return await(triesInFlight.removeFirst());
+	}
+
+	private void fillUpTriesInFlight() {
+		while (triesInFlight.size() < parallelism && generatedTries.hasNext()) {
+			GeneratedTry generatedTry = generatedTries.next();
+			if (generatedTry.generationError().isPresent()) {
+				triesInFlight.addLast(CompletableFuture.completedFuture(EvaluatedTry.evaluate(generatedTry, tryEvaluator)));
+				return;
+			}
+			triesInFlight.addLast(executorService.submit(() -> evaluateInCurrentContext(generatedTry)));
+		}
+	}
+
+	private EvaluatedTry evaluateInCurrentContext(GeneratedTry generatedTry) {
+		return CurrentDomainContext.runWithContext(
+			currentDomainContext,
+			() -> CurrentTestDescriptor.runWithDescriptor(
+				currentDescriptor,
+				() -> EvaluatedTry.evaluate(generatedTry, tryEvaluator)
+			)
+		);
+	}
+
+	private EvaluatedTry await(Future<EvaluatedTry> evaluatedTry) {
+		try {
+			return evaluatedTry.get();
+		} catch (ExecutionException executionException) {
+			return JqwikExceptionSupport.throwAsUncheckedException(executionException.getCause());
+		} catch (InterruptedException interruptedException) {
+			Thread.currentThread().interrupt();
+			return JqwikExceptionSupport.throwAsUncheckedException(interruptedException);
+		}
+	}
+
+	/**
+	 * Tries that have not started yet are cancelled. Running tries are waited for
+	 * so that no try is still executing when shrinking or the next property starts.
+	 */
+	@Override
+	public void close() {
+		generatedTries.close();
+		triesInFlight.forEach(evaluatedTry -> evaluatedTry.cancel(false));
+		triesInFlight.clear();
+		executorService.shutdown();
+		boolean interrupted = false;
+		while (!executorService.isTerminated()) {
+			try {
+				executorService.awaitTermination(1, TimeUnit.SECONDS);
+			} catch (InterruptedException e) {
+				interrupted = true;
+			}
+		}
+		if (interrupted) {
+			Thread.currentThread().interrupt();
+		}
+	}
+}
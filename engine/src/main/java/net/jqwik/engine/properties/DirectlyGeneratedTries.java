@@ -0,0 +1,60 @@
+package net.jqwik.engine.properties;
+
+import java.util.*;
+import java.util.function.*;
+
+import org.jspecify.annotations.*;
+
+import net.jqwik.api.lifecycle.*;
+import net.jqwik.engine.execution.*;
+
+/**
+ * Generates the parameters of each try on the calling thread when they are requested.
+ * Tries that will be executed concurrently get their own context right from the start of generation.
+ */
+class DirectlyGeneratedTries implements GeneratedTries {
+
+	private final ParametersGenerator parametersGenerator;
+	private final Supplier<TryLifecycleContext> tryLifecycleContextSupplier;
+	private final String randomSeed;
+	private final int maxTries;
+	private final @Nullable Supplier<OwnTryContext> ownTryContexts;
+
+	private int countGenerated = 0;
+	private boolean generationFailed = false;
+
+	DirectlyGeneratedTries(
+		ParametersGenerator parametersGenerator,
+		Supplier<TryLifecycleContext> tryLifecycleContextSupplier,
+		String randomSeed,
+		int maxTries,
+		boolean concurrentTries
+	) {
+		this.parametersGenerator = parametersGenerator;
+		this.tryLifecycleContextSupplier = tryLifecycleContextSupplier;
+		this.randomSeed = randomSeed;
+		this.maxTries = maxTries;
+		this.ownTryContexts = concurrentTries ? OwnTryContext.forTriesWithSeed(randomSeed) : null;
+	}
+
+	@Override
+	public boolean hasNext() {
+		return !generationFailed && countGenerated < maxTries && parametersGenerator.hasNext();
+	}
+
+	@Override
+	public GeneratedTry next() {
+		if (!hasNext()) {
+			throw new NoSuchElementException();
+		}
+		countGenerated++;
+		OwnTryContext ownContext = ownTryContexts == null ? null : ownTryContexts.get();
+		GeneratedTry generatedTry = GeneratedTry.generate(parametersGenerator, tryLifecycleContextSupplier.get(), randomSeed, false, ownContext);
+		generationFailed = generatedTry.generationError().isPresent();
+		return generatedTry;
+	}
+
+	@Override
+	public void close() {
+	}
+}
@@ -1,6 +1,7 @@
 package net.jqwik.engine.properties;
 
 import java.util.*;
+import java.util.function.*;
 import java.util.stream.*;
 
 import net.jqwik.api.*;
@@ -20,11 +21,38 @@ public class EdgeCasesGenerator implements Iterator<List<Shrinkable<Object>>> {
 		);
 	}
 
+	/**
+	 * @return the number of all combinations of edge cases or {@code Long.MAX_VALUE} if it exceeds a long
+	 */
+	static long countCombinations(List<EdgeCases<Object>> edgeCases) {
+		if (edgeCases.isEmpty()) {
+			return 0;
+		}
+		long product = 1;
+		for (EdgeCases<Object> edgeCase : edgeCases) {
+			try {
+				product = multiplyExact(product, edgeCase.size());
+			} catch (ArithmeticException overflow) {
+				return Long.MAX_VALUE;
+			}
+		}
+		return product;
+	}
+
 	private final List<EdgeCases<Object>> edgeCases;
+	private final long countCombinations;
+	private final int maxEdgeCases;
 	private final Iterator<List<Shrinkable<Object>>> iterator;
 
-	EdgeCasesGenerator(List<EdgeCases<Object>> edgeCases) {
+	/**
+	 * If there are more combinations than {@code maxEdgeCases} they are streamed in diagonal order
+	 * and generation stops after {@code maxEdgeCases}. Thus, early edge cases of all parameters
+	 * are combined with each other before later ones show up.
+	 */
+	EdgeCasesGenerator(List<EdgeCases<Object>> edgeCases, int maxEdgeCases) {
 		this.edgeCases = edgeCases;
+		this.countCombinations = countCombinations(edgeCases);
+		this.maxEdgeCases = maxEdgeCases;
 		this.iterator = createIterator();
 	}
 
@@ -32,6 +60,24 @@ public class EdgeCasesGenerator implements Iterator<List<Shrinkable<Object>>> {
 		if (this.edgeCases.isEmpty()) {
 			return Collections.emptyIterator();
 		}
+		if (isStreamed()) {
+			List<List<Supplier<Shrinkable<Object>>>> suppliers =
+				edgeCases.stream()
+						 .map(EdgeCases::suppliers)
+						 .collect(Collectors.toList());
+			Iterator<List<Supplier<Shrinkable<Object>>>> combinations = Combinatorics.combineDiagonally(suppliers, maxEdgeCases);
+			return new Iterator<List<Shrinkable<Object>>>() {
+				@Override
+				public boolean hasNext() {
+					return combinations.hasNext();
+				}
+
+				@Override
+				public List<Shrinkable<Object>> next() {
+					return combinations.next().stream().map(Supplier::get).collect(Collectors.toList());
+				}
+			};
+		}
 		List<Iterable<Shrinkable<Object>>> iterables =
 			edgeCases
 				.stream()
@@ -40,6 +86,21 @@ public class EdgeCasesGenerator implements Iterator<List<Shrinkable<Object>>> {
 		return Combinatorics.combine(iterables);
 	}
 
+	boolean isStreamed() {
+		return countCombinations > maxEdgeCases;
+	}
+
+	long countCombinations() {
+		return countCombinations;
+	}
+
+	/**
+	 * @return the number of edge cases that will be generated at most
+	 */
+	int total() {
+		return (int) min(countCombinations, maxEdgeCases);
+	}
+
 	@Override
 	public boolean hasNext() {
 		return iterator.hasNext();
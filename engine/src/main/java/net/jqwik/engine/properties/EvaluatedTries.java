@@ -0,0 +1,12 @@
+package net.jqwik.engine.properties;
+
+import java.util.*;
+
+/**
+ * Delivers evaluated tries in the order in which their parameters have been generated.
+ */
+interface EvaluatedTries extends Iterator<EvaluatedTry>, AutoCloseable {
+
+	@Override
+	void close();
+}
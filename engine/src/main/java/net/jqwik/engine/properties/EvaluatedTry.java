@@ -0,0 +1,111 @@
+package net.jqwik.engine.properties;
+
+import java.util.*;
+import java.util.function.*;
+
+import org.jspecify.annotations.*;
+
+import net.jqwik.api.*;
+import net.jqwik.api.lifecycle.*;
+import net.jqwik.engine.execution.*;
+import net.jqwik.engine.support.*;
+
+/**
+ * The outcome of generating parameters for a single try and executing the try with them.
+ */
+class EvaluatedTry {
+
+	/**
+	 * Evaluation uses the same own context as the generation of the try's parameters.
+	 */
+	static EvaluatedTry evaluate(
+		GeneratedTry generatedTry,
+		BiFunction<TryLifecycleContext, List<Object>, TryExecutionResult> tryEvaluator
+	) {
+		OwnTryContext ownContext = generatedTry.ownContext();
+		if (ownContext == null) {
+			return evaluateInCurrentTry(generatedTry, tryEvaluator);
+		}
+		return ownContext.run(() -> evaluateInCurrentTry(generatedTry, tryEvaluator));
+	}
+
+	private static EvaluatedTry evaluateInCurrentTry(
+		GeneratedTry generatedTry,
+		BiFunction<TryLifecycleContext, List<Object>, TryExecutionResult> tryEvaluator
+	) {
+		Optional<Throwable> generationError = generatedTry.generationError();
+		if (generationError.isPresent()) {
+			JqwikExceptionSupport.rethrowIfBlacklisted(generationError.get());
+			return new EvaluatedTry(generatedTry, Collections.emptyList(), Collections.emptyList(), null, null);
+		}
+		List<Shrinkable<Object>> shrinkableParams = generatedTry.shrinkableParams();
+		List<Object> sample = generatedTry.sample();
+		try {
+			TryExecutionResult result = tryEvaluator.apply(generatedTry.tryLifecycleContext(), sample);
+			return new EvaluatedTry(generatedTry, shrinkableParams, sample, result, null);
+		} catch (Throwable throwable) {
+			JqwikExceptionSupport.rethrowIfBlacklisted(throwable);
+			return new EvaluatedTry(generatedTry, shrinkableParams, sample, null, throwable);
+		}
+	}
+
+	private final GeneratedTry generatedTry;
+	private final List<Shrinkable<Object>> shrinkableParams;
+	private final List<Object> sample;
+	private final @Nullable TryExecutionResult result;
+	private final @Nullable Throwable evaluationError;
+
+	private EvaluatedTry(
+		GeneratedTry generatedTry,
+		List<Shrinkable<Object>> shrinkableParams,
+		List<Object> sample,
+		@Nullable TryExecutionResult result,
+		@Nullable Throwable evaluationError
+	) {
+		this.generatedTry = generatedTry;
+		this.shrinkableParams = shrinkableParams;
+		this.sample = sample;
+		this.result = result;
+		this.evaluationError = evaluationError;
+	}
+
+	Optional<Throwable> generationError() {
+		return generatedTry.generationError();
+	}
+
+	/**
+	 * @return the generation info right after this try's parameters have been generated
+	 */
+	GenerationInfo generationInfo() {
+		return generatedTry.generationInfo();
+	}
+
+	int edgeCasesTried() {
+		return generatedTry.edgeCasesTried();
+	}
+
+	TryLifecycleContext tryLifecycleContext() {
+		return generatedTry.tryLifecycleContext();
+	}
+
+	List<Shrinkable<Object>> shrinkableParams() {
+		return shrinkableParams;
+	}
+
+	List<Object> sample() {
+		return sample;
+	}
+
+	/**
+	 * @return the try's result or rethrow the exception that happened during its execution
+	 */
+	TryExecutionResult result() {
+		if (evaluationError != null) {
+			return JqwikExceptionSupport.throwAsUncheckedException(evaluationError);
+		}
+		if (result == null) {
+			throw new IllegalStateException("Try has not been executed");
+		}
+		return result;
+	}
+}
@@ -4,9 +4,12 @@ import java.util.*;
 import java.util.stream.*;
 
 import net.jqwik.api.*;
+import net.jqwik.engine.properties.arbitraries.exhaustive.*;
 import net.jqwik.engine.support.*;
 import net.jqwik.engine.support.types.*;
 
+import org.jspecify.annotations.*;
+
 public class ExhaustiveShrinkablesGenerator implements ForAllParametersGenerator {
 
 	public static ExhaustiveShrinkablesGenerator forParameters(
@@ -48,7 +51,9 @@ public class ExhaustiveShrinkablesGenerator implements ForAllParametersGenerator
 
 	private final List<List<ExhaustiveGenerator<Object>>> generators;
 	private final long maxCount;
+	private final @Nullable List<IndexedExhaustiveGenerator<Object>> indexedGenerators;
 	private Iterator<List<Shrinkable<Object>>> combinatorialIterator;
+	private long nextIndex = 0;
 
 	private ExhaustiveShrinkablesGenerator(List<List<ExhaustiveGenerator<Object>>> generators) {
 		this.maxCount = generators
@@ -57,9 +62,45 @@ public class ExhaustiveShrinkablesGenerator implements ForAllParametersGenerator
 							.reduce((product, count) -> product * count)
 							.orElse(1L);
 		this.generators = generators;
+		this.indexedGenerators = indexedGenerators(generators);
 		this.reset();
 	}
 
+	/**
+	 * @return one indexed generator per parameter or null if values of any parameter cannot be addressed by index
+	 */
+	private static @Nullable List<IndexedExhaustiveGenerator<Object>> indexedGenerators(List<List<ExhaustiveGenerator<Object>>> generators) {
+		List<IndexedExhaustiveGenerator<Object>> indexedGenerators = new ArrayList<>();
+		for (List<ExhaustiveGenerator<Object>> parameterGenerators : generators) {
+			List<IndexedExhaustiveGenerator<Object>> indexedParameterGenerators = new ArrayList<>();
+			for (ExhaustiveGenerator<Object> generator : parameterGenerators) {
+				Optional<IndexedExhaustiveGenerator<Object>> indexed = IndexedExhaustiveGenerator.indexed(generator);
+				if (!indexed.isPresent()) {
+					return null;
+				}
+				indexedParameterGenerators.add(indexed.get());
+			}
+			indexedGenerators.add(concatIndexed(indexedParameterGenerators));
+		}
+		return indexedGenerators;
+	}
+
+	private static IndexedExhaustiveGenerator<Object> concatIndexed(List<IndexedExhaustiveGenerator<Object>> generators) {
+		if (generators.size() == 1) {
+			return generators.get(0);
+		}
+		long sumOfCounts = generators.stream().mapToLong(ExhaustiveGenerator::maxCount).sum();
+		return ExhaustiveGenerators.indexed(sumOfCounts, index -> {
+			for (IndexedExhaustiveGenerator<Object> generator : generators) {
+				if (index < generator.maxCount()) {
+					return generator.get(index);
+				}
+				index -= generator.maxCount();
+			}
+			throw new IndexOutOfBoundsException();
+		});
+	}
+
 	private Iterator<List<Shrinkable<Object>>> combine(List<List<ExhaustiveGenerator<Object>>> generators) {
 		List<Iterable<Object>> iterables = generators
 											   .stream()
@@ -95,17 +136,40 @@ public class ExhaustiveShrinkablesGenerator implements ForAllParametersGenerator
 
 	@Override
 	public boolean hasNext() {
+		if (indexedGenerators != null) {
+			return nextIndex < maxCount;
+		}
 		return combinatorialIterator.hasNext();
 	}
 
 	@Override
 	public List<Shrinkable<Object>> next() {
+		if (indexedGenerators != null) {
+			if (!hasNext()) {
+				throw new NoSuchElementException();
+			}
+			return ExhaustiveGenerators.valuesAt(indexedGenerators, nextIndex++)
+									   .stream()
+									   .map(Shrinkable::unshrinkable)
+									   .collect(Collectors.toList());
+		}
 		return combinatorialIterator.next();
 	}
 
+	@Override
+	public int skip(int count) {
+		if (indexedGenerators == null) {
+			return 0;
+		}
+		int skipped = (int) Math.min(count, maxCount - nextIndex);
+		nextIndex += skipped;
+		return skipped;
+	}
+
 	@Override
 	public void reset() {
 		this.combinatorialIterator = combine(generators);
+		this.nextIndex = 0;
 	}
 
 	public long maxCount() {
@@ -14,5 +14,14 @@ public interface ForAllParametersGenerator extends Iterator<List<Shrinkable<Obje
 		return 0;
 	}
 
+	/**
+	 * Skip the next {@code count} samples without generating them, if the generator can do so.
+	 *
+	 * @return the number of samples that have actually been skipped
+	 */
+	default int skip(int count) {
+		return 0;
+	}
+
     void reset();
 }
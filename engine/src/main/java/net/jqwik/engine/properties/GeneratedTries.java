@@ -0,0 +1,13 @@
+package net.jqwik.engine.properties;
+
+import java.util.*;
+
+/**
+ * Delivers the parameters of tries in the order of generation.
+ * Generation stops after the first try whose parameters could not be generated.
+ */
+interface GeneratedTries extends Iterator<GeneratedTry>, AutoCloseable {
+
+	@Override
+	void close();
+}
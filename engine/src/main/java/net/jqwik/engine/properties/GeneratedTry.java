@@ -0,0 +1,154 @@
+package net.jqwik.engine.properties;
+
+import java.util.*;
+
+import org.jspecify.annotations.*;
+
+import net.jqwik.api.*;
+import net.jqwik.api.lifecycle.*;
+import net.jqwik.engine.execution.*;
+import net.jqwik.engine.support.*;
+
+/**
+ * The parameters generated for a single try together with the generation state right after generating them.
+ * Capturing the state allows to generate ahead of the try that is currently being evaluated.
+ */
+class GeneratedTry {
+
+	private static final Object NOT_MATERIALIZED = new Object();
+
+	/**
+	 * @param materializeValues Also compute the values of generated parameters, which includes mapping and combining.
+	 *                          Resolved parameters are always left to the thread that executes the try.
+	 * @param ownContext        The try's own context, which is used for generation and later for execution.
+	 *                          {@code null} if the try uses the context of the thread it is generated and executed on.
+	 */
+	static GeneratedTry generate(
+		ParametersGenerator parametersGenerator,
+		TryLifecycleContext tryLifecycleContext,
+		String randomSeed,
+		boolean materializeValues,
+		@Nullable OwnTryContext ownContext
+	) {
+		if (ownContext == null) {
+			return generateInCurrentTry(parametersGenerator, tryLifecycleContext, randomSeed, materializeValues, null);
+		}
+		return ownContext.run(
+			() -> generateInCurrentTry(parametersGenerator, tryLifecycleContext, randomSeed, materializeValues, ownContext)
+		);
+	}
+
+	private static GeneratedTry generateInCurrentTry(
+		ParametersGenerator parametersGenerator,
+		TryLifecycleContext tryLifecycleContext,
+		String randomSeed,
+		boolean materializeValues,
+		@Nullable OwnTryContext ownContext
+	) {
+		List<Shrinkable<Object>> shrinkableParams = null;
+		List<@Nullable Object> values = Collections.emptyList();
+		Throwable generationError = null;
+		try {
+			shrinkableParams = parametersGenerator.next(tryLifecycleContext);
+			if (materializeValues) {
+				values = materializeValues(shrinkableParams);
+			}
+		} catch (Throwable throwable) {
+			// Mostly TooManyFilterMissesException gets here
+			generationError = throwable;
+		}
+		return new GeneratedTry(
+			tryLifecycleContext,
+			shrinkableParams,
+			values,
+			generationError,
+			parametersGenerator.generationInfo(randomSeed),
+			parametersGenerator.edgeCasesTried(),
+			ownContext
+		);
+	}
+
+	private static List<@Nullable Object> materializeValues(List<Shrinkable<Object>> shrinkableParams) {
+		List<@Nullable Object> values = new ArrayList<>(shrinkableParams.size());
+		for (Shrinkable<Object> shrinkable : shrinkableParams) {
+			if (shrinkable instanceof ShrinkableResolvedParameter) {
+				values.add(NOT_MATERIALIZED);
+				continue;
+			}
+			try {
+				values.add(shrinkable.value());
+			} catch (Throwable throwable) {
+				// Will be thrown again when the try needs the value
+				JqwikExceptionSupport.rethrowIfBlacklisted(throwable);
+				values.add(NOT_MATERIALIZED);
+			}
+		}
+		return values;
+	}
+
+	private final TryLifecycleContext tryLifecycleContext;
+	private final @Nullable List<Shrinkable<Object>> shrinkableParams;
+	private final List<@Nullable Object> values;
+	private final @Nullable Throwable generationError;
+	private final GenerationInfo generationInfo;
+	private final int edgeCasesTried;
+	private final @Nullable OwnTryContext ownContext;
+
+	private GeneratedTry(
+		TryLifecycleContext tryLifecycleContext,
+		@Nullable List<Shrinkable<Object>> shrinkableParams,
+		List<@Nullable Object> values,
+		@Nullable Throwable generationError,
+		GenerationInfo generationInfo,
+		int edgeCasesTried,
+		@Nullable OwnTryContext ownContext
+	) {
+		this.tryLifecycleContext = tryLifecycleContext;
+		this.shrinkableParams = shrinkableParams;
+		this.values = values;
+		this.generationError = generationError;
+		this.generationInfo = generationInfo;
+		this.edgeCasesTried = edgeCasesTried;
+		this.ownContext = ownContext;
+	}
+
+	TryLifecycleContext tryLifecycleContext() {
+		return tryLifecycleContext;
+	}
+
+	List<Shrinkable<Object>> shrinkableParams() {
+		if (shrinkableParams == null) {
+			throw new IllegalStateException("Parameters could not be generated");
+		}
+		return shrinkableParams;
+	}
+
+	/**
+	 * @return the values of all parameters, computing those that have not been materialized during generation
+	 */
+	List<Object> sample() {
+		List<Shrinkable<Object>> shrinkables = shrinkableParams();
+		List<Object> sample = new ArrayList<>(shrinkables.size());
+		for (int i = 0; i < shrinkables.size(); i++) {
+			Object value = i < values.size() ? values.get(i) : NOT_MATERIALIZED;
+			sample.add(value == NOT_MATERIALIZED ? shrinkables.get(i).value() : value);
+		}
+		return sample;
+	}
+
+	Optional<Throwable> generationError() {
+		return Optional.ofNullable(generationError);
+	}
+
+	GenerationInfo generationInfo() {
+		return generationInfo;
+	}
+
+	int edgeCasesTried() {
+		return edgeCasesTried;
+	}
+
+	@Nullable OwnTryContext ownContext() {
+		return ownContext;
+	}
+}
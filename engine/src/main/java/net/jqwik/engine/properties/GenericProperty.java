@@ -1,17 +1,21 @@
 package net.jqwik.engine.properties;
 
 import java.lang.reflect.*;
+import java.time.*;
 import java.util.*;
 import java.util.function.*;
-import java.util.stream.*;
+
+import org.jspecify.annotations.*;
 
 import net.jqwik.api.*;
 import net.jqwik.api.Tuple.*;
 import net.jqwik.api.lifecycle.*;
+import net.jqwik.api.statistics.*;
 import net.jqwik.engine.descriptor.*;
 import net.jqwik.engine.execution.*;
 import net.jqwik.engine.execution.lifecycle.*;
 import net.jqwik.engine.execution.reporting.*;
+import net.jqwik.engine.hooks.statistics.*;
 import net.jqwik.engine.properties.shrinking.*;
 import net.jqwik.engine.support.*;
 
@@ -38,34 +42,79 @@ public class GenericProperty {
 	}
 
 	public PropertyCheckResult check(Reporter reporter, Reporting[] reporting) {
-		int maxTries = configuration.getTries();
+		@Nullable TimeBudget timeBudget = configuration.getDuration().map(TimeBudget::start).orElse(null);
+		try (EvaluatedTries tries = createTries(timeBudget, reporter, reporting)) {
+			PropertyCheckResult checkResult = check(tries, timeBudget, reporter, reporting);
+			if (timeBudget != null) {
+				checkResult = checkResult.withTimeBudget(timeBudget.budget, timeBudget.elapsed());
+			}
+			List<FilterStatistics> filterStatistics = FilterStatisticsImpl.currentFilterStatistics();
+			if (!filterStatistics.isEmpty()) {
+				checkResult = checkResult.withFilterStatistics(filterStatistics);
+			}
+			return checkResult;
+		}
+	}
+
+	private EvaluatedTries createTries(@Nullable TimeBudget timeBudget, Reporter reporter, Reporting[] reporting) {
+		BiFunction<TryLifecycleContext, List<Object>, TryExecutionResult> tryEvaluator =
+			(tryLifecycleContext, sample) -> testPredicate(tryLifecycleContext, sample, reporter, reporting);
+		int parallelism = configuration.getParallelism();
+		GeneratedTries generatedTries = createGeneratedTries(maxTries(timeBudget), parallelism > 1);
+		if (parallelism > 1) {
+			return new ConcurrentTries(
+				generatedTries,
+				tryEvaluator,
+				parallelism,
+				configuration.useVirtualThreadsForTries()
+			);
+		}
+		return new SequentialTries(generatedTries, tryEvaluator);
+	}
+
+	private GeneratedTries createGeneratedTries(int maxTries, boolean concurrentTries) {
+		int prefetch = configuration.prefetchedTries();
+		if (prefetch > 0 && maxTries > 1) {
+			return new PrefetchedGeneratedTries(parametersGenerator, tryLifecycleContextSupplier, configuration.getSeed(), maxTries, prefetch);
+		}
+		return new DirectlyGeneratedTries(parametersGenerator, tryLifecycleContextSupplier, configuration.getSeed(), maxTries, concurrentTries);
+	}
+
+	private int maxTries(@Nullable TimeBudget timeBudget) {
+		return timeBudget == null ? configuration.getTries() : Integer.MAX_VALUE;
+	}
+
+	private PropertyCheckResult check(EvaluatedTries tries, @Nullable TimeBudget timeBudget, Reporter reporter, Reporting[] reporting) {
+		int maxTries = maxTries(timeBudget);
 		int countChecks = 0;
 		int countTries = 0;
+		// Parameters of later tries may already have been generated, so generation state is taken from the current try
+		int edgeCasesTried = 0;
 		boolean finishEarly = false;
 		while (countTries < maxTries) {
 			if (finishEarly) {
 				break;
 			}
-			if (!parametersGenerator.hasNext()) {
+			if (timeBudget != null && timeBudget.isUsedUp()) {
+				break;
+			}
+			if (!tries.hasNext()) {
 				break;
 			}
 			countTries++;
 
-			List<Shrinkable<Object>> shrinkableParams;
-			TryLifecycleContext tryLifecycleContext = tryLifecycleContextSupplier.get();
-			try {
-				shrinkableParams = parametersGenerator.next(tryLifecycleContext);
-			} catch (Throwable throwable) {
-				// Mostly TooManyFilterMissesException gets here
-				JqwikExceptionSupport.rethrowIfBlacklisted(throwable);
-
-				return exhaustedCheckResult(countTries, countChecks, throwable);
+			EvaluatedTry evaluatedTry = tries.next();
+			edgeCasesTried = evaluatedTry.edgeCasesTried();
+			if (evaluatedTry.generationError().isPresent()) {
+				return exhaustedCheckResult(countTries, countChecks, edgeCasesTried, evaluatedTry.generationError().get());
 			}
 
-			List<Object> sample = extractParams(shrinkableParams);
+			TryLifecycleContext tryLifecycleContext = evaluatedTry.tryLifecycleContext();
+			List<Shrinkable<Object>> shrinkableParams = evaluatedTry.shrinkableParams();
+			List<Object> sample = evaluatedTry.sample();
 			try {
 				countChecks++;
-				TryExecutionResult tryExecutionResult = testPredicate(tryLifecycleContext, sample, reporter, reporting);
+				TryExecutionResult tryExecutionResult = evaluatedTry.result();
 				switch (tryExecutionResult.status()) {
 					case SATISFIED:
 						finishEarly = tryExecutionResult.shouldPropertyFinishEarly();
@@ -77,11 +126,18 @@ public class GenericProperty {
 							tryExecutionResult.throwable(),
 							tryExecutionResult.footnotes()
 						);
+						// No other try must be running while shrinking
+						tries.close();
+						if (timeBudget != null) {
+							timeBudget.stop();
+						}
 						return shrinkAndCreateCheckResult(
 							reporter,
 							reporting,
 							countChecks,
 							countTries,
+							evaluatedTry.generationInfo(),
+							edgeCasesTried,
 							falsifiedSample,
 							tryLifecycleContext.targetMethod()
 						);
@@ -95,7 +151,7 @@ public class GenericProperty {
 								configuration.getGenerationMode(),
 								configuration.getEdgeCasesMode(),
 								parametersGenerator.edgeCasesTotal(),
-								parametersGenerator.edgeCasesTried(),
+								edgeCasesTried,
 								tryExecutionResult.throwable().orElse(null)
 							);
 						}
@@ -113,17 +169,16 @@ public class GenericProperty {
 					Optional.of(throwable),
 					Collections.emptyList()
 				);
-				GenerationInfo generationInfo = parametersGenerator.generationInfo(configuration.getSeed());
 				return PropertyCheckResult.failed(
-					configuration.getStereotype(), name, countTries, countChecks, generationInfo,
+					configuration.getStereotype(), name, countTries, countChecks, evaluatedTry.generationInfo(),
 					configuration.getGenerationMode(),
-					configuration.getEdgeCasesMode(), parametersGenerator.edgeCasesTotal(), parametersGenerator.edgeCasesTried(),
+					configuration.getEdgeCasesMode(), parametersGenerator.edgeCasesTotal(), edgeCasesTried,
 					falsifiedSample, null, throwable
 				);
 			}
 		}
 		if (countChecks == 0 || maxDiscardRatioExceeded(countChecks, countTries, configuration.getMaxDiscardRatio())) {
-			return exhaustedCheckResult(maxTries, countChecks, null);
+			return exhaustedCheckResult(timeBudget == null ? maxTries : countTries, countChecks, edgeCasesTried, null);
 		}
 		return PropertyCheckResult.successful(
 			configuration.getStereotype(),
@@ -134,11 +189,11 @@ public class GenericProperty {
 			configuration.getGenerationMode(),
 			configuration.getEdgeCasesMode(),
 			parametersGenerator.edgeCasesTotal(),
-			parametersGenerator.edgeCasesTried()
+			edgeCasesTried
 		);
 	}
 
-	private PropertyCheckResult exhaustedCheckResult(int countTries, int countChecks, Throwable throwable) {
+	private PropertyCheckResult exhaustedCheckResult(int countTries, int countChecks, int edgeCasesTried, @Nullable Throwable throwable) {
 		return PropertyCheckResult.exhausted(
 			configuration.getStereotype(),
 			name,
@@ -148,7 +203,7 @@ public class GenericProperty {
 			configuration.getGenerationMode(),
 			configuration.getEdgeCasesMode(),
 			parametersGenerator.edgeCasesTotal(),
-			parametersGenerator.edgeCasesTried(),
+			edgeCasesTried,
 			throwable
 		);
 	}
@@ -171,22 +226,18 @@ public class GenericProperty {
 		return actualDiscardRatio > maxDiscardRatio;
 	}
 
-	private List<Object> extractParams(List<Shrinkable<Object>> shrinkableParams) {
-		return shrinkableParams.stream().map(Shrinkable::value).collect(Collectors.toList());
-	}
-
 	private PropertyCheckResult shrinkAndCreateCheckResult(
 		Reporter reporter, Reporting[] reporting, int countChecks,
-		int countTries, FalsifiedSample originalSample,
+		int countTries, GenerationInfo falsifiedGenerationInfo,
+		int edgeCasesTried, FalsifiedSample originalSample,
 		Method targetMethod
 	) {
 		Tuple2<ShrunkFalsifiedSample, List<TryExecutionResult.Status>> tuple = shrink(reporter, reporting, originalSample, targetMethod);
 		ShrunkFalsifiedSample shrunkSample = tuple.get1();
-		GenerationInfo generationInfo = parametersGenerator.generationInfo(configuration.getSeed())
-														   .appendShrinkingSequence(tuple.get2());
+		GenerationInfo generationInfo = falsifiedGenerationInfo.appendShrinkingSequence(tuple.get2());
 		return PropertyCheckResult.failed(
 			configuration.getStereotype(), name, countTries, countChecks, generationInfo, configuration.getGenerationMode(),
-			configuration.getEdgeCasesMode(), parametersGenerator.edgeCasesTotal(), parametersGenerator.edgeCasesTried(),
+			configuration.getEdgeCasesMode(), parametersGenerator.edgeCasesTotal(), edgeCasesTried,
 			originalSample, shrunkSample, shrunkSample.falsifyingError().orElse(null)
 		);
 	}
@@ -207,7 +258,9 @@ public class GenericProperty {
 			configuration.getShrinkingMode(),
 			configuration.boundedShrinkingSeconds(),
 			falsifiedSampleReporter,
-			targetMethod
+			targetMethod,
+			configuration.getParallelism(),
+			configuration.useVirtualThreadsForTries()
 		);
 
 		Falsifier<List<Object>> forAllFalsifier = createFalsifier(tryLifecycleContextSupplier, tryLifecycleExecutor);
@@ -229,4 +282,40 @@ public class GenericProperty {
 		return params -> tryExecutor.execute(tryLifecycleContext.get(), params);
 	}
 
+	/**
+	 * Wall-clock budget for running tries. Shrinking is not part of the budget.
+	 */
+	private static class TimeBudget {
+
+		private static final Duration MAX_NANOS = Duration.ofNanos(Long.MAX_VALUE);
+
+		private static TimeBudget start(Duration budget) {
+			return new TimeBudget(budget, System.nanoTime());
+		}
+
+		private final Duration budget;
+		private final long startNanos;
+		private final long budgetNanos;
+		private long stopNanos = -1;
+
+		private TimeBudget(Duration budget, long startNanos) {
+			this.budget = budget;
+			this.startNanos = startNanos;
+			// Longer budgets cannot be used up anyway
+			this.budgetNanos = budget.compareTo(MAX_NANOS) >= 0 ? Long.MAX_VALUE : budget.toNanos();
+		}
+
+		private boolean isUsedUp() {
+			return System.nanoTime() - startNanos >= budgetNanos;
+		}
+
+		private void stop() {
+			stopNanos = System.nanoTime();
+		}
+
+		private Duration elapsed() {
+			long endNanos = stopNanos < 0 ? System.nanoTime() : stopNanos;
+			return Duration.ofNanos(endNanos - startNanos);
+		}
+	}
 }
@@ -0,0 +1,41 @@
+package net.jqwik.engine.properties;
+
+import java.util.*;
+import java.util.function.*;
+
+import org.jspecify.annotations.*;
+
+import net.jqwik.engine.*;
+import net.jqwik.engine.SourceOfRandomness.*;
+import net.jqwik.engine.execution.lifecycle.*;
+
+/**
+ * The state a try needs of its own when it is generated ahead of other tries or executed concurrently with them:
+ * Values of TRY stores and the {@linkplain SourceOfRandomness#current() current random source}.
+ * Both are used while generating the try's parameters and while executing the try.
+ */
+class OwnTryContext {
+
+	/**
+	 * Random sources are split off a splittable random source in the order tries are generated.
+	 * Thereby a given seed leads to the same randomness within each try regardless of how tries are scheduled.
+	 *
+	 * @return a supplier that must be called from a single thread
+	 */
+	static Supplier<OwnTryContext> forTriesWithSeed(@Nullable String randomSeed) {
+		SplitMix64Random tryRandoms = SourceOfRandomness.newSplittableRandom(randomSeed);
+		return () -> new OwnTryContext(ConcurrentTryValues.forNewTry(), tryRandoms.split());
+	}
+
+	private final ConcurrentTryValues tryValues;
+	private final Random random;
+
+	private OwnTryContext(ConcurrentTryValues tryValues, Random random) {
+		this.tryValues = tryValues;
+		this.random = random;
+	}
+
+	<T extends @Nullable Object> T run(Supplier<? extends T> executable) {
+		return tryValues.run(() -> SourceOfRandomness.runWithRandom(random, executable));
+	}
+}
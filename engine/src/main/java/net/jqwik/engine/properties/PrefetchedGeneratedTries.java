@@ -0,0 +1,160 @@
+package net.jqwik.engine.properties;
+
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.function.*;
+
+import org.jspecify.annotations.*;
+import org.junit.platform.engine.*;
+
+import net.jqwik.api.domains.*;
+import net.jqwik.api.lifecycle.*;
+import net.jqwik.engine.execution.*;
+import net.jqwik.engine.execution.lifecycle.*;
+import net.jqwik.engine.support.*;
+
+/**
+ * Generates the parameters of up to {@code prefetch} tries ahead on a background thread
+ * while the current try is being evaluated.
+ * Their values - including mapping and combining - are also computed on the background thread.
+ *
+ * <p>
+ * There is only a single generating thread, which hands out generated tries in the order of generation.
+ * Thereby a given seed produces the same samples as {@linkplain DirectlyGeneratedTries}.
+ * </p>
+ *
+ * <p>
+ * Each try gets its own context - values of TRY stores and current random source -
+ * which is used for generation and later for execution.
+ * That's why generating the next tries does not interfere with resetting TRY stores after the current try.
+ * </p>
+ */
+class PrefetchedGeneratedTries implements GeneratedTries {
+
+	private static final long OFFER_TIMEOUT_MILLIS = 10;
+
+	private final ParametersGenerator parametersGenerator;
+	private final Supplier<TryLifecycleContext> tryLifecycleContextSupplier;
+	private final String randomSeed;
+	private final int maxTries;
+	private final Supplier<OwnTryContext> ownTryContexts;
+
+	// Empty marks the end of generation
+	private final BlockingQueue<Optional<GeneratedTry>> prefetched;
+	private final ExecutorService executorService;
+
+	private volatile boolean closed = false;
+	private volatile @Nullable Throwable generatorFailure = null;
+	private @Nullable Optional<GeneratedTry> nextTry = null;
+
+	PrefetchedGeneratedTries(
+		ParametersGenerator parametersGenerator,
+		Supplier<TryLifecycleContext> tryLifecycleContextSupplier,
+		String randomSeed,
+		int maxTries,
+		int prefetch
+	) {
+		this.parametersGenerator = parametersGenerator;
+		this.tryLifecycleContextSupplier = tryLifecycleContextSupplier;
+		this.randomSeed = randomSeed;
+		this.maxTries = maxTries;
+		this.ownTryContexts = OwnTryContext.forTriesWithSeed(randomSeed);
+		this.prefetched = new ArrayBlockingQueue<>(prefetch);
+		this.executorService = TryExecutors.createForPrefetching();
+		TestDescriptor currentDescriptor = CurrentTestDescriptor.get();
+		DomainContext currentDomainContext = CurrentDomainContext.get();
+		this.executorService.submit(() -> CurrentDomainContext.runWithContext(
+			currentDomainContext,
+			() -> CurrentTestDescriptor.runWithDescriptor(currentDescriptor, this::generateAll)
+		));
+	}
+
+	private @Nullable Void generateAll() {
+		try {
+			int countGenerated = 0;
+			while (!closed && countGenerated < maxTries && parametersGenerator.hasNext()) {
+				countGenerated++;
+				GeneratedTry generatedTry = GeneratedTry.generate(parametersGenerator, tryLifecycleContextSupplier.get(), randomSeed, true, ownTryContexts.get());
+				if (!enqueue(Optional.of(generatedTry)) || generatedTry.generationError().isPresent()) {
+					break;
+				}
+			}
+		} catch (Throwable throwable) {
+			generatorFailure = throwable;
+		} finally {
+			enqueue(Optional.empty());
+		}
+		return null;
+	}
+
+	private boolean enqueue(Optional<GeneratedTry> generatedTry) {
+		try {
+			while (!closed) {
+				if (prefetched.offer(generatedTry, OFFER_TIMEOUT_MILLIS, TimeUnit.MILLISECONDS)) {
+					return true;
+				}
+			}
+		} catch (InterruptedException ignore) {
+			Thread.currentThread().interrupt();
+		}
+		return false;
+	}
+
+	@Override
+	public boolean hasNext() {
+		return peek().isPresent();
+	}
+
+	@Override
+	public GeneratedTry next() {
+		Optional<GeneratedTry> generatedTry = peek();
+		if (!generatedTry.isPresent()) {
+			throw new NoSuchElementException();
+		}
+		nextTry = null;
+		return generatedTry.get();
+	}
+
+	private Optional<GeneratedTry> peek() {
+		if (nextTry == null) {
+			nextTry = take();
+		}
+		return nextTry;
+	}
+
+	private Optional<GeneratedTry> take() {
+		try {
+			Optional<GeneratedTry> generatedTry = prefetched.take();
+			Throwable failure = generatorFailure;
+			if (!generatedTry.isPresent() && failure != null) {
+				return JqwikExceptionSupport.throwAsUncheckedException(failure);
+			}
+			return generatedTry;
+		} catch (InterruptedException interruptedException) {
+			Thread.currentThread().interrupt();
+			return JqwikExceptionSupport.throwAsUncheckedException(interruptedException);
+		}
+	}
+
+	/**
+	 * Waits for the generating thread to finish
+	 * so that generators are no longer used when shrinking or the next property starts.
+	 */
+	@Override
+	public void close() {
+		closed = true;
+		prefetched.clear();
+		executorService.shutdown();
+		boolean interrupted = false;
+		while (!executorService.isTerminated()) {
+			try {
+				executorService.awaitTermination(1, TimeUnit.SECONDS);
+			} catch (InterruptedException e) {
+				interrupted = true;
+			}
+		}
+		if (interrupted) {
+			Thread.currentThread().interrupt();
+		}
+	}
+}
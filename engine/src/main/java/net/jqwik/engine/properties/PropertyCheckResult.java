@@ -1,5 +1,6 @@
 package net.jqwik.engine.properties;
 
+import java.time.*;
 import java.util.*;
 
 import org.jspecify.annotations.*;
@@ -7,6 +8,7 @@ import org.opentest4j.*;
 
 import net.jqwik.api.*;
 import net.jqwik.api.lifecycle.*;
+import net.jqwik.api.statistics.*;
 import net.jqwik.engine.execution.*;
 import net.jqwik.engine.execution.lifecycle.*;
 import net.jqwik.engine.execution.reporting.*;
@@ -43,7 +45,9 @@ public class PropertyCheckResult implements ExtendedPropertyExecutionResult {
 			edgeCasesTried,
 			null,
 			null,
-			null
+			null,
+			null,
+			Collections.emptyList()
 		);
 	}
 
@@ -78,7 +82,9 @@ public class PropertyCheckResult implements ExtendedPropertyExecutionResult {
 			edgeCasesTried,
 			originalSample,
 			shrunkSample,
-			throwable
+			throwable,
+			null,
+			Collections.emptyList()
 		);
 	}
 
@@ -109,7 +115,9 @@ public class PropertyCheckResult implements ExtendedPropertyExecutionResult {
 			edgeCasesTried,
 			null,
 			null,
-			throwable
+			throwable,
+			null,
+			Collections.emptyList()
 		);
 	}
 
@@ -138,7 +146,9 @@ public class PropertyCheckResult implements ExtendedPropertyExecutionResult {
 			edgeCasesTried,
 			null,
 			null,
-			throwable
+			throwable,
+			null,
+			Collections.emptyList()
 		);
 	}
 
@@ -155,6 +165,8 @@ public class PropertyCheckResult implements ExtendedPropertyExecutionResult {
 	private final @Nullable FalsifiedSample originalSample;
 	private final @Nullable ShrunkFalsifiedSample shrunkSample;
 	private final @Nullable Throwable throwable;
+	private final @Nullable TimeBudgetExecutionResult timeBudget;
+	private final List<FilterStatistics> filterStatistics;
 
 	private PropertyCheckResult(
 		CheckStatus status, String stereotype,
@@ -168,7 +180,9 @@ public class PropertyCheckResult implements ExtendedPropertyExecutionResult {
 		int edgeCasesTried,
 		@Nullable FalsifiedSample originalSample,
 		@Nullable ShrunkFalsifiedSample shrunkSample,
-		@Nullable Throwable throwable
+		@Nullable Throwable throwable,
+		@Nullable TimeBudgetExecutionResult timeBudget,
+		List<FilterStatistics> filterStatistics
 	) {
 		this.stereotype = stereotype;
 		this.status = status;
@@ -183,6 +197,8 @@ public class PropertyCheckResult implements ExtendedPropertyExecutionResult {
 		this.shrunkSample = shrunkSample;
 		this.originalSample = originalSample;
 		this.throwable = determineThrowable(status, throwable);
+		this.timeBudget = timeBudget;
+		this.filterStatistics = filterStatistics;
 	}
 
 	private @Nullable Throwable determineThrowable(CheckStatus status, @Nullable Throwable throwable) {
@@ -237,7 +253,9 @@ public class PropertyCheckResult implements ExtendedPropertyExecutionResult {
 					edgeCasesTried,
 					originalSample,
 					shrunkSample,
-					throwable
+					throwable,
+					timeBudget,
+					filterStatistics
 				);
 			case SUCCESSFUL:
 				return new PropertyCheckResult(
@@ -253,7 +271,9 @@ public class PropertyCheckResult implements ExtendedPropertyExecutionResult {
 					edgeCasesTried,
 					null,
 					null,
-					throwable
+					throwable,
+					timeBudget,
+					filterStatistics
 				);
 			default:
 				throw new IllegalStateException(String.format("Unknown state: %s", newStatus.name()));
@@ -302,6 +322,56 @@ public class PropertyCheckResult implements ExtendedPropertyExecutionResult {
 		return new EdgeCasesExecutionResult(edgeCasesMode, edgeCasesTotal, edgeCasesTried);
 	}
 
+	@Override
+	public Optional<TimeBudgetExecutionResult> timeBudget() {
+		return Optional.ofNullable(timeBudget);
+	}
+
+	@Override
+	public List<FilterStatistics> filterStatistics() {
+		return filterStatistics;
+	}
+
+	PropertyCheckResult withTimeBudget(Duration budget, Duration elapsed) {
+		return new PropertyCheckResult(
+			status,
+			stereotype,
+			propertyName,
+			tries,
+			checks,
+			generationInfo,
+			generation,
+			edgeCasesMode,
+			edgeCasesTotal,
+			edgeCasesTried,
+			originalSample,
+			shrunkSample,
+			throwable,
+			new TimeBudgetExecutionResult(budget, elapsed),
+			filterStatistics
+		);
+	}
+
+	PropertyCheckResult withFilterStatistics(List<FilterStatistics> filterStatistics) {
+		return new PropertyCheckResult(
+			status,
+			stereotype,
+			propertyName,
+			tries,
+			checks,
+			generationInfo,
+			generation,
+			edgeCasesMode,
+			edgeCasesTotal,
+			edgeCasesTried,
+			originalSample,
+			shrunkSample,
+			throwable,
+			timeBudget,
+			filterStatistics
+		);
+	}
+
 	@Override
 	public String toString() {
 		String header = String.format("%s [%s]", stereotype, propertyName);
@@ -26,38 +26,32 @@ public class RandomizedShrinkablesGenerator implements ForAllParametersGenerator
 	) {
 
 		List<EdgeCases<Object>> listOfEdgeCases = listOfEdgeCases(parameters, arbitraryResolver, edgeCasesMode, genSize);
-		int edgeCasesTotal = calculateEdgeCasesTotal(listOfEdgeCases);
+		EdgeCasesGenerator edgeCasesGenerator = new EdgeCasesGenerator(listOfEdgeCases, genSize);
 
-		logEdgeCasesOutnumberTriesIfApplicable(genSize, edgeCasesTotal);
+		logEdgeCasesOutnumberTriesIfApplicable(genSize, edgeCasesGenerator);
 
 		return new RandomizedShrinkablesGenerator(
 			randomShrinkablesGenerator(parameters, arbitraryResolver, genSize, edgeCasesMode.activated()),
-			new EdgeCasesGenerator(listOfEdgeCases),
+			edgeCasesGenerator,
 			edgeCasesMode,
-			edgeCasesTotal,
-			calculateBaseToEdgeCaseRatio(listOfEdgeCases, genSize),
+			edgeCasesGenerator.total(),
+			calculateBaseToEdgeCaseRatio(edgeCasesGenerator, genSize),
 			random.nextLong()
 		);
 	}
 
-	private static void logEdgeCasesOutnumberTriesIfApplicable(int genSize, int edgeCasesTotal) {
+	private static void logEdgeCasesOutnumberTriesIfApplicable(int genSize, EdgeCasesGenerator edgeCasesGenerator) {
 		int logEdgeCasesExceedTriesLimit = max(genSize, 100);
-		if (edgeCasesTotal >= logEdgeCasesExceedTriesLimit && genSize > 1) {
+		if (edgeCasesGenerator.countCombinations() >= logEdgeCasesExceedTriesLimit && genSize > 1) {
 			String message = String.format(
-				"Edge case generation exceeds number of tries. Stopped after %s generated cases.",
-				edgeCasesTotal
+				"Edge case generation exceeds number of tries. Stopped after %s of %s combined cases.",
+				edgeCasesGenerator.total(),
+				edgeCasesGenerator.countCombinations()
 			);
 			LOG.log(Level.INFO, message);
 		}
 	}
 
-	private static int calculateEdgeCasesTotal(final List<EdgeCases<Object>> listOfEdgeCases) {
-		if (listOfEdgeCases.isEmpty()) {
-			return 0;
-		}
-		return listOfEdgeCases.stream().mapToInt(EdgeCases::size).reduce(1, (a, b) -> a * b);
-	}
-
 	private static PurelyRandomShrinkablesGenerator randomShrinkablesGenerator(
 		List<MethodParameter> parameters,
 		ArbitraryResolver arbitraryResolver,
@@ -111,8 +105,8 @@ public class RandomizedShrinkablesGenerator implements ForAllParametersGenerator
 		return maxDerivedEdgeCases;
 	}
 
-	private static int calculateBaseToEdgeCaseRatio(List<EdgeCases<Object>> edgeCases, int genSize) {
-		int countEdgeCases = edgeCases.stream().mapToInt(EdgeCases::size).reduce(1, (a, b) -> max(a * b, 1));
+	private static int calculateBaseToEdgeCaseRatio(EdgeCasesGenerator edgeCasesGenerator, int genSize) {
+		int countEdgeCases = max(edgeCasesGenerator.total(), 1);
 		return EdgeCasesGenerator.calculateBaseToEdgeCaseRatio(genSize, countEdgeCases);
 	}
 
@@ -0,0 +1,38 @@
+package net.jqwik.engine.properties;
+
+import java.util.*;
+import java.util.function.*;
+
+import net.jqwik.api.lifecycle.*;
+
+/**
+ * Evaluates each try on the calling thread when it is requested.
+ */
+class SequentialTries implements EvaluatedTries {
+
+	private final GeneratedTries generatedTries;
+	private final BiFunction<TryLifecycleContext, List<Object>, TryExecutionResult> tryEvaluator;
+
+	SequentialTries(
+		GeneratedTries generatedTries,
+		BiFunction<TryLifecycleContext, List<Object>, TryExecutionResult> tryEvaluator
+	) {
+		this.generatedTries = generatedTries;
+		this.tryEvaluator = tryEvaluator;
+	}
+
+	@Override
+	public boolean hasNext() {
+		return generatedTries.hasNext();
+	}
+
+	@Override
+	public EvaluatedTry next() {
+		return EvaluatedTry.evaluate(generatedTries.next(), tryEvaluator);
+	}
+
+	@Override
+	public void close() {
+		generatedTries.close();
+	}
+}
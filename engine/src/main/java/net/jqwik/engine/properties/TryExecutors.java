@@ -0,0 +1,99 @@
+package net.jqwik.engine.properties;
+
+import java.lang.reflect.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.*;
+import java.util.function.*;
+import java.util.logging.*;
+
+import org.jspecify.annotations.*;
+
+import net.jqwik.api.*;
+
+/**
+ * Creates the executor services on which {@linkplain ConcurrentTries} evaluates tries,
+ * on which shrinking candidates are evaluated speculatively
+ * and on which {@linkplain PrefetchedGeneratedTries} generates parameters.
+ *
+ * <p>
+ * Virtual threads are only available from JDK 21 on.
+ * Since jqwik is compiled against JDK 8 they are looked up through reflection.
+ * </p>
+ */
+public class TryExecutors {
+
+	private static final Logger LOG = Logger.getLogger(TryExecutors.class.getName());
+
+	private static final String THREAD_NAME_PREFIX = "jqwik-try-";
+	private static final String PREFETCH_THREAD_NAME_PREFIX = "jqwik-prefetch-";
+
+	private static final AtomicBoolean fallbackWarningLogged = new AtomicBoolean(false);
+
+	private static volatile @Nullable Supplier<ExecutorService> virtualThreadExecutorSupplier = null;
+	private static volatile boolean virtualThreadsDetected = false;
+
+	private TryExecutors() {
+	}
+
+	public static ExecutorService create(int parallelism, boolean useVirtualThreads) {
+		if (useVirtualThreads) {
+			Supplier<ExecutorService> virtualThreadExecutor = virtualThreadExecutorSupplier();
+			if (virtualThreadExecutor != null) {
+				// The number of tries in flight is limited by ConcurrentTries
+				return virtualThreadExecutor.get();
+			}
+			if (fallbackWarningLogged.compareAndSet(false, true)) {
+				String message = "Virtual threads require JDK 21 or higher. Tries are executed on platform threads.";
+				LOG.warning(message);
+			}
+		}
+		return Executors.newFixedThreadPool(parallelism, platformThreadFactory(THREAD_NAME_PREFIX));
+	}
+
+	public static ExecutorService createForPrefetching() {
+		return Executors.newSingleThreadExecutor(platformThreadFactory(PREFETCH_THREAD_NAME_PREFIX));
+	}
+
+	private static ThreadFactory platformThreadFactory(String threadNamePrefix) {
+		ClassLoader contextClassLoader = Thread.currentThread().getContextClassLoader();
+		AtomicInteger threadCounter = new AtomicInteger(0);
+		return runnable -> {
+			Thread thread = new Thread(runnable, threadNamePrefix + threadCounter.incrementAndGet());
+			thread.setDaemon(true);
+			thread.setContextClassLoader(contextClassLoader);
+			return thread;
+		};
+	}
+
+	private static @Nullable Supplier<ExecutorService> virtualThreadExecutorSupplier() {
+		if (!virtualThreadsDetected) {
+			virtualThreadExecutorSupplier = detectVirtualThreads();
+			virtualThreadsDetected = true;
+		}
+		return virtualThreadExecutorSupplier;
+	}
+
+	/**
+	 * Equivalent to {@code () -> Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name("jqwik-try-", 1).factory())}
+	 */
+	private static @Nullable Supplier<ExecutorService> detectVirtualThreads() {
+		try {
+			Method ofVirtual = Thread.class.getMethod("ofVirtual");
+			Class<?> builderClass = Class.forName("java.lang.Thread$Builder");
+			Method name = builderClass.getMethod("name", String.class, long.class);
+			Method factory = builderClass.getMethod("factory");
+			Method newThreadPerTaskExecutor = Executors.class.getMethod("newThreadPerTaskExecutor", ThreadFactory.class);
+			return () -> {
+				try {
+					Object builder = name.invoke(ofVirtual.invoke(null), THREAD_NAME_PREFIX, 1L);
+					ThreadFactory threadFactory = (ThreadFactory) factory.invoke(builder);
+					return (ExecutorService) newThreadPerTaskExecutor.invoke(null, threadFactory);
+				} catch (IllegalAccessException | InvocationTargetException e) {
+					throw new JqwikException("Cannot create executor for virtual threads: " + e.getMessage());
+				}
+			};
+		} catch (NoSuchMethodException | ClassNotFoundException e) {
+			return null;
+		}
+	}
+}
@@ -0,0 +1,83 @@
+package net.jqwik.engine.properties;
+
+import java.util.*;
+
+import org.jspecify.annotations.*;
+
+/**
+ * Keeps track of the features of a container's elements for each feature extractor.
+ * This allows to check uniqueness of an added or replaced element in constant time
+ * instead of extracting features from all elements again.
+ */
+public class UniqueFeatures<T extends @Nullable Object> {
+
+	private final List<FeatureExtractor<T>> extractors;
+	private final List<Map<Object, Integer>> featureCounts;
+
+	public UniqueFeatures(Collection<? extends FeatureExtractor<T>> extractors) {
+		this.extractors = new ArrayList<>(extractors);
+		this.featureCounts = new ArrayList<>(extractors.size());
+		for (int i = 0; i < extractors.size(); i++) {
+			featureCounts.add(new HashMap<>());
+		}
+	}
+
+	public static <T extends @Nullable Object> UniqueFeatures<T> of(Collection<? extends FeatureExtractor<T>> extractors, Collection<? extends T> elements) {
+		UniqueFeatures<T> uniqueFeatures = new UniqueFeatures<>(extractors);
+		if (!extractors.isEmpty()) {
+			for (T element : elements) {
+				uniqueFeatures.add(element);
+			}
+		}
+		return uniqueFeatures;
+	}
+
+	private void add(T value) {
+		for (int i = 0; i < extractors.size(); i++) {
+			Object feature = extractors.get(i).applySafe(value);
+			featureCounts.get(i).merge(feature, 1, Integer::sum);
+		}
+	}
+
+	/**
+	 * Add {@code value} only if none of its features is already present.
+	 *
+	 * @return true if value was added
+	 */
+	public boolean addIfUnique(T value) {
+		if (extractors.isEmpty()) {
+			return true;
+		}
+		Object[] features = new Object[extractors.size()];
+		for (int i = 0; i < extractors.size(); i++) {
+			Object feature = extractors.get(i).applySafe(value);
+			if (featureCounts.get(i).containsKey(feature)) {
+				return false;
+			}
+			features[i] = feature;
+		}
+		for (int i = 0; i < features.length; i++) {
+			featureCounts.get(i).put(features[i], 1);
+		}
+		return true;
+	}
+
+	/**
+	 * Check if {@code replacement} would be unique if it replaced element {@code replaced}.
+	 * Does not change the tracked features.
+	 */
+	public boolean isUniqueReplacement(T replaced, T replacement) {
+		for (int i = 0; i < extractors.size(); i++) {
+			FeatureExtractor<T> extractor = extractors.get(i);
+			Object feature = extractor.applySafe(replacement);
+			int count = featureCounts.get(i).getOrDefault(feature, 0);
+			if (count > 0 && Objects.equals(feature, extractor.applySafe(replaced))) {
+				count--;
+			}
+			if (count > 0) {
+				return false;
+			}
+		}
+		return true;
+	}
+}
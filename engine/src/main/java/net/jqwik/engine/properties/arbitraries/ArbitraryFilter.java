@@ -9,7 +9,7 @@ import net.jqwik.engine.*;
 
 import org.jspecify.annotations.*;
 
-public class ArbitraryFilter<T extends @Nullable Object> extends ArbitraryDelegator<T> {
+public class ArbitraryFilter<T extends @Nullable Object> extends ArbitraryDelegator<T> implements FilterNarrowable<T> {
 	private final Predicate<? super T> filterPredicate;
 	private final int maxMisses;
 
@@ -40,6 +40,20 @@ public class ArbitraryFilter<T extends @Nullable Object> extends ArbitraryDelega
 		return EdgeCasesSupport.filter(super.edgeCases(maxEdgeCases), filterPredicate);
 	}
 
+	/**
+	 * Allows chained filters to narrow the underlying arbitrary
+	 */
+	@Override
+	public Optional<Arbitrary<T>> narrow(Predicate<? super T> predicate) {
+		Arbitrary<T> unfiltered = arbitrary();
+		if (unfiltered instanceof FilterNarrowable) {
+			@SuppressWarnings("unchecked")
+			FilterNarrowable<T> narrowable = (FilterNarrowable<T>) unfiltered;
+			return narrowable.narrow(predicate).map(narrowed -> new ArbitraryFilter<>(narrowed, filterPredicate, maxMisses));
+		}
+		return Optional.empty();
+	}
+
 	@Override
 	public boolean equals(Object o) {
 		if (this == o) return true;
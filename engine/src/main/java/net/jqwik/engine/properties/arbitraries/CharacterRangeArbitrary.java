@@ -25,6 +25,10 @@ public class CharacterRangeArbitrary implements Arbitrary<Character> {
 		return RandomGenerators.chars(min, max);
 	}
 
+	CharGenerator charGenerator() {
+		return RandomGenerators.charValues(min, max);
+	}
+
 	private List<Shrinkable<Character>> listOfEdgeCases(int maxEdgeCases) {
 		Stream<Character> edgeCases = Stream.of(min, max, ' ').filter(c -> c >= min && c <= max);
 		return edgeCases
@@ -43,9 +47,7 @@ public class CharacterRangeArbitrary implements Arbitrary<Character> {
 	@Override
 	public Optional<ExhaustiveGenerator<Character>> exhaustive(long maxNumberOfSamples) {
 		long maxCount = max + 1 - min;
-		return ExhaustiveGenerators
-					   .fromIterable(() -> IntStream.range(min, max + 1).iterator(), maxCount, maxNumberOfSamples)
-					   .map(optionalGenerator -> optionalGenerator.map(anInt -> (char) (int) anInt));
+		return ExhaustiveGenerators.fromIndex(index -> (char) (min + index), maxCount, maxNumberOfSamples);
 	}
 
 	@Override
@@ -24,6 +24,10 @@ public class ChooseCharacterArbitrary extends UseGeneratorsArbitrary<Character>
 		this.chars = chars;
 	}
 
+	CharGenerator charGenerator() {
+		return RandomGenerators.chooseCharValue(chars);
+	}
+
 	@Override
 	public boolean equals(Object o) {
 		if (this == o) return true;
@@ -2,12 +2,14 @@ package net.jqwik.engine.properties.arbitraries;
 
 import java.util.*;
 
+import net.jqwik.api.*;
 import net.jqwik.engine.properties.arbitraries.exhaustive.*;
 import net.jqwik.engine.properties.arbitraries.randomized.*;
+import net.jqwik.engine.properties.shrinking.*;
 
 import org.jspecify.annotations.*;
 
-public class ChooseValueArbitrary<T extends @Nullable Object> extends UseGeneratorsArbitrary<T> {
+public class ChooseValueArbitrary<T extends @Nullable Object> extends UseGeneratorsArbitrary<T> implements EnumerableArbitrary<T> {
 
 	private final int hashCode;
 	private final List<T> values;
@@ -22,6 +24,23 @@ public class ChooseValueArbitrary<T extends @Nullable Object> extends UseGenerat
 		this.values = values;
 	}
 
+	@Override
+	public Optional<IndexedDomain<T>> indexedDomain() {
+		// Duplicate values would be drawn more than once
+		List<T> distinctValues = new ArrayList<>(new LinkedHashSet<>(values));
+		return Optional.of(new IndexedDomain<T>() {
+			@Override
+			public long size() {
+				return distinctValues.size();
+			}
+
+			@Override
+			public Shrinkable<T> shrinkableAt(long index) {
+				return new ChooseValueShrinkable<>(distinctValues.get((int) index), values);
+			}
+		});
+	}
+
 	@Override
 	public boolean equals(Object o) {
 		if (this == o) return true;
@@ -36,6 +36,20 @@ class DecimalGeneratingArbitrary extends TypedCloneable implements Arbitrary<Big
 		return RandomDecimalGenerators.bigDecimals(genSize, range, scale, distribution, shrinkingTarget());
 	}
 
+	Arbitrary<Double> doubles() {
+		return new FloatingPointArbitrary<>(this, BigDecimal::doubleValue, genSize -> {
+			checkRange();
+			return RandomDecimalGenerators.doubles(genSize, range, scale, distribution, shrinkingTarget());
+		});
+	}
+
+	Arbitrary<Float> floats() {
+		return new FloatingPointArbitrary<>(this, BigDecimal::floatValue, genSize -> {
+			checkRange();
+			return RandomDecimalGenerators.floats(genSize, range, scale, distribution, shrinkingTarget());
+		});
+	}
+
 	private void checkRange() {
 		checkScale(range.min);
 		checkScale(range.max);
@@ -14,11 +14,16 @@ import org.jspecify.annotations.*;
 
 public class DefaultArrayArbitrary<T, A> extends MultivalueArbitraryBase<T, A> implements ArrayArbitrary<T, A> {
 
+	@SuppressWarnings("unchecked")
 	public static <T, A> ArrayArbitrary<T, A> forArrayType(Arbitrary<T> elementArbitrary, Class<A> arrayClass) {
 		if (!arrayClass.isArray()) {
 			String message = String.format("<%s> is not an array type.", arrayClass);
 			throw new IllegalArgumentException(message);
 		}
+		IntegralArrayArbitrary<T, ?> integralArrayArbitrary = IntegralArrayArbitrary.forElements(elementArbitrary, arrayClass.getComponentType());
+		if (integralArrayArbitrary != null) {
+			return (ArrayArbitrary<T, A>) integralArrayArbitrary;
+		}
 		return new DefaultArrayArbitrary<>(elementArbitrary, arrayClass.getComponentType());
 	}
 
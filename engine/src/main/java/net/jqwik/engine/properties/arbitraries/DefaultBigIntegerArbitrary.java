@@ -6,8 +6,9 @@ import java.util.function.*;
 
 import net.jqwik.api.*;
 import net.jqwik.api.arbitraries.*;
+import net.jqwik.engine.properties.arbitraries.randomized.*;
 
-public class DefaultBigIntegerArbitrary extends TypedCloneable implements BigIntegerArbitrary {
+public class DefaultBigIntegerArbitrary extends TypedCloneable implements BigIntegerArbitrary, FilterNarrowable<BigInteger>, EnumerableArbitrary<BigInteger> {
 
 	public static final BigInteger DEFAULT_MIN = BigInteger.valueOf(Long.MIN_VALUE);
 	public static final BigInteger DEFAULT_MAX = BigInteger.valueOf(Long.MAX_VALUE);
@@ -23,6 +24,11 @@ public class DefaultBigIntegerArbitrary extends TypedCloneable implements BigInt
 		return generatingArbitrary.generator(genSize);
 	}
 
+	@Override
+	public Optional<IndexedDomain<BigInteger>> indexedDomain() {
+		return generatingArbitrary.indexedDomain();
+	}
+
 	@Override
 	public Optional<ExhaustiveGenerator<BigInteger>> exhaustive(long maxNumberOfSamples) {
 		return generatingArbitrary.exhaustive(maxNumberOfSamples);
@@ -68,6 +74,15 @@ public class DefaultBigIntegerArbitrary extends TypedCloneable implements BigInt
 		return clone;
 	}
 
+	@Override
+	public Optional<Arbitrary<BigInteger>> narrow(Predicate<? super BigInteger> filterPredicate) {
+		return generatingArbitrary.narrow(filterPredicate).map(narrowed -> {
+			DefaultBigIntegerArbitrary clone = typedClone();
+			clone.generatingArbitrary = narrowed;
+			return clone;
+		});
+	}
+
 	@Override
 	public boolean equals(Object o) {
 		if (this == o) return true;
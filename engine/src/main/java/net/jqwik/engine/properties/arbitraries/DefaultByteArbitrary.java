@@ -1,47 +1,61 @@
 package net.jqwik.engine.properties.arbitraries;
 
-import java.math.*;
 import java.util.*;
 import java.util.function.*;
 
 import net.jqwik.api.*;
 import net.jqwik.api.arbitraries.*;
+import net.jqwik.engine.properties.arbitraries.randomized.*;
 
-public class DefaultByteArbitrary extends TypedCloneable implements ByteArbitrary {
+public class DefaultByteArbitrary extends TypedCloneable implements ByteArbitrary, FilterNarrowable<Byte>, EnumerableArbitrary<Byte>, ValueGeneratingArbitrary<Byte> {
 
 	private static final byte DEFAULT_MIN = Byte.MIN_VALUE;
 	private static final byte DEFAULT_MAX = Byte.MAX_VALUE;
 
-	private IntegralGeneratingArbitrary generatingArbitrary;
+	private LongGeneratingArbitrary generatingArbitrary;
 
 	public DefaultByteArbitrary() {
-		this.generatingArbitrary = new IntegralGeneratingArbitrary(BigInteger.valueOf(DEFAULT_MIN), BigInteger.valueOf(DEFAULT_MAX));
+		this.generatingArbitrary = new LongGeneratingArbitrary(DEFAULT_MIN, DEFAULT_MAX);
+	}
+
+	LongGeneratingArbitrary generatingArbitrary() {
+		return generatingArbitrary;
 	}
 
 	@Override
 	public RandomGenerator<Byte> generator(int genSize) {
-		return generatingArbitrary.generator(genSize).map(BigInteger::byteValueExact);
+		return generatingArbitrary.generator(genSize).map(Long::byteValue);
+	}
+
+	@Override
+	public ValueGenerator<Byte> valueGenerator(int genSize, boolean withEdgeCases) {
+		return generatingArbitrary.valueGenerator(genSize, withEdgeCases, value -> (byte) value);
+	}
+
+	@Override
+	public Optional<IndexedDomain<Byte>> indexedDomain() {
+		return generatingArbitrary.indexedDomain().map(domain -> domain.map(Long::byteValue));
 	}
 
 	@Override
 	public Optional<ExhaustiveGenerator<Byte>> exhaustive(long maxNumberOfSamples) {
-		return generatingArbitrary.exhaustive(maxNumberOfSamples).map(generator -> generator.map(BigInteger::byteValueExact));
+		return generatingArbitrary.exhaustive(maxNumberOfSamples).map(generator -> generator.map(Long::byteValue));
 	}
 
 	@Override
 	public EdgeCases<Byte> edgeCases(int maxEdgeCases) {
-		return EdgeCasesSupport.map(generatingArbitrary.edgeCases(maxEdgeCases), BigInteger::byteValueExact);
+		return EdgeCasesSupport.map(generatingArbitrary.edgeCases(maxEdgeCases), Long::byteValue);
 	}
 
 	@Override
 	public Arbitrary<Byte> edgeCases(Consumer<EdgeCases.Config<Byte>> configurator) {
-		Consumer<EdgeCases.Config<BigInteger>> integralConfigurator = new MappedEdgeCasesConsumer<>(
+		Consumer<EdgeCases.Config<Long>> longConfigurator = new MappedEdgeCasesConsumer<>(
 				configurator,
-				BigInteger::byteValueExact,
-				(Function<Byte, BigInteger>) BigInteger::valueOf
+				Long::byteValue,
+				Byte::longValue
 		);
 		DefaultByteArbitrary clone = typedClone();
-		clone.generatingArbitrary = (IntegralGeneratingArbitrary) generatingArbitrary.edgeCases(integralConfigurator);
+		clone.generatingArbitrary = (LongGeneratingArbitrary) generatingArbitrary.edgeCases(longConfigurator);
 		return clone;
 	}
 
@@ -55,24 +69,33 @@ public class DefaultByteArbitrary extends TypedCloneable implements ByteArbitrar
 	@Override
 	public ByteArbitrary greaterOrEqual(byte min) {
 		DefaultByteArbitrary clone = typedClone();
-		clone.generatingArbitrary.min = BigInteger.valueOf(min);
+		clone.generatingArbitrary.min = min;
 		return clone;
 	}
 
 	@Override
 	public ByteArbitrary lessOrEqual(byte max) {
 		DefaultByteArbitrary clone = typedClone();
-		clone.generatingArbitrary.max = BigInteger.valueOf(max);
+		clone.generatingArbitrary.max = max;
 		return clone;
 	}
 
 	@Override
 	public ByteArbitrary shrinkTowards(int target) {
 		DefaultByteArbitrary clone = typedClone();
-		clone.generatingArbitrary.shrinkingTarget = BigInteger.valueOf(target);
+		clone.generatingArbitrary.shrinkingTarget = (long) target;
 		return clone;
 	}
 
+	@Override
+	public Optional<Arbitrary<Byte>> narrow(Predicate<? super Byte> filterPredicate) {
+		return generatingArbitrary.narrow(filterPredicate, Byte.class).map(narrowed -> {
+			DefaultByteArbitrary clone = typedClone();
+			clone.generatingArbitrary = narrowed;
+			return clone;
+		});
+	}
+
 	@Override
 	public boolean equals(Object o) {
 		if (this == o) return true;
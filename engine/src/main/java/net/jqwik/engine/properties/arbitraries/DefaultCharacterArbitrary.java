@@ -5,6 +5,7 @@ import java.util.stream.*;
 
 import net.jqwik.api.*;
 import net.jqwik.api.arbitraries.*;
+import net.jqwik.engine.properties.arbitraries.randomized.*;
 
 public class DefaultCharacterArbitrary extends TypedCloneable implements CharacterArbitrary {
 
@@ -45,6 +46,17 @@ public class DefaultCharacterArbitrary extends TypedCloneable implements Charact
 
 	@Override
 	public RandomGenerator<Character> generator(int genSize) {
+		List<Tuple.Tuple2<Integer, RandomGenerator<Character>>> frequencies = new ArrayList<>();
+		for (Tuple.Tuple2<Integer, Arbitrary<Character>> part : partsWithSize) {
+			if (part.get1() > 0) {
+				frequencies.add(Tuple.of(part.get1(), part.get2().generator(genSize)));
+			}
+		}
+		if (frequencies.size() > 1) {
+			// Unlike Arbitraries.frequencyOf(partsWithSize) the chosen part is not reseeded, which is cheaper
+			// and allows charGenerator() to draw the same chars
+			return RandomGenerators.frequencyOfGenerators(frequencies);
+		}
 		return arbitrary().generator(genSize);
 	}
 
@@ -61,8 +73,51 @@ public class DefaultCharacterArbitrary extends TypedCloneable implements Charact
 
 	private Arbitrary<Character> defaultArbitrary() {
 		return rangeArbitrary(Character.MIN_VALUE, Character.MAX_VALUE)
-				   .filter(c -> !DefaultCharacterArbitrary.isNoncharacter(c)
-									&& !DefaultCharacterArbitrary.isPrivateUseCharacter(c));
+				   .filter(DefaultCharacterArbitrary::isDefaultCharacter);
+	}
+
+	private static boolean isDefaultCharacter(char c) {
+		return !isNoncharacter(c) && !isPrivateUseCharacter(c);
+	}
+
+	/**
+	 * Draws the same chars as {@code generator(genSize)} without creating a shrinkable for each of them.
+	 * Empty if a part of this arbitrary does not support it.
+	 */
+	Optional<CharGenerator> charGenerator() {
+		if (partsWithSize.isEmpty()) {
+			CharGenerator allChars = RandomGenerators.charValues(Character.MIN_VALUE, Character.MAX_VALUE);
+			return Optional.of(RandomGenerators.filterCharValues(allChars, DefaultCharacterArbitrary::isDefaultCharacter, 10000));
+		}
+		// Same as generator(genSize) which ignores parts without chars
+		List<Tuple.Tuple2<Integer, CharGenerator>> frequencies = new ArrayList<>();
+		for (Tuple.Tuple2<Integer, Arbitrary<Character>> part : partsWithSize) {
+			if (part.get1() <= 0) {
+				continue;
+			}
+			Optional<CharGenerator> partGenerator = charGenerator(part.get2());
+			if (!partGenerator.isPresent()) {
+				return Optional.empty();
+			}
+			frequencies.add(Tuple.of(part.get1(), partGenerator.get()));
+		}
+		if (frequencies.isEmpty()) {
+			return Optional.empty();
+		}
+		if (frequencies.size() == 1) {
+			return Optional.of(frequencies.get(0).get2());
+		}
+		return Optional.of(RandomGenerators.charValuesByFrequency(frequencies));
+	}
+
+	private static Optional<CharGenerator> charGenerator(Arbitrary<Character> part) {
+		if (part instanceof CharacterRangeArbitrary) {
+			return Optional.of(((CharacterRangeArbitrary) part).charGenerator());
+		}
+		if (part instanceof ChooseCharacterArbitrary) {
+			return Optional.of(((ChooseCharacterArbitrary) part).charGenerator());
+		}
+		return Optional.empty();
 	}
 
 	@Override
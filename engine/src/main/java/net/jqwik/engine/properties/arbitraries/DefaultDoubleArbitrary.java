@@ -135,7 +135,7 @@ public class DefaultDoubleArbitrary extends TypedCloneable implements DoubleArbi
 	}
 
 	private Arbitrary<Double> arbitrary() {
-		Arbitrary<Double> doubleArbitrary = generatingArbitrary.map(BigDecimal::doubleValue);
+		Arbitrary<Double> doubleArbitrary = generatingArbitrary.doubles();
 		if (specials.isEmpty()) {
 			return doubleArbitrary;
 		}
@@ -131,7 +131,7 @@ public class DefaultFloatArbitrary extends TypedCloneable implements FloatArbitr
 	}
 
 	private Arbitrary<Float> arbitrary() {
-		Arbitrary<Float> floatArbitrary = generatingArbitrary.map(BigDecimal::floatValue);
+		Arbitrary<Float> floatArbitrary = generatingArbitrary.floats();
 		if (specials.isEmpty()) {
 			return floatArbitrary;
 		}
@@ -1,47 +1,61 @@
 package net.jqwik.engine.properties.arbitraries;
 
-import java.math.*;
 import java.util.*;
 import java.util.function.*;
 
 import net.jqwik.api.*;
 import net.jqwik.api.arbitraries.*;
+import net.jqwik.engine.properties.arbitraries.randomized.*;
 
-public class DefaultIntegerArbitrary extends TypedCloneable implements IntegerArbitrary {
+public class DefaultIntegerArbitrary extends TypedCloneable implements IntegerArbitrary, FilterNarrowable<Integer>, EnumerableArbitrary<Integer>, ValueGeneratingArbitrary<Integer> {
 
 	private static final int DEFAULT_MIN = Integer.MIN_VALUE;
 	private static final int DEFAULT_MAX = Integer.MAX_VALUE;
 
-	private IntegralGeneratingArbitrary generatingArbitrary;
+	private LongGeneratingArbitrary generatingArbitrary;
 
 	public DefaultIntegerArbitrary() {
-		this.generatingArbitrary = new IntegralGeneratingArbitrary(BigInteger.valueOf(DEFAULT_MIN), BigInteger.valueOf(DEFAULT_MAX));
+		this.generatingArbitrary = new LongGeneratingArbitrary(DEFAULT_MIN, DEFAULT_MAX);
+	}
+
+	LongGeneratingArbitrary generatingArbitrary() {
+		return generatingArbitrary;
 	}
 
 	@Override
 	public RandomGenerator<Integer> generator(int genSize) {
-		return generatingArbitrary.generator(genSize).map(BigInteger::intValueExact);
+		return generatingArbitrary.generator(genSize).map(Long::intValue);
+	}
+
+	@Override
+	public ValueGenerator<Integer> valueGenerator(int genSize, boolean withEdgeCases) {
+		return generatingArbitrary.valueGenerator(genSize, withEdgeCases, value -> (int) value);
+	}
+
+	@Override
+	public Optional<IndexedDomain<Integer>> indexedDomain() {
+		return generatingArbitrary.indexedDomain().map(domain -> domain.map(Long::intValue));
 	}
 
 	@Override
 	public Optional<ExhaustiveGenerator<Integer>> exhaustive(long maxNumberOfSamples) {
-		return generatingArbitrary.exhaustive(maxNumberOfSamples).map(generator -> generator.map(BigInteger::intValueExact));
+		return generatingArbitrary.exhaustive(maxNumberOfSamples).map(generator -> generator.map(Long::intValue));
 	}
 
 	@Override
 	public EdgeCases<Integer> edgeCases(int maxEdgeCases) {
-		return EdgeCasesSupport.map(generatingArbitrary.edgeCases(maxEdgeCases), BigInteger::intValueExact);
+		return EdgeCasesSupport.map(generatingArbitrary.edgeCases(maxEdgeCases), Long::intValue);
 	}
 
 	@Override
 	public Arbitrary<Integer> edgeCases(Consumer<EdgeCases.Config<Integer>> configurator) {
-		Consumer<EdgeCases.Config<BigInteger>> integralConfigurator = new MappedEdgeCasesConsumer<>(
+		Consumer<EdgeCases.Config<Long>> longConfigurator = new MappedEdgeCasesConsumer<>(
 				configurator,
-				BigInteger::intValueExact,
-				(Function<Integer, BigInteger>) BigInteger::valueOf
+				Long::intValue,
+				Integer::longValue
 		);
 		DefaultIntegerArbitrary clone = typedClone();
-		clone.generatingArbitrary = (IntegralGeneratingArbitrary) generatingArbitrary.edgeCases(integralConfigurator);
+		clone.generatingArbitrary = (LongGeneratingArbitrary) generatingArbitrary.edgeCases(longConfigurator);
 		return clone;
 	}
 
@@ -55,24 +69,33 @@ public class DefaultIntegerArbitrary extends TypedCloneable implements IntegerAr
 	@Override
 	public IntegerArbitrary greaterOrEqual(int min) {
 		DefaultIntegerArbitrary clone = typedClone();
-		clone.generatingArbitrary.min = BigInteger.valueOf(min);
+		clone.generatingArbitrary.min = min;
 		return clone;
 	}
 
 	@Override
 	public IntegerArbitrary lessOrEqual(int max) {
 		DefaultIntegerArbitrary clone = typedClone();
-		clone.generatingArbitrary.max = BigInteger.valueOf(max);
+		clone.generatingArbitrary.max = max;
 		return clone;
 	}
 
 	@Override
 	public IntegerArbitrary shrinkTowards(int target) {
 		DefaultIntegerArbitrary clone = typedClone();
-		clone.generatingArbitrary.shrinkingTarget = BigInteger.valueOf(target);
+		clone.generatingArbitrary.shrinkingTarget = (long) target;
 		return clone;
 	}
 
+	@Override
+	public Optional<Arbitrary<Integer>> narrow(Predicate<? super Integer> filterPredicate) {
+		return generatingArbitrary.narrow(filterPredicate, Integer.class).map(narrowed -> {
+			DefaultIntegerArbitrary clone = typedClone();
+			clone.generatingArbitrary = narrowed;
+			return clone;
+		});
+	}
+
 	@Override
 	public boolean equals(Object o) {
 		if (this == o) return true;
@@ -12,12 +12,17 @@ import net.jqwik.engine.properties.shrinking.*;
 
 import org.jspecify.annotations.*;
 
-public class DefaultListArbitrary<T extends @Nullable Object> extends MultivalueArbitraryBase<T, List<T>> implements ListArbitrary<T> {
+public class DefaultListArbitrary<T extends @Nullable Object> extends MultivalueArbitraryBase<T, List<T>> implements ListArbitrary<T>, FilterNarrowable<List<T>> {
 
 	public DefaultListArbitrary(Arbitrary<T> elementArbitrary) {
 		super(elementArbitrary);
 	}
 
+	@Override
+	public Optional<Arbitrary<List<T>>> narrow(Predicate<? super List<T>> filterPredicate) {
+		return narrowSizes(filterPredicate);
+	}
+
 	@Override
 	protected Iterable<T> toIterable(List<T> streamable) {
 		return streamable;
@@ -1,47 +1,56 @@
 package net.jqwik.engine.properties.arbitraries;
 
-import java.math.*;
 import java.util.*;
 import java.util.function.*;
 
 import net.jqwik.api.*;
 import net.jqwik.api.arbitraries.*;
+import net.jqwik.engine.properties.arbitraries.randomized.*;
 
-public class DefaultLongArbitrary extends TypedCloneable implements LongArbitrary {
+public class DefaultLongArbitrary extends TypedCloneable implements LongArbitrary, FilterNarrowable<Long>, EnumerableArbitrary<Long>, ValueGeneratingArbitrary<Long> {
 
 	private static final long DEFAULT_MIN = Long.MIN_VALUE;
 	private static final long DEFAULT_MAX = Long.MAX_VALUE;
 
-	private IntegralGeneratingArbitrary generatingArbitrary;
+	private LongGeneratingArbitrary generatingArbitrary;
 
 	public DefaultLongArbitrary() {
-		this.generatingArbitrary = new IntegralGeneratingArbitrary(BigInteger.valueOf(DEFAULT_MIN), BigInteger.valueOf(DEFAULT_MAX));
+		this.generatingArbitrary = new LongGeneratingArbitrary(DEFAULT_MIN, DEFAULT_MAX);
+	}
+
+	LongGeneratingArbitrary generatingArbitrary() {
+		return generatingArbitrary;
 	}
 
 	@Override
 	public RandomGenerator<Long> generator(int genSize) {
-		return generatingArbitrary.generator(genSize).map(BigInteger::longValueExact);
+		return generatingArbitrary.generator(genSize);
+	}
+
+	@Override
+	public ValueGenerator<Long> valueGenerator(int genSize, boolean withEdgeCases) {
+		return generatingArbitrary.valueGenerator(genSize, withEdgeCases, Long::valueOf);
+	}
+
+	@Override
+	public Optional<IndexedDomain<Long>> indexedDomain() {
+		return generatingArbitrary.indexedDomain();
 	}
 
 	@Override
 	public Optional<ExhaustiveGenerator<Long>> exhaustive(long maxNumberOfSamples) {
-		return generatingArbitrary.exhaustive(maxNumberOfSamples).map(generator -> generator.map(BigInteger::longValueExact));
+		return generatingArbitrary.exhaustive(maxNumberOfSamples);
 	}
 
 	@Override
 	public EdgeCases<Long> edgeCases(int maxEdgeCases) {
-		return EdgeCasesSupport.map(generatingArbitrary.edgeCases(maxEdgeCases), BigInteger::longValueExact);
+		return generatingArbitrary.edgeCases(maxEdgeCases);
 	}
 
 	@Override
 	public Arbitrary<Long> edgeCases(Consumer<EdgeCases.Config<Long>> configurator) {
-		Consumer<EdgeCases.Config<BigInteger>> integralConfigurator = new MappedEdgeCasesConsumer<>(
-				configurator,
-				BigInteger::longValueExact,
-				BigInteger::valueOf
-		);
 		DefaultLongArbitrary clone = typedClone();
-		clone.generatingArbitrary = (IntegralGeneratingArbitrary) generatingArbitrary.edgeCases(integralConfigurator);
+		clone.generatingArbitrary = (LongGeneratingArbitrary) generatingArbitrary.edgeCases(configurator);
 		return clone;
 	}
 
@@ -55,24 +64,33 @@ public class DefaultLongArbitrary extends TypedCloneable implements LongArbitrar
 	@Override
 	public LongArbitrary greaterOrEqual(long min) {
 		DefaultLongArbitrary clone = typedClone();
-		clone.generatingArbitrary.min = BigInteger.valueOf(min);
+		clone.generatingArbitrary.min = min;
 		return clone;
 	}
 
 	@Override
 	public LongArbitrary lessOrEqual(long max) {
 		DefaultLongArbitrary clone = typedClone();
-		clone.generatingArbitrary.max = BigInteger.valueOf(max);
+		clone.generatingArbitrary.max = max;
 		return clone;
 	}
 
 	@Override
 	public LongArbitrary shrinkTowards(long target) {
 		DefaultLongArbitrary clone = typedClone();
-		clone.generatingArbitrary.shrinkingTarget = BigInteger.valueOf(target);
+		clone.generatingArbitrary.shrinkingTarget = (long) target;
 		return clone;
 	}
 
+	@Override
+	public Optional<Arbitrary<Long>> narrow(Predicate<? super Long> filterPredicate) {
+		return generatingArbitrary.narrow(filterPredicate, Long.class).map(narrowed -> {
+			DefaultLongArbitrary clone = typedClone();
+			clone.generatingArbitrary = narrowed;
+			return clone;
+		});
+	}
+
 	@Override
 	public boolean equals(Object o) {
 		if (this == o) return true;
@@ -14,13 +14,18 @@ import net.jqwik.engine.properties.shrinking.*;
 
 import org.jspecify.annotations.*;
 
-public class DefaultSetArbitrary<T extends @Nullable Object> extends MultivalueArbitraryBase<T, Set<T>> implements SetArbitrary<T> {
+public class DefaultSetArbitrary<T extends @Nullable Object> extends MultivalueArbitraryBase<T, Set<T>> implements SetArbitrary<T>, FilterNarrowable<Set<T>> {
 
 	public DefaultSetArbitrary(Arbitrary<T> elementArbitrary) {
 		super(elementArbitrary);
 		uniquenessExtractors.add(FeatureExtractor.identity());
 	}
 
+	@Override
+	public Optional<Arbitrary<Set<T>>> narrow(Predicate<? super Set<T>> filterPredicate) {
+		return narrowSizes(filterPredicate);
+	}
+
 	@Override
 	protected Iterable<T> toIterable(Set<T> streamable) {
 		return streamable;
@@ -38,7 +43,11 @@ public class DefaultSetArbitrary<T extends @Nullable Object> extends MultivalueA
 
 	private RandomGenerator<Set<T>> rawGenerator(int genSize, boolean withEmbeddedEdgeCases) {
 		RandomGenerator<T> elementGenerator = elementGenerator(elementArbitrary, genSize, withEmbeddedEdgeCases);
-		return RandomGenerators.set(elementGenerator, minSize, maxSize(), genSize, sizeDistribution, uniquenessExtractors, elementArbitrary);
+		Optional<ValueGenerator<T>> elementValueGenerator = ValueGeneratingArbitrary.valueGeneratorOf(elementArbitrary, genSize, withEmbeddedEdgeCases);
+		if (elementValueGenerator.isPresent()) {
+			return RandomGenerators.lazySet(elementGenerator, elementValueGenerator.get(), minSize, maxSize(), genSize, sizeDistribution, uniquenessExtractors, elementArbitrary, uniqueElementsDomain());
+		}
+		return RandomGenerators.set(elementGenerator, minSize, maxSize(), genSize, sizeDistribution, uniquenessExtractors, elementArbitrary, uniqueElementsDomain());
 	}
 
 	@Override
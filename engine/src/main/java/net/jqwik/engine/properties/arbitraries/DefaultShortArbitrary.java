@@ -1,47 +1,61 @@
 package net.jqwik.engine.properties.arbitraries;
 
-import java.math.*;
 import java.util.*;
 import java.util.function.*;
 
 import net.jqwik.api.*;
 import net.jqwik.api.arbitraries.*;
+import net.jqwik.engine.properties.arbitraries.randomized.*;
 
-public class DefaultShortArbitrary extends TypedCloneable implements ShortArbitrary {
+public class DefaultShortArbitrary extends TypedCloneable implements ShortArbitrary, FilterNarrowable<Short>, EnumerableArbitrary<Short>, ValueGeneratingArbitrary<Short> {
 
 	private static final short DEFAULT_MIN = Short.MIN_VALUE;
 	private static final short DEFAULT_MAX = Short.MAX_VALUE;
 
-	private IntegralGeneratingArbitrary generatingArbitrary;
+	private LongGeneratingArbitrary generatingArbitrary;
 
 	public DefaultShortArbitrary() {
-		this.generatingArbitrary = new IntegralGeneratingArbitrary(BigInteger.valueOf(DEFAULT_MIN), BigInteger.valueOf(DEFAULT_MAX));
+		this.generatingArbitrary = new LongGeneratingArbitrary(DEFAULT_MIN, DEFAULT_MAX);
+	}
+
+	LongGeneratingArbitrary generatingArbitrary() {
+		return generatingArbitrary;
 	}
 
 	@Override
 	public RandomGenerator<Short> generator(int genSize) {
-		return generatingArbitrary.generator(genSize).map(BigInteger::shortValueExact);
+		return generatingArbitrary.generator(genSize).map(Long::shortValue);
+	}
+
+	@Override
+	public ValueGenerator<Short> valueGenerator(int genSize, boolean withEdgeCases) {
+		return generatingArbitrary.valueGenerator(genSize, withEdgeCases, value -> (short) value);
+	}
+
+	@Override
+	public Optional<IndexedDomain<Short>> indexedDomain() {
+		return generatingArbitrary.indexedDomain().map(domain -> domain.map(Long::shortValue));
 	}
 
 	@Override
 	public Optional<ExhaustiveGenerator<Short>> exhaustive(long maxNumberOfSamples) {
-		return generatingArbitrary.exhaustive(maxNumberOfSamples).map(generator -> generator.map(BigInteger::shortValueExact));
+		return generatingArbitrary.exhaustive(maxNumberOfSamples).map(generator -> generator.map(Long::shortValue));
 	}
 
 	@Override
 	public EdgeCases<Short> edgeCases(int maxEdgeCases) {
-		return EdgeCasesSupport.map(generatingArbitrary.edgeCases(maxEdgeCases), BigInteger::shortValueExact);
+		return EdgeCasesSupport.map(generatingArbitrary.edgeCases(maxEdgeCases), Long::shortValue);
 	}
 
 	@Override
 	public Arbitrary<Short> edgeCases(Consumer<EdgeCases.Config<Short>> configurator) {
-		Consumer<EdgeCases.Config<BigInteger>> integralConfigurator = new MappedEdgeCasesConsumer<>(
+		Consumer<EdgeCases.Config<Long>> longConfigurator = new MappedEdgeCasesConsumer<>(
 				configurator,
-				BigInteger::shortValueExact,
-				(Function<Short, BigInteger>) BigInteger::valueOf
+				Long::shortValue,
+				Short::longValue
 		);
 		DefaultShortArbitrary clone = typedClone();
-		clone.generatingArbitrary = (IntegralGeneratingArbitrary) generatingArbitrary.edgeCases(integralConfigurator);
+		clone.generatingArbitrary = (LongGeneratingArbitrary) generatingArbitrary.edgeCases(longConfigurator);
 		return clone;
 	}
 
@@ -55,24 +69,33 @@ public class DefaultShortArbitrary extends TypedCloneable implements ShortArbitr
 	@Override
 	public ShortArbitrary greaterOrEqual(short min) {
 		DefaultShortArbitrary clone = typedClone();
-		clone.generatingArbitrary.min = BigInteger.valueOf(min);
+		clone.generatingArbitrary.min = min;
 		return clone;
 	}
 
 	@Override
 	public ShortArbitrary lessOrEqual(short max) {
 		DefaultShortArbitrary clone = typedClone();
-		clone.generatingArbitrary.max = BigInteger.valueOf(max);
+		clone.generatingArbitrary.max = max;
 		return clone;
 	}
 
 	@Override
 	public Arbitrary<Short> shrinkTowards(short target) {
 		DefaultShortArbitrary clone = typedClone();
-		clone.generatingArbitrary.shrinkingTarget = BigInteger.valueOf(target);
+		clone.generatingArbitrary.shrinkingTarget = (long) target;
 		return clone;
 	}
 
+	@Override
+	public Optional<Arbitrary<Short>> narrow(Predicate<? super Short> filterPredicate) {
+		return generatingArbitrary.narrow(filterPredicate, Short.class).map(narrowed -> {
+			DefaultShortArbitrary clone = typedClone();
+			clone.generatingArbitrary = narrowed;
+			return clone;
+		});
+	}
+
 	@Override
 	public boolean equals(Object o) {
 		if (this == o) return true;
@@ -25,7 +25,19 @@ public class DefaultStringArbitrary extends TypedCloneable implements StringArbi
 	@Override
 	public RandomGenerator<String> generator(int genSize) {
 		long maxUniqueChars = characterArbitrary.exhaustive(maxLength()).map(ExhaustiveGenerator::maxCount).orElse((long) maxLength());
-		return RandomGenerators.strings(
+		Optional<CharGenerator> charGenerator = charGenerator();
+		if (repeatChars > 0 || !charGenerator.isPresent()) {
+			// Injected duplicates depend on previously generated chars and cannot be regenerated for shrinking
+			return RandomGenerators.strings(
+				randomCharacterGenerator(),
+				minLength, maxLength(), maxUniqueChars,
+				genSize, lengthDistribution,
+				characterArbitrary,
+				uniqueChars
+			);
+		}
+		return RandomGenerators.compactStrings(
+			charGenerator.get(),
 			randomCharacterGenerator(),
 			minLength, maxLength(), maxUniqueChars,
 			genSize, lengthDistribution,
@@ -244,6 +256,20 @@ public class DefaultStringArbitrary extends TypedCloneable implements StringArbi
 		}
 	}
 
+	/**
+	 * Draws the same chars as {@code effectiveCharacterArbitrary().generator(1, false)}
+	 */
+	private Optional<CharGenerator> charGenerator() {
+		if (!(characterArbitrary instanceof DefaultCharacterArbitrary)) {
+			return Optional.empty();
+		}
+		Optional<CharGenerator> charGenerator = ((DefaultCharacterArbitrary) characterArbitrary).charGenerator();
+		if (excludedChars.isEmpty()) {
+			return charGenerator;
+		}
+		return charGenerator.map(generator -> RandomGenerators.filterCharValues(generator, c -> !excludedChars.contains(c), 10000));
+	}
+
 	private Arbitrary<Character> effectiveCharacterArbitrary() {
 		Arbitrary<Character> characterArbitrary = this.characterArbitrary;
 		if (!excludedChars.isEmpty()) {
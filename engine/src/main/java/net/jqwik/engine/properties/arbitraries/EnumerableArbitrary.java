@@ -0,0 +1,28 @@
+package net.jqwik.engine.properties.arbitraries;
+
+import java.util.*;
+
+import net.jqwik.api.*;
+import net.jqwik.engine.properties.arbitraries.randomized.*;
+
+import org.jspecify.annotations.*;
+
+/**
+ * Implemented by arbitraries that can address each of their distinct values by index.
+ */
+public interface EnumerableArbitrary<T extends @Nullable Object> {
+
+	/**
+	 * @return empty if the values of this arbitrary cannot be enumerated
+	 */
+	Optional<IndexedDomain<T>> indexedDomain();
+
+	static <T extends @Nullable Object> Optional<IndexedDomain<T>> indexedDomainOf(Arbitrary<T> arbitrary) {
+		if (arbitrary instanceof EnumerableArbitrary) {
+			@SuppressWarnings("unchecked")
+			EnumerableArbitrary<T> enumerable = (EnumerableArbitrary<T>) arbitrary;
+			return enumerable.indexedDomain();
+		}
+		return Optional.empty();
+	}
+}
@@ -0,0 +1,30 @@
+package net.jqwik.engine.properties.arbitraries;
+
+import java.util.*;
+import java.util.function.*;
+
+import net.jqwik.api.*;
+
+import org.jspecify.annotations.*;
+
+/**
+ * Implemented by arbitraries that can restrict their own bounds to the values accepted by
+ * a predicate from {@linkplain Predicates} instead of generating values that will be rejected.
+ */
+public interface FilterNarrowable<T extends @Nullable Object> {
+
+	/**
+	 * @return an arbitrary that only generates values accepted by {@code filterPredicate}
+	 * or empty if {@code filterPredicate} cannot be used to narrow this arbitrary
+	 */
+	Optional<Arbitrary<T>> narrow(Predicate<? super T> filterPredicate);
+
+	static <T extends @Nullable Object> Arbitrary<T> narrowIfPossible(Arbitrary<T> arbitrary, Predicate<? super T> filterPredicate) {
+		if (arbitrary instanceof FilterNarrowable) {
+			@SuppressWarnings("unchecked")
+			FilterNarrowable<T> narrowable = (FilterNarrowable<T>) arbitrary;
+			return narrowable.narrow(filterPredicate).orElse(arbitrary);
+		}
+		return arbitrary;
+	}
+}
@@ -0,0 +1,35 @@
+package net.jqwik.engine.properties.arbitraries;
+
+import java.math.*;
+import java.util.function.*;
+
+import net.jqwik.api.*;
+
+/**
+ * Maps a {@linkplain DecimalGeneratingArbitrary} to double or float values.
+ * Edge cases and exhaustive generation are mapped from BigDecimal values
+ * whereas random values come from a generator that can avoid BigDecimal arithmetic.
+ */
+class FloatingPointArbitrary<T extends Number> extends ArbitraryMap<BigDecimal, T> {
+
+	private final IntFunction<RandomGenerator<T>> generatorCreator;
+
+	FloatingPointArbitrary(
+		DecimalGeneratingArbitrary decimalArbitrary,
+		Function<BigDecimal, T> mapper,
+		IntFunction<RandomGenerator<T>> generatorCreator
+	) {
+		super(decimalArbitrary, mapper);
+		this.generatorCreator = generatorCreator;
+	}
+
+	@Override
+	public RandomGenerator<T> generator(int genSize) {
+		return generatorCreator.apply(genSize);
+	}
+
+	@Override
+	public RandomGenerator<T> generatorWithEmbeddedEdgeCases(int genSize) {
+		return generator(genSize);
+	}
+}
@@ -0,0 +1,79 @@
+package net.jqwik.engine.properties.arbitraries;
+
+import net.jqwik.api.*;
+import net.jqwik.engine.properties.arbitraries.randomized.*;
+import net.jqwik.engine.properties.shrinking.ShrinkableIntegralArray.*;
+
+import org.jspecify.annotations.*;
+
+/**
+ * Generates {@code byte[]}, {@code short[]}, {@code int[]} and {@code long[]} values of default integral arbitraries
+ * without boxing elements or creating a shrinkable per element.
+ * Arrays with uniqueness constraints are generated like any other array.
+ */
+class IntegralArrayArbitrary<T, A> extends DefaultArrayArbitrary<T, A> {
+
+	static <T> @Nullable IntegralArrayArbitrary<T, ?> forElements(Arbitrary<T> elementArbitrary, Class<?> componentClass) {
+		ArrayType<?> arrayType = ArrayType.forComponentType(componentClass);
+		LongGeneratingArbitrary generatingArbitrary = generatingArbitrary(elementArbitrary, componentClass);
+		if (arrayType == null || generatingArbitrary == null) {
+			return null;
+		}
+		return new IntegralArrayArbitrary<>(elementArbitrary, componentClass, arrayType, generatingArbitrary);
+	}
+
+	private static @Nullable LongGeneratingArbitrary generatingArbitrary(Arbitrary<?> elementArbitrary, Class<?> componentClass) {
+		if (componentClass == byte.class && elementArbitrary instanceof DefaultByteArbitrary) {
+			return ((DefaultByteArbitrary) elementArbitrary).generatingArbitrary();
+		}
+		if (componentClass == short.class && elementArbitrary instanceof DefaultShortArbitrary) {
+			return ((DefaultShortArbitrary) elementArbitrary).generatingArbitrary();
+		}
+		if (componentClass == int.class && elementArbitrary instanceof DefaultIntegerArbitrary) {
+			return ((DefaultIntegerArbitrary) elementArbitrary).generatingArbitrary();
+		}
+		if (componentClass == long.class && elementArbitrary instanceof DefaultLongArbitrary) {
+			return ((DefaultLongArbitrary) elementArbitrary).generatingArbitrary();
+		}
+		return null;
+	}
+
+	private final ArrayType<A> arrayType;
+	private final LongGeneratingArbitrary generatingArbitrary;
+
+	private IntegralArrayArbitrary(
+		Arbitrary<T> elementArbitrary,
+		Class<?> componentClass,
+		ArrayType<A> arrayType,
+		LongGeneratingArbitrary generatingArbitrary
+	) {
+		super(elementArbitrary, componentClass);
+		this.arrayType = arrayType;
+		this.generatingArbitrary = generatingArbitrary;
+	}
+
+	@Override
+	public RandomGenerator<A> generator(int genSize) {
+		if (!uniquenessExtractors.isEmpty()) {
+			return super.generator(genSize);
+		}
+		return integralArrayGenerator(genSize, false);
+	}
+
+	@Override
+	public RandomGenerator<A> generatorWithEmbeddedEdgeCases(int genSize) {
+		if (!uniquenessExtractors.isEmpty()) {
+			return super.generatorWithEmbeddedEdgeCases(genSize);
+		}
+		return integralArrayGenerator(genSize, true);
+	}
+
+	private RandomGenerator<A> integralArrayGenerator(int genSize, boolean withEmbeddedEdgeCases) {
+		return generatingArbitrary.arrayGenerator(
+			arrayType,
+			minSize, maxSize(), maxUniqueElements(),
+			genSize, sizeDistribution,
+			withEmbeddedEdgeCases
+		);
+	}
+}
@@ -34,6 +34,73 @@ class IntegralGeneratingArbitrary extends TypedCloneable implements Arbitrary<Bi
 		return RandomGenerators.bigIntegers(min, max, shrinkingTarget(), distribution);
 	}
 
+	/**
+	 * A copy restricted to the values accepted by {@code filterPredicate}
+	 * if it is a {@linkplain Predicates.RangePredicate} with bounds of type {@linkplain BigInteger}.
+	 */
+	Optional<IntegralGeneratingArbitrary> narrow(Predicate<?> filterPredicate) {
+		if (!(filterPredicate instanceof Predicates.RangePredicate)) {
+			return Optional.empty();
+		}
+		Predicates.RangePredicate<?> range = (Predicates.RangePredicate<?>) filterPredicate;
+		BigInteger newMin = min;
+		BigInteger newMax = max;
+		if (range.min().isPresent()) {
+			Object bound = range.min().get();
+			if (!(bound instanceof BigInteger)) {
+				return Optional.empty();
+			}
+			BigInteger lowest = range.minIncluded() ? (BigInteger) bound : ((BigInteger) bound).add(ONE);
+			newMin = newMin.max(lowest);
+		}
+		if (range.max().isPresent()) {
+			Object bound = range.max().get();
+			if (!(bound instanceof BigInteger)) {
+				return Optional.empty();
+			}
+			BigInteger highest = range.maxIncluded() ? (BigInteger) bound : ((BigInteger) bound).subtract(ONE);
+			newMax = newMax.min(highest);
+		}
+		if (newMin.compareTo(newMax) > 0) {
+			return Optional.empty();
+		}
+		IntegralGeneratingArbitrary clone = typedClone();
+		clone.min = newMin;
+		clone.max = newMax;
+		if (shrinkingTarget != null) {
+			// Filtered values would have shrunk towards the nearest bound anyway
+			clone.shrinkingTarget = newMin.max(newMax.min(shrinkingTarget));
+		}
+		return Optional.of(clone);
+	}
+
+	/**
+	 * Empty if the range has more than {@code Long.MAX_VALUE} values.
+	 */
+	Optional<IndexedDomain<BigInteger>> indexedDomain() {
+		BigInteger size = max.subtract(min).add(ONE);
+		if (size.bitLength() >= 64) {
+			return Optional.empty();
+		}
+		BigInteger first = min;
+		Range<BigInteger> range = Range.of(min, max);
+		BigInteger shrinkingTarget = shrinkingTarget();
+		return Optional.of(new IndexedDomain<BigInteger>() {
+			@Override
+			public long size() {
+				return size.longValueExact();
+			}
+
+			@Override
+			public Shrinkable<BigInteger> shrinkableAt(long index) {
+				if (range.isSingular()) {
+					return Shrinkable.unshrinkable(first);
+				}
+				return new ShrinkableBigInteger(first.add(valueOf(index)), range, shrinkingTarget);
+			}
+		});
+	}
+
 	@Override
 	public Optional<ExhaustiveGenerator<BigInteger>> exhaustive(long maxNumberOfSamples) {
 		BigInteger maxCount = max.subtract(min).add(BigInteger.ONE);
@@ -42,7 +109,7 @@ class IntegralGeneratingArbitrary extends TypedCloneable implements Arbitrary<Bi
 		if (maxCount.compareTo(valueOf(maxNumberOfSamples)) > 0) {
 			return Optional.empty();
 		} else {
-			return ExhaustiveGenerators.fromIterable(RangeIterator::new, maxCount.longValueExact(), maxNumberOfSamples);
+			return ExhaustiveGenerators.fromIndex(index -> min.add(valueOf(index)), maxCount.longValueExact(), maxNumberOfSamples);
 		}
 	}
 
@@ -116,24 +183,4 @@ class IntegralGeneratingArbitrary extends TypedCloneable implements Arbitrary<Bi
 		}
 	}
 
-	class RangeIterator implements Iterator<BigInteger> {
-
-		BigInteger current = min;
-
-		@Override
-		public boolean hasNext() {
-			return current.compareTo(max) <= 0;
-		}
-
-		@Override
-		public BigInteger next() {
-			if (!hasNext()) {
-				throw new NoSuchElementException();
-			}
-			BigInteger next = current;
-			current = current.add(BigInteger.ONE);
-			return next;
-		}
-	}
-
 }
@@ -0,0 +1,30 @@
+package net.jqwik.engine.properties.arbitraries;
+
+import net.jqwik.api.*;
+import net.jqwik.engine.properties.*;
+import net.jqwik.engine.properties.shrinking.*;
+
+class LongEdgeCasesConfiguration extends GenericEdgeCasesConfiguration<Long> {
+
+	private final Range<Long> range;
+	private final long shrinkingTarget;
+
+	public LongEdgeCasesConfiguration(Range<Long> range, long shrinkingTarget) {
+		this.range = range;
+		this.shrinkingTarget = shrinkingTarget;
+	}
+
+	@Override
+	protected void checkEdgeCaseIsValid(Long edgeCase) {
+		if (!range.includes(edgeCase)) {
+			String message = String.format("Edge case <%s> is outside the arbitrary's allowed range %s", edgeCase, range);
+			throw new IllegalArgumentException(message);
+		}
+	}
+
+	@Override
+	protected Shrinkable<Long> createShrinkable(Long additionalEdgeCase) {
+		return new ShrinkableLong(additionalEdgeCase, range, shrinkingTarget);
+	}
+
+}
@@ -0,0 +1,239 @@
+package net.jqwik.engine.properties.arbitraries;
+
+import java.util.*;
+import java.util.function.*;
+import java.util.stream.*;
+
+import net.jqwik.api.*;
+import net.jqwik.api.support.*;
+import net.jqwik.engine.properties.*;
+import net.jqwik.engine.properties.arbitraries.exhaustive.*;
+import net.jqwik.engine.properties.arbitraries.randomized.*;
+import net.jqwik.engine.properties.shrinking.*;
+
+/**
+ * Generates integral values of ranges that fit into {@code long} with primitive arithmetic.
+ * {@linkplain IntegralGeneratingArbitrary} is only needed for ranges beyond {@code long}.
+ */
+class LongGeneratingArbitrary extends TypedCloneable implements Arbitrary<Long> {
+
+	long min;
+	long max;
+	Long shrinkingTarget;
+	RandomDistribution distribution = RandomDistribution.biased();
+
+	private Consumer<? super EdgeCases.Config<Long>> edgeCasesConfigurator = EdgeCases.Config.noConfig();
+
+	LongGeneratingArbitrary(long defaultMin, long defaultMax) {
+		this.min = defaultMin;
+		this.max = defaultMax;
+		this.shrinkingTarget = null;
+	}
+
+	private static final int NUMERIC_GEN_SIZE = 1000;
+
+	@Override
+	public RandomGenerator<Long> generator(int genSize) {
+		return RandomIntegralGenerators.longs(NUMERIC_GEN_SIZE, min, max, shrinkingTarget(), distribution);
+	}
+
+	<A> RandomGenerator<A> arrayGenerator(
+		ShrinkableIntegralArray.ArrayType<A> arrayType,
+		int minSize,
+		int maxSize,
+		long maxUniqueElements,
+		int genSize,
+		RandomDistribution sizeDistribution,
+		boolean withEmbeddedEdgeCases
+	) {
+		long[] elementEdgeCases = withEmbeddedEdgeCases ? edgeCaseValues(genSize) : new long[0];
+		return RandomIntegralGenerators.integralArrays(
+			arrayType, NUMERIC_GEN_SIZE,
+			min, max, shrinkingTarget(), distribution,
+			elementEdgeCases,
+			minSize, maxSize, maxUniqueElements,
+			genSize, sizeDistribution
+		);
+	}
+
+	/**
+	 * Draws the same values as {@code generator(genSize, withEdgeCases)} mapped with {@code toValue}
+	 */
+	<T> ValueGenerator<T> valueGenerator(int genSize, boolean withEdgeCases, LongFunction<T> toValue) {
+		long[] edgeCases = withEdgeCases ? edgeCaseValues(genSize) : new long[0];
+		return RandomIntegralGenerators.integralValues(
+			NUMERIC_GEN_SIZE,
+			min, max, shrinkingTarget(), distribution,
+			edgeCases, genSize,
+			toValue
+		);
+	}
+
+	/**
+	 * The same edge cases {@code generator(genSize, true)} would embed
+	 */
+	private long[] edgeCaseValues(int genSize) {
+		int maxEdgeCases = Math.max(genSize, 10);
+		return edgeCases(maxEdgeCases).suppliers().stream()
+									  .mapToLong(supplier -> supplier.get().value())
+									  .toArray();
+	}
+
+	/**
+	 * A copy restricted to the values accepted by {@code filterPredicate}
+	 * if it is a {@linkplain Predicates.RangePredicate} with bounds of {@code valueType}.
+	 */
+	Optional<LongGeneratingArbitrary> narrow(Predicate<?> filterPredicate, Class<?> valueType) {
+		if (!(filterPredicate instanceof Predicates.RangePredicate)) {
+			return Optional.empty();
+		}
+		Predicates.RangePredicate<?> range = (Predicates.RangePredicate<?>) filterPredicate;
+		long newMin = min;
+		long newMax = max;
+		if (range.min().isPresent()) {
+			Object bound = range.min().get();
+			if (!valueType.isInstance(bound)) {
+				return Optional.empty();
+			}
+			long lowest = ((Number) bound).longValue();
+			if (!range.minIncluded()) {
+				if (lowest == Long.MAX_VALUE) {
+					return Optional.empty();
+				}
+				lowest++;
+			}
+			newMin = Math.max(newMin, lowest);
+		}
+		if (range.max().isPresent()) {
+			Object bound = range.max().get();
+			if (!valueType.isInstance(bound)) {
+				return Optional.empty();
+			}
+			long highest = ((Number) bound).longValue();
+			if (!range.maxIncluded()) {
+				if (highest == Long.MIN_VALUE) {
+					return Optional.empty();
+				}
+				highest--;
+			}
+			newMax = Math.min(newMax, highest);
+		}
+		if (newMin > newMax) {
+			return Optional.empty();
+		}
+		LongGeneratingArbitrary clone = typedClone();
+		clone.min = newMin;
+		clone.max = newMax;
+		if (shrinkingTarget != null) {
+			// Filtered values would have shrunk towards the nearest bound anyway
+			clone.shrinkingTarget = Math.max(newMin, Math.min(newMax, shrinkingTarget));
+		}
+		return Optional.of(clone);
+	}
+
+	/**
+	 * Empty if the range has more than {@code Long.MAX_VALUE} values.
+	 */
+	Optional<IndexedDomain<Long>> indexedDomain() {
+		// The difference between max and min is unsigned and can exceed Long.MAX_VALUE
+		long sizeMinusOne = max - min;
+		if (sizeMinusOne < 0 || sizeMinusOne == Long.MAX_VALUE) {
+			return Optional.empty();
+		}
+		long first = min;
+		Range<Long> range = Range.of(min, max);
+		long shrinkingTarget = shrinkingTarget();
+		return Optional.of(new IndexedDomain<Long>() {
+			@Override
+			public long size() {
+				return sizeMinusOne + 1;
+			}
+
+			@Override
+			public Shrinkable<Long> shrinkableAt(long index) {
+				if (range.isSingular()) {
+					return Shrinkable.unshrinkable(first);
+				}
+				return new ShrinkableLong(first + index, range, shrinkingTarget);
+			}
+		});
+	}
+
+	@Override
+	public Optional<ExhaustiveGenerator<Long>> exhaustive(long maxNumberOfSamples) {
+		// The difference between max and min is unsigned and can exceed Long.MAX_VALUE
+		long maxCountMinusOne = max - min;
+		if (maxNumberOfSamples <= 0 || Long.compareUnsigned(maxCountMinusOne, maxNumberOfSamples - 1) > 0) {
+			return Optional.empty();
+		}
+		return ExhaustiveGenerators.fromIndex(index -> min + index, maxCountMinusOne + 1, maxNumberOfSamples);
+	}
+
+	@Override
+	public EdgeCases<Long> edgeCases(int maxEdgeCases) {
+		Range<Long> range = Range.of(min, max);
+		long shrinkingTarget = shrinkingTarget();
+		Function<Integer, EdgeCases<Long>> edgeCasesCreator = m -> {
+			List<Shrinkable<Long>> shrinkables =
+				streamDefaultEdgeCases()
+					.mapToObj(value -> new ShrinkableLong(value, range, shrinkingTarget))
+					.limit(Math.max(0, m))
+					.collect(Collectors.toList());
+			return EdgeCasesSupport.fromShrinkables(shrinkables);
+		};
+		LongEdgeCasesConfiguration configuration = new LongEdgeCasesConfiguration(range, shrinkingTarget);
+		return configuration.configure(edgeCasesConfigurator, edgeCasesCreator, maxEdgeCases);
+	}
+
+	@Override
+	public Arbitrary<Long> edgeCases(Consumer<EdgeCases.Config<Long>> configurator) {
+		LongGeneratingArbitrary clone = typedClone();
+		clone.edgeCasesConfigurator = configurator;
+		return clone;
+	}
+
+	@Override
+	public boolean equals(Object o) {
+		if (this == o) return true;
+		if (o == null || getClass() != o.getClass()) return false;
+
+		LongGeneratingArbitrary that = (LongGeneratingArbitrary) o;
+
+		if (min != that.min) return false;
+		if (max != that.max) return false;
+		if (!Objects.equals(shrinkingTarget, that.shrinkingTarget)) return false;
+		if (!distribution.equals(that.distribution)) return false;
+		return LambdaSupport.areEqual(edgeCasesConfigurator, that.edgeCasesConfigurator);
+	}
+
+	@Override
+	public int hashCode() {
+		return HashCodeSupport.hash(min, max, shrinkingTarget);
+	}
+
+	private LongStream streamDefaultEdgeCases() {
+		return streamRawEdgeCases()
+				   .distinct()
+				   .filter(aLong -> aLong >= min && aLong <= max);
+	}
+
+	private LongStream streamRawEdgeCases() {
+		// Overflows of min + 1 and max - 1 are filtered out since they are outside the range
+		long[] literalEdgeCases = new long[]{
+			-2, -1, 0, 2, 1,
+			min, min + 1, max, max - 1
+		};
+		return shrinkingTarget == null
+				   ? Arrays.stream(literalEdgeCases)
+				   : LongStream.concat(LongStream.of(shrinkingTarget), Arrays.stream(literalEdgeCases));
+	}
+
+	private long shrinkingTarget() {
+		if (shrinkingTarget == null) {
+			return RandomIntegralGenerators.defaultShrinkingTarget(min, max);
+		} else {
+			return shrinkingTarget;
+		}
+	}
+
+}
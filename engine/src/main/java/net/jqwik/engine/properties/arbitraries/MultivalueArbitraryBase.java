@@ -62,6 +62,28 @@ abstract class MultivalueArbitraryBase<T, U> extends TypedCloneable implements S
 		return clone;
 	}
 
+	/**
+	 * Narrow the allowed sizes of collections to the sizes accepted by a {@linkplain Predicates.SizePredicate}.
+	 */
+	protected Optional<Arbitrary<U>> narrowSizes(Predicate<? super U> filterPredicate) {
+		if (!(filterPredicate instanceof Predicates.SizePredicate)) {
+			return Optional.empty();
+		}
+		Predicates.SizePredicate sizes = (Predicates.SizePredicate) filterPredicate;
+		int newMinSize = Math.max(minSize, sizes.minSize());
+		Integer newMaxSize = maxSize;
+		if (sizes.maxSize() < Integer.MAX_VALUE) {
+			newMaxSize = maxSize == null ? sizes.maxSize() : Math.min(maxSize, sizes.maxSize());
+		}
+		if (newMaxSize != null && newMinSize > newMaxSize) {
+			return Optional.empty();
+		}
+		MultivalueArbitraryBase<T, U> clone = typedClone();
+		clone.minSize = newMinSize;
+		clone.maxSize = newMaxSize;
+		return Optional.of(clone);
+	}
+
 	@Override
 	public StreamableArbitrary<T, U> withSizeDistribution(RandomDistribution distribution) {
 		MultivalueArbitraryBase<T, U> clone = typedClone();
@@ -99,8 +121,27 @@ abstract class MultivalueArbitraryBase<T, U> extends TypedCloneable implements S
 
 	protected RandomGenerator<List<T>> createListGenerator(int genSize, boolean withEmbeddedEdgeCases) {
 		RandomGenerator<T> elementGenerator = elementGenerator(elementArbitrary, genSize, withEmbeddedEdgeCases);
-		long maxUniqueElements = elementArbitrary.exhaustive(maxSize()).map(ExhaustiveGenerator::maxCount).orElse((long) maxSize());
-		return RandomGenerators.list(elementGenerator, minSize, maxSize(), maxUniqueElements, genSize, sizeDistribution, uniquenessExtractors, elementArbitrary);
+		Optional<ValueGenerator<T>> elementValueGenerator = ValueGeneratingArbitrary.valueGeneratorOf(elementArbitrary, genSize, withEmbeddedEdgeCases);
+		if (elementValueGenerator.isPresent()) {
+			return RandomGenerators.lazyList(elementGenerator, elementValueGenerator.get(), minSize, maxSize(), maxUniqueElements(), genSize, sizeDistribution, uniquenessExtractors, elementArbitrary, uniqueElementsDomain());
+		}
+		return RandomGenerators.list(elementGenerator, minSize, maxSize(), maxUniqueElements(), genSize, sizeDistribution, uniquenessExtractors, elementArbitrary, uniqueElementsDomain());
+	}
+
+	/**
+	 * Present if elements must only be unique by themselves and the element arbitrary's values can be enumerated.
+	 */
+	protected @Nullable IndexedDomain<T> uniqueElementsDomain() {
+		boolean uniqueByIdentityOnly = uniquenessExtractors.size() == 1
+										   && uniquenessExtractors.contains(FeatureExtractor.identity());
+		if (!uniqueByIdentityOnly) {
+			return null;
+		}
+		return EnumerableArbitrary.indexedDomainOf(elementArbitrary).orElse(null);
+	}
+
+	protected long maxUniqueElements() {
+		return elementArbitrary.exhaustive(maxSize()).map(ExhaustiveGenerator::maxCount).orElse((long) maxSize());
 	}
 
 	protected RandomGenerator<T> elementGenerator(Arbitrary<T> elementArbitrary, int genSize, boolean withEdgeCases) {
@@ -0,0 +1,28 @@
+package net.jqwik.engine.properties.arbitraries;
+
+import java.util.*;
+
+import net.jqwik.api.*;
+import net.jqwik.engine.properties.arbitraries.randomized.*;
+
+import org.jspecify.annotations.*;
+
+/**
+ * Implemented by arbitraries that can generate their values without creating a shrinkable for each of them.
+ */
+public interface ValueGeneratingArbitrary<T extends @Nullable Object> {
+
+	/**
+	 * @return a generator that draws the same values as {@code generator(genSize, withEdgeCases)}
+	 */
+	ValueGenerator<T> valueGenerator(int genSize, boolean withEdgeCases);
+
+	static <T extends @Nullable Object> Optional<ValueGenerator<T>> valueGeneratorOf(Arbitrary<T> arbitrary, int genSize, boolean withEdgeCases) {
+		if (arbitrary instanceof ValueGeneratingArbitrary) {
+			@SuppressWarnings("unchecked")
+			ValueGeneratingArbitrary<T> valueGenerating = (ValueGeneratingArbitrary<T>) arbitrary;
+			return Optional.of(valueGenerating.valueGenerator(genSize, withEdgeCases));
+		}
+		return Optional.empty();
+	}
+}
@@ -29,6 +29,28 @@ class CombinedExhaustiveGenerator<R extends @Nullable Object> implements Exhaust
 		return Optional.of(product);
 	}
 
+	/**
+	 * @return a generator that decodes combinations from their index if all arbitraries have indexed exhaustive generators
+	 */
+	static <R extends @Nullable Object> Optional<ExhaustiveGenerator<R>> indexed(
+		long maxCount,
+		List<Arbitrary<Object>> arbitraries,
+		Function<? super List<?>, ? extends R> combinator
+	) {
+		List<IndexedExhaustiveGenerator<Object>> generators = new ArrayList<>();
+		for (Arbitrary<Object> arbitrary : arbitraries) {
+			Optional<IndexedExhaustiveGenerator<Object>> indexed = arbitrary.exhaustive().flatMap(IndexedExhaustiveGenerator::indexed);
+			if (!indexed.isPresent()) {
+				return Optional.empty();
+			}
+			generators.add(indexed.get());
+		}
+		return Optional.of(new IndexBasedExhaustiveGenerator<>(
+			maxCount,
+			index -> combinator.apply(ExhaustiveGenerators.valuesAt(generators, index))
+		));
+	}
+
 	CombinedExhaustiveGenerator(Long maxCount, List<Arbitrary<Object>> arbitraries, Function<? super List<?>, ? extends R> combinator) {
 		this.maxCount = maxCount;
 		this.arbitraries = arbitraries;
@@ -6,6 +6,7 @@ import java.util.stream.*;
 
 import net.jqwik.api.*;
 import net.jqwik.engine.properties.*;
+import net.jqwik.engine.support.*;
 
 import org.jspecify.annotations.*;
 
@@ -18,7 +19,7 @@ public class ExhaustiveGenerators {
 	}
 
 	public static <T extends @Nullable Object> Optional<ExhaustiveGenerator<T>> choose(List<T> values, long maxNumberOfSamples) {
-		return fromIterable(values, values.size(), maxNumberOfSamples);
+		return fromIndex(index -> values.get((int) index), values.size(), maxNumberOfSamples);
 	}
 
 	public static Optional<ExhaustiveGenerator<Character>> choose(char[] characters, long maxNumberOfSamples) {
@@ -36,6 +37,35 @@ public class ExhaustiveGenerators {
 		return Optional.of(new IterableBasedExhaustiveGenerator<>(iterator, maxCount));
 	}
 
+	/**
+	 * Create a generator for {@code maxCount} values that are computed from their index
+	 */
+	public static <T extends @Nullable Object> Optional<ExhaustiveGenerator<T>> fromIndex(LongFunction<? extends T> valueAt, long maxCount, long maxNumberOfSamples) {
+		if (maxCount > maxNumberOfSamples) {
+			return Optional.empty();
+		}
+		return Optional.of(indexed(maxCount, valueAt));
+	}
+
+	public static <T extends @Nullable Object> IndexedExhaustiveGenerator<T> indexed(long maxCount, LongFunction<? extends T> valueAt) {
+		return new IndexBasedExhaustiveGenerator<>(maxCount, valueAt);
+	}
+
+	/**
+	 * Decode {@code index} as mixed-radix number with the last generator's value changing fastest,
+	 * which is the order of {@linkplain Combinatorics#combine(List)}.
+	 */
+	public static <T extends @Nullable Object> List<T> valuesAt(List<? extends IndexedExhaustiveGenerator<? extends T>> generators, long index) {
+		List<T> values = new ArrayList<>(Collections.nCopies(generators.size(), null));
+		for (int i = generators.size() - 1; i >= 0; i--) {
+			IndexedExhaustiveGenerator<? extends T> generator = generators.get(i);
+			long radix = generator.maxCount();
+			values.set(i, generator.get(index % radix));
+			index /= radix;
+		}
+		return values;
+	}
+
 	public static <T extends @Nullable Object> Optional<ExhaustiveGenerator<List<T>>> list(
 			Arbitrary<T> elementArbitrary,
 			int minSize, int maxSize,
@@ -46,6 +76,12 @@ public class ExhaustiveGenerators {
 		return optionalMaxCount.map(
 				maxCount ->
 				{
+					if (uniquenessExtractors.isEmpty()) {
+						Optional<ExhaustiveGenerator<List<T>>> indexed = ListExhaustiveGenerator.indexed(elementArbitrary, maxCount, minSize, maxSize);
+						if (indexed.isPresent()) {
+							return indexed.get();
+						}
+					}
 					ListExhaustiveGenerator<T> exhaustiveGenerator = new ListExhaustiveGenerator<>(elementArbitrary, maxCount, minSize, maxSize);
 					return exhaustiveGenerator.filter(l -> checkUniquenessOfValues(uniquenessExtractors, l), 10000);
 				}
@@ -76,8 +112,18 @@ public class ExhaustiveGenerators {
 	) {
 		Optional<Long> optionalMaxCount = SetExhaustiveGenerator.calculateMaxCount(elementArbitrary, minSize, maxSize, maxNumberOfSamples);
 		return optionalMaxCount.map(
-				maxCount -> new SetExhaustiveGenerator<>(elementArbitrary, maxCount, minSize, maxSize)
-									.filter(s -> UniquenessChecker.checkUniquenessOfValues(featureExtractors, s), 10000)
+				maxCount -> {
+					// Elements of a set are always unique by identity
+					boolean uniqueByIdentityOnly = featureExtractors.stream().allMatch(extractor -> extractor == FeatureExtractor.identity());
+					if (uniqueByIdentityOnly) {
+						Optional<ExhaustiveGenerator<Set<T>>> indexed = SetExhaustiveGenerator.indexed(elementArbitrary, maxCount, minSize, maxSize);
+						if (indexed.isPresent()) {
+							return indexed.get();
+						}
+					}
+					return new SetExhaustiveGenerator<>(elementArbitrary, maxCount, minSize, maxSize)
+							   .filter(s -> UniquenessChecker.checkUniquenessOfValues(featureExtractors, s), 10000);
+				}
 		);
 	}
 
@@ -87,7 +133,10 @@ public class ExhaustiveGenerators {
 			long maxNumberOfSamples
 	) {
 		Optional<Long> optionalMaxCount = CombinedExhaustiveGenerator.calculateMaxCount(arbitraries, maxNumberOfSamples);
-		return optionalMaxCount.map(maxCount -> new CombinedExhaustiveGenerator<>(maxCount, arbitraries, combinator));
+		return optionalMaxCount.map(
+			maxCount -> CombinedExhaustiveGenerator.<R>indexed(maxCount, arbitraries, combinator)
+												   .orElseGet(() -> new CombinedExhaustiveGenerator<R>(maxCount, arbitraries, combinator))
+		);
 	}
 
 	public static <T extends @Nullable Object> Optional<ExhaustiveGenerator<List<T>>> shuffle(List<T> values, long maxNumberOfSamples) {
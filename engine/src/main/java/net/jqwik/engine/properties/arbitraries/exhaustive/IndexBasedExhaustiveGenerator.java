@@ -0,0 +1,29 @@
+package net.jqwik.engine.properties.arbitraries.exhaustive;
+
+import java.util.function.*;
+
+import org.jspecify.annotations.*;
+
+class IndexBasedExhaustiveGenerator<T extends @Nullable Object> implements IndexedExhaustiveGenerator<T> {
+
+	private final long maxCount;
+	private final LongFunction<? extends T> valueAt;
+
+	IndexBasedExhaustiveGenerator(long maxCount, LongFunction<? extends T> valueAt) {
+		this.maxCount = maxCount;
+		this.valueAt = valueAt;
+	}
+
+	@Override
+	public long maxCount() {
+		return maxCount;
+	}
+
+	@Override
+	public T get(long index) {
+		if (index < 0 || index >= maxCount) {
+			throw new IndexOutOfBoundsException(String.format("Index %s is not within [0, %s)", index, maxCount));
+		}
+		return valueAt.apply(index);
+	}
+}
@@ -0,0 +1,62 @@
+package net.jqwik.engine.properties.arbitraries.exhaustive;
+
+import java.util.*;
+
+import net.jqwik.api.*;
+
+import org.jspecify.annotations.*;
+
+/**
+ * An exhaustive generator that can produce the value at any position of its iteration order
+ * without iterating through all values before. This allows to replay a single sample
+ * and to split exhaustive generation into ranges.
+ *
+ * <p>
+ * In contrast to other exhaustive generators {@linkplain #maxCount()} is always the exact number of values.
+ */
+public interface IndexedExhaustiveGenerator<T extends @Nullable Object> extends ExhaustiveGenerator<T> {
+
+	static <T extends @Nullable Object> Optional<IndexedExhaustiveGenerator<T>> indexed(ExhaustiveGenerator<T> generator) {
+		if (generator instanceof IndexedExhaustiveGenerator) {
+			return Optional.of((IndexedExhaustiveGenerator<T>) generator);
+		}
+		return Optional.empty();
+	}
+
+	/**
+	 * @param index between 0 (included) and {@linkplain #maxCount()} (excluded)
+	 * @return the same value as the one at position {@code index} of {@linkplain #iterator()}
+	 */
+	T get(long index);
+
+	/**
+	 * Iterate through the values from {@code fromIndex} (included) to {@code toIndex} (excluded)
+	 */
+	default Iterator<T> iterator(long fromIndex, long toIndex) {
+		if (fromIndex < 0 || toIndex > maxCount() || fromIndex > toIndex) {
+			String message = String.format("Range [%s, %s) is not within [0, %s)", fromIndex, toIndex, maxCount());
+			throw new IndexOutOfBoundsException(message);
+		}
+		return new Iterator<T>() {
+			long next = fromIndex;
+
+			@Override
+			public boolean hasNext() {
+				return next < toIndex;
+			}
+
+			@Override
+			public T next() {
+				if (!hasNext()) {
+					throw new NoSuchElementException();
+				}
+				return get(next++);
+			}
+		};
+	}
+
+	@Override
+	default Iterator<T> iterator() {
+		return iterator(0, maxCount());
+	}
+}
@@ -30,6 +30,40 @@ class ListExhaustiveGenerator<T extends @Nullable Object> implements ExhaustiveG
 		return Optional.of(sum);
 	}
 
+	/**
+	 * @return a generator that decodes lists from their index if the element arbitrary has an indexed exhaustive generator
+	 */
+	static <T extends @Nullable Object> Optional<ExhaustiveGenerator<List<T>>> indexed(
+		Arbitrary<T> elementArbitrary,
+		long maxCount,
+		int minSize,
+		int maxSize
+	) {
+		return elementArbitrary.exhaustive().flatMap(IndexedExhaustiveGenerator::indexed).map(
+			elementGenerator -> new IndexBasedExhaustiveGenerator<>(
+				maxCount,
+				index -> listAt(elementGenerator, minSize, maxSize, index)
+			)
+		);
+	}
+
+	// Lists are ordered by size first, then by their elements' indexes as digits of a number with radix elementCount
+	private static <T extends @Nullable Object> List<T> listAt(IndexedExhaustiveGenerator<T> elementGenerator, int minSize, int maxSize, long index) {
+		long elementCount = elementGenerator.maxCount();
+		for (int size = minSize; size <= maxSize; size++) {
+			long countOfSize = 1;
+			for (int i = 0; i < size; i++) {
+				countOfSize *= elementCount;
+			}
+			if (index < countOfSize) {
+				List<IndexedExhaustiveGenerator<T>> digits = Collections.nCopies(size, elementGenerator);
+				return ExhaustiveGenerators.valuesAt(digits, index);
+			}
+			index -= countOfSize;
+		}
+		throw new IndexOutOfBoundsException(String.format("No list at index %s", index));
+	}
+
 	ListExhaustiveGenerator(Arbitrary<T> elementArbitrary, Long maxCount, int minSize, int maxSize) {
 		this.elementArbitrary = elementArbitrary;
 		this.maxCount = maxCount;
@@ -9,7 +9,7 @@ import org.jspecify.annotations.*;
 
 import static net.jqwik.engine.support.MathSupport.*;
 
-class PermutationExhaustiveGenerator<T extends @Nullable Object> implements ExhaustiveGenerator<List<T>> {
+class PermutationExhaustiveGenerator<T extends @Nullable Object> implements IndexedExhaustiveGenerator<List<T>> {
 	private final List<T> values;
 	private final Long maxCount;
 
@@ -39,4 +39,24 @@ class PermutationExhaustiveGenerator<T extends @Nullable Object> implements Exha
 	public Iterator<List<T>> iterator() {
 		return Combinatorics.listPermutations(values);
 	}
+
+	/**
+	 * Decodes {@code index} as Lehmer code of a permutation in lexicographic order,
+	 * which is the order of {@linkplain Combinatorics#listPermutations(List)}.
+	 */
+	@Override
+	public List<T> get(long index) {
+		if (index < 0 || index >= maxCount) {
+			throw new IndexOutOfBoundsException(String.format("Index %s is not within [0, %s)", index, maxCount));
+		}
+		List<T> remaining = new ArrayList<>(values);
+		List<T> permutation = new ArrayList<>(values.size());
+		for (int position = values.size() - 1; position >= 0; position--) {
+			long factorial = factorial(position);
+			int digit = (int) (index / factorial);
+			index %= factorial;
+			permutation.add(remaining.remove(digit));
+		}
+		return permutation;
+	}
 }
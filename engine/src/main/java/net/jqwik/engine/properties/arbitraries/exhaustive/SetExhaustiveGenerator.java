@@ -49,6 +49,58 @@ class SetExhaustiveGenerator<T extends @Nullable Object> implements ExhaustiveGe
 		return Optional.of(sum);
 	}
 
+	/**
+	 * @return a generator that decodes sets from their index if the element arbitrary has an indexed exhaustive generator
+	 * whose values are all different
+	 */
+	static <T extends @Nullable Object> Optional<ExhaustiveGenerator<Set<T>>> indexed(
+		Arbitrary<T> elementArbitrary,
+		long maxCount,
+		int minSize,
+		int maxSize
+	) {
+		Optional<IndexedExhaustiveGenerator<T>> elementGenerator = elementArbitrary.exhaustive().flatMap(IndexedExhaustiveGenerator::indexed);
+		if (!elementGenerator.isPresent() || elementGenerator.get().maxCount() > 70) {
+			return Optional.empty();
+		}
+		List<T> elements = new ArrayList<>();
+		elementGenerator.get().forEach(elements::add);
+		// Iteration skips duplicate sets, which cannot be addressed by index
+		if (new HashSet<>(elements).size() != elements.size()) {
+			return Optional.empty();
+		}
+		return Optional.of(new IndexBasedExhaustiveGenerator<>(
+			maxCount,
+			index -> setAt(elements, minSize, maxSize, index)
+		));
+	}
+
+	// Sets are ordered by size first, then lexicographically by their elements' indexes.
+	// The position of a combination within its size is decoded using the combinatorial number system.
+	private static <T extends @Nullable Object> Set<T> setAt(List<T> elements, int minSize, int maxSize, long index) {
+		int n = elements.size();
+		for (int k = minSize; k <= Math.min(maxSize, n); k++) {
+			long countOfSize = MathSupport.binomial(n, k);
+			if (index < countOfSize) {
+				Set<T> set = new LinkedHashSet<>();
+				int candidate = 0;
+				for (int position = 0; position < k; position++) {
+					long combinationsStartingWithCandidate = MathSupport.binomial(n - candidate - 1, k - position - 1);
+					while (index >= combinationsStartingWithCandidate) {
+						index -= combinationsStartingWithCandidate;
+						candidate++;
+						combinationsStartingWithCandidate = MathSupport.binomial(n - candidate - 1, k - position - 1);
+					}
+					set.add(elements.get(candidate));
+					candidate++;
+				}
+				return set;
+			}
+			index -= countOfSize;
+		}
+		throw new IndexOutOfBoundsException(String.format("No set at index %s", index));
+	}
+
 	SetExhaustiveGenerator(Arbitrary<T> elementArbitrary, long maxCount, int minSize, int maxSize) {
 		this.elementArbitrary = elementArbitrary;
 		this.minSize = minSize;
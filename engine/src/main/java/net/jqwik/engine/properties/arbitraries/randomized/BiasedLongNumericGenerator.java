@@ -0,0 +1,100 @@
+package net.jqwik.engine.properties.arbitraries.randomized;
+
+import java.math.*;
+import java.util.*;
+
+import net.jqwik.api.*;
+import net.jqwik.api.Tuple.*;
+import net.jqwik.engine.support.*;
+
+/**
+ * Uses the same partitions as {@linkplain BiasedNumericGenerator} but generates values within a partition as {@code long}.
+ *
+ * <p>
+ * The parameters of each partition's uniform generation are kept in primitive arrays.
+ * Since generators are immutable they are cached by range, center and genSize.
+ * </p>
+ */
+class BiasedLongNumericGenerator implements LongNumericGenerator {
+
+	private static final Map<Tuple4<Long, Long, Long, Integer>, BiasedLongNumericGenerator> cache =
+		Collections.synchronizedMap(new LruCache<>(500));
+
+	static BiasedLongNumericGenerator of(int genSize, long min, long max, long center) {
+		Tuple4<Long, Long, Long, Integer> key = Tuple.of(min, max, center, genSize);
+		BiasedLongNumericGenerator generator = cache.get(key);
+		if (generator == null) {
+			generator = new BiasedLongNumericGenerator(genSize, min, max, center);
+			cache.put(key, generator);
+		}
+		return generator;
+	}
+
+	private final boolean isPartitioned;
+	private final long[] mins;
+	private final long[] ranges;
+	private final int[] bits;
+	private final boolean[] isWithinIntegerRange;
+
+	private BiasedLongNumericGenerator(int genSize, long min, long max, long center) {
+		List<BigInteger> partitionPoints = BiasedPartitionPointsCalculator.calculatePartitionPoints(
+			genSize,
+			BigInteger.valueOf(min),
+			BigInteger.valueOf(max),
+			BigInteger.valueOf(center)
+		);
+		this.isPartitioned = !partitionPoints.isEmpty();
+		long[] bounds = partitionBounds(min, max, partitionPoints);
+		int count = bounds.length / 2;
+		this.mins = new long[count];
+		this.ranges = new long[count];
+		this.bits = new int[count];
+		this.isWithinIntegerRange = new boolean[count];
+		for (int i = 0; i < count; i++) {
+			long partitionMin = bounds[2 * i];
+			long partitionMax = bounds[2 * i + 1];
+			mins[i] = partitionMin;
+			ranges[i] = partitionMax - partitionMin;
+			bits[i] = UniformLongNumericGenerator.bits(partitionMin, partitionMax);
+			isWithinIntegerRange[i] = UniformLongNumericGenerator.isWithinIntegerRange(partitionMin, partitionMax);
+		}
+	}
+
+	@Override
+	public long next(Random random) {
+		// Choosing a partition must consume a random number whenever BiasedNumericGenerator does
+		int partition = isPartitioned ? random.nextInt(mins.length) : 0;
+		return UniformLongNumericGenerator.next(
+			random,
+			mins[partition],
+			ranges[partition],
+			bits[partition],
+			isWithinIntegerRange[partition]
+		);
+	}
+
+	/**
+	 * @return min and max of all partitions one after the other
+	 */
+	private static long[] partitionBounds(long min, long max, List<BigInteger> partitionPoints) {
+		long[] bounds = new long[2 * (partitionPoints.size() + 1)];
+		int count = 0;
+		Collections.sort(partitionPoints);
+		long lower = min;
+		for (BigInteger partitionPoint : partitionPoints) {
+			long upper = partitionPoint.longValueExact();
+			if (upper <= lower) {
+				continue;
+			}
+			if (upper >= max) {
+				break;
+			}
+			bounds[count++] = lower;
+			bounds[count++] = upper - 1;
+			lower = upper;
+		}
+		bounds[count++] = lower;
+		bounds[count++] = max;
+		return Arrays.copyOf(bounds, count);
+	}
+}
@@ -5,35 +5,49 @@ import java.util.*;
 
 import net.jqwik.api.*;
 import net.jqwik.api.RandomDistribution.*;
+import net.jqwik.api.Tuple.*;
 import net.jqwik.engine.properties.*;
+import net.jqwik.engine.support.*;
 
+/**
+ * Since generators are immutable they are cached by range, center and genSize.
+ */
 class BiasedNumericGenerator implements RandomNumericGenerator {
 
-	private final RandomNumericGenerator partitionedGenerator;
+	private static final Map<Tuple4<BigInteger, BigInteger, BigInteger, Integer>, BiasedNumericGenerator> cache =
+		Collections.synchronizedMap(new LruCache<>(500));
 
-	BiasedNumericGenerator(int genSize, BigInteger min, BigInteger max, BigInteger center) {
+	static BiasedNumericGenerator of(int genSize, BigInteger min, BigInteger max, BigInteger center) {
+		Tuple4<BigInteger, BigInteger, BigInteger, Integer> key = Tuple.of(min, max, center, genSize);
+		BiasedNumericGenerator generator = cache.get(key);
+		if (generator == null) {
+			generator = new BiasedNumericGenerator(genSize, min, max, center);
+			cache.put(key, generator);
+		}
+		return generator;
+	}
+
+	private final boolean isPartitioned;
+	private final RandomNumericGenerator[] partitions;
+
+	private BiasedNumericGenerator(int genSize, BigInteger min, BigInteger max, BigInteger center) {
 		List<BigInteger> partitionPoints = BiasedPartitionPointsCalculator.calculatePartitionPoints(genSize, min, max, center);
 		Range<BigInteger> range = Range.of(min, max);
-		partitionedGenerator = partitionedGenerator(range, partitionPoints);
+		this.isPartitioned = !partitionPoints.isEmpty();
+		this.partitions = isPartitioned
+							  ? createPartitions(range, partitionPoints)
+							  : new RandomNumericGenerator[]{createUniformGenerator(min, max)};
 	}
 
 	@Override
 	public BigInteger next(Random random) {
-		return partitionedGenerator.next(random);
-	}
-
-	private RandomNumericGenerator partitionedGenerator(
-		Range<BigInteger> range,
-		List<BigInteger> partitionPoints
-	) {
-		if (partitionPoints.isEmpty()) {
-			return createUniformGenerator(range.min, range.max);
+		if (!isPartitioned) {
+			return partitions[0].next(random);
 		}
-		List<RandomNumericGenerator> generators = createPartitions(range, partitionPoints);
-		return random -> generators.get(random.nextInt(generators.size())).next(random);
+		return partitions[random.nextInt(partitions.length)].next(random);
 	}
 
-	private List<RandomNumericGenerator> createPartitions(
+	private RandomNumericGenerator[] createPartitions(
 		Range<BigInteger> range,
 		List<BigInteger> partitionPoints
 	) {
@@ -52,7 +66,7 @@ class BiasedNumericGenerator implements RandomNumericGenerator {
 			lower = upper;
 		}
 		partitions.add(createUniformGenerator(lower, range.max));
-		return partitions;
+		return partitions.toArray(new RandomNumericGenerator[0]);
 	}
 
 	private RandomNumericGenerator createUniformGenerator(
@@ -4,10 +4,15 @@ import java.math.*;
 
 import net.jqwik.api.*;
 
-public class BiasedRandomDistribution implements RandomDistribution {
+public class BiasedRandomDistribution implements RandomDistribution, LongRandomDistribution {
 	@Override
 	public RandomNumericGenerator createGenerator(int genSize, BigInteger min, BigInteger max, BigInteger center) {
-		return new BiasedNumericGenerator(genSize, min, max, center);
+		return BiasedNumericGenerator.of(genSize, min, max, center);
+	}
+
+	@Override
+	public LongNumericGenerator createLongGenerator(int genSize, long min, long max, long center) {
+		return BiasedLongNumericGenerator.of(genSize, min, max, center);
 	}
 
 	@Override
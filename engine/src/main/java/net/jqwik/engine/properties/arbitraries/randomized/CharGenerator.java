@@ -0,0 +1,14 @@
+package net.jqwik.engine.properties.arbitraries.randomized;
+
+import java.util.*;
+
+/**
+ * Generates primitive chars without creating a shrinkable for each of them.
+ * A char generator must draw the same values from {@code random}
+ * as the {@linkplain net.jqwik.api.RandomGenerator} of characters it stands in for,
+ * so that character shrinkables can be recreated from the same seed when shrinking starts.
+ */
+public interface CharGenerator {
+
+	char next(Random random);
+}
@@ -4,18 +4,23 @@ import java.util.*;
 import java.util.function.*;
 
 import net.jqwik.api.*;
+import net.jqwik.engine.*;
 import net.jqwik.engine.properties.*;
 
-import static net.jqwik.engine.properties.UniquenessChecker.*;
+import org.jspecify.annotations.*;
 
 class ContainerGenerator<T, C> implements RandomGenerator<C> {
+
 	private final RandomGenerator<T> elementGenerator;
 	private final Function<? super List<? extends Shrinkable<T>>, ? extends Shrinkable<C>> createShrinkable;
+	private final @Nullable ValueGenerator<T> elementValueGenerator;
+	private final @Nullable BiFunction<? super List<T>, ? super Supplier<List<Shrinkable<T>>>, ? extends Shrinkable<C>> createLazyShrinkable;
 	private final int minSize;
 	private final long maxUniqueElements;
 	private final Collection<? extends FeatureExtractor<T>> uniquenessExtractors;
 	private final Function<Random, Integer> sizeGenerator;
 	private final long maxAttempts;
+	private final @Nullable IndexedDomain<T> uniqueElementsDomain;
 
 	private static Function<Random, Integer> sizeGenerator(
 		int minSize,
@@ -35,12 +40,42 @@ class ContainerGenerator<T, C> implements RandomGenerator<C> {
 		int genSize,
 		RandomDistribution sizeDistribution,
 		Collection<? extends FeatureExtractor<T>> uniquenessExtractors
+	) {
+		this(elementGenerator, createShrinkable, null, null, minSize, maxSize, maxUniqueElements, genSize, sizeDistribution, uniquenessExtractors, null);
+	}
+
+	/**
+	 * If {@code elementValueGenerator} and {@code createLazyShrinkable} are present
+	 * each container is generated from its own seed and only the element values are kept.
+	 * Element shrinkables are recreated from this seed with {@code elementGenerator} when shrinking starts.
+	 *
+	 * <p>
+	 * If {@code uniqueElementsDomain} is present elements must be unique and
+	 * containers that need most of the domain's values draw them without replacement
+	 * instead of rejecting duplicates from {@code elementGenerator}.
+	 * </p>
+	 */
+	ContainerGenerator(
+		RandomGenerator<T> elementGenerator,
+		Function<? super List<? extends Shrinkable<T>>, ? extends Shrinkable<C>> createShrinkable,
+		@Nullable ValueGenerator<T> elementValueGenerator,
+		@Nullable BiFunction<? super List<T>, ? super Supplier<List<Shrinkable<T>>>, ? extends Shrinkable<C>> createLazyShrinkable,
+		int minSize,
+		int maxSize,
+		long maxUniqueElements,
+		int genSize,
+		RandomDistribution sizeDistribution,
+		Collection<? extends FeatureExtractor<T>> uniquenessExtractors,
+		@Nullable IndexedDomain<T> uniqueElementsDomain
 	) {
 		this.elementGenerator = elementGenerator;
 		this.createShrinkable = createShrinkable;
+		this.elementValueGenerator = elementValueGenerator;
+		this.createLazyShrinkable = createLazyShrinkable;
 		this.minSize = minSize;
 		this.maxUniqueElements = maxUniqueElements;
 		this.uniquenessExtractors = uniquenessExtractors;
+		this.uniqueElementsDomain = uniqueElementsDomain;
 		this.sizeGenerator = sizeGenerator(minSize, maxSize, genSize, sizeDistribution);
 
 		// This is a heuristic value.
@@ -52,8 +87,42 @@ class ContainerGenerator<T, C> implements RandomGenerator<C> {
 
 	@Override
 	public Shrinkable<C> next(Random random) {
+		if (elementValueGenerator != null && createLazyShrinkable != null) {
+			return nextLazy(random, elementValueGenerator, createLazyShrinkable);
+		}
+		return createShrinkable.apply(nextElements(random));
+	}
+
+	private Shrinkable<C> nextLazy(
+		Random random,
+		ValueGenerator<T> valueGenerator,
+		BiFunction<? super List<T>, ? super Supplier<List<Shrinkable<T>>>, ? extends Shrinkable<C>> createLazyShrinkable
+	) {
+		long seed = random.nextLong();
+		List<T> values = nextElements(SourceOfRandomness.newRandom(seed), valueGenerator::next, value -> value, Shrinkable::value);
+		Supplier<List<Shrinkable<T>>> shrinkablesSupplier = () -> nextElements(SourceOfRandomness.newRandom(seed));
+		return createLazyShrinkable.apply(values, shrinkablesSupplier);
+	}
+
+	private List<Shrinkable<T>> nextElements(Random random) {
+		return nextElements(random, elementGenerator::next, Shrinkable::value, shrinkable -> shrinkable);
+	}
+
+	/**
+	 * Element shrinkables and plain element values are selected the same way,
+	 * so that both draw the same elements from the same random seed.
+	 */
+	private <E> List<E> nextElements(
+		Random random,
+		Function<Random, E> fetchElement,
+		Function<? super E, ? extends T> valueOf,
+		Function<? super Shrinkable<T>, ? extends E> fromDomain
+	) {
 		int listSize = sizeGenerator.apply(random);
-		List<Shrinkable<T>> listOfShrinkables = new ArrayList<>();
+		if (uniqueElementsDomain != null && needsMostOfDomain(uniqueElementsDomain, listSize)) {
+			return drawWithoutReplacement(uniqueElementsDomain, listSize, random, fromDomain);
+		}
+		List<E> elements = new ArrayList<>();
 
 		// Raise probability for no duplicates even in large containers to approx 2 percent
 		boolean noDuplicates = listSize >= 2
@@ -62,24 +131,24 @@ class ContainerGenerator<T, C> implements RandomGenerator<C> {
 								   && random.nextInt(100) <= 2;
 		int sizeToShuffleIfExceeded = Integer.MAX_VALUE;
 
-		boolean canUseSetForValues = uniquenessExtractors.isEmpty() || uniquenessExtractors.contains(FeatureExtractor.identity());
-		Collection<T> existingValues = canUseSetForValues ? new HashSet<>() : new ArrayList<>();
+		Set<T> existingValues = new HashSet<>();
+		UniqueFeatures<T> uniqueFeatures = new UniqueFeatures<>(uniquenessExtractors);
 
-		while (listOfShrinkables.size() < listSize) {
+		while (elements.size() < listSize) {
 			try {
-				Shrinkable<T> next = nextUntilAccepted(random, existingValues, elementGenerator::next, noDuplicates);
-				listOfShrinkables.add(next);
+				E next = nextUntilAccepted(random, existingValues, uniqueFeatures, fetchElement, valueOf, noDuplicates);
+				elements.add(next);
 			} catch (TooManyFilterMissesException tooManyFailedGenerationAttempts) {
 				// Switch off noDuplicates to enable generation of elements to proceed
 				if (noDuplicates) {
 					// This should occur only rarely because usually the check against maxUniqueElements prevents it from happening.
 					noDuplicates = false;
-					sizeToShuffleIfExceeded = listOfShrinkables.size();
+					sizeToShuffleIfExceeded = elements.size();
 
 					// Resume generation
 					continue;
 				}
-				if (listOfShrinkables.size() < minSize) {
+				if (elements.size() < minSize) {
 					// Fail if minimum container size could not be reached
 					throw tooManyFailedGenerationAttempts;
 				}
@@ -89,39 +158,75 @@ class ContainerGenerator<T, C> implements RandomGenerator<C> {
 				break;
 			}
 		}
-		if (listOfShrinkables.size() > sizeToShuffleIfExceeded) {
+		if (elements.size() > sizeToShuffleIfExceeded) {
 			// If we started generating with no duplicates, and then realized we can't generate enough unique elements,
 			// then the list becomes skewed: unique elements go first
 			// We shuffle the list to allow other constellations (e.g. list unique-most elements starting with non-unique ones)
-			Collections.shuffle(listOfShrinkables, random);
+			Collections.shuffle(elements, random);
 		}
-		return createShrinkable.apply(listOfShrinkables);
+		return elements;
+	}
+
+	// Rejecting duplicates becomes expensive when most of the values are needed.
+	// Below that, generation from elementGenerator keeps its distribution and edge cases.
+	private boolean needsMostOfDomain(IndexedDomain<T> domain, int listSize) {
+		long domainSize = domain.size();
+		return listSize > 0
+				   && domainSize >= minSize
+				   && domainSize <= 2L * listSize
+				   && domainSize <= Integer.MAX_VALUE;
 	}
 
-	private Shrinkable<T> nextUntilAccepted(
+	/**
+	 * Partial Fisher-Yates shuffle of the domain's indices.
+	 * If the domain is smaller than {@code listSize} all its values are drawn.
+	 */
+	private <E> List<E> drawWithoutReplacement(
+		IndexedDomain<T> domain,
+		int listSize,
 		Random random,
-		Collection<T> existingValues,
-		Function<Random, Shrinkable<T>> fetchShrinkable,
+		Function<? super Shrinkable<T>, ? extends E> fromDomain
+	) {
+		int domainSize = (int) domain.size();
+		int size = Math.min(listSize, domainSize);
+		int[] indices = new int[domainSize];
+		for (int i = 0; i < domainSize; i++) {
+			indices[i] = i;
+		}
+		List<E> elements = new ArrayList<>(size);
+		for (int i = 0; i < size; i++) {
+			int j = i + random.nextInt(domainSize - i);
+			int drawn = indices[j];
+			indices[j] = indices[i];
+			elements.add(fromDomain.apply(domain.shrinkableAt(drawn)));
+		}
+		return elements;
+	}
+
+	private <E> E nextUntilAccepted(
+		Random random,
+		Set<T> existingValues,
+		UniqueFeatures<T> uniqueFeatures,
+		Function<Random, E> fetchElement,
+		Function<? super E, ? extends T> valueOf,
 		boolean noDuplicates
 	) {
 		for (int i = 0; i < maxAttempts; i++) {
-			Shrinkable<T> next = fetchShrinkable.apply(random);
-			T value = next.value();
+			E next = fetchElement.apply(random);
+			T value = valueOf.apply(next);
 			if (noDuplicates && existingValues.contains(value)) {
 				continue;
 			}
-			if (!checkSpecifiedUniqueness(existingValues, value)) {
+			if (!uniqueFeatures.addIfUnique(value)) {
 				continue;
 			}
-			existingValues.add(value);
+			if (noDuplicates) {
+				existingValues.add(value);
+			}
 			return next;
 		}
 		String message = String.format("Trying to fulfill uniqueness constraint missed more than %s times.", maxAttempts);
 		throw new TooManyFilterMissesException(message);
 	}
 
-	private boolean checkSpecifiedUniqueness(Collection<T> elements, T value) {
-		return checkValueUniqueIn(uniquenessExtractors, value, elements);
-	}
-
 }
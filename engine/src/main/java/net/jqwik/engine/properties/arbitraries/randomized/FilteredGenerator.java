@@ -4,15 +4,21 @@ import java.util.*;
 import java.util.function.*;
 
 import net.jqwik.api.*;
+import net.jqwik.engine.execution.lifecycle.*;
+import net.jqwik.engine.hooks.statistics.*;
 import net.jqwik.engine.properties.shrinking.*;
 
 import org.jspecify.annotations.*;
+import org.junit.platform.engine.*;
 
 public class FilteredGenerator<T extends @Nullable Object> implements RandomGenerator<T> {
 	private final RandomGenerator<T> toFilter;
 	private final Predicate<? super T> filterPredicate;
 	private int maxMisses;
 
+	// Generators are memoized across properties so statistics must be looked up for each property
+	private volatile @Nullable StatisticsOfProperty statisticsOfProperty = null;
+
 	public FilteredGenerator(RandomGenerator<T> toFilter, Predicate<? super T> filterPredicate, int maxMisses) {
 		this.toFilter = toFilter;
 		this.filterPredicate = filterPredicate;
@@ -30,14 +36,66 @@ public class FilteredGenerator<T extends @Nullable Object> implements RandomGene
 	}
 
 	private Shrinkable<T> nextUntilAccepted(Random random, Function<Random, Shrinkable<T>> fetchShrinkable) {
+		FilterStatisticsImpl statistics = currentStatistics();
+		if (statistics == null) {
+			return nextUntilAccepted(random, fetchShrinkable, null, 0L);
+		}
+		return nextUntilAccepted(random, fetchShrinkable, statistics, System.nanoTime());
+	}
+
+	private Shrinkable<T> nextUntilAccepted(
+		Random random,
+		Function<Random, Shrinkable<T>> fetchShrinkable,
+		@Nullable FilterStatisticsImpl statistics,
+		long startNanos
+	) {
 		for (int i = 0; i < maxMisses; i++) {
 			Shrinkable<T> value = fetchShrinkable.apply(random);
 			if (filterPredicate.test(value.value())) {
+				if (statistics != null) {
+					statistics.record(i + 1, true, System.nanoTime() - startNanos);
+				}
 				return new FilteredShrinkable<>(value, filterPredicate);
 			}
 		}
+		if (statistics != null) {
+			statistics.record(maxMisses, false, System.nanoTime() - startNanos);
+		}
 		String message = String.format("%s missed more than %s times.", toString(), maxMisses);
 		throw new TooManyFilterMissesException(message);
 	}
 
+	private @Nullable FilterStatisticsImpl currentStatistics() {
+		if (CurrentTestDescriptor.isEmpty()) {
+			return null;
+		}
+		TestDescriptor descriptor = CurrentTestDescriptor.get();
+		StatisticsOfProperty current = statisticsOfProperty;
+		if (current == null || current.descriptor != descriptor) {
+			FilterStatisticsImpl statistics = FilterStatisticsImpl.forFilter(descriptor, filterPredicate, this::filterLabel);
+			current = new StatisticsOfProperty(descriptor, statistics);
+			statisticsOfProperty = current;
+		}
+		return current.statistics;
+	}
+
+	private String filterLabel() {
+		String predicateClassName = filterPredicate.getClass().getName();
+		int lambdaMarker = predicateClassName.indexOf("$$Lambda");
+		if (lambdaMarker > 0) {
+			return String.format("filter(<lambda in %s>)", predicateClassName.substring(0, lambdaMarker));
+		}
+		return String.format("filter(%s)", filterPredicate);
+	}
+
+	private static class StatisticsOfProperty {
+		private final TestDescriptor descriptor;
+		private final @Nullable FilterStatisticsImpl statistics;
+
+		private StatisticsOfProperty(TestDescriptor descriptor, @Nullable FilterStatisticsImpl statistics) {
+			this.descriptor = descriptor;
+			this.statistics = statistics;
+		}
+	}
+
 }
@@ -0,0 +1,63 @@
+package net.jqwik.engine.properties.arbitraries.randomized;
+
+import java.util.*;
+
+class GaussianLongNumericGenerator implements LongNumericGenerator {
+
+	private static final double TWO_TO_THE_64 = 0x1.0p64;
+	private static final double TWO_TO_THE_63 = 0x1.0p63;
+
+	private final double borderSigma;
+	private final long center;
+	// Both ranges are interpreted as unsigned values since they can exceed Long.MAX_VALUE
+	private final long leftRange;
+	private final long rightRange;
+
+	GaussianLongNumericGenerator(double borderSigma, long min, long max, long center) {
+		this.borderSigma = borderSigma;
+		this.center = center;
+		this.leftRange = center - min;
+		this.rightRange = max - center;
+	}
+
+	@Override
+	public long next(Random random) {
+		while (true) {
+			double gaussianFactor = random.nextGaussian() / borderSigma;
+			if (gaussianFactor < 0.0 && leftRange != 0) {
+				double distance = Math.floor(unsignedToDouble(leftRange) * -gaussianFactor);
+				if (isWithin(distance, leftRange)) {
+					return center - doubleToUnsigned(distance);
+				}
+			} else if (gaussianFactor > 0.0 && rightRange != 0) {
+				double distance = Math.floor(unsignedToDouble(rightRange) * gaussianFactor);
+				if (isWithin(distance, rightRange)) {
+					return center + doubleToUnsigned(distance);
+				}
+			} else {
+				return center;
+			}
+		}
+	}
+
+	private static boolean isWithin(double distance, long unsignedRange) {
+		if (distance >= TWO_TO_THE_64) {
+			return false;
+		}
+		return Long.compareUnsigned(doubleToUnsigned(distance), unsignedRange) <= 0;
+	}
+
+	private static long doubleToUnsigned(double value) {
+		if (value >= TWO_TO_THE_63) {
+			return ((long) (value - TWO_TO_THE_63)) ^ Long.MIN_VALUE;
+		}
+		return (long) value;
+	}
+
+	private static double unsignedToDouble(long unsigned) {
+		if (unsigned >= 0) {
+			return unsigned;
+		}
+		return ((double) (unsigned >>> 1)) * 2.0 + (unsigned & 1);
+	}
+}
@@ -0,0 +1,42 @@
+package net.jqwik.engine.properties.arbitraries.randomized;
+
+import java.util.function.*;
+
+import net.jqwik.api.*;
+
+import org.jspecify.annotations.*;
+
+/**
+ * A finite domain of distinct values whose shrinkables can be created directly from an index.
+ * This allows to draw unique values without generating and rejecting duplicates.
+ */
+public interface IndexedDomain<T extends @Nullable Object> {
+
+	/**
+	 * @return the number of distinct values in this domain
+	 */
+	long size();
+
+	/**
+	 * @param index a value between 0 (included) and {@linkplain #size()} (excluded)
+	 */
+	Shrinkable<T> shrinkableAt(long index);
+
+	/**
+	 * @param mapper must map distinct values to distinct values
+	 */
+	default <U extends @Nullable Object> IndexedDomain<U> map(Function<? super T, ? extends U> mapper) {
+		IndexedDomain<T> self = this;
+		return new IndexedDomain<U>() {
+			@Override
+			public long size() {
+				return self.size();
+			}
+
+			@Override
+			public Shrinkable<U> shrinkableAt(long index) {
+				return self.shrinkableAt(index).map(mapper);
+			}
+		};
+	}
+}
@@ -0,0 +1,114 @@
+package net.jqwik.engine.properties.arbitraries.randomized;
+
+import java.util.*;
+import java.util.function.*;
+
+import net.jqwik.api.*;
+import net.jqwik.engine.*;
+import net.jqwik.engine.properties.*;
+import net.jqwik.engine.properties.shrinking.*;
+import net.jqwik.engine.properties.shrinking.ShrinkableIntegralArray.*;
+
+/**
+ * Generates primitive integral arrays the same way {@linkplain ContainerGenerator} generates lists
+ * but writes element values directly into the array.
+ */
+class IntegralArrayGenerator<A> implements RandomGenerator<A> {
+
+	private final ArrayType<A> arrayType;
+	private final LongNumericGenerator elementGenerator;
+	private final Range<Long> elementRange;
+	private final long elementShrinkingTarget;
+	private final int minSize;
+	private final int maxSize;
+	private final long maxUniqueElements;
+	private final Function<Random, Integer> sizeGenerator;
+	private final long maxAttempts;
+
+	IntegralArrayGenerator(
+		ArrayType<A> arrayType,
+		LongNumericGenerator elementGenerator,
+		Range<Long> elementRange,
+		long elementShrinkingTarget,
+		int minSize,
+		int maxSize,
+		long maxUniqueElements,
+		int genSize,
+		RandomDistribution sizeDistribution
+	) {
+		this.arrayType = arrayType;
+		this.elementGenerator = elementGenerator;
+		this.elementRange = elementRange;
+		this.elementShrinkingTarget = elementShrinkingTarget;
+		this.minSize = minSize;
+		this.maxSize = maxSize;
+		this.maxUniqueElements = maxUniqueElements;
+		this.sizeGenerator = SizeGenerator.create(minSize, maxSize, genSize, sizeDistribution);
+		// Same heuristic value as in ContainerGenerator
+		this.maxAttempts = Math.min(10000, Math.max(1000, maxUniqueElements * 10));
+	}
+
+	@Override
+	public Shrinkable<A> next(Random random) {
+		// Draw a seed like lazy container generation so that generic arrays of the same elements get the same values
+		return generate(SourceOfRandomness.newRandom(random.nextLong()));
+	}
+
+	private Shrinkable<A> generate(Random random) {
+		int size = sizeGenerator.apply(random);
+
+		// Raise probability for no duplicates even in large arrays to approx 2 percent
+		boolean noDuplicates = size >= 2
+								   && size <= maxUniqueElements
+								   && random.nextInt(100) <= 2;
+
+		A elements = arrayType.newArray(size);
+		if (noDuplicates) {
+			fillWithoutDuplicates(random, elements, size);
+		} else {
+			for (int i = 0; i < size; i++) {
+				arrayType.set(elements, i, elementGenerator.next(random));
+			}
+		}
+		return new ShrinkableIntegralArray<>(elements, arrayType, elementRange, elementShrinkingTarget, minSize, maxSize);
+	}
+
+	private void fillWithoutDuplicates(Random random, A elements, int size) {
+		Set<Long> existingValues = new HashSet<>();
+		int sizeToShuffleIfExceeded = Integer.MAX_VALUE;
+		for (int i = 0; i < size; i++) {
+			if (i < sizeToShuffleIfExceeded) {
+				OptionalLong unique = nextUniqueElement(random, existingValues);
+				if (unique.isPresent()) {
+					arrayType.set(elements, i, unique.getAsLong());
+					continue;
+				}
+				// This should occur only rarely because usually the check against maxUniqueElements prevents it from happening.
+				sizeToShuffleIfExceeded = i;
+			}
+			arrayType.set(elements, i, elementGenerator.next(random));
+		}
+		if (size > sizeToShuffleIfExceeded) {
+			// Same as Collections.shuffle(list, random) so that unique elements do not always go first
+			for (int i = size; i > 1; i--) {
+				swap(elements, i - 1, random.nextInt(i));
+			}
+		}
+	}
+
+	private OptionalLong nextUniqueElement(Random random, Set<Long> existingValues) {
+		for (int i = 0; i < maxAttempts; i++) {
+			long next = elementGenerator.next(random);
+			if (existingValues.add(next)) {
+				return OptionalLong.of(next);
+			}
+		}
+		return OptionalLong.empty();
+	}
+
+	private void swap(A elements, int i, int j) {
+		long temp = arrayType.get(elements, i);
+		arrayType.set(elements, i, arrayType.get(elements, j));
+		arrayType.set(elements, j, temp);
+	}
+}
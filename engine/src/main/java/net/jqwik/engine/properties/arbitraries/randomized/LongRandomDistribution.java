@@ -0,0 +1,11 @@
+package net.jqwik.engine.properties.arbitraries.randomized;
+
+/**
+ * Implemented by the built-in distributions so that values of ranges that fit into {@code long}
+ * can be generated without any {@linkplain java.math.BigInteger} arithmetic.
+ * Other distributions are used through their {@code BigInteger} based generator.
+ */
+interface LongRandomDistribution {
+
+	LongNumericGenerator createLongGenerator(int genSize, long min, long max, long center);
+}
@@ -7,6 +7,25 @@ import net.jqwik.engine.properties.*;
 
 public class RandomDecimalGenerators {
 
+	// Powers of ten up to 10^22 are exact doubles, up to 10^10 exact floats
+	private static final double[] DOUBLE_POWERS_OF_TEN = new double[23];
+	private static final float[] FLOAT_POWERS_OF_TEN = new float[11];
+
+	// Unscaled values up to 2^53 are exact doubles, up to 2^24 exact floats
+	private static final long MAX_EXACT_DOUBLE_UNSCALED = 1L << 53;
+	private static final long MAX_EXACT_FLOAT_UNSCALED = 1L << 24;
+
+	static {
+		DOUBLE_POWERS_OF_TEN[0] = 1.0;
+		for (int i = 1; i < DOUBLE_POWERS_OF_TEN.length; i++) {
+			DOUBLE_POWERS_OF_TEN[i] = DOUBLE_POWERS_OF_TEN[i - 1] * 10.0;
+		}
+		FLOAT_POWERS_OF_TEN[0] = 1.0f;
+		for (int i = 1; i < FLOAT_POWERS_OF_TEN.length; i++) {
+			FLOAT_POWERS_OF_TEN[i] = FLOAT_POWERS_OF_TEN[i - 1] * 10.0f;
+		}
+	}
+
 	public static RandomGenerator<BigDecimal> bigDecimals(
 		int genSize,
 		Range<BigDecimal> range,
@@ -14,11 +33,7 @@ public class RandomDecimalGenerators {
 		RandomDistribution distribution,
 		BigDecimal shrinkingTarget
 	) {
-		checkRangeIsSound(range, scale);
-
-		if (scale < 0) {
-			throw new JqwikException(String.format("Scale [%s] must be positive.", scale));
-		}
+		checkRangeAndScale(range, scale);
 
 		if (range.isSingular()) {
 			return ignored -> Shrinkable.unshrinkable(range.min);
@@ -32,6 +47,96 @@ public class RandomDecimalGenerators {
 		return scaledBigDecimalGenerator(unscaledBigIntegerGenerator, scale);
 	}
 
+	/**
+	 * Generates the same values as {@code bigDecimals(..).map(BigDecimal::doubleValue)}.
+	 * As long as all unscaled values are exact doubles no BigDecimal or BigInteger is created.
+	 * Dividing an exact unscaled value by an exact power of ten
+	 * is then rounded the same way as {@linkplain BigDecimal#doubleValue()}.
+	 */
+	public static RandomGenerator<Double> doubles(
+		int genSize,
+		Range<BigDecimal> range,
+		int scale,
+		RandomDistribution distribution,
+		BigDecimal shrinkingTarget
+	) {
+		checkRangeAndScale(range, scale);
+
+		if (range.isSingular()) {
+			return ignored -> Shrinkable.unshrinkable(range.min.doubleValue());
+		}
+
+		Range<BigInteger> unscaledRange = unscaledBigIntegerRange(range, scale);
+		BigInteger unscaledShrinkingTarget = unscaledBigInteger(shrinkingTarget, scale);
+		if (scale >= DOUBLE_POWERS_OF_TEN.length || !isWithin(unscaledRange, unscaledShrinkingTarget, MAX_EXACT_DOUBLE_UNSCALED)) {
+			return bigDecimals(genSize, range, scale, distribution, shrinkingTarget).map(BigDecimal::doubleValue);
+		}
+
+		double divisor = DOUBLE_POWERS_OF_TEN[scale];
+		return unscaledLongs(genSize, unscaledRange, distribution, unscaledShrinkingTarget)
+				   .map(unscaled -> unscaled / divisor);
+	}
+
+	/**
+	 * Generates the same values as {@code bigDecimals(..).map(BigDecimal::floatValue)}.
+	 * As long as all unscaled values are exact floats no BigDecimal or BigInteger is created.
+	 */
+	public static RandomGenerator<Float> floats(
+		int genSize,
+		Range<BigDecimal> range,
+		int scale,
+		RandomDistribution distribution,
+		BigDecimal shrinkingTarget
+	) {
+		checkRangeAndScale(range, scale);
+
+		if (range.isSingular()) {
+			return ignored -> Shrinkable.unshrinkable(range.min.floatValue());
+		}
+
+		Range<BigInteger> unscaledRange = unscaledBigIntegerRange(range, scale);
+		BigInteger unscaledShrinkingTarget = unscaledBigInteger(shrinkingTarget, scale);
+		if (scale >= FLOAT_POWERS_OF_TEN.length || !isWithin(unscaledRange, unscaledShrinkingTarget, MAX_EXACT_FLOAT_UNSCALED)) {
+			return bigDecimals(genSize, range, scale, distribution, shrinkingTarget).map(BigDecimal::floatValue);
+		}
+
+		float divisor = FLOAT_POWERS_OF_TEN[scale];
+		return unscaledLongs(genSize, unscaledRange, distribution, unscaledShrinkingTarget)
+				   .map(unscaled -> (float) unscaled / divisor);
+	}
+
+	private static RandomGenerator<Long> unscaledLongs(
+		int genSize,
+		Range<BigInteger> unscaledRange,
+		RandomDistribution distribution,
+		BigInteger unscaledShrinkingTarget
+	) {
+		return RandomIntegralGenerators.longs(
+			genSize,
+			unscaledRange.min.longValueExact(),
+			unscaledRange.max.longValueExact(),
+			unscaledShrinkingTarget.longValueExact(),
+			distribution
+		);
+	}
+
+	private static boolean isWithin(Range<BigInteger> unscaledRange, BigInteger unscaledShrinkingTarget, long maxAbsoluteValue) {
+		BigInteger maxAbsolute = BigInteger.valueOf(maxAbsoluteValue);
+		// A shrinking target outside the range is reported by the integral generator
+		boolean targetIsLong = unscaledShrinkingTarget.bitLength() < Long.SIZE;
+		return targetIsLong
+				   && unscaledRange.min.compareTo(maxAbsolute.negate()) >= 0
+				   && unscaledRange.max.compareTo(maxAbsolute) <= 0;
+	}
+
+	private static void checkRangeAndScale(Range<BigDecimal> range, int scale) {
+		checkRangeIsSound(range, scale);
+
+		if (scale < 0) {
+			throw new JqwikException(String.format("Scale [%s] must be positive.", scale));
+		}
+	}
+
 	private static void checkRangeIsSound(Range<BigDecimal> range, int scale) {
 		if (range.minIncluded || range.maxIncluded) {
 			return;
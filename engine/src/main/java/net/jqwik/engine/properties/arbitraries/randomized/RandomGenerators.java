@@ -7,8 +7,10 @@ import java.util.function.*;
 
 import net.jqwik.api.*;
 import net.jqwik.api.Tuple.*;
+import net.jqwik.engine.*;
 import net.jqwik.engine.properties.*;
 import net.jqwik.engine.properties.shrinking.*;
+import net.jqwik.engine.support.*;
 
 import org.jspecify.annotations.*;
 
@@ -57,15 +59,65 @@ public class RandomGenerators {
 		return integers(min, max).map(anInt -> ((char) (int) anInt));
 	}
 
+	/**
+	 * Draws the same chars from {@code random} as {@linkplain #chars(char, char)}
+	 */
+	public static CharGenerator charValues(char min, char max) {
+		LongNumericGenerator numericGenerator = RandomIntegralGenerators.longValues(
+			1000,
+			min,
+			max,
+			RandomIntegralGenerators.defaultShrinkingTarget(min, max),
+			RandomDistribution.uniform()
+		);
+		return random -> (char) numericGenerator.next(random);
+	}
+
+	/**
+	 * Draws the same chars from {@code random} as {@linkplain #choose(char[])}
+	 */
+	public static CharGenerator chooseCharValue(char[] characters) {
+		if (characters.length == 0) {
+			return ignored -> {
+				throw new JqwikException("empty set of values");
+			};
+		}
+		char[] copy = characters.clone();
+		return random -> copy[random.nextInt(copy.length)];
+	}
+
+	/**
+	 * Draws the same chars from {@code random} as {@code generator.filter(filterPredicate, maxMisses)}
+	 */
+	public static CharGenerator filterCharValues(CharGenerator generator, Predicate<Character> filterPredicate, int maxMisses) {
+		return random -> {
+			for (int i = 0; i < maxMisses; i++) {
+				char next = generator.next(random);
+				if (filterPredicate.test(next)) {
+					return next;
+				}
+			}
+			String message = String.format("Filtering chars missed more than %s times.", maxMisses);
+			throw new TooManyFilterMissesException(message);
+		};
+	}
+
+	/**
+	 * Draws the same chars from {@code random} as {@linkplain #frequencyOfGenerators}
+	 */
+	public static CharGenerator charValuesByFrequency(List<? extends Tuple2<Integer, CharGenerator>> frequencies) {
+		ChooseRandomlyByFrequency<CharGenerator> chooseGenerator = new ChooseRandomlyByFrequency<>(frequencies);
+		return random -> chooseGenerator.apply(random).next(random);
+	}
+
 	public static RandomGenerator<Integer> integers(int min, int max) {
-		BigInteger minBig = BigInteger.valueOf(min);
-		BigInteger maxBig = BigInteger.valueOf(max);
-		return bigIntegers(
-				minBig,
-				maxBig,
-				RandomIntegralGenerators.defaultShrinkingTarget(Range.of(minBig, maxBig)),
+		return RandomIntegralGenerators.longs(
+				1000,
+				min,
+				max,
+				RandomIntegralGenerators.defaultShrinkingTarget(min, max),
 				RandomDistribution.uniform()
-		).map(BigInteger::intValueExact);
+		).map(Math::toIntExact);
 	}
 
 	public static RandomGenerator<BigInteger> bigIntegers(
@@ -110,35 +162,110 @@ public class RandomGenerators {
 		return container(elementGenerator, createShrinkable, minLength, maxLength, maxUniqueChars, genSize, lengthDistribution, featureExtractors);
 	}
 
+	/**
+	 * Generates strings with the same rules as {@linkplain #strings} but with different random values.
+	 * Chars are drawn from {@code charGenerator} without creating a character shrinkable for each of them.
+	 * Character shrinkables are recreated from {@code elementGenerator} when shrinking starts,
+	 * which requires both generators to always generate the same characters for the same random seed.
+	 */
+	public static RandomGenerator<String> compactStrings(
+		CharGenerator charGenerator,
+		RandomGenerator<Character> elementGenerator,
+		int minLength, int maxLength, long maxUniqueChars,
+		int genSize, RandomDistribution lengthDistribution,
+		Arbitrary<Character> characterArbitrary,
+		boolean uniqueChars
+	) {
+		if (minLength > maxLength) {
+			String message = String.format("minSize <%s> must not be larger than maxSize <%s>.", minLength, maxLength);
+			throw new JqwikException(message);
+		}
+		return new StringGenerator(
+			charGenerator,
+			elementGenerator,
+			minLength, maxLength, maxUniqueChars,
+			genSize, lengthDistribution,
+			characterArbitrary, uniqueChars
+		);
+	}
+
 	private static <T extends @Nullable Object, C extends @Nullable Object> RandomGenerator<C> container(
 		RandomGenerator<T> elementGenerator,
 		Function<? super List<? extends Shrinkable<T>>, ? extends Shrinkable<C>> createShrinkable,
 		int minSize, int maxSize, long maxUniqueElements,
 		int genSize, RandomDistribution sizeDistribution,
 		Set<? extends FeatureExtractor<T>> uniquenessExtractors
+	) {
+		return container(elementGenerator, createShrinkable, null, null, minSize, maxSize, maxUniqueElements, genSize, sizeDistribution, uniquenessExtractors, null);
+	}
+
+	private static <T extends @Nullable Object, C extends @Nullable Object> RandomGenerator<C> container(
+		RandomGenerator<T> elementGenerator,
+		Function<? super List<? extends Shrinkable<T>>, ? extends Shrinkable<C>> createShrinkable,
+		@Nullable ValueGenerator<T> elementValueGenerator,
+		@Nullable BiFunction<? super List<T>, ? super Supplier<List<Shrinkable<T>>>, ? extends Shrinkable<C>> createLazyShrinkable,
+		int minSize, int maxSize, long maxUniqueElements,
+		int genSize, RandomDistribution sizeDistribution,
+		Set<? extends FeatureExtractor<T>> uniquenessExtractors,
+		@Nullable IndexedDomain<T> uniqueElementsDomain
 	) {
 		if (minSize > maxSize) {
 			String message = String.format("minSize <%s> must not be larger than maxSize <%s>.", minSize, maxSize);
 			throw new JqwikException(message);
 		}
 		return new ContainerGenerator<>(
-			elementGenerator, createShrinkable,
+			elementGenerator, createShrinkable, elementValueGenerator, createLazyShrinkable,
 			minSize, maxSize, maxUniqueElements,
 			genSize, sizeDistribution,
-			uniquenessExtractors
+			uniquenessExtractors, uniqueElementsDomain
 		);
 	}
 
+	/**
+	 * @param uniqueElementsDomain present if elements must be unique and can be drawn from this domain without replacement
+	 */
 	public static <T extends @Nullable Object> RandomGenerator<List<T>> list(
 		RandomGenerator<T> elementGenerator,
 		int minSize, int maxSize, long maxUniqueElements,
 		int genSize, RandomDistribution sizeDistribution,
 		Set<? extends FeatureExtractor<T>> uniquenessExtractors,
-		Arbitrary<T> elementArbitrary
+		Arbitrary<T> elementArbitrary,
+		@Nullable IndexedDomain<T> uniqueElementsDomain
+	) {
+		Function<List<? extends Shrinkable<T>>, Shrinkable<List<T>>> createShrinkable =
+			elements -> new ShrinkableList<>(elements, minSize, maxSize, uniquenessExtractors, elementArbitrary);
+		return container(
+			elementGenerator, createShrinkable, null, null,
+			minSize, maxSize, maxUniqueElements,
+			genSize, sizeDistribution,
+			uniquenessExtractors, uniqueElementsDomain
+		);
+	}
+
+	/**
+	 * Generates the same lists as {@linkplain #list} with different random values
+	 * but only keeps element values generated by {@code elementValueGenerator}.
+	 * Element shrinkables are recreated with {@code elementGenerator} when shrinking starts.
+	 */
+	public static <T extends @Nullable Object> RandomGenerator<List<T>> lazyList(
+		RandomGenerator<T> elementGenerator,
+		ValueGenerator<T> elementValueGenerator,
+		int minSize, int maxSize, long maxUniqueElements,
+		int genSize, RandomDistribution sizeDistribution,
+		Set<? extends FeatureExtractor<T>> uniquenessExtractors,
+		Arbitrary<T> elementArbitrary,
+		@Nullable IndexedDomain<T> uniqueElementsDomain
 	) {
 		Function<List<? extends Shrinkable<T>>, Shrinkable<List<T>>> createShrinkable =
 			elements -> new ShrinkableList<>(elements, minSize, maxSize, uniquenessExtractors, elementArbitrary);
-		return container(elementGenerator, createShrinkable, minSize, maxSize, maxUniqueElements, genSize, sizeDistribution, uniquenessExtractors);
+		BiFunction<List<T>, Supplier<List<Shrinkable<T>>>, Shrinkable<List<T>>> createLazyShrinkable =
+			(values, shrinkablesSupplier) -> new ShrinkableList<>(values, shrinkablesSupplier, minSize, maxSize, uniquenessExtractors, elementArbitrary);
+		return container(
+			elementGenerator, createShrinkable, elementValueGenerator, createLazyShrinkable,
+			minSize, maxSize, maxUniqueElements,
+			genSize, sizeDistribution,
+			uniquenessExtractors, uniqueElementsDomain
+		);
 	}
 
 	public static <T extends @Nullable Object> RandomGenerator<Set<T>> set(
@@ -146,20 +273,48 @@ public class RandomGenerators {
 		int minSize, int maxSize, int genSize,
 		Arbitrary<T> elementArbitrary
 	) {
-		return set(elementGenerator, minSize, maxSize, genSize, null, Collections.emptySet(), elementArbitrary);
+		return set(elementGenerator, minSize, maxSize, genSize, null, Collections.emptySet(), elementArbitrary, null);
 	}
 
 	public static <T extends @Nullable Object> RandomGenerator<Set<T>> set(
 			RandomGenerator<T> elementGenerator,
 			int minSize, int maxSize, int genSize, RandomDistribution sizeDistribution,
 			Set<? extends FeatureExtractor<T>> uniquenessExtractors,
-			Arbitrary<T> elementArbitrary
+			Arbitrary<T> elementArbitrary,
+			@Nullable IndexedDomain<T> uniqueElementsDomain
 	) {
 		Set<FeatureExtractor<T>> extractors = new LinkedHashSet<>(uniquenessExtractors);
 		extractors.add(FeatureExtractor.identity());
 		Function<List<? extends Shrinkable<T>>, ? extends Shrinkable<Set<T>>> createShrinkable =
 			elements -> new ShrinkableSet<T>(elements, minSize, maxSize, uniquenessExtractors, elementArbitrary);
-		return container(elementGenerator, createShrinkable, minSize, maxSize, maxSize, genSize, sizeDistribution, extractors);
+		return container(elementGenerator, createShrinkable, null, null, minSize, maxSize, maxSize, genSize, sizeDistribution, extractors, uniqueElementsDomain);
+	}
+
+	/**
+	 * Generates the same sets as {@linkplain #set} with different random values
+	 * but only keeps element values generated by {@code elementValueGenerator}.
+	 * Element shrinkables are recreated with {@code elementGenerator} when shrinking starts.
+	 */
+	public static <T extends @Nullable Object> RandomGenerator<Set<T>> lazySet(
+		RandomGenerator<T> elementGenerator,
+		ValueGenerator<T> elementValueGenerator,
+		int minSize, int maxSize, int genSize, RandomDistribution sizeDistribution,
+		Set<? extends FeatureExtractor<T>> uniquenessExtractors,
+		Arbitrary<T> elementArbitrary,
+		@Nullable IndexedDomain<T> uniqueElementsDomain
+	) {
+		Set<FeatureExtractor<T>> extractors = new LinkedHashSet<>(uniquenessExtractors);
+		extractors.add(FeatureExtractor.identity());
+		Function<List<? extends Shrinkable<T>>, ? extends Shrinkable<Set<T>>> createShrinkable =
+			elements -> new ShrinkableSet<T>(elements, minSize, maxSize, uniquenessExtractors, elementArbitrary);
+		BiFunction<List<T>, Supplier<List<Shrinkable<T>>>, Shrinkable<Set<T>>> createLazyShrinkable =
+			(values, shrinkablesSupplier) -> new ShrinkableSet<>(values, shrinkablesSupplier, minSize, maxSize, uniquenessExtractors, elementArbitrary);
+		return container(
+			elementGenerator, createShrinkable, elementValueGenerator, createLazyShrinkable,
+			minSize, maxSize, maxSize,
+			genSize, sizeDistribution,
+			extractors, uniqueElementsDomain
+		);
 	}
 
 	public static <T extends @Nullable Object> RandomGenerator<T> samplesFromShrinkables(List<? extends Shrinkable<T>> samples) {
@@ -188,6 +343,24 @@ public class RandomGenerators {
 		return frequency(frequencies).flatMap(Function.identity(), genSize, withEmbeddedEdgeCases);
 	}
 
+	/**
+	 * Chooses a generator by frequency and lets it draw from the same {@code random} instead of reseeding it.
+	 * Shrinking can still switch to a generator with a smaller index.
+	 */
+	public static <T extends @Nullable Object> RandomGenerator<T> frequencyOfGenerators(
+			List<? extends Tuple2<Integer, ? extends RandomGenerator<T>>> frequencies
+	) {
+		FrequencyGenerator<RandomGenerator<T>> chooseGenerator = new FrequencyGenerator<>(frequencies);
+		return random -> {
+			Shrinkable<RandomGenerator<T>> chosen = chooseGenerator.next(random);
+			Shrinkable<T> generated = chosen.value().next(random);
+			// Only needed when shrinking switches generators, which needs some seed for the switched to generator
+			Function<RandomGenerator<T>, Shrinkable<T>> regenerate =
+				generator -> generator.next(SourceOfRandomness.newRandom(Objects.hashCode(generated.value())));
+			return new FixedValueFlatMappedShrinkable<>(chosen, regenerate, () -> generated);
+		};
+	}
+
 	public static <T extends @Nullable Object> RandomGenerator<T> withEdgeCases(RandomGenerator<T> self, int genSize, EdgeCases<T> edgeCases) {
 		if (edgeCases.isEmpty()) {
 			return self;
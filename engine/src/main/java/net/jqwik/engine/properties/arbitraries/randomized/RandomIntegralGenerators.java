@@ -1,6 +1,7 @@
 package net.jqwik.engine.properties.arbitraries.randomized;
 
 import java.math.*;
+import java.util.function.*;
 
 import net.jqwik.api.*;
 import net.jqwik.api.RandomDistribution.*;
@@ -37,13 +38,160 @@ public class RandomIntegralGenerators {
 		};
 	}
 
-	private static void checkTargetInRange(Range<BigInteger> range, BigInteger value) {
+	/**
+	 * Values are generated without {@linkplain BigInteger} arithmetic if the distribution supports it.
+	 */
+	public static RandomGenerator<Long> longs(
+		int genSize,
+		long min,
+		long max,
+		long shrinkingTarget,
+		RandomDistribution distribution
+	) {
+		Range<Long> range = Range.of(min, max);
+
+		checkTargetInRange(range, shrinkingTarget);
+
+		if (range.isSingular()) {
+			return ignored -> Shrinkable.unshrinkable(min);
+		}
+
+		LongNumericGenerator numericGenerator = longGenerator(genSize, min, max, shrinkingTarget, distribution);
+
+		return random -> {
+			long value = numericGenerator.next(random);
+			return new ShrinkableLong(value, range, shrinkingTarget);
+		};
+	}
+
+	/**
+	 * Generates {@code byte[]}, {@code short[]}, {@code int[]} or {@code long[]} values
+	 * with the same elements as a list of {@linkplain #longs} elements would have
+	 * but without creating an element shrinkable for each value.
+	 *
+	 * @param elementEdgeCases edge cases to embed in element generation; can be empty
+	 */
+	public static <A> RandomGenerator<A> integralArrays(
+		ShrinkableIntegralArray.ArrayType<A> arrayType,
+		int elementGenSize,
+		long min,
+		long max,
+		long shrinkingTarget,
+		RandomDistribution distribution,
+		long[] elementEdgeCases,
+		int minSize,
+		int maxSize,
+		long maxUniqueElements,
+		int genSize,
+		RandomDistribution sizeDistribution
+	) {
+		Range<Long> range = Range.of(min, max);
+
+		checkTargetInRange(range, shrinkingTarget);
+
+		LongNumericGenerator elementGenerator = withEdgeCases(
+			longValues(elementGenSize, min, max, shrinkingTarget, distribution),
+			elementEdgeCases, genSize
+		);
+
+		return new IntegralArrayGenerator<>(
+			arrayType, elementGenerator,
+			range, shrinkingTarget,
+			minSize, maxSize, maxUniqueElements,
+			genSize, sizeDistribution
+		);
+	}
+
+	/**
+	 * Draws the same values from {@code random} as {@linkplain #longs} but does not create shrinkables
+	 */
+	static LongNumericGenerator longValues(
+		int genSize,
+		long min,
+		long max,
+		long shrinkingTarget,
+		RandomDistribution distribution
+	) {
+		checkTargetInRange(Range.of(min, max), shrinkingTarget);
+		if (min == max) {
+			return ignored -> min;
+		}
+		return longGenerator(genSize, min, max, shrinkingTarget, distribution);
+	}
+
+	/**
+	 * Draws the same values from {@code random} as {@linkplain #longs} with embedded {@code edgeCases}
+	 * would do, but does not create shrinkables.
+	 *
+	 * @param edgeCases edge cases to embed; can be empty
+	 * @param toValue   converts drawn values to the type of the values generated
+	 */
+	public static <T> ValueGenerator<T> integralValues(
+		int numericGenSize,
+		long min,
+		long max,
+		long shrinkingTarget,
+		RandomDistribution distribution,
+		long[] edgeCases,
+		int genSize,
+		LongFunction<T> toValue
+	) {
+		LongNumericGenerator numericGenerator = withEdgeCases(
+			longValues(numericGenSize, min, max, shrinkingTarget, distribution),
+			edgeCases, genSize
+		);
+		return random -> toValue.apply(numericGenerator.next(random));
+	}
+
+	/**
+	 * Same as element generation through {@linkplain WithEdgeCasesGenerator}
+	 */
+	private static LongNumericGenerator withEdgeCases(LongNumericGenerator base, long[] edgeCases, int genSize) {
+		if (edgeCases.length == 0) {
+			return base;
+		}
+		int baseToEdgeCaseRatio = EdgeCasesGenerator.calculateBaseToEdgeCaseRatio(genSize, edgeCases.length);
+		return random -> {
+			if (random.nextInt(baseToEdgeCaseRatio) == 0) {
+				return edgeCases[random.nextInt(edgeCases.length)];
+			}
+			return base.next(random);
+		};
+	}
+
+	private static LongNumericGenerator longGenerator(
+		int genSize,
+		long min,
+		long max,
+		long center,
+		RandomDistribution distribution
+	) {
+		if (distribution instanceof LongRandomDistribution) {
+			return ((LongRandomDistribution) distribution).createLongGenerator(genSize, min, max, center);
+		}
+		RandomNumericGenerator bigIntegerGenerator = distribution.createGenerator(
+			genSize,
+			BigInteger.valueOf(min),
+			BigInteger.valueOf(max),
+			BigInteger.valueOf(center)
+		);
+		return random -> bigIntegerGenerator.next(random).longValueExact();
+	}
+
+	private static <T extends Comparable<T>> void checkTargetInRange(Range<T> range, T value) {
 		if (!range.includes(value)) {
 			String message = String.format("Shrinking target <%s> is outside allowed range %s", value, range);
 			throw new JqwikException(message);
 		}
 	}
 
+	public static long defaultShrinkingTarget(long min, long max) {
+		if (min <= 0 && max >= 0) {
+			return 0;
+		}
+		return max < 0 ? max : min;
+	}
+
 	public static BigInteger defaultShrinkingTarget(Range<BigInteger> range) {
 		if (range.includes(BigInteger.ZERO)) {
 			return BigInteger.ZERO;
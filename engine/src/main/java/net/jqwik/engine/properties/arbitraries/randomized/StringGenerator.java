@@ -0,0 +1,164 @@
+package net.jqwik.engine.properties.arbitraries.randomized;
+
+import java.util.*;
+import java.util.function.*;
+
+import net.jqwik.api.*;
+import net.jqwik.engine.*;
+import net.jqwik.engine.properties.shrinking.*;
+
+import org.jspecify.annotations.*;
+
+/**
+ * Generates strings with the same rules as {@linkplain ContainerGenerator} but writes characters directly into a {@code char[]}.
+ *
+ * <p>
+ * Chars are drawn from a {@linkplain CharGenerator} without creating a shrinkable for each of them.
+ * Each string is generated from its own seed.
+ * Character shrinkables are recreated from this seed with the element generator when shrinking starts.
+ * </p>
+ */
+class StringGenerator implements RandomGenerator<String> {
+
+	private final CharGenerator charGenerator;
+	private final RandomGenerator<Character> elementGenerator;
+	private final int minLength;
+	private final int maxLength;
+	private final long maxUniqueChars;
+	private final Arbitrary<Character> characterArbitrary;
+	private final boolean uniqueChars;
+	private final Function<Random, Integer> lengthGenerator;
+	private final long maxAttempts;
+
+	StringGenerator(
+		CharGenerator charGenerator,
+		RandomGenerator<Character> elementGenerator,
+		int minLength,
+		int maxLength,
+		long maxUniqueChars,
+		int genSize,
+		RandomDistribution lengthDistribution,
+		Arbitrary<Character> characterArbitrary,
+		boolean uniqueChars
+	) {
+		this.charGenerator = charGenerator;
+		this.elementGenerator = elementGenerator;
+		this.minLength = minLength;
+		this.maxLength = maxLength;
+		this.maxUniqueChars = maxUniqueChars;
+		this.characterArbitrary = characterArbitrary;
+		this.uniqueChars = uniqueChars;
+		this.lengthGenerator = SizeGenerator.create(minLength, maxLength, genSize, lengthDistribution);
+		// Same heuristic value as in ContainerGenerator
+		this.maxAttempts = Math.min(10000, Math.max(1000, maxUniqueChars * 10));
+	}
+
+	@Override
+	public Shrinkable<String> next(Random random) {
+		long seed = random.nextLong();
+		char[] chars = generate(SourceOfRandomness.newRandom(seed), null);
+		return new ShrinkableString(
+			chars, () -> regenerateShrinkables(seed),
+			minLength, maxLength,
+			characterArbitrary, uniqueChars
+		);
+	}
+
+	private List<Shrinkable<Character>> regenerateShrinkables(long seed) {
+		List<Shrinkable<Character>> shrinkables = new ArrayList<>();
+		generate(SourceOfRandomness.newRandom(seed), shrinkables);
+		return shrinkables;
+	}
+
+	private char[] generate(Random random, @Nullable List<Shrinkable<Character>> shrinkables) {
+		int length = lengthGenerator.apply(random);
+		char[] chars = new char[length];
+		int count = 0;
+
+		// Raise probability for no duplicates even in long strings to approx 2 percent
+		boolean noDuplicates = length >= 2
+								   && length <= maxUniqueChars
+								   && !uniqueChars
+								   && random.nextInt(100) <= 2;
+		int lengthToShuffleIfExceeded = Integer.MAX_VALUE;
+
+		Set<Character> existingChars = new HashSet<>();
+
+		while (count < length) {
+			try {
+				if (shrinkables == null) {
+					char next = nextCharUntilAccepted(random, existingChars, noDuplicates);
+					chars[count++] = next;
+				} else {
+					Shrinkable<Character> next = nextUntilAccepted(random, existingChars, noDuplicates);
+					chars[count++] = next.value();
+					shrinkables.add(next);
+				}
+			} catch (TooManyFilterMissesException tooManyFailedGenerationAttempts) {
+				// Switch off noDuplicates to enable generation of chars to proceed
+				if (noDuplicates) {
+					noDuplicates = false;
+					lengthToShuffleIfExceeded = count;
+					continue;
+				}
+				if (count < minLength) {
+					// Fail if minimum length could not be reached
+					throw tooManyFailedGenerationAttempts;
+				}
+				// Stop generation since unique chars can limit the achievable length
+				break;
+			}
+		}
+		if (count < length) {
+			chars = Arrays.copyOf(chars, count);
+		}
+		if (count > lengthToShuffleIfExceeded) {
+			shuffle(chars, shrinkables, random);
+		}
+		return chars;
+	}
+
+	/**
+	 * Same as {@code Collections.shuffle(list, random)}
+	 */
+	private void shuffle(char[] chars, @Nullable List<Shrinkable<Character>> shrinkables, Random random) {
+		for (int i = chars.length; i > 1; i--) {
+			int j = random.nextInt(i);
+			char temp = chars[i - 1];
+			chars[i - 1] = chars[j];
+			chars[j] = temp;
+			if (shrinkables != null) {
+				Collections.swap(shrinkables, i - 1, j);
+			}
+		}
+	}
+
+	private char nextCharUntilAccepted(Random random, Set<Character> existingChars, boolean noDuplicates) {
+		boolean checkDuplicates = noDuplicates || uniqueChars;
+		for (int i = 0; i < maxAttempts; i++) {
+			char next = charGenerator.next(random);
+			if (checkDuplicates && !existingChars.add(next)) {
+				continue;
+			}
+			return next;
+		}
+		throw tooManyMisses();
+	}
+
+	private Shrinkable<Character> nextUntilAccepted(Random random, Set<Character> existingChars, boolean noDuplicates) {
+		boolean checkDuplicates = noDuplicates || uniqueChars;
+		for (int i = 0; i < maxAttempts; i++) {
+			Shrinkable<Character> next = elementGenerator.next(random);
+			if (checkDuplicates && !existingChars.add(next.value())) {
+				continue;
+			}
+			return next;
+		}
+		throw tooManyMisses();
+	}
+
+	private TooManyFilterMissesException tooManyMisses() {
+		String message = String.format("Trying to fulfill uniqueness constraint missed more than %s times.", maxAttempts);
+		return new TooManyFilterMissesException(message);
+	}
+}
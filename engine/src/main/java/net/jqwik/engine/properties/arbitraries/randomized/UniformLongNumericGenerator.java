@@ -0,0 +1,71 @@
+package net.jqwik.engine.properties.arbitraries.randomized;
+
+import java.util.*;
+
+/**
+ * Draws the same random numbers as {@linkplain SmallUniformNumericGenerator} and {@linkplain BigUniformNumericGenerator}
+ * so that a seed produces the same values in both kinds of generators.
+ */
+class UniformLongNumericGenerator implements LongNumericGenerator {
+
+	private final long min;
+	// The difference between max and min is interpreted as unsigned value since it can exceed Long.MAX_VALUE
+	private final long range;
+	private final int bits;
+	private final boolean isWithinIntegerRange;
+
+	UniformLongNumericGenerator(long min, long max) {
+		this.min = min;
+		this.range = max - min;
+		this.bits = bits(min, max);
+		this.isWithinIntegerRange = isWithinIntegerRange(min, max);
+	}
+
+	static int bits(long min, long max) {
+		return Long.SIZE - Long.numberOfLeadingZeros(max - min);
+	}
+
+	static boolean isWithinIntegerRange(long min, long max) {
+		long range = max - min;
+		return range >= 0 && range < Integer.MAX_VALUE
+				   && min >= Integer.MIN_VALUE && max <= Integer.MAX_VALUE;
+	}
+
+	@Override
+	public long next(Random random) {
+		return next(random, min, range, bits, isWithinIntegerRange);
+	}
+
+	/**
+	 * Allows generators with several uniform partitions to keep their parameters in primitive arrays
+	 */
+	static long next(Random random, long min, long range, int bits, boolean isWithinIntegerRange) {
+		if (isWithinIntegerRange) {
+			return random.nextInt((int) range + 1) + min;
+		}
+		while (true) {
+			long rawValue = randomBits(random, bits);
+			if (Long.compareUnsigned(rawValue, range) <= 0) {
+				return min + rawValue;
+			}
+		}
+	}
+
+	/**
+	 * Equivalent to {@code new BigInteger(bits, random)}, which fills a big-endian byte array with {@linkplain Random#nextBytes(byte[])}
+	 * and masks out the excess bits of the highest byte.
+	 */
+	private static long randomBits(Random random, int bits) {
+		int numberOfBytes = (bits + 7) / 8;
+		long value = 0;
+		int randomInt = 0;
+		for (int i = 0; i < numberOfBytes; i++) {
+			if (i % 4 == 0) {
+				randomInt = random.nextInt();
+			}
+			value = (value << 8) | (randomInt & 0xFF);
+			randomInt >>= 8;
+		}
+		return bits == Long.SIZE ? value : value & ((1L << bits) - 1);
+	}
+}
@@ -0,0 +1,19 @@
+package net.jqwik.engine.properties.arbitraries.randomized;
+
+import java.util.*;
+
+import org.jspecify.annotations.*;
+
+/**
+ * Generates values without creating a shrinkable for each of them.
+ * A value generator must draw the same values from {@code random}
+ * as the {@linkplain net.jqwik.api.RandomGenerator} it stands in for,
+ * so that element shrinkables of a container can be recreated from the same seed when shrinking starts.
+ * Values must be immutable since they are handed out again for each access to the container's value.
+ *
+ * @see CharGenerator
+ */
+public interface ValueGenerator<T extends @Nullable Object> {
+
+	T next(Random random);
+}
@@ -1,9 +1,12 @@
 package net.jqwik.engine.properties.shrinking;
 
 import java.util.*;
+import java.util.concurrent.*;
 import java.util.function.*;
 import java.util.stream.*;
 
+import org.jspecify.annotations.*;
+
 import net.jqwik.api.*;
 import net.jqwik.api.Tuple.*;
 import net.jqwik.api.lifecycle.*;
@@ -16,9 +19,14 @@ abstract class AbstractSampleShrinker {
 	}
 
 	private final Map<List<Object>, TryExecutionResult> falsificationCache;
+	private final @Nullable SpeculativeFalsifier speculativeFalsifier;
 
-	public AbstractSampleShrinker(Map<List<Object>, TryExecutionResult> falsificationCache) {
+	public AbstractSampleShrinker(
+		Map<List<Object>, TryExecutionResult> falsificationCache,
+		@Nullable SpeculativeFalsifier speculativeFalsifier
+	) {
 		this.falsificationCache = falsificationCache;
+		this.speculativeFalsifier = speculativeFalsifier;
 	}
 
 	public abstract FalsifiedSample shrink(
@@ -44,23 +52,11 @@ abstract class AbstractSampleShrinker {
 
 			FalsifiedSample currentBest = bestResult.orElse(null);
 
+			Stream<List<Shrinkable<Object>>> shrinkCandidates = supplyShrinkCandidates.apply(currentShrinkBase);
 			Optional<Tuple3<List<Object>, List<Shrinkable<Object>>, TryExecutionResult>> newShrinkingResult =
-				supplyShrinkCandidates.apply(currentShrinkBase)
-								 .peek(ignore -> shrinkAttemptConsumer.accept(currentBest))
-								 .filter(shrinkables -> calculateDistance(shrinkables).compareTo(currentDistance) <= 0)
-								 .map(shrinkables -> {
-									 List<Object> params = createValues(shrinkables).collect(Collectors.toList());
-									 TryExecutionResult result = falsify(falsifier, params);
-									 return Tuple.of(params, shrinkables, result);
-								 })
-								 .peek(t -> {
-									 // Remember best 10 invalid results in case no  falsified shrink is found
-									 if (t.get3().isInvalid() && calculateDistance(t.get2()).compareTo(currentDistance) < 0) {
-										 filteredResults.push(t);
-									 }
-								 })
-								 .filter(t -> t.get3().isFalsified())
-								 .findAny();
+				speculativeFalsifier == null
+					? firstFalsified(falsifier, shrinkCandidates, currentDistance, currentBest, shrinkAttemptConsumer, filteredResults)
+					: firstFalsifiedSpeculatively(falsifier, speculativeFalsifier, shrinkCandidates, currentDistance, currentBest, shrinkAttemptConsumer, filteredResults);
 
 			if (newShrinkingResult.isPresent()) {
 				Tuple3<List<Object>, List<Shrinkable<Object>>, TryExecutionResult> falsifiedTry = newShrinkingResult.get();
@@ -86,6 +82,88 @@ abstract class AbstractSampleShrinker {
 		return bestResult.orElse(sample);
 	}
 
+	private Optional<Tuple3<List<Object>, List<Shrinkable<Object>>, TryExecutionResult>> firstFalsified(
+		Falsifier<List<Object>> falsifier,
+		Stream<List<Shrinkable<Object>>> shrinkCandidates,
+		ShrinkingDistance currentDistance,
+		@Nullable FalsifiedSample currentBest,
+		Consumer<FalsifiedSample> shrinkAttemptConsumer,
+		FilteredResults filteredResults
+	) {
+		return shrinkCandidates
+				   .peek(ignore -> shrinkAttemptConsumer.accept(currentBest))
+				   .filter(shrinkables -> calculateDistance(shrinkables).compareTo(currentDistance) <= 0)
+				   .map(shrinkables -> {
+					   List<Object> params = createValues(shrinkables).collect(Collectors.toList());
+					   TryExecutionResult result = falsify(falsifier, params);
+					   return Tuple.of(params, shrinkables, result);
+				   })
+				   .peek(t -> rememberInvalidResult(t, currentDistance, filteredResults))
+				   .filter(t -> t.get3().isFalsified())
+				   .findAny();
+	}
+
+	/**
+	 * Evaluates the next candidates concurrently but takes their results into account one after the other.
+	 * The outcome is the same as in {@linkplain #firstFalsified}.
+	 */
+	private Optional<Tuple3<List<Object>, List<Shrinkable<Object>>, TryExecutionResult>> firstFalsifiedSpeculatively(
+		Falsifier<List<Object>> falsifier,
+		SpeculativeFalsifier speculativeFalsifier,
+		Stream<List<Shrinkable<Object>>> shrinkCandidates,
+		ShrinkingDistance currentDistance,
+		@Nullable FalsifiedSample currentBest,
+		Consumer<FalsifiedSample> shrinkAttemptConsumer,
+		FilteredResults filteredResults
+	) {
+		Iterator<List<Shrinkable<Object>>> candidates = shrinkCandidates.iterator();
+		Deque<SpeculativeCandidate> candidatesInFlight = new ArrayDeque<>();
+		try {
+			while (true) {
+				while (candidatesInFlight.size() < speculativeFalsifier.lookAhead() && candidates.hasNext()) {
+					List<Shrinkable<Object>> shrinkables = candidates.next();
+					shrinkAttemptConsumer.accept(currentBest);
+					if (calculateDistance(shrinkables).compareTo(currentDistance) > 0) {
+						continue;
+					}
+					List<Object> params = createValues(shrinkables).collect(Collectors.toList());
+					Future<TryExecutionResult> evaluation =
+						falsificationCache.containsKey(params) ? null : speculativeFalsifier.evaluateAhead(params);
+					candidatesInFlight.addLast(new SpeculativeCandidate(params, shrinkables, evaluation));
+				}
+				if (candidatesInFlight.isEmpty()) {
+					return Optional.empty();
+				}
+				SpeculativeCandidate candidate = candidatesInFlight.removeFirst();
+				TryExecutionResult result = falsificationCache.computeIfAbsent(
+					candidate.params,
+					params -> candidate.evaluation == null
+								  ? falsifier.execute(params)
+								  : speculativeFalsifier.resultOf(candidate.evaluation)
+				);
+				Tuple3<List<Object>, List<Shrinkable<Object>>, TryExecutionResult> t = Tuple.of(candidate.params, candidate.shrinkables, result);
+				rememberInvalidResult(t, currentDistance, filteredResults);
+				if (result.isFalsified()) {
+					return Optional.of(t);
+				}
+			}
+		} finally {
+			// Results of candidates after the first falsified one are never used
+			candidatesInFlight.forEach(SpeculativeCandidate::cancel);
+		}
+	}
+
+	private void rememberInvalidResult(
+		Tuple3<List<Object>, List<Shrinkable<Object>>, TryExecutionResult> t,
+		ShrinkingDistance currentDistance,
+		FilteredResults filteredResults
+	) {
+		// Remember best 10 invalid results in case no  falsified shrink is found
+		if (t.get3().isInvalid() && calculateDistance(t.get2()).compareTo(currentDistance) < 0) {
+			filteredResults.push(t);
+		}
+	}
+
 	private TryExecutionResult falsify(Falsifier<List<Object>> falsifier, List<Object> params) {
 		// I wonder in which cases this is really an optimization
 		return falsificationCache.computeIfAbsent(params, p -> falsifier.execute(params));
@@ -95,6 +173,28 @@ abstract class AbstractSampleShrinker {
 		return shrinkables.stream().map(Shrinkable::value);
 	}
 
+	private static class SpeculativeCandidate {
+		private final List<Object> params;
+		private final List<Shrinkable<Object>> shrinkables;
+		private final @Nullable Future<TryExecutionResult> evaluation;
+
+		private SpeculativeCandidate(
+			List<Object> params,
+			List<Shrinkable<Object>> shrinkables,
+			@Nullable Future<TryExecutionResult> evaluation
+		) {
+			this.params = params;
+			this.shrinkables = shrinkables;
+			this.evaluation = evaluation;
+		}
+
+		private void cancel() {
+			if (evaluation != null) {
+				evaluation.cancel(false);
+			}
+		}
+	}
+
 	private static class FilteredResults {
 
 		public static final int MAX_SIZE = 100;
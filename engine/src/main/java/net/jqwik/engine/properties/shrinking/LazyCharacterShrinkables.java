@@ -0,0 +1,47 @@
+package net.jqwik.engine.properties.shrinking;
+
+import java.util.*;
+import java.util.function.*;
+
+import net.jqwik.api.*;
+
+/**
+ * The characters of a generated {@linkplain ShrinkableString}.
+ * Character shrinkables are only created when an element is accessed for the first time,
+ * which usually means that shrinking has started.
+ */
+class LazyCharacterShrinkables extends LazyShrinkables<Character> {
+
+	private final char[] chars;
+
+	LazyCharacterShrinkables(
+		char[] chars,
+		Supplier<? extends List<? extends Shrinkable<Character>>> shrinkablesSupplier,
+		Arbitrary<Character> characterArbitrary
+	) {
+		super(shrinkablesSupplier, characterArbitrary);
+		this.chars = chars;
+	}
+
+	String string() {
+		return new String(chars);
+	}
+
+	@Override
+	public int size() {
+		return chars.length;
+	}
+
+	@Override
+	boolean isRecreationOfValues(List<? extends Shrinkable<Character>> created) {
+		if (created.size() != chars.length) {
+			return false;
+		}
+		for (int i = 0; i < chars.length; i++) {
+			if (created.get(i).value() != chars[i]) {
+				return false;
+			}
+		}
+		return true;
+	}
+}
@@ -0,0 +1,53 @@
+package net.jqwik.engine.properties.shrinking;
+
+import java.util.*;
+import java.util.function.*;
+
+import net.jqwik.api.*;
+
+import org.jspecify.annotations.*;
+
+/**
+ * The elements of a generated {@linkplain ShrinkableList} or {@linkplain ShrinkableSet}.
+ *
+ * <p>
+ * Kept values are handed out by every call to {@linkplain Shrinkable#value()}.
+ * They must therefore be immutable and implement {@code equals()},
+ * so that recreated elements can be checked against them.
+ * </p>
+ */
+class LazyElementShrinkables<E extends @Nullable Object> extends LazyShrinkables<E> {
+
+	private final List<E> values;
+
+	LazyElementShrinkables(
+		List<E> values,
+		Supplier<? extends List<? extends Shrinkable<E>>> shrinkablesSupplier,
+		Arbitrary<E> elementArbitrary
+	) {
+		super(shrinkablesSupplier, elementArbitrary);
+		this.values = values;
+	}
+
+	List<E> values() {
+		return values;
+	}
+
+	@Override
+	public int size() {
+		return values.size();
+	}
+
+	@Override
+	boolean isRecreationOfValues(List<? extends Shrinkable<E>> created) {
+		if (created.size() != values.size()) {
+			return false;
+		}
+		for (int i = 0; i < values.size(); i++) {
+			if (!Objects.equals(created.get(i).value(), values.get(i))) {
+				return false;
+			}
+		}
+		return true;
+	}
+}
@@ -0,0 +1,60 @@
+package net.jqwik.engine.properties.shrinking;
+
+import java.util.*;
+import java.util.function.*;
+
+import net.jqwik.api.*;
+
+import org.jspecify.annotations.*;
+
+/**
+ * The elements of a generated container of which only the values are kept.
+ * Element shrinkables are only created when an element is accessed for the first time,
+ * which usually means that shrinking has started.
+ */
+abstract class LazyShrinkables<E extends @Nullable Object> extends AbstractList<Shrinkable<E>> implements RandomAccess {
+
+	private final Arbitrary<E> elementArbitrary;
+	private @Nullable Supplier<? extends List<? extends Shrinkable<E>>> shrinkablesSupplier;
+	private volatile @Nullable List<? extends Shrinkable<E>> shrinkables = null;
+
+	LazyShrinkables(Supplier<? extends List<? extends Shrinkable<E>>> shrinkablesSupplier, Arbitrary<E> elementArbitrary) {
+		this.shrinkablesSupplier = shrinkablesSupplier;
+		this.elementArbitrary = elementArbitrary;
+	}
+
+	/**
+	 * Check if recreated shrinkables can replace the kept values
+	 */
+	abstract boolean isRecreationOfValues(List<? extends Shrinkable<E>> created);
+
+	@Override
+	public Shrinkable<E> get(int index) {
+		return shrinkables().get(index);
+	}
+
+	private List<? extends Shrinkable<E>> shrinkables() {
+		List<? extends Shrinkable<E>> result = shrinkables;
+		if (result == null) {
+			synchronized (this) {
+				result = shrinkables;
+				if (result == null) {
+					result = createShrinkables();
+					shrinkables = result;
+					shrinkablesSupplier = null;
+				}
+			}
+		}
+		return result;
+	}
+
+	private List<? extends Shrinkable<E>> createShrinkables() {
+		List<? extends Shrinkable<E>> created = Objects.requireNonNull(shrinkablesSupplier).get();
+		if (!isRecreationOfValues(created)) {
+			// Value-only generation and shrinkable generation of elementArbitrary have diverged, which is a bug
+			String message = String.format("Recreated elements of %s differ from generated values.", elementArbitrary);
+			throw new JqwikException(message);
+		}
+		return created;
+	}
+}
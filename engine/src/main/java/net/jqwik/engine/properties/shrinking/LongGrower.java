@@ -0,0 +1,109 @@
+package net.jqwik.engine.properties.shrinking;
+
+import java.math.*;
+import java.util.*;
+import java.util.stream.*;
+
+import net.jqwik.api.*;
+
+/**
+ * Grows like {@linkplain BigIntegerGrower} but with long arithmetic.
+ * Only values that are BigIntegers themselves or differences that overflow
+ * fall back to {@linkplain BigIntegerGrower}.
+ */
+class LongGrower {
+
+	private final ShrinkableLong shrinkable;
+	private final long value;
+
+	LongGrower(ShrinkableLong shrinkable) {
+		this.shrinkable = shrinkable;
+		this.value = shrinkable.value();
+	}
+
+	Optional<Shrinkable<Long>> grow(Shrinkable<?> before, Shrinkable<?> after) {
+		Object beforeValue = before.value();
+		Object afterValue = after.value();
+		if (beforeValue instanceof BigInteger && afterValue instanceof BigInteger) {
+			return growWithBigIntegers(before, after);
+		}
+		try {
+			long diff = calculateDiff(toLong(beforeValue), toLong(afterValue));
+			if (diff != 0) {
+				long grownValue = Math.addExact(value, diff);
+				long target = shrinkable.shrinkingTarget();
+				if (sameSign(Long.compare(target, value), Long.compare(target, grownValue)) && shrinkable.includes(grownValue)) {
+					return Optional.of(shrinkable.createShrinkable(grownValue));
+				}
+			}
+			return Optional.empty();
+		} catch (ArithmeticException overflow) {
+			return growWithBigIntegers(before, after);
+		}
+	}
+
+	private Optional<Shrinkable<Long>> growWithBigIntegers(Shrinkable<?> before, Shrinkable<?> after) {
+		return new BigIntegerGrower()
+				   .grow(
+					   BigInteger.valueOf(value),
+					   shrinkable.range().map(BigInteger::valueOf),
+					   BigInteger.valueOf(shrinkable.shrinkingTarget()),
+					   before,
+					   after
+				   )
+				   .map(grown -> shrinkable.createShrinkable(grown.value().longValueExact()));
+	}
+
+	private long calculateDiff(long before, long after) {
+		if (sameSign(Long.signum(before), Long.signum(value))) {
+			return Math.subtractExact(before, after);
+		} else {
+			return Math.subtractExact(after, before);
+		}
+	}
+
+	private boolean sameSign(int firstSignum, int secondSignum) {
+		return Math.abs(firstSignum - secondSignum) <= 1;
+	}
+
+	private long toLong(Object value) {
+		if (value instanceof Long) {
+			return (Long) value;
+		}
+		if (value instanceof Integer) {
+			return ((Integer) value).longValue();
+		}
+		if (value instanceof Short) {
+			return ((Short) value).longValue();
+		}
+		if (value instanceof Byte) {
+			return ((Byte) value).longValue();
+		}
+		return 0L;
+	}
+
+	Stream<Shrinkable<Long>> grow() {
+		long[] candidates = value < shrinkable.shrinkingTarget() ? growLeft() : growRight();
+		return LongStream.of(candidates)
+						 .filter(shrinkable::includes)
+						 .distinct()
+						 .mapToObj(shrinkable::createShrinkable);
+	}
+
+	// Wrapped around candidates are filtered out by comparing them with the current value
+	private long[] growRight() {
+		long max = shrinkable.max();
+		long halfWayToMax = value + ((max - value) >>> 1);
+		return LongStream.of(max, halfWayToMax, value + 10, value + 1)
+						 .filter(grownValue -> grownValue > value)
+						 .toArray();
+	}
+
+	private long[] growLeft() {
+		long min = shrinkable.min();
+		long halfWayToMin = value - ((value - min) >>> 1);
+		return LongStream.of(min, halfWayToMin, value - 10, value - 1)
+						 .filter(grownValue -> grownValue < value)
+						 .toArray();
+	}
+}
@@ -0,0 +1,113 @@
+package net.jqwik.engine.properties.shrinking;
+
+import java.util.*;
+
+/**
+ * Creates the same shrinking candidates as {@linkplain BigIntegerShrinker}
+ * sorted by {@linkplain ShrinkableLong#distanceFor(long, long) distance} to the shrinking target.
+ *
+ * <p>
+ * The difference between a value and its shrinking target can exceed {@code Long.MAX_VALUE}
+ * and is therefore handled as an unsigned long.
+ * </p>
+ */
+public class LongShrinker {
+
+	private final long shrinkingTarget;
+
+	public LongShrinker(long shrinkingTarget) {
+		this.shrinkingTarget = shrinkingTarget;
+	}
+
+	public long[] shrink(long value) {
+		if (value == shrinkingTarget) {
+			return new long[0];
+		}
+		long lower = Math.min(shrinkingTarget, value);
+		long higher = Math.max(shrinkingTarget, value);
+		long span = higher - lower;
+
+		long[] added = fibonacciSteps(span);
+		long[] subtracted = fibonacciSteps(span);
+		for (int i = 0; i < added.length; i++) {
+			added[i] = lower + added[i];
+		}
+		for (int i = 0; i < subtracted.length; i++) {
+			subtracted[i] = higher - subtracted[i];
+		}
+
+		// Neither the value nor the shrinking target can be among the fibonacci candidates
+		long[] candidates = new long[added.length + subtracted.length + 1];
+		int count = 0;
+		for (long candidate : added) {
+			candidates[count++] = candidate;
+		}
+		for (long candidate : subtracted) {
+			// added candidates are sorted in ascending order
+			if (Arrays.binarySearch(added, candidate) < 0) {
+				candidates[count++] = candidate;
+			}
+		}
+		candidates[count++] = shrinkingTarget;
+		return sortByDistance(candidates, count);
+	}
+
+	/**
+	 * Sorting is stable with regard to the order of creation
+	 * for all candidates whose distance is capped at {@code Long.MAX_VALUE}.
+	 */
+	private long[] sortByDistance(long[] candidates, int count) {
+		long[] sorted = new long[count];
+		long[] capped = new long[count];
+		int countSorted = 0;
+		int countCapped = 0;
+		for (int i = 0; i < count; i++) {
+			long candidate = candidates[i];
+			if (ShrinkableLong.distanceFor(candidate, shrinkingTarget) == Long.MAX_VALUE) {
+				capped[countCapped++] = candidate;
+			} else {
+				sorted[countSorted++] = candidate;
+			}
+		}
+		// All candidates are on the same side of the shrinking target
+		Arrays.sort(sorted, 0, countSorted);
+		if (countSorted > 0 && sorted[0] < shrinkingTarget) {
+			reverse(sorted, countSorted);
+		}
+		System.arraycopy(capped, 0, sorted, countSorted, countCapped);
+		return sorted;
+	}
+
+	private static void reverse(long[] values, int count) {
+		for (int i = 0, j = count - 1; i < j; i++, j--) {
+			long swap = values[i];
+			values[i] = values[j];
+			values[j] = swap;
+		}
+	}
+
+	/**
+	 * @param span unsigned upper bound for the steps
+	 * @return the unsigned fibonacci steps 1, 2, 3, 5, 8 ... that are smaller than {@code span}
+	 */
+	private static long[] fibonacciSteps(long span) {
+		long[] steps = new long[92];
+		int count = 0;
+		long butLast = 0;
+		long last = 1;
+		while (true) {
+			long step = butLast + last;
+			boolean overflow = Long.compareUnsigned(step, last) < 0;
+			if (overflow || Long.compareUnsigned(step, span) >= 0) {
+				break;
+			}
+			if (count == steps.length) {
+				steps = Arrays.copyOf(steps, count * 2);
+			}
+			steps[count++] = step;
+			butLast = last;
+			last = step;
+		}
+		return Arrays.copyOf(steps, count);
+	}
+}
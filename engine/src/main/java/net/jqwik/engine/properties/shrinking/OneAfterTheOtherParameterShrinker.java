@@ -11,8 +11,11 @@ import org.jspecify.annotations.*;
 
 class OneAfterTheOtherParameterShrinker extends AbstractSampleShrinker {
 
-	public OneAfterTheOtherParameterShrinker(Map<List<Object>, TryExecutionResult> falsificationCache) {
-		super(falsificationCache);
+	public OneAfterTheOtherParameterShrinker(
+		Map<List<Object>, TryExecutionResult> falsificationCache,
+		@Nullable SpeculativeFalsifier speculativeFalsifier
+	) {
+		super(falsificationCache, speculativeFalsifier);
 	}
 
 	@Override
@@ -25,6 +25,8 @@ public class PropertyShrinker {
 	private final int boundedShrinkingSeconds;
 	private final Consumer<FalsifiedSample> falsifiedSampleReporter;
 	private final Method targetMethod;
+	private final int parallelism;
+	private final boolean useVirtualThreads;
 
 	private final AtomicInteger shrinkingStepsCounter = new AtomicInteger(0);
 	private final List<TryExecutionResult.Status> shrinkingSequence = new LinkedList<>();
@@ -38,12 +40,30 @@ public class PropertyShrinker {
 		int boundedShrinkingSeconds,
 		Consumer<FalsifiedSample> falsifiedSampleReporter,
 		Method targetMethod
+	) {
+		this(originalSample, shrinkingMode, boundedShrinkingSeconds, falsifiedSampleReporter, targetMethod, 1, false);
+	}
+
+	/**
+	 * @param parallelism With a value greater than 1 the next shrinking candidates are evaluated concurrently.
+	 *                    The shrinking result is the same as with sequential shrinking.
+	 */
+	public PropertyShrinker(
+		FalsifiedSample originalSample,
+		ShrinkingMode shrinkingMode,
+		int boundedShrinkingSeconds,
+		Consumer<FalsifiedSample> falsifiedSampleReporter,
+		Method targetMethod,
+		int parallelism,
+		boolean useVirtualThreads
 	) {
 		this.originalSample = originalSample;
 		this.shrinkingMode = shrinkingMode;
 		this.boundedShrinkingSeconds = boundedShrinkingSeconds;
 		this.falsifiedSampleReporter = falsifiedSampleReporter;
 		this.targetMethod = targetMethod;
+		this.parallelism = parallelism;
+		this.useVirtualThreads = useVirtualThreads;
 	}
 
 	public ShrunkFalsifiedSample shrink(Falsifier<? super List<Object>> forAllFalsifier) {
@@ -120,19 +140,34 @@ public class PropertyShrinker {
 	) {
 		Falsifier<List<Object>> recordingFalsifier = params -> {
 			TryExecutionResult executionResult = falsifier.execute(params);
-			if (!shrinkingInterrupted) {
-				shrinkingSequence.add(executionResult.status());
-			}
+			recordShrinkingStep(executionResult);
 			return executionResult;
 		};
 
-		ShrinkingAlgorithm plainShrinker = new ShrinkingAlgorithm(
-			originalSample,
-			sampleShrunkConsumer,
-			shrinkAttemptConsumer
-		);
+		if (parallelism <= 1) {
+			ShrinkingAlgorithm plainShrinker = new ShrinkingAlgorithm(
+				originalSample,
+				sampleShrunkConsumer,
+				shrinkAttemptConsumer
+			);
+			return plainShrinker.shrink(recordingFalsifier);
+		}
 
-		return plainShrinker.shrink(recordingFalsifier);
+		try (SpeculativeFalsifier speculativeFalsifier = new SpeculativeFalsifier(falsifier, this::recordShrinkingStep, parallelism, useVirtualThreads)) {
+			ShrinkingAlgorithm speculativeShrinker = new ShrinkingAlgorithm(
+				originalSample,
+				sampleShrunkConsumer,
+				shrinkAttemptConsumer,
+				speculativeFalsifier
+			);
+			return speculativeShrinker.shrink(recordingFalsifier);
+		}
+	}
+
+	private void recordShrinkingStep(TryExecutionResult executionResult) {
+		if (!shrinkingInterrupted) {
+			shrinkingSequence.add(executionResult.status());
+		}
 	}
 
 	private ShrunkFalsifiedSample unshrunkOriginalSample() {
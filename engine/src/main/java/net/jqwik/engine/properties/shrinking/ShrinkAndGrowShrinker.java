@@ -4,14 +4,19 @@ import java.util.*;
 import java.util.function.*;
 import java.util.stream.*;
 
+import org.jspecify.annotations.*;
+
 import net.jqwik.api.*;
 import net.jqwik.api.lifecycle.*;
 import net.jqwik.engine.support.*;
 
 class ShrinkAndGrowShrinker extends AbstractSampleShrinker {
 
-	public ShrinkAndGrowShrinker(Map<List<Object>, TryExecutionResult> falsificationCache) {
-		super(falsificationCache);
+	public ShrinkAndGrowShrinker(
+		Map<List<Object>, TryExecutionResult> falsificationCache,
+		@Nullable SpeculativeFalsifier speculativeFalsifier
+	) {
+		super(falsificationCache, speculativeFalsifier);
 	}
 
 	@Override
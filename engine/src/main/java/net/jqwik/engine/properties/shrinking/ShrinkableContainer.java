@@ -20,6 +20,8 @@ abstract class ShrinkableContainer<C, E> implements Shrinkable<C> {
 
 	protected final @Nullable Arbitrary<E> elementArbitrary;
 
+	private volatile @Nullable UniqueFeatures<E> elementFeatures = null;
+
 	ShrinkableContainer(
 		List<? extends Shrinkable<E>> elements,
 		int minSize, int maxSize,
@@ -132,12 +134,11 @@ abstract class ShrinkableContainer<C, E> implements Shrinkable<C> {
 			int index = i;
 			Shrinkable<E> element = elements.get(i);
 			Stream<Shrinkable<C>> shrinkElement = element.shrink().flatMap(shrunkElement -> {
-				List<Shrinkable<E>> elementsCopy = new ArrayList<>(elements);
-				elementsCopy.remove(index);
-				if (!checkShrinkableUniqueIn(uniquenessExtractors, shrunkElement, elementsCopy)) {
+				if (!uniquenessExtractors.isEmpty() && !elementFeatures().isUniqueReplacement(element.value(), shrunkElement.value())) {
 					return Stream.empty();
 				}
-				elementsCopy.add(index, shrunkElement);
+				List<Shrinkable<E>> elementsCopy = new ArrayList<>(elements);
+				elementsCopy.set(index, shrunkElement);
 				return Stream.of(createShrinkable(elementsCopy));
 			});
 			shrinkPerElementStreams.add(shrinkElement);
@@ -145,6 +146,26 @@ abstract class ShrinkableContainer<C, E> implements Shrinkable<C> {
 		return JqwikStreamSupport.concat(shrinkPerElementStreams);
 	}
 
+	/**
+	 * Features of all elements are only extracted once per container and only if shrinking needs them
+	 */
+	private UniqueFeatures<E> elementFeatures() {
+		UniqueFeatures<E> features = elementFeatures;
+		if (features == null) {
+			features = UniqueFeatures.of(uniquenessExtractors, createValues(elements));
+			elementFeatures = features;
+		}
+		return features;
+	}
+
+	private List<E> createValues(List<? extends Shrinkable<E>> shrinkables) {
+		List<E> values = new ArrayList<>(shrinkables.size());
+		for (Shrinkable<E> shrinkable : shrinkables) {
+			values.add(shrinkable.value());
+		}
+		return values;
+	}
+
 	protected Stream<Shrinkable<C>> shrinkPairsOfElements() {
 		ShrinkingCommons.ContainerCreator<C, E> createContainer = newElements -> {
 			if (checkUniquenessOfShrinkables(uniquenessExtractors, newElements)) {
@@ -0,0 +1,459 @@
+package net.jqwik.engine.properties.shrinking;
+
+import java.util.*;
+import java.util.function.*;
+import java.util.stream.*;
+
+import net.jqwik.api.*;
+import net.jqwik.engine.properties.*;
+import net.jqwik.engine.support.*;
+
+import org.jspecify.annotations.*;
+
+/**
+ * Shrinks {@code byte[]}, {@code short[]}, {@code int[]} and {@code long[]} values
+ * like a {@linkplain ShrinkableList} of {@linkplain ShrinkableLong} elements would.
+ *
+ * <p>
+ * Elements are kept in the primitive array itself.
+ * Element shrinkables are only created while shrinking.
+ * </p>
+ */
+public class ShrinkableIntegralArray<A> implements Shrinkable<A> {
+
+	private final A elements;
+	private final ArrayType<A> arrayType;
+	private final ShrinkableLong elementPrototype;
+	private final int minSize;
+	private final int maxSize;
+
+	private @Nullable ShrinkingDistance distance = null;
+
+	/**
+	 * @param elements will not be copied and must not be changed afterwards
+	 */
+	public ShrinkableIntegralArray(
+		A elements,
+		ArrayType<A> arrayType,
+		Range<Long> elementRange,
+		long elementShrinkingTarget,
+		int minSize,
+		int maxSize
+	) {
+		this(elements, arrayType, new ShrinkableLong(elementShrinkingTarget, elementRange, elementShrinkingTarget), minSize, maxSize);
+	}
+
+	private ShrinkableIntegralArray(A elements, ArrayType<A> arrayType, ShrinkableLong elementPrototype, int minSize, int maxSize) {
+		this.elements = elements;
+		this.arrayType = arrayType;
+		this.elementPrototype = elementPrototype;
+		this.minSize = minSize;
+		this.maxSize = maxSize;
+	}
+
+	@Override
+	public A value() {
+		return arrayType.copyOfRange(elements, 0, size());
+	}
+
+	private int size() {
+		return arrayType.length(elements);
+	}
+
+	private long get(int index) {
+		return arrayType.get(elements, index);
+	}
+
+	private Shrinkable<Long> element(int index) {
+		return elementPrototype.createShrinkable(get(index));
+	}
+
+	private long elementDistance(long value) {
+		return ShrinkableLong.distanceFor(value, elementPrototype.shrinkingTarget());
+	}
+
+	/**
+	 * Same order as {@linkplain Shrinkable#compareTo(Shrinkable)} of element shrinkables
+	 */
+	private int compareElements(long first, long second) {
+		int comparison = Long.compare(elementDistance(first), elementDistance(second));
+		return comparison != 0 ? comparison : Long.compare(first, second);
+	}
+
+	private ShrinkableIntegralArray<A> createShrinkable(A shrunkElements) {
+		return new ShrinkableIntegralArray<>(shrunkElements, arrayType, elementPrototype, minSize, maxSize);
+	}
+
+	private Shrinkable<A> replaced(int index, long value) {
+		A copy = arrayType.copyOfRange(elements, 0, size());
+		arrayType.set(copy, index, value);
+		return createShrinkable(copy);
+	}
+
+	private Shrinkable<A> replaced(int firstIndex, long firstValue, int secondIndex, long secondValue) {
+		A copy = arrayType.copyOfRange(elements, 0, size());
+		arrayType.set(copy, firstIndex, firstValue);
+		arrayType.set(copy, secondIndex, secondValue);
+		return createShrinkable(copy);
+	}
+
+	@Override
+	public Stream<Shrinkable<A>> shrink() {
+		return JqwikStreamSupport.concat(
+			lazy(this::shrinkSizeOfArray),
+			shrinkElementsOneAfterTheOther(),
+			shrinkPairsOfElements(),
+			lazy(this::sortElements),
+			moveIndividualValuesTowardsEnd()
+		);
+	}
+
+	private static <T> Stream<T> lazy(Supplier<Stream<T>> streamSupplier) {
+		return Stream.of(streamSupplier).flatMap(Supplier::get);
+	}
+
+	/**
+	 * Same cuts as {@linkplain SizeOfListShrinker}
+	 */
+	private Stream<Shrinkable<A>> shrinkSizeOfArray() {
+		int size = size();
+		if (size <= minSize) {
+			return Stream.empty();
+		}
+		int elementsToCut = Math.min(rawElementsToCut(size), size - minSize);
+		List<ShrinkableIntegralArray<A>> cuts = new ArrayList<>();
+		if (minSize == 0) {
+			cuts.add(createShrinkable(arrayType.newArray(0)));
+		}
+		addCut(cuts, 0, size - elementsToCut);
+		if (elementsToCut != 1) {
+			addCut(cuts, 0, size - 1);
+		}
+		addCut(cuts, elementsToCut, size);
+		if (elementsToCut != 1) {
+			addCut(cuts, 1, size);
+		}
+		return cuts.stream()
+				   .map(cut -> (Shrinkable<A>) cut)
+				   .sorted(Comparator.comparing(Shrinkable::distance));
+	}
+
+	private static int rawElementsToCut(int size) {
+		if (size <= 10)
+			return 1;
+		if (size < 20)
+			return size - 9;
+		return size / 2;
+	}
+
+	private void addCut(List<ShrinkableIntegralArray<A>> cuts, int from, int to) {
+		ShrinkableIntegralArray<A> cut = createShrinkable(arrayType.copyOfRange(elements, from, to));
+		if (!cuts.subList(minSize == 0 ? 1 : 0, cuts.size()).contains(cut)) {
+			cuts.add(cut);
+		}
+	}
+
+	private Stream<Shrinkable<A>> shrinkElementsOneAfterTheOther() {
+		return IntStream.range(0, size()).boxed().flatMap(
+			index -> element(index).shrink().map(shrunkElement -> replaced(index, shrunkElement.value()))
+		);
+	}
+
+	private Stream<Shrinkable<A>> shrinkPairsOfElements() {
+		return Combinatorics
+				   .distinctPairs(size())
+				   .flatMap(pair -> JqwikStreamSupport.zip(
+					   element(pair.get1()).shrink(),
+					   element(pair.get2()).shrink(),
+					   (Shrinkable<Long> s1, Shrinkable<Long> s2) -> replaced(pair.get1(), s1.value(), pair.get2(), s2.value())
+				   ));
+	}
+
+	/**
+	 * Same candidates as {@code ShrinkingCommons.sortElements()}
+	 */
+	private Stream<Shrinkable<A>> sortElements() {
+		int size = size();
+		Long[] sortedValues = new Long[size];
+		for (int i = 0; i < size; i++) {
+			sortedValues[i] = get(i);
+		}
+		// Object sorting is stable
+		Arrays.sort(sortedValues, Comparator.comparing(this::elementDistance));
+		A sortedElements = arrayType.newArray(size);
+		boolean alreadySorted = true;
+		for (int i = 0; i < size; i++) {
+			arrayType.set(sortedElements, i, sortedValues[i]);
+			alreadySorted &= sortedValues[i] == get(i);
+		}
+		if (alreadySorted) {
+			return Stream.empty();
+		}
+		Stream<Shrinkable<A>> pairwiseSort =
+			Combinatorics.distinctPairs(size)
+						 .map(pair -> Tuple.of(Math.min(pair.get1(), pair.get2()), Math.max(pair.get1(), pair.get2())))
+						 .filter(pair -> compareElements(get(pair.get1()), get(pair.get2())) > 0)
+						 .map(pair -> replaced(pair.get1(), get(pair.get2()), pair.get2(), get(pair.get1())));
+		return Stream.concat(Stream.of(createShrinkable(sortedElements)), pairwiseSort);
+	}
+
+	/**
+	 * Same candidates as {@code ShrinkableList.moveIndividualValuesTowardsEnd()}
+	 */
+	private Stream<Shrinkable<A>> moveIndividualValuesTowardsEnd() {
+		return Combinatorics
+				   .distinctPairs(size())
+				   .map(pair -> Tuple.of(Math.min(pair.get1(), pair.get2()), Math.max(pair.get1(), pair.get2())))
+				   .filter(pair -> compareElements(get(pair.get1()), get(pair.get2())) <= 0)
+				   .flatMap(pair -> {
+					   int firstIndex = pair.get1();
+					   int secondIndex = pair.get2();
+					   Shrinkable<Long> first = element(firstIndex);
+					   Shrinkable<Long> second = element(secondIndex);
+					   return first.shrink()
+								   .map(after -> second.grow(first, after).map(
+									   grown -> replaced(firstIndex, after.value(), secondIndex, grown.value())
+								   ))
+								   .filter(Optional::isPresent)
+								   .map(Optional::get);
+				   })
+				   .filter(s -> s.distance().compareTo(distance()) <= 0);
+	}
+
+	@Override
+	public Optional<Shrinkable<A>> grow(Shrinkable<?> before, Shrinkable<?> after) {
+		if (before instanceof ShrinkableIntegralArray && after instanceof ShrinkableIntegralArray) {
+			ShrinkableIntegralArray<?> beforeArray = (ShrinkableIntegralArray<?>) before;
+			ShrinkableIntegralArray<?> afterArray = (ShrinkableIntegralArray<?>) after;
+			// Moving elements from one array to another is only allowed if both contain elements of the same kind
+			if (isSameKindAs(beforeArray) && isSameKindAs(afterArray)) {
+				return growBy(beforeArray.valuesNotIn(afterArray));
+			}
+		}
+		return Optional.empty();
+	}
+
+	private boolean isSameKindAs(ShrinkableIntegralArray<?> other) {
+		return arrayType == other.arrayType
+				   && elementPrototype.range().equals(other.elementPrototype.range())
+				   && elementPrototype.shrinkingTarget() == other.elementPrototype.shrinkingTarget();
+	}
+
+	private long[] valuesNotIn(ShrinkableIntegralArray<?> other) {
+		long[] otherValues = other.toLongs();
+		Arrays.sort(otherValues);
+		return LongStream.of(toLongs())
+						 .filter(value -> Arrays.binarySearch(otherValues, value) < 0)
+						 .toArray();
+	}
+
+	private long[] toLongs() {
+		long[] longs = new long[size()];
+		for (int i = 0; i < longs.length; i++) {
+			longs[i] = get(i);
+		}
+		return longs;
+	}
+
+	/**
+	 * Values are prepended in reverse order like {@code ShrinkableContainer.growBy()} does
+	 */
+	private Optional<Shrinkable<A>> growBy(long[] values) {
+		int size = size();
+		if (size + values.length > maxSize) {
+			return Optional.empty();
+		}
+		A grownElements = arrayType.newArray(size + values.length);
+		for (int i = 0; i < values.length; i++) {
+			arrayType.set(grownElements, values.length - 1 - i, values[i]);
+		}
+		System.arraycopy(elements, 0, grownElements, values.length, size);
+		return Optional.of(createShrinkable(grownElements));
+	}
+
+	@Override
+	public Stream<Shrinkable<A>> grow() {
+		return IntStream.range(0, size()).boxed().flatMap(
+			index -> element(index).grow().map(grownElement -> replaced(index, grownElement.value()))
+		);
+	}
+
+	@Override
+	public ShrinkingDistance distance() {
+		if (distance == null) {
+			distance = calculateDistance();
+		}
+		return distance;
+	}
+
+	/**
+	 * Same distance as {@linkplain ShrinkingDistance#forCollection(Collection)} of element shrinkables
+	 */
+	private ShrinkingDistance calculateDistance() {
+		int size = size();
+		if (size == 0) {
+			return ShrinkingDistance.of(0);
+		}
+		long sumOfDistances = 0;
+		for (int i = 0; i < size; i++) {
+			sumOfDistances += elementDistance(get(i));
+			if (sumOfDistances < 0) {
+				sumOfDistances = Long.MAX_VALUE;
+			}
+		}
+		return ShrinkingDistance.of(size, sumOfDistances);
+	}
+
+	@Override
+	public boolean equals(Object o) {
+		if (this == o) return true;
+		if (o == null || getClass() != o.getClass()) return false;
+		ShrinkableIntegralArray<?> that = (ShrinkableIntegralArray<?>) o;
+		return arrayType == that.arrayType && Arrays.equals(toLongs(), that.toLongs());
+	}
+
+	@Override
+	public int hashCode() {
+		return Arrays.hashCode(toLongs());
+	}
+
+	@Override
+	public String toString() {
+		return String.format(
+			"%s<%s>(%s:%s)",
+			getClass().getSimpleName(),
+			elements.getClass().getSimpleName(),
+			Arrays.toString(toLongs()), distance()
+		);
+	}
+
+	/**
+	 * Access to the elements of one primitive integral array type as {@code long} values
+	 */
+	public abstract static class ArrayType<A> {
+
+		public static final ArrayType<byte[]> BYTES = new ArrayType<byte[]>() {
+			@Override
+			public byte[] newArray(int size) {
+				return new byte[size];
+			}
+
+			@Override
+			public int length(byte[] array) {
+				return array.length;
+			}
+
+			@Override
+			public long get(byte[] array, int index) {
+				return array[index];
+			}
+
+			@Override
+			public void set(byte[] array, int index, long value) {
+				array[index] = (byte) value;
+			}
+		};
+
+		public static final ArrayType<short[]> SHORTS = new ArrayType<short[]>() {
+			@Override
+			public short[] newArray(int size) {
+				return new short[size];
+			}
+
+			@Override
+			public int length(short[] array) {
+				return array.length;
+			}
+
+			@Override
+			public long get(short[] array, int index) {
+				return array[index];
+			}
+
+			@Override
+			public void set(short[] array, int index, long value) {
+				array[index] = (short) value;
+			}
+		};
+
+		public static final ArrayType<int[]> INTS = new ArrayType<int[]>() {
+			@Override
+			public int[] newArray(int size) {
+				return new int[size];
+			}
+
+			@Override
+			public int length(int[] array) {
+				return array.length;
+			}
+
+			@Override
+			public long get(int[] array, int index) {
+				return array[index];
+			}
+
+			@Override
+			public void set(int[] array, int index, long value) {
+				array[index] = (int) value;
+			}
+		};
+
+		public static final ArrayType<long[]> LONGS = new ArrayType<long[]>() {
+			@Override
+			public long[] newArray(int size) {
+				return new long[size];
+			}
+
+			@Override
+			public int length(long[] array) {
+				return array.length;
+			}
+
+			@Override
+			public long get(long[] array, int index) {
+				return array[index];
+			}
+
+			@Override
+			public void set(long[] array, int index, long value) {
+				array[index] = value;
+			}
+		};
+
+		public static @Nullable ArrayType<?> forComponentType(Class<?> componentType) {
+			if (componentType == byte.class) {
+				return BYTES;
+			}
+			if (componentType == short.class) {
+				return SHORTS;
+			}
+			if (componentType == int.class) {
+				return INTS;
+			}
+			if (componentType == long.class) {
+				return LONGS;
+			}
+			return null;
+		}
+
+		private ArrayType() {
+		}
+
+		public abstract A newArray(int size);
+
+		public abstract int length(A array);
+
+		public abstract long get(A array, int index);
+
+		/**
+		 * The value must fit into the component type
+		 */
+		public abstract void set(A array, int index, long value);
+
+		public A copyOfRange(A array, int from, int to) {
+			A copy = newArray(to - from);
+			System.arraycopy(array, from, copy, 0, to - from);
+			return copy;
+		}
+	}
+}
@@ -1,6 +1,7 @@
 package net.jqwik.engine.properties.shrinking;
 
 import java.util.*;
+import java.util.function.*;
 import java.util.stream.*;
 
 import net.jqwik.api.*;
@@ -13,6 +14,8 @@ import static net.jqwik.engine.properties.UniquenessChecker.*;
 
 public class ShrinkableList<E extends @Nullable Object> extends ShrinkableContainer<List<E>, E> {
 
+	private final @Nullable LazyElementShrinkables<E> lazyElements;
+
 	// Only used in tests
 	ShrinkableList(List<Shrinkable<E>> elements, int minSize, int maxSize) {
 		this(elements, minSize, maxSize, Collections.emptySet(), null);
@@ -25,10 +28,37 @@ public class ShrinkableList<E extends @Nullable Object> extends ShrinkableContai
 		Arbitrary<E> elementArbitrary
 	) {
 		super(elements, minSize, maxSize, uniquenessExtractors, elementArbitrary);
+		this.lazyElements = null;
+	}
+
+	/**
+	 * Element shrinkables are created by {@code shrinkablesSupplier} when they are needed for the first time.
+	 * Until then only {@code values} is kept, which must be immutable and implement {@code equals()}.
+	 */
+	public ShrinkableList(
+		List<E> values, Supplier<? extends List<? extends Shrinkable<E>>> shrinkablesSupplier,
+		int minSize, int maxSize,
+		Collection<? extends FeatureExtractor<E>> uniquenessExtractors,
+		Arbitrary<E> elementArbitrary
+	) {
+		this(new LazyElementShrinkables<>(values, shrinkablesSupplier, elementArbitrary), minSize, maxSize, uniquenessExtractors, elementArbitrary);
+	}
+
+	private ShrinkableList(
+		LazyElementShrinkables<E> lazyElements,
+		int minSize, int maxSize,
+		Collection<? extends FeatureExtractor<E>> uniquenessExtractors,
+		Arbitrary<E> elementArbitrary
+	) {
+		super(lazyElements, minSize, maxSize, uniquenessExtractors, elementArbitrary);
+		this.lazyElements = lazyElements;
 	}
 
 	@Override
 	List<E> createValue(List<? extends Shrinkable<E>> shrinkables) {
+		if (lazyElements != null && shrinkables == lazyElements) {
+			return new ArrayList<>(lazyElements.values());
+		}
 		// Using loop instead of stream to make stack traces more readable
 		List<E> values = new ArrayList<>(shrinkables.size());
 		for (Shrinkable<E> shrinkable : shrinkables) {
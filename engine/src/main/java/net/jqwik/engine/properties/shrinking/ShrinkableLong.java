@@ -0,0 +1,117 @@
+package net.jqwik.engine.properties.shrinking;
+
+import java.util.*;
+import java.util.stream.*;
+
+import net.jqwik.api.*;
+import net.jqwik.engine.properties.*;
+import net.jqwik.engine.support.*;
+
+/**
+ * Shrinks like {@linkplain ShrinkableBigInteger} but without any {@linkplain java.math.BigInteger} arithmetic.
+ */
+public class ShrinkableLong extends AbstractValueShrinkable<Long> {
+	private final Range<Long> range;
+	private final long min;
+	private final long max;
+	private final long shrinkingTarget;
+
+	public ShrinkableLong(long value, Range<Long> range, long shrinkingTarget) {
+		this(value, range, inclusiveMin(range), inclusiveMax(range), shrinkingTarget);
+		checkValueInRange(value);
+	}
+
+	private ShrinkableLong(long value, Range<Long> range, long min, long max, long shrinkingTarget) {
+		super(value);
+		this.range = range;
+		this.min = min;
+		this.max = max;
+		this.shrinkingTarget = shrinkingTarget;
+	}
+
+	private static long inclusiveMin(Range<Long> range) {
+		return range.minIncluded ? range.min : range.min + 1;
+	}
+
+	private static long inclusiveMax(Range<Long> range) {
+		return range.maxIncluded ? range.max : range.max - 1;
+	}
+
+	@Override
+	public Stream<Shrinkable<Long>> shrink() {
+		return JqwikStreamSupport.concat(
+			shrinkTowardsTarget(),
+			shrinkNegativeToPositive()
+		);
+	}
+
+	@Override
+	public Optional<Shrinkable<Long>> grow(Shrinkable<?> before, Shrinkable<?> after) {
+		return new LongGrower(this).grow(before, after);
+	}
+
+	@Override
+	public Stream<Shrinkable<Long>> grow() {
+		return new LongGrower(this).grow();
+	}
+
+	private Stream<Shrinkable<Long>> shrinkNegativeToPositive() {
+		long value = value();
+		// The negation of Long.MIN_VALUE is not a long
+		if (value >= 0 || value == Long.MIN_VALUE || !includes(-value)) {
+			return Stream.empty();
+		}
+		return Stream.of(createShrinkable(-value));
+	}
+
+	private Stream<Shrinkable<Long>> shrinkTowardsTarget() {
+		long[] candidates = new LongShrinker(shrinkingTarget).shrink(value());
+		return LongStream.of(candidates).mapToObj(this::createShrinkable);
+	}
+
+	Shrinkable<Long> createShrinkable(long aLong) {
+		return new ShrinkableLong(aLong, range, min, max, shrinkingTarget);
+	}
+
+	boolean includes(long aLong) {
+		return aLong >= min && aLong <= max;
+	}
+
+	long min() {
+		return min;
+	}
+
+	long max() {
+		return max;
+	}
+
+	long shrinkingTarget() {
+		return shrinkingTarget;
+	}
+
+	Range<Long> range() {
+		return range;
+	}
+
+	@Override
+	public ShrinkingDistance distance() {
+		return ShrinkingDistance.of(distanceFor(value(), shrinkingTarget));
+	}
+
+	/**
+	 * @return the same distance as {@code ShrinkableBigInteger.distanceFor()}
+	 */
+	static long distanceFor(long value, long target) {
+		long unsignedDistance = value >= target ? value - target : target - value;
+		// An unsigned distance above Long.MAX_VALUE is negative
+		return unsignedDistance < 0 ? Long.MAX_VALUE : unsignedDistance;
+	}
+
+	private void checkValueInRange(long value) {
+		if (!includes(value)) {
+			String message = String.format("Value <%s> is outside allowed range %s", value, range);
+			throw new JqwikException(message);
+		}
+	}
+
+}
@@ -1,6 +1,7 @@
 package net.jqwik.engine.properties.shrinking;
 
 import java.util.*;
+import java.util.function.*;
 import java.util.stream.*;
 
 import org.jspecify.annotations.*;
@@ -10,22 +11,39 @@ import net.jqwik.engine.properties.*;
 
 public class ShrinkableSet<E extends @Nullable Object> extends ShrinkableContainer<Set<E>, E> {
 
+	private final @Nullable LazyElementShrinkables<E> lazyElements;
+
 	public ShrinkableSet(
 		Collection<? extends Shrinkable<E>> elements,
 		int minSize, int maxSize,
 		Collection<? extends FeatureExtractor<E>> uniquenessExtractors,
 		@Nullable Arbitrary<E> elementArbitrary
 	) {
-		this(new ArrayList<>(elements), minSize, maxSize, uniquenessExtractors, elementArbitrary);
+		super(new ArrayList<>(elements), minSize, maxSize, uniquenessExtractors, elementArbitrary);
+		this.lazyElements = null;
+	}
+
+	/**
+	 * Element shrinkables are created by {@code shrinkablesSupplier} when they are needed for the first time.
+	 * Until then only {@code values} is kept, which must be immutable and implement {@code equals()}.
+	 */
+	public ShrinkableSet(
+		List<E> values, Supplier<? extends List<? extends Shrinkable<E>>> shrinkablesSupplier,
+		int minSize, int maxSize,
+		Collection<? extends FeatureExtractor<E>> uniquenessExtractors,
+		Arbitrary<E> elementArbitrary
+	) {
+		this(new LazyElementShrinkables<>(values, shrinkablesSupplier, elementArbitrary), minSize, maxSize, uniquenessExtractors, elementArbitrary);
 	}
 
 	private ShrinkableSet(
-		List<? extends Shrinkable<E>> elements,
+		LazyElementShrinkables<E> lazyElements,
 		int minSize, int maxSize,
 		Collection<? extends FeatureExtractor<E>> uniquenessExtractors,
-		@Nullable Arbitrary<E> elementArbitrary
+		Arbitrary<E> elementArbitrary
 	) {
-		super(elements, minSize, maxSize, uniquenessExtractors, elementArbitrary);
+		super(lazyElements, minSize, maxSize, uniquenessExtractors, elementArbitrary);
+		this.lazyElements = lazyElements;
 	}
 
 	@Override
@@ -40,6 +58,9 @@ public class ShrinkableSet<E extends @Nullable Object> extends ShrinkableContain
 
 	@Override
 	Set<E> createValue(List<? extends Shrinkable<E>> shrinkables) {
+		if (lazyElements != null && shrinkables == lazyElements) {
+			return new LinkedHashSet<>(lazyElements.values());
+		}
 		// See https://richardstartin.github.io/posts/5-java-mundane-performance-tricks#size-hashmaps-whenever-possible
 		//     for how to compute initial capacity of hash maps
 		int capacityWithLoadFactor = shrinkables.size() * 4 / 3;
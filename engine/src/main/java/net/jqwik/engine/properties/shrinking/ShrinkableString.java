@@ -1,6 +1,7 @@
 package net.jqwik.engine.properties.shrinking;
 
 import java.util.*;
+import java.util.function.*;
 import java.util.stream.*;
 
 import net.jqwik.api.*;
@@ -19,6 +20,19 @@ public class ShrinkableString extends ShrinkableContainer<String, Character> {
 		this(elements, minSize, maxSize, uniquenessExtractors(uniqueChars), characterArbitrary);
 	}
 
+	/**
+	 * Character shrinkables are created by {@code shrinkablesSupplier} when they are needed for the first time.
+	 * Until then only {@code chars} is kept.
+	 */
+	public ShrinkableString(
+		char[] chars, Supplier<? extends List<? extends Shrinkable<Character>>> shrinkablesSupplier,
+		int minSize, int maxSize,
+		Arbitrary<Character> characterArbitrary,
+		boolean uniqueChars
+	) {
+		this(new LazyCharacterShrinkables(chars, shrinkablesSupplier, characterArbitrary), minSize, maxSize, uniquenessExtractors(uniqueChars), characterArbitrary);
+	}
+
 	private ShrinkableString(
 		List<? extends Shrinkable<Character>> elements, int minSize, int maxSize,
 		Collection<? extends FeatureExtractor<Character>> uniquenessExtractors,
@@ -33,6 +47,9 @@ public class ShrinkableString extends ShrinkableContainer<String, Character> {
 
 	@Override
 	String createValue(List<? extends Shrinkable<Character>> shrinkables) {
+		if (shrinkables instanceof LazyCharacterShrinkables) {
+			return ((LazyCharacterShrinkables) shrinkables).string();
+		}
 		// Using loop instead of stream to make stack traces more readable
 		StringBuilder builder = new StringBuilder(shrinkables.size());
 		for (Shrinkable<Character> shrinkable : shrinkables) {
@@ -3,6 +3,8 @@ package net.jqwik.engine.properties.shrinking;
 import java.util.*;
 import java.util.function.*;
 
+import org.jspecify.annotations.*;
+
 import net.jqwik.api.*;
 import net.jqwik.api.lifecycle.*;
 
@@ -12,16 +14,26 @@ class ShrinkingAlgorithm {
 	private final FalsifiedSample originalSample;
 	private final Consumer<FalsifiedSample> sampleShrunkConsumer;
 	private final Consumer<FalsifiedSample> shrinkAttemptConsumer;
+	private final @Nullable SpeculativeFalsifier speculativeFalsifier;
 
 	ShrinkingAlgorithm(
 		FalsifiedSample originalSample,
 		Consumer<FalsifiedSample> sampleShrunkConsumer,
 		Consumer<FalsifiedSample> shrinkAttemptConsumer
 	) {
+		this(originalSample, sampleShrunkConsumer, shrinkAttemptConsumer, null);
+	}
 
+	ShrinkingAlgorithm(
+		FalsifiedSample originalSample,
+		Consumer<FalsifiedSample> sampleShrunkConsumer,
+		Consumer<FalsifiedSample> shrinkAttemptConsumer,
+		@Nullable SpeculativeFalsifier speculativeFalsifier
+	) {
 		this.originalSample = originalSample;
 		this.sampleShrunkConsumer = sampleShrunkConsumer;
 		this.shrinkAttemptConsumer = shrinkAttemptConsumer;
+		this.speculativeFalsifier = speculativeFalsifier;
 	}
 
 	FalsifiedSample shrink(final Falsifier<List<Object>> falsifier) {
@@ -48,7 +60,7 @@ class ShrinkingAlgorithm {
 		Consumer<FalsifiedSample> sampleShrunkConsumer,
 		Consumer<FalsifiedSample> shrinkAttemptConsumer
 	) {
-		return new OneAfterTheOtherParameterShrinker(falsificationCache)
+		return new OneAfterTheOtherParameterShrinker(falsificationCache, speculativeFalsifier)
 				   .shrink(falsifier, sample, sampleShrunkConsumer, shrinkAttemptConsumer);
 	}
 
@@ -58,7 +70,7 @@ class ShrinkingAlgorithm {
 		Consumer<FalsifiedSample> sampleShrunkConsumer,
 		Consumer<FalsifiedSample> shrinkAttemptConsumer
 	) {
-		return new PairwiseParameterShrinker(falsificationCache).shrink(falsifier, sample, sampleShrunkConsumer, shrinkAttemptConsumer);
+		return new PairwiseParameterShrinker(falsificationCache, speculativeFalsifier).shrink(falsifier, sample, sampleShrunkConsumer, shrinkAttemptConsumer);
 	}
 
 	private FalsifiedSample shrinkAndGrow(
@@ -67,7 +79,7 @@ class ShrinkingAlgorithm {
 		Consumer<FalsifiedSample> sampleShrunkConsumer,
 		Consumer<FalsifiedSample> shrinkAttemptConsumer
 	) {
-		return new ShrinkAndGrowShrinker(falsificationCache).shrink(falsifier, sample, sampleShrunkConsumer, shrinkAttemptConsumer);
+		return new ShrinkAndGrowShrinker(falsificationCache, speculativeFalsifier).shrink(falsifier, sample, sampleShrunkConsumer, shrinkAttemptConsumer);
 	}
 
 }
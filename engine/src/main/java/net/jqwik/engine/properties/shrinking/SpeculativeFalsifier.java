@@ -0,0 +1,92 @@
+package net.jqwik.engine.properties.shrinking;
+
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.function.*;
+
+import org.junit.platform.engine.*;
+
+import net.jqwik.api.*;
+import net.jqwik.api.domains.*;
+import net.jqwik.api.lifecycle.*;
+import net.jqwik.engine.execution.lifecycle.*;
+import net.jqwik.engine.properties.*;
+import net.jqwik.engine.support.*;
+
+/**
+ * Evaluates upcoming shrinking candidates concurrently.
+ *
+ * <p>
+ * Results are only handed back - and recorded - when a shrinker asks for them in the order of its candidate stream.
+ * Thereby shrinking comes to the same result and the same shrinking sequence as sequential shrinking.
+ * </p>
+ */
+class SpeculativeFalsifier implements AutoCloseable {
+
+	private final Falsifier<List<Object>> falsifier;
+	private final Consumer<TryExecutionResult> resultRecorder;
+	private final int lookAhead;
+	private final ExecutorService executorService;
+	private final TestDescriptor currentDescriptor;
+	private final DomainContext currentDomainContext;
+
+	SpeculativeFalsifier(
+		Falsifier<List<Object>> falsifier,
+		Consumer<TryExecutionResult> resultRecorder,
+		int lookAhead,
+		boolean useVirtualThreads
+	) {
+		this.falsifier = falsifier;
+		this.resultRecorder = resultRecorder;
+		this.lookAhead = lookAhead;
+		this.currentDescriptor = CurrentTestDescriptor.get();
+		this.currentDomainContext = CurrentDomainContext.get();
+		this.executorService = TryExecutors.create(lookAhead, useVirtualThreads);
+	}
+
+	/**
+	 * The maximum number of candidates to evaluate ahead of the candidate that is currently needed
+	 */
+	int lookAhead() {
+		return lookAhead;
+	}
+
+	Future<TryExecutionResult> evaluateAhead(List<Object> params) {
+		return executorService.submit(() -> CurrentDomainContext.runWithContext(
+			currentDomainContext,
+			() -> CurrentTestDescriptor.runWithDescriptor(
+				currentDescriptor,
+				() -> ConcurrentTryValues.runInOwnTry(() -> falsifier.execute(params))
+			)
+		));
+	}
+
+	TryExecutionResult resultOf(Future<TryExecutionResult> evaluation) {
+		try {
+			TryExecutionResult result = evaluation.get();
+			resultRecorder.accept(result);
+			return result;
+		} catch (ExecutionException executionException) {
+			return JqwikExceptionSupport.throwAsUncheckedException(executionException.getCause());
+		} catch (InterruptedException interruptedException) {
+			Thread.currentThread().interrupt();
+			return JqwikExceptionSupport.throwAsUncheckedException(interruptedException);
+		}
+	}
+
+	@Override
+	public void close() {
+		executorService.shutdown();
+		boolean interrupted = false;
+		while (!executorService.isTerminated()) {
+			try {
+				executorService.awaitTermination(1, TimeUnit.SECONDS);
+			} catch (InterruptedException e) {
+				interrupted = true;
+			}
+		}
+		if (interrupted) {
+			Thread.currentThread().interrupt();
+		}
+	}
+}
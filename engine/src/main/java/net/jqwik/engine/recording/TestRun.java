@@ -1,29 +1,44 @@
 package net.jqwik.engine.recording;
 
 import java.io.*;
+import java.time.*;
+import java.util.*;
 
+import org.jspecify.annotations.*;
 import org.junit.platform.engine.*;
 
 import net.jqwik.api.lifecycle.PropertyExecutionResult.*;
 import net.jqwik.engine.execution.*;
 
 public class TestRun implements Serializable {
+
+	// Computed value of versions without durationMillis so that existing databases can still be read
+	private static final long serialVersionUID = 8023894960610620568L;
+
 	private final String uniqueIdString;
 	private final int statusOrdinal;
 	private final GenerationInfo generationInfo;
+	// Null if no duration has been recorded, e.g. for containers or in databases of earlier versions
+	private final @Nullable Long durationMillis;
 
 	public TestRun(
 		UniqueId uniqueId,
 		Status status,
 		GenerationInfo generationInfo
+	) {
+		this(uniqueId, status, generationInfo, null);
+	}
+
+	public TestRun(
+		UniqueId uniqueId,
+		Status status,
+		GenerationInfo generationInfo,
+		@Nullable Duration duration
 	) {
 		this.uniqueIdString = uniqueId.toString();
 		this.statusOrdinal = status.ordinal();
 		this.generationInfo = generationInfo;
-	}
-
-	boolean hasUniqueId(UniqueId uniqueId) {
-		return getUniqueId().equals(uniqueId);
+		this.durationMillis = duration == null ? null : duration.toMillis();
 	}
 
 	public boolean isNotSuccessful() {
@@ -42,6 +57,10 @@ public class TestRun implements Serializable {
 		return generationInfo;
 	}
 
+	public Optional<Duration> duration() {
+		return Optional.ofNullable(durationMillis).map(Duration::ofMillis);
+	}
+
 	@Override
 	public String toString() {
 		return String.format("TestRun[%s:%s:%s]", uniqueIdString, getStatus(), generationInfo);
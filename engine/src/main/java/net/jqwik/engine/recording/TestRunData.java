@@ -1,8 +1,10 @@
 package net.jqwik.engine.recording;
 
+import java.time.*;
 import java.util.*;
 import java.util.stream.*;
 
+import org.jspecify.annotations.*;
 import org.junit.platform.engine.*;
 
 import net.jqwik.engine.support.*;
@@ -11,6 +13,9 @@ public class TestRunData {
 
 	private final Collection<TestRun> data;
 
+	// Successful runs are also recorded, so looking up runs one by one would be quadratic
+	private @Nullable Map<UniqueId, TestRun> runsByUniqueId = null;
+
 	public TestRunData(Collection<TestRun> data) {
 		this.data = data;
 	}
@@ -21,13 +26,12 @@ public class TestRunData {
 
 	public void add(TestRun testRun) {
 		data.add(testRun);
+		runsByUniqueId = null;
 	}
 
 	public Optional<TestRun> byUniqueId(UniqueId uniqueId) {
 		try {
-			return data.stream()
-					   .filter(testRun -> testRun.hasUniqueId(uniqueId))
-					   .findFirst();
+			return Optional.ofNullable(runsByUniqueId().get(uniqueId));
 		} catch (Throwable t) {
 			// An exception during test run data read should not stop the test run.
 			// Most of the time it's an error due to format change which will go away
@@ -37,7 +41,26 @@ public class TestRunData {
 		}
 	}
 
+	private Map<UniqueId, TestRun> runsByUniqueId() {
+		if (runsByUniqueId == null) {
+			Map<UniqueId, TestRun> index = new HashMap<>();
+			for (TestRun testRun : data) {
+				index.putIfAbsent(testRun.getUniqueId(), testRun);
+			}
+			runsByUniqueId = index;
+		}
+		return runsByUniqueId;
+	}
+
 	public Stream<TestRun> allNonSuccessfulTests() {
 		return data.stream().filter(TestRun::isNotSuccessful);
 	}
+
+	public Map<UniqueId, Duration> allTestDurations() {
+		Map<UniqueId, Duration> durations = new LinkedHashMap<>();
+		for (TestRun testRun : data) {
+			testRun.duration().ifPresent(duration -> durations.putIfAbsent(testRun.getUniqueId(), duration));
+		}
+		return durations;
+	}
 }
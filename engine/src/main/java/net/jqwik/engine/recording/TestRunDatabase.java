@@ -7,17 +7,19 @@ import java.util.logging.*;
 
 public class TestRunDatabase {
 
-	// Only record failing test runs, the others are currently not needed anywhere
-	private static final Boolean RECORD_SUCCESSFUL_RUNS = false;
-
 	private static final Logger LOG = Logger.getLogger(TestRunDatabase.class.getName());
 
 	private final Path databasePath;
+	private final boolean recordSuccessfulRuns;
 	private final TestRunData previousRunData;
 	private boolean stopRecording = false;
 
-	public TestRunDatabase(Path databasePath) {
+	/**
+	 * @param recordSuccessfulRuns Successful runs are only needed for their durations
+	 */
+	public TestRunDatabase(Path databasePath, boolean recordSuccessfulRuns) {
 		this.databasePath = databasePath;
+		this.recordSuccessfulRuns = recordSuccessfulRuns;
 		this.previousRunData = loadExistingRunData();
 	}
 
@@ -90,13 +92,14 @@ public class TestRunDatabase {
 			this.objectOutputStream = objectOutputStream;
 		}
 
+		// Runs can be recorded concurrently if properties are executed in parallel
 		@Override
-		public void record(TestRun testRun) {
+		public synchronized void record(TestRun testRun) {
 			if (stopRecording) {
 				return;
 			}
 			try {
-				if (testRun.isNotSuccessful() || RECORD_SUCCESSFUL_RUNS) {
+				if (testRun.isNotSuccessful() || recordSuccessfulRuns) {
 					objectOutputStream.writeObject(testRun);
 				}
 			} catch (IOException e) {
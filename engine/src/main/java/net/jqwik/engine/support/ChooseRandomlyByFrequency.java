@@ -7,63 +7,99 @@ import net.jqwik.api.*;
 
 import org.jspecify.annotations.*;
 
+/**
+ * Chooses values by frequency in constant time using Vose's alias method.
+ *
+ * <p>
+ * Each value gets a column of height {@code totalFrequency}.
+ * A column is filled with its own value up to {@code thresholds[column]}
+ * and with the value at {@code aliases[column]} above.
+ * Frequencies are scaled by the number of values so that all calculations are exact.
+ * </p>
+ */
 public class ChooseRandomlyByFrequency<T extends @Nullable Object> implements Function<Random, T> {
 
-	private int[] upperBounds;
-	private int size = 0;
-	private List<T> valuesToChooseFrom;
+	private final List<T> valuesToChooseFrom;
+	private final int totalFrequency;
+	private final int[] thresholds;
+	private final int[] aliases;
 
 	public ChooseRandomlyByFrequency(List<? extends Tuple.Tuple2<Integer, ? extends T>> frequencies) {
-		calculateUpperBorders(frequencies);
-		if (size <= 0) {
+		List<T> values = new ArrayList<>(frequencies.size());
+		int[] positiveFrequencies = new int[frequencies.size()];
+		int total = 0;
+		for (Tuple.Tuple2<Integer, ? extends T> tuple : frequencies) {
+			int frequency = tuple.get1();
+			if (frequency <= 0)
+				continue;
+			total = Math.addExact(total, frequency);
+			positiveFrequencies[values.size()] = frequency;
+			values.add(tuple.get2());
+		}
+		if (total <= 0) {
 			throw new JqwikException(String.format(
 				"%s does not contain any positive frequencies.",
 				JqwikStringSupport.displayString(frequencies)
 			));
 		}
+		this.valuesToChooseFrom = values;
+		this.totalFrequency = total;
+		this.thresholds = new int[values.size()];
+		this.aliases = new int[values.size()];
+		fillAliasTable(positiveFrequencies);
 	}
 
 	protected List<T> possibleValues() {
 		return valuesToChooseFrom;
 	}
 
-	private void calculateUpperBorders(List<? extends Tuple.Tuple2<Integer, ? extends T>> frequencies) {
-		List<T> values = new ArrayList<>(frequencies.size());
-		// Zero-frequency elements are possible, so we start with a list, and transform to array later
-		List<Integer> upperBounds = new ArrayList<>(frequencies.size());
-		for (Tuple.Tuple2<Integer, ? extends T> tuple : frequencies) {
-			int frequency = tuple.get1();
-			if (frequency <= 0)
-				continue;
-			size = Math.addExact(size, frequency);
-			T value = tuple.get2();
-			values.add(value);
-			upperBounds.add(size);
+	private void fillAliasTable(int[] frequencies) {
+		int count = thresholds.length;
+		long[] scaled = new long[count];
+		// Used as two stacks: small columns grow from the start, large columns from the end
+		int[] worklist = new int[count];
+		int smallCount = 0;
+		int largeStart = count;
+		for (int i = 0; i < count; i++) {
+			scaled[i] = (long) frequencies[i] * count;
+			if (scaled[i] < totalFrequency) {
+				worklist[smallCount++] = i;
+			} else {
+				worklist[--largeStart] = i;
+			}
 		}
-		valuesToChooseFrom = values;
-		this.upperBounds = upperBounds.stream().mapToInt(i -> i).toArray();
-	}
-
-	private T choose(int index) {
-		int i = Arrays.binarySearch(upperBounds, index);
-		if (i < 0) {
-			// Exact value not found => convert "negative" insertion point to the actual index
-			i = -(i + 1);
-		} else {
-			// Exact value is found, use the next bucket
-			// For instance, if weights are {2,3}, the upperBounds are {2,5},
-			// and the input indices could be 0..4.
-			// "index" {0, 1} should be mapped to the first element
-			// "index" {2, 3, 4} should be mapped to the second
-			// If (input) index==2, binarySearch returns 0, so we must advance i by one
-			// This advance is never triggered for the very last element since random.nextInt
-			// excludes upper bound.
-			i++;
+		while (smallCount > 0 && largeStart < count) {
+			int small = worklist[--smallCount];
+			int large = worklist[largeStart++];
+			thresholds[small] = (int) scaled[small];
+			aliases[small] = large;
+			scaled[large] -= totalFrequency - scaled[small];
+			if (scaled[large] < totalFrequency) {
+				worklist[smallCount++] = large;
+			} else {
+				worklist[--largeStart] = large;
+			}
+		}
+		// Since all calculations are exact, remaining columns are completely filled
+		while (largeStart < count) {
+			int large = worklist[largeStart++];
+			thresholds[large] = totalFrequency;
+			aliases[large] = large;
+		}
+		while (smallCount > 0) {
+			int small = worklist[--smallCount];
+			thresholds[small] = totalFrequency;
+			aliases[small] = small;
 		}
-		return valuesToChooseFrom.get(i);
 	}
 
 	public T apply(Random random) {
-		return choose(random.nextInt(size));
+		int column = random.nextInt(thresholds.length);
+		int threshold = thresholds[column];
+		// Full columns do not need a second random number
+		if (threshold == totalFrequency || random.nextInt(totalFrequency) < threshold) {
+			return valuesToChooseFrom.get(column);
+		}
+		return valuesToChooseFrom.get(aliases[column]);
 	}
 }
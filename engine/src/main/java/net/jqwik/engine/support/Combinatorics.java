@@ -22,6 +22,13 @@ public class Combinatorics {
 		return new CombinedIterator<>(listOfIterables);
 	}
 
+	/**
+	 * Combine lists lazily in diagonal order and stop after {@code maxCount} combinations
+	 */
+	public static <T extends @Nullable Object> Iterator<List<T>> combineDiagonally(List<? extends List<? extends T>> lists, long maxCount) {
+		return new DiagonalIterator<>(lists, maxCount);
+	}
+
 	@SuppressWarnings("unchecked")
 	private static <T extends @Nullable Object> Iterator<List<T>> emptyListSingleton() {
 		return asList((List<T>) new ArrayList<>()).iterator();
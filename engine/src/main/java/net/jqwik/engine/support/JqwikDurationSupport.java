@@ -0,0 +1,81 @@
+package net.jqwik.engine.support;
+
+import java.time.*;
+import java.time.format.*;
+import java.util.*;
+import java.util.regex.*;
+
+import net.jqwik.api.*;
+
+public class JqwikDurationSupport {
+
+	private static final Pattern DURATION_PART = Pattern.compile("(\\d+)(ms|s|m|h|d)");
+
+	private JqwikDurationSupport() {
+	}
+
+	/**
+	 * Parse durations like {@code "500ms"}, {@code "30s"}, {@code "2m"}, {@code "1h30m"} or {@code "1d"}.
+	 * ISO-8601 durations like {@code "PT30S"} are also accepted.
+	 */
+	public static Duration parse(String durationString) {
+		String trimmed = durationString.trim().toLowerCase(Locale.ROOT);
+		Duration duration = trimmed.startsWith("p") ? parseIso(durationString) : parseParts(durationString, trimmed);
+		if (duration.isNegative() || duration.isZero()) {
+			throw invalidDuration(durationString, "Duration must be positive");
+		}
+		return duration;
+	}
+
+	private static Duration parseIso(String durationString) {
+		try {
+			return Duration.parse(durationString.trim());
+		} catch (DateTimeParseException e) {
+			throw invalidDuration(durationString, e.getMessage());
+		}
+	}
+
+	private static Duration parseParts(String durationString, String trimmed) {
+		Matcher matcher = DURATION_PART.matcher(trimmed);
+		Duration duration = Duration.ZERO;
+		int end = 0;
+		while (matcher.find() && matcher.start() == end) {
+			try {
+				long amount = Long.parseLong(matcher.group(1));
+				duration = duration.plus(toDuration(amount, matcher.group(2)));
+			} catch (NumberFormatException | ArithmeticException e) {
+				throw invalidDuration(durationString, "Duration is too long");
+			}
+			end = matcher.end();
+		}
+		if (end == 0 || end != trimmed.length()) {
+			throw invalidDuration(durationString, "Use e.g. 500ms, 30s, 2m, 1h30m or PT30S");
+		}
+		return duration;
+	}
+
+	private static Duration toDuration(long amount, String unit) {
+		switch (unit) {
+			case "ms":
+				return Duration.ofMillis(amount);
+			case "s":
+				return Duration.ofSeconds(amount);
+			case "m":
+				return Duration.ofMinutes(amount);
+			case "h":
+				return Duration.ofHours(amount);
+			default:
+				return Duration.ofDays(amount);
+		}
+	}
+
+	private static JqwikException invalidDuration(String durationString, String reason) {
+		String message = String.format("Invalid duration [%s]: %s", durationString, reason);
+		return new JqwikException(message);
+	}
+
+	public static String displayString(Duration duration) {
+		// Duration.toNanos() would overflow for durations longer than about 292 years
+		return String.format("%.3fs", duration.getSeconds() + duration.getNano() / 1_000_000_000.0);
+	}
+}
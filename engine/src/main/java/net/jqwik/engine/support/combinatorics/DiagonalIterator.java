@@ -0,0 +1,79 @@
+package net.jqwik.engine.support.combinatorics;
+
+import org.jspecify.annotations.*;
+
+import java.util.*;
+
+/**
+ * Iterates through the cartesian product of lists in diagonal order,
+ * i.e. by ascending sum of element indices. Early elements of all lists
+ * are thereby combined with each other before later ones are used.
+ *
+ * <p>
+ * Only the indices of the current combination are kept in memory,
+ * so the product is never materialized and iteration can stop after {@code maxCount} combinations.
+ */
+public class DiagonalIterator<T extends @Nullable Object> implements Iterator<List<T>> {
+	private final List<? extends List<? extends T>> lists;
+	private final int[] indices;
+	private final long maxSum;
+	private final long maxCount;
+
+	private long sum = 0;
+	private long count = 0;
+	private boolean hasNext;
+
+	public DiagonalIterator(List<? extends List<? extends T>> lists, long maxCount) {
+		this.lists = lists;
+		this.indices = new int[lists.size()];
+		this.maxSum = lists.stream().mapToLong(list -> list.size() - 1).sum();
+		this.maxCount = maxCount;
+		this.hasNext = maxCount > 0 && lists.stream().noneMatch(List::isEmpty);
+	}
+
+	@Override
+	public boolean hasNext() {
+		return hasNext;
+	}
+
+	@Override
+	public List<T> next() {
+		if (!hasNext) {
+			throw new NoSuchElementException();
+		}
+		List<T> combination = new ArrayList<>(indices.length);
+		for (int i = 0; i < indices.length; i++) {
+			combination.add(lists.get(i).get(indices[i]));
+		}
+		count++;
+		hasNext = count < maxCount && advance();
+		return combination;
+	}
+
+	private boolean advance() {
+		// Find the rightmost index that can be increased by taking one from the indices to its right
+		long tailSum = 0;
+		for (int j = indices.length - 2; j >= 0; j--) {
+			tailSum += indices[j + 1];
+			if (tailSum > 0 && indices[j] < lists.get(j).size() - 1) {
+				indices[j]++;
+				distributeFromBack(j + 1, tailSum - 1);
+				return true;
+			}
+		}
+		if (sum < maxSum) {
+			sum++;
+			distributeFromBack(0, sum);
+			return true;
+		}
+		return false;
+	}
+
+	private void distributeFromBack(int from, long remaining) {
+		for (int k = indices.length - 1; k >= from; k--) {
+			int index = (int) Math.min(lists.get(k).size() - 1, remaining);
+			indices[k] = index;
+			remaining -= index;
+		}
+	}
+}
@@ -0,0 +1,106 @@
+package experiments;
+
+import java.util.*;
+
+import org.junit.platform.engine.*;
+import org.junit.platform.engine.reporting.*;
+import org.junit.platform.engine.support.descriptor.*;
+
+import net.jqwik.api.*;
+import net.jqwik.api.lifecycle.*;
+import net.jqwik.engine.execution.*;
+import net.jqwik.engine.execution.pipeline.*;
+
+import static org.assertj.core.api.Assertions.*;
+
+@Disabled("Benchmark to be run manually")
+class ExecutionPipelineBenchmarks {
+
+	private static final int CLASSES = 1_000;
+	private static final int PROPERTIES_PER_CLASS = 100;
+	private static final int PREVIOUS_FAILURES = 1_000;
+
+	@Example
+	void prioritizePreviousFailuresAmong100kTasks(Reporter reporter) {
+		List<UniqueId> executionOrder = new ArrayList<>();
+		ExecutionPipeline pipeline = new ExecutionPipeline(recordingListener(executionOrder));
+		UniqueId engineId = UniqueId.forEngine("jqwik");
+
+		long start = System.nanoTime();
+		List<UniqueId> failedIds = new ArrayList<>();
+		for (int c = 0; c < CLASSES; c++) {
+			UniqueId classId = engineId.append("class", "Class" + c);
+			for (int p = 0; p < PROPERTIES_PER_CLASS; p++) {
+				UniqueId propertyId = classId.append("property", "property" + p);
+				pipeline.submit(new BenchmarkTask(propertyId));
+				if ((c * PROPERTIES_PER_CLASS + p) % (CLASSES * PROPERTIES_PER_CLASS / PREVIOUS_FAILURES) == 0) {
+					failedIds.add(propertyId);
+				}
+			}
+		}
+		long submitted = System.nanoTime();
+
+		Collections.reverse(failedIds);
+		failedIds.forEach(pipeline::executeFirst);
+		long prioritized = System.nanoTime();
+
+		pipeline.runToTermination();
+		long finished = System.nanoTime();
+
+		Collections.reverse(failedIds);
+		assertThat(executionOrder).hasSize(CLASSES * PROPERTIES_PER_CLASS);
+		assertThat(executionOrder.subList(0, PREVIOUS_FAILURES)).isEqualTo(failedIds);
+
+		reporter.publishValue("submit 100k tasks", millis(start, submitted));
+		reporter.publishValue("prioritize 1000 failed ids", millis(submitted, prioritized));
+		reporter.publishValue("run 100k tasks", millis(prioritized, finished));
+	}
+
+	private static PropertyExecutionListener recordingListener(List<UniqueId> executionOrder) {
+		return new PropertyExecutionListener() {
+			@Override
+			public void executionSkipped(TestDescriptor testDescriptor, String reason) {
+			}
+
+			@Override
+			public void executionStarted(TestDescriptor testDescriptor) {
+				executionOrder.add(testDescriptor.getUniqueId());
+			}
+
+			@Override
+			public void executionFinished(TestDescriptor testDescriptor, PropertyExecutionResult executionResult) {
+			}
+
+			@Override
+			public void reportingEntryPublished(TestDescriptor testDescriptor, ReportEntry entry) {
+			}
+		};
+	}
+
+	private static String millis(long fromNanos, long toNanos) {
+		return String.format("%d ms", (toNanos - fromNanos) / 1_000_000);
+	}
+
+	private static class BenchmarkTask extends AbstractTestDescriptor implements ExecutionTask {
+
+		private BenchmarkTask(UniqueId uniqueId) {
+			super(uniqueId, uniqueId.getLastSegment().getValue());
+		}
+
+		@Override
+		public UniqueId ownerId() {
+			return getUniqueId();
+		}
+
+		@Override
+		public TaskExecutionResult execute(PropertyExecutionListener listener, TaskExecutionResult predecessorResult) {
+			listener.executionStarted(this);
+			return TaskExecutionResult.success();
+		}
+
+		@Override
+		public Type getType() {
+			return Type.TEST;
+		}
+	}
+}
@@ -444,6 +444,14 @@ class ArbitraryTests {
 				.forEach(anInt -> assertThat(anInt).isIn(values));
 		}
 
+		@Property(tries = 1000, parallelism = 8)
+		void sampleInConcurrentTries(@ForAll @IntRange(min = 0, max = 1000) int max) {
+			Arbitrary<List<Integer>> lists = Arbitraries.integers().between(0, max).list().ofMaxSize(5);
+
+			List<Integer> sample = lists.sample();
+			assertThat(sample).allMatch(anInt -> anInt >= 0 && anInt <= max);
+		}
+
 	}
 
 	@Group
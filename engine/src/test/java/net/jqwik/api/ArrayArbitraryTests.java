@@ -1,13 +1,17 @@
 package net.jqwik.api;
 
+import java.lang.reflect.*;
 import java.util.*;
 import java.util.stream.*;
 
+import net.jqwik.api.Tuple.*;
 import net.jqwik.api.arbitraries.*;
 import net.jqwik.api.constraints.*;
 import net.jqwik.api.edgeCases.*;
 import net.jqwik.api.statistics.*;
+import net.jqwik.engine.*;
 import net.jqwik.engine.properties.arbitraries.*;
+import net.jqwik.engine.properties.shrinking.*;
 import net.jqwik.testing.*;
 
 import static org.assertj.core.api.Assertions.*;
@@ -249,6 +253,82 @@ class ArrayArbitraryTests {
 		}
 	}
 
+	@Group
+	class PrimitiveIntegralArrays {
+
+		@Example
+		void elementsAreNotShrunkIndividually(@ForAll Random random) {
+			ArrayArbitrary<Byte, byte[]> arrayArbitrary = Arbitraries.bytes().array(byte[].class).ofMaxSize(1000);
+
+			Shrinkable<byte[]> shrinkable = arrayArbitrary.generator(1000, true).next(random);
+			assertThat(shrinkable).isInstanceOf(ShrinkableIntegralArray.class);
+		}
+
+		@Example
+		void uniqueElementsAreGeneratedLikeOtherArrays(@ForAll Random random) {
+			ArrayArbitrary<Integer, int[]> arrayArbitrary =
+				Arbitraries.integers().between(1, 10).array(int[].class).ofMinSize(1).ofMaxSize(5).uniqueElements();
+
+			assertAllGenerated(arrayArbitrary.generator(1000, true), random, array -> {
+				assertThat(IntStream.of(array).distinct().count()).isEqualTo(array.length);
+			});
+		}
+
+		@Property(tries = 100)
+		void sameArraysAsGenericArrayGeneration(
+			@ForAll("integralArrays") Tuple2<Arbitrary<?>, Arbitrary<?>> arbitraries,
+			@ForAll long seed,
+			@ForAll @IntRange(min = 1, max = 1000) int genSize,
+			@ForAll boolean withEdgeCases
+		) {
+			RandomGenerator<?> integralGenerator = arbitraries.get1().generator(genSize, withEdgeCases);
+			RandomGenerator<?> genericGenerator = arbitraries.get2().generator(genSize, withEdgeCases);
+			Random integralRandom = SourceOfRandomness.newRandom(seed);
+			Random genericRandom = SourceOfRandomness.newRandom(seed);
+
+			for (int i = 0; i < 20; i++) {
+				Object integralArray = integralGenerator.next(integralRandom).value();
+				Object genericArray = genericGenerator.next(genericRandom).value();
+				assertThat(integralArray).isEqualTo(genericArray);
+			}
+		}
+
+		@Property(tries = 100)
+		void sameShrinkingResultAsGenericArrays(
+			@ForAll("integralArrays") Tuple2<Arbitrary<?>, Arbitrary<?>> arbitraries,
+			@ForAll long seed
+		) {
+			TestingFalsifier<Object> falsifier = array -> Array.getLength(array) < 3 || ((Number) Array.get(array, 1)).longValue() < 10;
+
+			Shrinkable<?> integralShrinkable = arbitraries.get1().generator(100, true).next(SourceOfRandomness.newRandom(seed));
+			Shrinkable<?> genericShrinkable = arbitraries.get2().generator(100, true).next(SourceOfRandomness.newRandom(seed));
+			Assume.that(!falsifier.test(integralShrinkable.value()));
+
+			Object integralShrunk = shrink(integralShrinkable.asGeneric(), falsifier, null);
+			Object genericShrunk = shrink(genericShrinkable.asGeneric(), falsifier, null);
+			assertThat(integralShrunk).isEqualTo(genericShrunk);
+		}
+
+		@Provide
+		Arbitrary<Tuple2<Arbitrary<?>, Arbitrary<?>>> integralArrays() {
+			return Arbitraries.of(
+				arrays(Arbitraries.bytes(), byte.class),
+				arrays(Arbitraries.shorts().between((short) -100, (short) 1000), short.class),
+				arrays(Arbitraries.integers().greaterOrEqual(5).shrinkTowards(42), int.class),
+				arrays(Arbitraries.longs().withDistribution(RandomDistribution.uniform()), long.class),
+				arrays(Arbitraries.integers().between(0, 5), int.class),
+				arrays(Arbitraries.integers().between(7, 7), int.class)
+			);
+		}
+
+		private <T> Tuple2<Arbitrary<?>, Arbitrary<?>> arrays(Arbitrary<T> elementArbitrary, Class<?> componentClass) {
+			Class<?> arrayClass = Array.newInstance(componentClass, 0).getClass();
+			Arbitrary<?> integralArrays = elementArbitrary.array(arrayClass).ofMaxSize(50);
+			Arbitrary<?> genericArrays = new DefaultArrayArbitrary<>(elementArbitrary, componentClass).ofMaxSize(50);
+			return Tuple.of(integralArrays, genericArrays);
+		}
+	}
+
 	@Group
 	@PropertyDefaults(tries = 100)
 	class Shrinking {
@@ -166,6 +166,27 @@ class ListArbitraryTests {
 		});
 	}
 
+	@Example
+	void uniqueElementsFromSmallDomainsAreDrawnWithoutReplacement(@ForAll Random random) {
+		ListArbitrary<Integer> permutations = Arbitraries.integers().between(1, 500).list().ofSize(500).uniqueElements();
+		ListArbitrary<String> letters = Arbitraries.of("a", "b", "b", "c").list().ofSize(3).uniqueElements();
+
+		assertAllGenerated(permutations.generator(1000, true), random, list -> {
+			assertThat(list).hasSize(500).doesNotHaveDuplicates();
+		});
+		assertAllGenerated(letters.generator(1000, true), random, list -> {
+			assertThat(list).containsExactlyInAnyOrder("a", "b", "c");
+		});
+	}
+
+	@Example
+	void uniqueElementsDrawnWithoutReplacementCanBeShrunk(@ForAll Random random) {
+		ListArbitrary<Integer> listArbitrary = Arbitraries.integers().between(0, 9).list().ofMinSize(8).uniqueElements();
+
+		List<Integer> shrunkValue = falsifyThenShrink(listArbitrary, random);
+		assertThat(shrunkValue).containsExactly(0, 1, 2, 3, 4, 5, 6, 7);
+	}
+
 	@Example
 	void uniqueListsAreSometimesGeneratedByDefault(@ForAll Random random) {
 		Arbitrary<Integer> integerArbitrary = Arbitraries.integers().between(0, 1_000);
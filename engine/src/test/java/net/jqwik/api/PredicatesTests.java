@@ -0,0 +1,152 @@
+package net.jqwik.api;
+
+import java.math.*;
+import java.util.*;
+
+import static org.assertj.core.api.Assertions.*;
+
+import static net.jqwik.api.Predicates.*;
+import static net.jqwik.testing.ShrinkingSupport.*;
+import static net.jqwik.testing.TestingSupport.*;
+
+class PredicatesTests {
+
+	@Group
+	class RangePredicates {
+
+		@Example
+		void boundsAreChecked() {
+			assertThat(greaterThan(1).test(1)).isFalse();
+			assertThat(greaterThan(1).test(2)).isTrue();
+			assertThat(greaterOrEqual(1).test(1)).isTrue();
+			assertThat(lessThan(1).test(1)).isFalse();
+			assertThat(lessOrEqual(1).test(1)).isTrue();
+			assertThat(between(1, 3).test(0)).isFalse();
+			assertThat(between(1, 3).test(3)).isTrue();
+			assertThat(between(1, 3).test(4)).isFalse();
+		}
+
+		@Example
+		void andCombinesToNarrowestRange() {
+			RangePredicate<Integer> range = greaterThan(1).and(greaterOrEqual(1)).and(lessOrEqual(10)).and(lessThan(10));
+
+			assertThat(range.min()).hasValue(1);
+			assertThat(range.minIncluded()).isFalse();
+			assertThat(range.max()).hasValue(10);
+			assertThat(range.maxIncluded()).isFalse();
+		}
+
+		@Example
+		void equality() {
+			assertThat(greaterThan(1)).isEqualTo(greaterThan(1));
+			assertThat(greaterThan(1)).isNotEqualTo(greaterOrEqual(1));
+			assertThat(between(1, 2)).isEqualTo(greaterOrEqual(1).and(lessOrEqual(2)));
+		}
+	}
+
+	@Group
+	class SizePredicates {
+
+		@Example
+		void sizesAreChecked() {
+			assertThat(sizeAtLeast(2).test(Arrays.asList(1))).isFalse();
+			assertThat(sizeAtLeast(2).test(Arrays.asList(1, 2))).isTrue();
+			assertThat(sizeAtMost(1).test(Arrays.asList(1, 2))).isFalse();
+			assertThat(sizeBetween(1, 2).test(Collections.emptySet())).isFalse();
+		}
+
+		@Example
+		void illegalSizeRanges() {
+			assertThatThrownBy(() -> sizeAtLeast(-1)).isInstanceOf(IllegalArgumentException.class);
+			assertThatThrownBy(() -> sizeBetween(3, 2)).isInstanceOf(IllegalArgumentException.class);
+			assertThatThrownBy(() -> sizeAtLeast(3).and(sizeAtMost(2))).isInstanceOf(IllegalArgumentException.class);
+		}
+	}
+
+	@Group
+	class NarrowingFilters {
+
+		@Example
+		void integersAreNotRejected(@ForAll Random random) {
+			Arbitrary<Integer> arbitrary = Arbitraries.integers().between(-1000, 1000).filter(1, greaterThan(995));
+
+			checkAllGenerated(arbitrary.generator(1000, true), random, i -> i > 995 && i <= 1000);
+			assertThat(arbitrary.exhaustive()).hasValueSatisfying(generator -> assertThat(generator.maxCount()).isEqualTo(5));
+		}
+
+		@Example
+		void allIntegralTypesAreNarrowed(@ForAll Random random) {
+			checkAllGenerated(Arbitraries.bytes().filter(1, lessThan((byte) -120)), random, b -> b < -120);
+			checkAllGenerated(Arbitraries.shorts().filter(1, between((short) 10, (short) 12)), random, s -> s >= 10 && s <= 12);
+			checkAllGenerated(Arbitraries.longs().filter(1, greaterOrEqual(Long.MAX_VALUE - 1)), random, l -> l >= Long.MAX_VALUE - 1);
+			checkAllGenerated(
+				Arbitraries.bigIntegers().filter(1, greaterThan(BigInteger.valueOf(Long.MAX_VALUE - 2))),
+				random,
+				b -> b.compareTo(BigInteger.valueOf(Long.MAX_VALUE - 2)) > 0
+			);
+		}
+
+		@Example
+		void chainedFiltersAreNarrowed(@ForAll Random random) {
+			Arbitrary<Integer> arbitrary = Arbitraries.integers().filter(1, greaterThan(100)).filter(1, lessOrEqual(102));
+
+			checkAllGenerated(arbitrary, random, i -> i == 101 || i == 102);
+		}
+
+		@Example
+		void edgeCasesAreWithinNarrowedRange() {
+			Arbitrary<Integer> arbitrary = Arbitraries.integers().filter(greaterThan(10));
+
+			assertThat(collectEdgeCaseValues(arbitrary.edgeCases())).containsExactlyInAnyOrder(11, 12, Integer.MAX_VALUE, Integer.MAX_VALUE - 1);
+		}
+
+		@Example
+		void edgeCasesDifferFromPlainFiltering() {
+			Arbitrary<Integer> arbitrary = Arbitraries.integers().between(0, 99);
+
+			Set<Integer> narrowedEdgeCases = collectEdgeCaseValues(arbitrary.filter(greaterThan(50)).edgeCases());
+			Set<Integer> filteredEdgeCases = collectEdgeCaseValues(arbitrary.filter(i -> i > 50).edgeCases());
+
+			assertThat(narrowedEdgeCases).contains(51, 52, 98, 99);
+			assertThat(filteredEdgeCases).doesNotContain(51, 52);
+		}
+
+		@Example
+		void shrinkingTargetOutsideNarrowedRangeMovesToNearestBound(@ForAll Random random) {
+			Arbitrary<Integer> arbitrary = Arbitraries.integers().shrinkTowards(0).filter(1, greaterThan(100));
+
+			Integer shrunkValue = falsifyThenShrink(arbitrary, random);
+			assertThat(shrunkValue).isEqualTo(101);
+		}
+
+		@Example
+		void emptyNarrowedRangeFallsBackToRejection(@ForAll Random random) {
+			Arbitrary<Integer> arbitrary = Arbitraries.integers().between(0, 10).filter(greaterThan(10));
+
+			assertThatThrownBy(() -> arbitrary.generator(1000).next(random)).isInstanceOf(TooManyFilterMissesException.class);
+		}
+
+		@Example
+		void listSizesAreNarrowed(@ForAll Random random) {
+			Arbitrary<List<Integer>> arbitrary = Arbitraries.integers().list().ofMaxSize(20).filter(1, sizeAtLeast(18));
+
+			checkAllGenerated(arbitrary, random, list -> list.size() >= 18 && list.size() <= 20);
+		}
+
+		@Example
+		void setSizesAreNarrowed(@ForAll Random random) {
+			Arbitrary<Set<Integer>> arbitrary = Arbitraries.integers().set().filter(1, sizeBetween(3, 4));
+
+			checkAllGenerated(arbitrary, random, set -> set.size() >= 3 && set.size() <= 4);
+		}
+
+		@Example
+		void narrowingDoesNotChangeOriginalArbitrary(@ForAll Random random) {
+			Arbitrary<Integer> original = Arbitraries.integers().between(0, 10);
+			Arbitrary<Integer> narrowed = original.filter(greaterThan(8));
+
+			checkAllGenerated(narrowed, random, i -> i > 8);
+			checkAtLeastOneGenerated(original, random, i -> i <= 8);
+		}
+	}
+}
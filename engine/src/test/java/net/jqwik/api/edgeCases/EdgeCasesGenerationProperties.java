@@ -2,6 +2,7 @@ package net.jqwik.api.edgeCases;
 
 import java.util.ArrayList;
 import java.util.*;
+import java.util.stream.*;
 
 import net.jqwik.api.*;
 import net.jqwik.api.constraints.*;
@@ -156,6 +157,29 @@ class EdgeCasesGenerationProperties {
 		}
 	}
 
+	@Property(tries = 20, generation = GenerationMode.RANDOMIZED, edgeCases = EdgeCasesMode.FIRST)
+	@PerProperty(CheckCombinationsStreamedDiagonally.class)
+	void moreCombinedEdgeCasesThanTries(
+		@ForAll boolean b1, @ForAll boolean b2, @ForAll boolean b3, @ForAll boolean b4, @ForAll boolean b5
+	) {
+		generated.add(asList(b1, b2, b3, b4, b5));
+	}
+
+	private class CheckCombinationsStreamedDiagonally implements PerProperty.Lifecycle {
+		@Override
+		public void onSuccess() {
+			// 32 combinations exceed 20 tries: First edge case of all parameters comes first,
+			// then each parameter switches to its second edge case once
+			List<Object> first = generated.get(0);
+			assertThat(first).containsOnly(first.get(0));
+			assertThat(generated(6)).doesNotHaveDuplicates();
+			for (List<Object> combination : generated.subList(1, 6)) {
+				long differences = IntStream.range(0, 5).filter(i -> !combination.get(i).equals(first.get(i))).count();
+				assertThat(differences).isEqualTo(1);
+			}
+		}
+	}
+
 	private List<List<Object>> generated(int toIndex) {
 		return generated.subList(0, toIndex);
 	}
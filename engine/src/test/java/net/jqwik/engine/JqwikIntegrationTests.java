@@ -1,6 +1,7 @@
 package net.jqwik.engine;
 
 import java.nio.file.*;
+import java.time.*;
 import java.util.*;
 
 import examples.packageWithDisabledTests.*;
@@ -56,6 +57,11 @@ class JqwikIntegrationTests {
 						return Collections.emptySet();
 					}
 
+					@Override
+					public Map<UniqueId, Duration> previousDurations() {
+						return Collections.emptyMap();
+					}
+
 				};
 			}
 
@@ -73,6 +79,21 @@ class JqwikIntegrationTests {
 			public boolean hideAntiAiClause() {
 				return true;
 			}
+
+			@Override
+			public int executionParallelism() {
+				return 1;
+			}
+
+			@Override
+			public int failFastMaxFailures() {
+				return 0;
+			}
+
+			@Override
+			public boolean failFastShrinkOnlyFirst() {
+				return false;
+			}
 		};
 	}
 
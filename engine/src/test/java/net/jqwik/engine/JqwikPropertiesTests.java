@@ -37,6 +37,7 @@ class JqwikPropertiesTests {
 		});
 
 		assertThat(properties.runFailuresFirst()).isEqualTo(false);
+		assertThat(properties.runLongestFirst()).isEqualTo(false);
 		assertThat(properties.databasePath()).isEqualTo(".jqwik-database");
 
 		assertThat(properties.defaultTries()).isEqualTo(1000);
@@ -57,5 +58,16 @@ class JqwikPropertiesTests {
 		assertThat(properties.boundedShrinkingSeconds()).isEqualTo(10);
 
 		assertThat(properties.fixedSeedMode()).isEqualTo(FixedSeedMode.ALLOW);
+
+		assertThat(properties.executionParallelism()).isEqualTo(1);
+
+		assertThat(properties.virtualThreadTries()).isFalse();
+
+		assertThat(properties.defaultTriesDuration()).isEqualTo(Property.DURATION_NOT_SET);
+
+		assertThat(properties.prefetchedTries()).isEqualTo(0);
+
+		assertThat(properties.failFastMaxFailures()).isEqualTo(0);
+		assertThat(properties.failFastShrinkOnlyFirst()).isFalse();
 	}
 }
@@ -0,0 +1,144 @@
+package net.jqwik.engine;
+
+import java.util.*;
+import java.util.stream.*;
+
+import net.jqwik.api.*;
+import net.jqwik.engine.SourceOfRandomness.*;
+
+import static org.assertj.core.api.Assertions.*;
+
+class SourceOfRandomnessTests {
+
+	@Example
+	void runWithRandomUsesRandomAsCurrentOnlyWhileRunning() {
+		Random previous = SourceOfRandomness.current();
+		Random random = SourceOfRandomness.newRandom(42L);
+
+		Random currentWhileRunning = SourceOfRandomness.runWithRandom(random, SourceOfRandomness::current);
+
+		assertThat(currentWhileRunning).isSameAs(random);
+		assertThat(SourceOfRandomness.current()).isSameAs(previous);
+	}
+
+	@Example
+	void splittableRandomFromSeedIsReproducible() {
+		SplitMix64Random random1 = SourceOfRandomness.newSplittableRandom("42");
+		SplitMix64Random random2 = SourceOfRandomness.newSplittableRandom("42");
+
+		assertThat(random1.split().nextLong()).isEqualTo(random2.split().nextLong());
+		assertThatThrownBy(() -> SourceOfRandomness.newSplittableRandom("not a seed")).isInstanceOf(JqwikException.class);
+	}
+
+	@Group
+	class SplitMix64 {
+
+		@Property(tries = 100)
+		void sameSeedGeneratesSameValues(@ForAll long seed) {
+			SplitMix64Random random1 = SourceOfRandomness.newSplittableRandom(seed);
+			SplitMix64Random random2 = SourceOfRandomness.newSplittableRandom(seed);
+
+			for (int i = 0; i < 100; i++) {
+				assertThat(random1.nextLong()).isEqualTo(random2.nextLong());
+			}
+		}
+
+		@Property(tries = 100)
+		void jumpIsSameAsGeneratingValues(@ForAll long seed, @ForAll("steps") int steps) {
+			SplitMix64Random jumped = SourceOfRandomness.newSplittableRandom(seed);
+			SplitMix64Random stepped = SourceOfRandomness.newSplittableRandom(seed);
+
+			jumped.jump(steps);
+			for (int i = 0; i < steps; i++) {
+				stepped.nextLong();
+			}
+			assertThat(jumped.nextLong()).isEqualTo(stepped.nextLong());
+		}
+
+		@Provide
+		Arbitrary<Integer> steps() {
+			return Arbitraries.integers().between(0, 1000);
+		}
+
+		@Property(tries = 100)
+		void splitsAreReproducible(@ForAll long seed) {
+			SplitMix64Random split1 = SourceOfRandomness.newSplittableRandom(seed).split();
+			SplitMix64Random split2 = SourceOfRandomness.newSplittableRandom(seed).split();
+
+			assertThat(longs(split1.split(), 10)).isEqualTo(longs(split2.split(), 10));
+			assertThat(longs(split1, 10)).isEqualTo(longs(split2, 10));
+		}
+
+		@Example
+		void splitsGenerateDifferentValuesThanParent() {
+			SplitMix64Random parent = SourceOfRandomness.newSplittableRandom(42L);
+			SplitMix64Random split = parent.split();
+
+			assertThat(longs(split, 10)).doesNotContainAnyElementsOf(longs(parent, 10));
+		}
+
+		@Property(tries = 100)
+		void nextIntWithBound(@ForAll long seed, @ForAll("bounds") int bound) {
+			SplitMix64Random random = SourceOfRandomness.newSplittableRandom(seed);
+			for (int i = 0; i < 100; i++) {
+				assertThat(random.nextInt(bound)).isBetween(0, bound - 1);
+			}
+		}
+
+		@Provide
+		Arbitrary<Integer> bounds() {
+			return Arbitraries.integers().between(1, Integer.MAX_VALUE);
+		}
+
+		@Example
+		void nextIntWithSmallBoundHitsAllValues() {
+			SplitMix64Random random = SourceOfRandomness.newSplittableRandom(42L);
+			Set<Integer> values = IntStream.range(0, 1000).mapToObj(i -> random.nextInt(7)).collect(Collectors.toSet());
+
+			assertThat(values).containsExactlyInAnyOrder(0, 1, 2, 3, 4, 5, 6);
+		}
+
+		@Example
+		void nextIntWithNonPositiveBoundFails() {
+			SplitMix64Random random = SourceOfRandomness.newSplittableRandom(42L);
+
+			assertThatThrownBy(() -> random.nextInt(0)).isInstanceOf(IllegalArgumentException.class);
+		}
+
+		@Example
+		void seedCannotBeChanged() {
+			SplitMix64Random random = SourceOfRandomness.newSplittableRandom(42L);
+
+			assertThatThrownBy(() -> random.setSeed(43L)).isInstanceOf(UnsupportedOperationException.class);
+		}
+
+		@Property(tries = 100)
+		void doublesAndFloatsAreBetweenZeroAndOne(@ForAll long seed) {
+			SplitMix64Random random = SourceOfRandomness.newSplittableRandom(seed);
+			for (int i = 0; i < 100; i++) {
+				assertThat(random.nextDouble()).isGreaterThanOrEqualTo(0.0).isLessThan(1.0);
+				assertThat(random.nextFloat()).isGreaterThanOrEqualTo(0.0f).isLessThan(1.0f);
+			}
+		}
+
+		@Property(tries = 100)
+		void bytesAreFilledFromConsecutiveLongs(@ForAll long seed, @ForAll("steps") int length) {
+			byte[] bytes = new byte[length];
+			SourceOfRandomness.newSplittableRandom(seed).nextBytes(bytes);
+
+			SplitMix64Random random = SourceOfRandomness.newSplittableRandom(seed);
+			long value = 0;
+			for (int i = 0; i < length; i++) {
+				if (i % 8 == 0) {
+					value = random.nextLong();
+				}
+				assertThat(bytes[i]).isEqualTo((byte) value);
+				value >>>= 8;
+			}
+		}
+	}
+
+	private static List<Long> longs(Random random, int count) {
+		return LongStream.generate(random::nextLong).limit(count).boxed().collect(Collectors.toList());
+	}
+}
@@ -30,6 +30,14 @@ public class TestHelper {
 	public static final FixedSeedMode DEFAULT_WHEN_FIXED_SEED = FixedSeedMode.ALLOW;
 
 	public static PropertyAttributesDefaults propertyAttributesDefaults() {
+		return propertyAttributesDefaults(false);
+	}
+
+	public static PropertyAttributesDefaults propertyAttributesDefaults(boolean virtualThreadTries) {
+		return propertyAttributesDefaults(virtualThreadTries, Property.DURATION_NOT_SET, 0);
+	}
+
+	public static PropertyAttributesDefaults propertyAttributesDefaults(boolean virtualThreadTries, String duration, int prefetchedTries) {
 		return PropertyAttributesDefaults.with(
 			DEFAULT_TRIES,
 			DEFAULT_MAX_DISCARD_RATIO,
@@ -38,7 +46,11 @@ public class TestHelper {
 			DEFAULT_EDGE_CASES,
 			DEFAULT_SHRINKING,
 			BOUNDED_SHRINKING_SECONDS,
-			DEFAULT_WHEN_FIXED_SEED
+			DEFAULT_WHEN_FIXED_SEED,
+			virtualThreadTries,
+			duration,
+			prefetchedTries,
+			10.0
 		);
 	}
 
@@ -85,6 +97,8 @@ public class TestHelper {
 			null,
 			null,
 			seed,
+			null,
+			null,
 			null
 		);
 
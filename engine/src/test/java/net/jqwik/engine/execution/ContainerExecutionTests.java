@@ -123,14 +123,42 @@ class ContainerExecutionTests {
 		events.verify(eventRecorder).executionFinished(engineDescriptor, TestExecutionResult.successful());
 	}
 
+	@Example
+	void engineWithTwoClassesInParallel() {
+		TestDescriptor engineDescriptor = forEngine(testEngine)
+			.with(forClass(ContainerClass.class, "succeeding", "failing"), forClass(SecondContainerClass.class, "succeeding")).build();
+
+		executeTests(engineDescriptor, 4);
+
+		InOrder containerEvents = Mockito.inOrder(eventRecorder);
+		containerEvents.verify(eventRecorder).executionStarted(engineDescriptor);
+		containerEvents.verify(eventRecorder).executionStarted(isClassDescriptorFor(ContainerClass.class));
+		containerEvents.verify(eventRecorder).executionFinished(isPropertyDescriptorFor(ContainerClass.class, "failing"), isFailed("expected fail"));
+		containerEvents.verify(eventRecorder).executionFinished(isClassDescriptorFor(ContainerClass.class), isSuccessful());
+		containerEvents.verify(eventRecorder).executionFinished(engineDescriptor, TestExecutionResult.successful());
+
+		// InOrder verification of concurrently running containers cannot be combined
+		Mockito.verify(eventRecorder).executionStarted(isClassDescriptorFor(SecondContainerClass.class));
+		Mockito.verify(eventRecorder).executionFinished(isPropertyDescriptorFor(SecondContainerClass.class, "succeeding"), isSuccessful());
+		Mockito.verify(eventRecorder).executionFinished(isClassDescriptorFor(SecondContainerClass.class), isSuccessful());
+		Mockito.verify(eventRecorder).executionFinished(isPropertyDescriptorFor(ContainerClass.class, "succeeding"), isSuccessful());
+	}
+
 	private void executeTests(TestDescriptor engineDescriptor) {
+		executeTests(engineDescriptor, 1);
+	}
+
+	private void executeTests(TestDescriptor engineDescriptor, int parallelism) {
 		new JqwikExecutor(
 			new LifecycleHooksRegistry(),
 			TestRunRecorder.NULL,
 			Collections.emptySet(),
+			Collections.emptyMap(),
 			true,
 			false,
-			true
+			true,
+			parallelism,
+			FailFast.off()
 		).execute(engineDescriptor, eventRecorder);
 	}
 
@@ -1,6 +1,7 @@
 package net.jqwik.engine.execution;
 
 import java.util.*;
+import java.util.concurrent.*;
 
 import org.junit.platform.engine.*;
 import org.mockito.*;
@@ -8,6 +9,7 @@ import org.mockito.*;
 import net.jqwik.*;
 import net.jqwik.api.*;
 import net.jqwik.api.constraints.*;
+import net.jqwik.engine.execution.lifecycle.*;
 import net.jqwik.engine.execution.pipeline.*;
 
 import static org.assertj.core.api.Assertions.*;
@@ -115,4 +117,201 @@ class ExecutionPipelineTests {
 
 	}
 
+	@Example
+	void executeFirstByUniqueIdKeepsQueueOrderOfOwnedTasks() {
+		UniqueId ownerId = UniqueId.root("owner", "2");
+		MockExecutionTask owned1 = new MockExecutionTask(ownerId, "1");
+		MockExecutionTask task1 = new MockExecutionTask("1");
+		MockExecutionTask owned2 = new MockExecutionTask(ownerId.append("child", "c"), "2");
+		MockExecutionTask notOwned = new MockExecutionTask(UniqueId.root("owner", "20"), "3");
+		MockExecutionTask owned3 = new MockExecutionTask(ownerId, "3");
+		pipeline.submit(owned1);
+		pipeline.submit(task1);
+		pipeline.submit(owned2);
+		pipeline.submit(notOwned);
+		pipeline.submit(owned3);
+
+		pipeline.executeFirst(owned3);
+		pipeline.executeFirst(ownerId);
+
+		pipeline.runToTermination();
+
+		InOrder events = Mockito.inOrder(listener);
+		events.verify(listener).executionStarted(owned3);
+		events.verify(listener).executionStarted(owned1);
+		events.verify(listener).executionStarted(owned2);
+		events.verify(listener).executionStarted(task1);
+		events.verify(listener).executionStarted(notOwned);
+	}
+
+	@Example
+	void executeFirstByUniqueIdWithoutOwnedTasksDoesNotChangeOrder() {
+		MockExecutionTask task1 = new MockExecutionTask("1");
+		MockExecutionTask task2 = new MockExecutionTask("2");
+		pipeline.submit(task1);
+		pipeline.submit(task2);
+
+		pipeline.executeFirst(UniqueId.root("owner", "unknown"));
+
+		pipeline.runToTermination();
+
+		InOrder events = Mockito.inOrder(listener);
+		events.verify(listener).executionStarted(task1);
+		events.verify(listener).executionStarted(task2);
+	}
+
+	@Group
+	class InParallel {
+
+		private final ExecutionPipeline parallelPipeline = new ExecutionPipeline(listener, 4);
+
+		@Property(tries = 10)
+		void allTasksAreExecuted(@ForAll("taskList") @Size(max = 50) List<ExecutionTask> tasks) {
+			Mockito.clearInvocations(listener);
+			tasks.forEach(t -> parallelPipeline.submit(t));
+			parallelPipeline.runToTermination();
+			tasks.forEach(t -> Mockito.verify(listener).executionStarted((MockExecutionTask) t));
+		}
+
+		@Example
+		void predecessorsAreExecutedBeforeSuccessors() {
+			List<String> executed = new CopyOnWriteArrayList<>();
+			ExecutionTask first = recordingTask("first", executed, TaskExecutionResult.success());
+			ExecutionTask second = recordingTask("second", executed, TaskExecutionResult.success());
+			ExecutionTask third = recordingTask("third", executed, TaskExecutionResult.success());
+			ExecutionTask last = recordingTask("last", executed, TaskExecutionResult.success());
+			parallelPipeline.submit(last, second, third);
+			parallelPipeline.submit(second, first);
+			parallelPipeline.submit(third, first);
+			parallelPipeline.submit(first);
+
+			parallelPipeline.runToTermination();
+
+			assertThat(executed).hasSize(4);
+			assertThat(executed.get(0)).isEqualTo("first");
+			assertThat(executed.subList(1, 3)).containsExactlyInAnyOrder("second", "third");
+			assertThat(executed.get(3)).isEqualTo("last");
+		}
+
+		@Example
+		void failedPredecessorResultIsHandedToSuccessor() {
+			List<String> executed = new CopyOnWriteArrayList<>();
+			TaskExecutionResult failure = TaskExecutionResult.failure(new AssertionError("failed"));
+			ExecutionTask failing = recordingTask("failing", executed, failure);
+			ExecutionTask succeeding = recordingTask("succeeding", executed, TaskExecutionResult.success());
+			List<TaskExecutionResult> resultsSeenBySuccessor = new CopyOnWriteArrayList<>();
+			ExecutionTask successor = new MockExecutionTask("successor") {
+				@Override
+				public TaskExecutionResult execute(PropertyExecutionListener listener, TaskExecutionResult predecessorResult) {
+					resultsSeenBySuccessor.add(predecessorResult);
+					return predecessorResult;
+				}
+			};
+			parallelPipeline.submit(failing);
+			parallelPipeline.submit(succeeding);
+			parallelPipeline.submit(successor, succeeding, failing);
+
+			parallelPipeline.runToTermination();
+
+			assertThat(resultsSeenBySuccessor).containsExactly(failure);
+		}
+
+		@Example
+		void predecessorsMustBeSubmittedBeforeATaskCanRun() {
+			MockExecutionTask task1 = new MockExecutionTask("1");
+			MockExecutionTask task2 = new MockExecutionTask("2");
+			parallelPipeline.submit(task1, task2);
+
+			assertThatThrownBy(() -> parallelPipeline.runToTermination()).isInstanceOf(PredecessorNotSubmittedException.class);
+		}
+
+		private ExecutionTask recordingTask(String name, List<String> executed, TaskExecutionResult result) {
+			return new MockExecutionTask(name) {
+				@Override
+				public TaskExecutionResult execute(PropertyExecutionListener listener, TaskExecutionResult predecessorResult) {
+					executed.add(name);
+					return result;
+				}
+			};
+		}
+	}
+
+	@Group
+	class WithFailFast {
+
+		@Example
+		void skippableTasksAreSkippedWhenMaxFailuresIsReached() {
+			PropertyExecutionListener listener = Mockito.mock(PropertyExecutionListener.class);
+			ExecutionPipeline failFastPipeline = new ExecutionPipeline(listener, 1, new FailFast(1, false));
+			MockExecutionTask failing = failingTask("failing");
+			MockExecutionTask skippable = skippableTask("skippable");
+			MockExecutionTask notSkippable = new MockExecutionTask("notSkippable");
+			failFastPipeline.submit(failing);
+			failFastPipeline.submit(skippable);
+			failFastPipeline.submit(notSkippable);
+
+			failFastPipeline.runToTermination();
+
+			InOrder events = Mockito.inOrder(listener);
+			events.verify(listener).executionStarted(failing);
+			events.verify(listener).executionSkipped(ArgumentMatchers.eq(skippable), ArgumentMatchers.anyString());
+			events.verify(listener).executionStarted(notSkippable);
+			Mockito.verify(listener, Mockito.never()).executionStarted(skippable);
+		}
+
+		@Example
+		void tasksAreNotSkippedBeforeMaxFailuresIsReached() {
+			PropertyExecutionListener listener = Mockito.mock(PropertyExecutionListener.class);
+			ExecutionPipeline failFastPipeline = new ExecutionPipeline(listener, 1, new FailFast(2, false));
+			MockExecutionTask failing = failingTask("failing");
+			MockExecutionTask skippable = skippableTask("skippable");
+			failFastPipeline.submit(failing);
+			failFastPipeline.submit(skippable);
+
+			failFastPipeline.runToTermination();
+
+			Mockito.verify(listener).executionStarted(skippable);
+			Mockito.verify(listener, Mockito.never()).executionSkipped(ArgumentMatchers.any(), ArgumentMatchers.any());
+		}
+
+		@Example
+		void skippableTasksAreSkippedInParallelWhenMaxFailuresIsReached() {
+			PropertyExecutionListener listener = Mockito.mock(PropertyExecutionListener.class);
+			ExecutionPipeline failFastPipeline = new ExecutionPipeline(listener, 4, new FailFast(1, false));
+			MockExecutionTask failing = failingTask("failing");
+			MockExecutionTask skippable = skippableTask("skippable");
+			MockExecutionTask notSkippable = new MockExecutionTask("notSkippable");
+			failFastPipeline.submit(failing);
+			failFastPipeline.submit(skippable, failing);
+			failFastPipeline.submit(notSkippable, skippable);
+
+			failFastPipeline.runToTermination();
+
+			Mockito.verify(listener).executionSkipped(ArgumentMatchers.eq(skippable), ArgumentMatchers.anyString());
+			Mockito.verify(listener, Mockito.never()).executionStarted(skippable);
+			Mockito.verify(listener).executionStarted(notSkippable);
+		}
+
+		private MockExecutionTask failingTask(String name) {
+			return new MockExecutionTask(name) {
+				@Override
+				public TaskExecutionResult execute(PropertyExecutionListener listener, TaskExecutionResult predecessorResult) {
+					listener.executionStarted(this);
+					listener.executionFinished(this, PlainExecutionResult.failed(new AssertionError(name), null));
+					return TaskExecutionResult.success();
+				}
+			};
+		}
+
+		private MockExecutionTask skippableTask(String name) {
+			return new MockExecutionTask(name) {
+				@Override
+				public boolean skip(PropertyExecutionListener listener, String reason) {
+					listener.executionSkipped(this, reason);
+					return true;
+				}
+			};
+		}
+	}
+
 }
@@ -70,6 +70,27 @@ class GenerationInfoTests {
 			});
 		}
 
+		@Example
+		void generatorsThatCanSkipDoNotGeneratePreviousSamples() {
+			ParametersGeneratorForTests skippingGenerator = new ParametersGeneratorForTests() {
+				@Override
+				public int skip(int count) {
+					index += count;
+					return count;
+				}
+
+				@Override
+				public List<Shrinkable<Object>> next(TryLifecycleContext context) {
+					assertThat(index).isEqualTo(13);
+					return super.next(context);
+				}
+			};
+			GenerationInfo generationInfo = new GenerationInfo("4242", 14);
+
+			Optional<List<Shrinkable<Object>>> sample = generationInfo.generateOn(skippingGenerator, context);
+			assertThat(sample).hasValueSatisfying(shrinkables -> assertThat(shrinkables.get(0).value()).isEqualTo(14));
+		}
+
 		@Example
 		void generateWithShrinkingSequence() {
 			// Shrink 23 to 2
@@ -1,5 +1,6 @@
 package net.jqwik.engine.execution;
 
+import java.time.*;
 import java.util.*;
 
 import org.junit.platform.engine.*;
@@ -7,23 +8,31 @@ import org.mockito.*;
 
 import net.jqwik.api.*;
 import net.jqwik.engine.*;
+import net.jqwik.engine.descriptor.*;
 import net.jqwik.engine.discovery.*;
 import net.jqwik.engine.execution.lifecycle.*;
 import net.jqwik.testing.*;
 
+import static org.assertj.core.api.Assertions.*;
+
 import static net.jqwik.engine.matchers.TestDescriptorMatchers.*;
+import static net.jqwik.engine.matchers.TestExecutionResultMatchers.*;
 
 @SuppressLogging
 public class JqwikExecutorTests {
 
 	private final Set<UniqueId> previouslyFailedTests = new LinkedHashSet<>();
+	private final Map<UniqueId, Duration> previousDurations = new LinkedHashMap<>();
 	private final JqwikExecutor executor = new JqwikExecutor(
 		new LifecycleHooksRegistry(),
 		testRun -> {},
 		previouslyFailedTests,
+		previousDurations,
 		true,
 		false,
-		true
+		true,
+		1,
+		FailFast.off()
 	);
 
 	@Example
@@ -42,10 +51,138 @@ public class JqwikExecutorTests {
 		events.verify(listener).executionStarted(isPropertyDescriptorFor(TestContainer.class, "test1"));
 	}
 
+	@Example
+	void longestRunningTestsAreRunFirst() {
+		TestDescriptor descriptor = TestDescriptorBuilder.forClass(TestContainer.class, "test1", "test2", "test3").build();
+		EngineExecutionListener listener = Mockito.mock(EngineExecutionListener.class);
+
+		previousDurations.put(testId(descriptor, "test1()"), Duration.ofMillis(10));
+		previousDurations.put(testId(descriptor, "test2()"), Duration.ofMillis(300));
+		previousDurations.put(testId(descriptor, "test3()"), Duration.ofMillis(20));
+
+		executor.execute(descriptor, listener);
+
+		InOrder events = Mockito.inOrder(listener);
+		events.verify(listener).executionStarted(isPropertyDescriptorFor(TestContainer.class, "test2"));
+		events.verify(listener).executionStarted(isPropertyDescriptorFor(TestContainer.class, "test3"));
+		events.verify(listener).executionStarted(isPropertyDescriptorFor(TestContainer.class, "test1"));
+	}
+
+	@Example
+	void testsWithoutRecordedDurationAreRunLast() {
+		TestDescriptor descriptor = TestDescriptorBuilder.forClass(TestContainer.class, "test1", "test2", "test3").build();
+		EngineExecutionListener listener = Mockito.mock(EngineExecutionListener.class);
+
+		previousDurations.put(testId(descriptor, "test3()"), Duration.ofMillis(10));
+
+		executor.execute(descriptor, listener);
+
+		InOrder events = Mockito.inOrder(listener);
+		events.verify(listener).executionStarted(isPropertyDescriptorFor(TestContainer.class, "test3"));
+		events.verify(listener).executionStarted(isPropertyDescriptorFor(TestContainer.class, "test1"));
+		events.verify(listener).executionStarted(isPropertyDescriptorFor(TestContainer.class, "test2"));
+	}
+
+	@Example
+	void previouslyFailedTestsAreRunBeforeLongestRunningTests() {
+		TestDescriptor descriptor = TestDescriptorBuilder.forClass(TestContainer.class, "test1", "test2", "test3").build();
+		EngineExecutionListener listener = Mockito.mock(EngineExecutionListener.class);
+
+		previousDurations.put(testId(descriptor, "test1()"), Duration.ofMillis(10));
+		previousDurations.put(testId(descriptor, "test2()"), Duration.ofMillis(300));
+		previouslyFailedTests.add(testId(descriptor, "test3()"));
+
+		executor.execute(descriptor, listener);
+
+		InOrder events = Mockito.inOrder(listener);
+		events.verify(listener).executionStarted(isPropertyDescriptorFor(TestContainer.class, "test3"));
+		events.verify(listener).executionStarted(isPropertyDescriptorFor(TestContainer.class, "test2"));
+		events.verify(listener).executionStarted(isPropertyDescriptorFor(TestContainer.class, "test1"));
+	}
+
+	@Group
+	class WithFailFast {
+
+		@Example
+		void remainingPropertiesAreSkippedWhenMaxFailuresIsReached() {
+			TestDescriptor descriptor = TestDescriptorBuilder.forClass(FailingContainer.class, "fail1", "fail2", "succeed").build();
+			EngineExecutionListener listener = Mockito.mock(EngineExecutionListener.class);
+
+			executorWithFailFast(new FailFast(2, false)).execute(descriptor, listener);
+
+			InOrder events = Mockito.inOrder(listener);
+			events.verify(listener).executionFinished(isPropertyDescriptorFor(FailingContainer.class, "fail1"), isFailed("fail1"));
+			events.verify(listener).executionFinished(isPropertyDescriptorFor(FailingContainer.class, "fail2"), isFailed("fail2"));
+			events.verify(listener).executionSkipped(
+				ArgumentMatchers.eq(descriptorFor(descriptor, "succeed()")),
+				ArgumentMatchers.contains("2 properties have already failed")
+			);
+			events.verify(listener).executionFinished(isClassDescriptorFor(FailingContainer.class), isSuccessful());
+			Mockito.verify(listener, Mockito.never()).executionStarted(isPropertyDescriptorFor(FailingContainer.class, "succeed"));
+		}
+
+		@Example
+		void noPropertyIsSkippedWithoutMaxFailures() {
+			TestDescriptor descriptor = TestDescriptorBuilder.forClass(FailingContainer.class, "fail1", "fail2", "succeed").build();
+			EngineExecutionListener listener = Mockito.mock(EngineExecutionListener.class);
+
+			executorWithFailFast(new FailFast(0, false)).execute(descriptor, listener);
+
+			Mockito.verify(listener, Mockito.never()).executionSkipped(ArgumentMatchers.any(), ArgumentMatchers.any());
+			Mockito.verify(listener).executionFinished(isPropertyDescriptorFor(FailingContainer.class, "succeed"), isSuccessful());
+		}
+
+		@Example
+		void onlyFirstFailureIsShrunk() {
+			TestDescriptor descriptor = TestDescriptorBuilder.forClass(FailingContainer.class, "fail1", "fail2").build();
+			EngineExecutionListener listener = Mockito.mock(EngineExecutionListener.class);
+
+			executorWithFailFast(new FailFast(0, true)).execute(descriptor, listener);
+
+			PropertyMethodDescriptor fail1 = (PropertyMethodDescriptor) descriptorFor(descriptor, "fail1()");
+			PropertyMethodDescriptor fail2 = (PropertyMethodDescriptor) descriptorFor(descriptor, "fail2()");
+			assertThat(fail1.getConfiguration().getShrinkingMode()).isEqualTo(ShrinkingMode.BOUNDED);
+			assertThat(fail2.getConfiguration().getShrinkingMode()).isEqualTo(ShrinkingMode.OFF);
+		}
+
+		private JqwikExecutor executorWithFailFast(FailFast failFast) {
+			return new JqwikExecutor(
+				new LifecycleHooksRegistry(),
+				testRun -> {},
+				Collections.emptySet(),
+				Collections.emptyMap(),
+				true,
+				false,
+				true,
+				1,
+				failFast
+			);
+		}
+
+		private TestDescriptor descriptorFor(TestDescriptor classDescriptor, String methodSegment) {
+			return classDescriptor.findByUniqueId(testId(classDescriptor, methodSegment)).get();
+		}
+	}
+
 	private UniqueId testId(TestDescriptor descriptor, String value) {
 		return descriptor.getUniqueId().append(JqwikUniqueIDs.PROPERTY_SEGMENT_TYPE, value);
 	}
 
+	private static class FailingContainer {
+		@Property(tries = 10)
+		void fail1() {
+			throw new AssertionError("fail1");
+		}
+
+		@Property(tries = 10)
+		void fail2() {
+			throw new AssertionError("fail2");
+		}
+
+		@Property void succeed() {
+		}
+	}
+
 	private static class TestContainer {
 		@Property void test1() {
 		}
@@ -1,6 +1,7 @@
 package net.jqwik.engine.execution.lifecycle;
 
 import java.util.*;
+import java.util.concurrent.*;
 import java.util.function.*;
 
 import org.assertj.core.api.*;
@@ -128,6 +129,49 @@ class StoreRepositoryTests {
 			assertThat(optionalStore).isNotPresent();
 		}
 
+		@Example
+		void storeCreatedInParentScopeAfterRetrievalCanBeRetrieved() {
+			TestDescriptor container = TestDescriptorBuilder.forClass(Container1.class, "method1").build();
+			TestDescriptor method1 = container.getChildren().iterator().next();
+
+			assertThat(repository.get(method1, "aString")).isNotPresent();
+
+			ScopedStore<String> store = repository.create(container, "aString", Lifespan.PROPERTY, () -> "initial");
+			Optional<ScopedStore<String>> optionalStore = repository.get(method1, "aString");
+			assertThat(optionalStore).containsSame(store);
+
+			repository.finishScope(container);
+			assertThat(repository.get(method1, "aString")).isNotPresent();
+		}
+
+		@Example
+		void concurrentGetOrCreateReturnsSameStore() throws Exception {
+			TestDescriptor container = TestDescriptorBuilder.forClass(Container1.class, "method1").build();
+			TestDescriptor method1 = container.getChildren().iterator().next();
+
+			int threads = 8;
+			ExecutorService executor = Executors.newFixedThreadPool(threads);
+			try {
+				CountDownLatch start = new CountDownLatch(1);
+				List<Future<ScopedStore<String>>> futures = new ArrayList<>();
+				for (int i = 0; i < threads; i++) {
+					futures.add(executor.submit(() -> {
+						start.await();
+						return repository.getOrCreate(method1, "aString", Lifespan.PROPERTY, () -> "initial");
+					}));
+				}
+				start.countDown();
+
+				ScopedStore<String> first = futures.get(0).get(10, TimeUnit.SECONDS);
+				for (Future<ScopedStore<String>> future : futures) {
+					assertThat(future.get(10, TimeUnit.SECONDS)).isSameAs(first);
+				}
+				assertThat(repository.size()).isEqualTo(1);
+			} finally {
+				executor.shutdown();
+			}
+		}
+
 		@Example
 		void cannotBeRetrievedForUnrelatedScopeAndSameName() {
 			TestDescriptor owner = TestDescriptorBuilder.forClass(Container1.class).build();
@@ -174,6 +218,45 @@ class StoreRepositoryTests {
 			});
 		}
 
+		@Example
+		void storesWithLifespanTry_keepValuesSeparateForConcurrentTries() throws Exception {
+			TestDescriptor container = TestDescriptorBuilder.forClass(Container1.class, "method1").build();
+			TestDescriptor method = container.getChildren().iterator().next();
+			ScopedStore<String> methodStoreTry = repository.create(method, "methodStoreTry", Lifespan.TRY, () -> "initial");
+			methodStoreTry.update(s -> "changed");
+
+			ExecutorService otherTry = Executors.newSingleThreadExecutor();
+			try {
+				String valueInOtherTry = otherTry.submit(() -> ConcurrentTryValues.runInOwnTry(() -> {
+					String initialValue = methodStoreTry.get();
+					methodStoreTry.update(s -> "changed in other try");
+					repository.finishTry(method);
+					return initialValue;
+				})).get(10, TimeUnit.SECONDS);
+
+				assertThat(valueInOtherTry).isEqualTo("initial");
+				assertThat(methodStoreTry.get()).isEqualTo("changed");
+			} finally {
+				otherTry.shutdown();
+			}
+		}
+
+		@Example
+		void storesWithLifespanTry_shareValueOutsideOfConcurrentTries() throws Exception {
+			TestDescriptor container = TestDescriptorBuilder.forClass(Container1.class, "method1").build();
+			TestDescriptor method = container.getChildren().iterator().next();
+			ScopedStore<String> methodStoreTry = repository.create(method, "methodStoreTry", Lifespan.TRY, () -> "initial");
+			methodStoreTry.update(s -> "changed");
+
+			ExecutorService otherThread = Executors.newSingleThreadExecutor();
+			try {
+				String valueInOtherThread = otherThread.submit(methodStoreTry::get).get(10, TimeUnit.SECONDS);
+				assertThat(valueInOtherThread).isEqualTo("changed");
+			} finally {
+				otherThread.shutdown();
+			}
+		}
+
 		@Example
 		void finishProperty_resetsAllVisibleStoresWithLifespanProperty() {
 			TestDescriptor container = TestDescriptorBuilder.forClass(Container1.class, "method1").build();
@@ -77,6 +77,25 @@ class ExhaustiveShrinkablesGeneratorTests {
 		assertThat(shrinkablesGenerator.hasNext()).isFalse();
 	}
 
+	@Example
+	void skippingAddressesSampleByIndex() {
+		ExhaustiveShrinkablesGenerator shrinkablesGenerator = createGenerator("intFrom1to3And4to5");
+
+		assertThat(shrinkablesGenerator.skip(3)).isEqualTo(3);
+		assertThat(shrinkablesGenerator.next()).containsExactly(Shrinkable.unshrinkable(2), Shrinkable.unshrinkable(5));
+
+		assertThat(shrinkablesGenerator.skip(10)).isEqualTo(2);
+		assertThat(shrinkablesGenerator.hasNext()).isFalse();
+	}
+
+	@Example
+	void noSkippingWithoutIndexedGenerators() {
+		ExhaustiveShrinkablesGenerator shrinkablesGenerator = createGenerator("evenIntFrom0to6");
+
+		assertThat(shrinkablesGenerator.skip(2)).isEqualTo(0);
+		assertThat(shrinkablesGenerator.next()).containsExactly(Shrinkable.unshrinkable(0));
+	}
+
 	@Example
 	void noExhaustiveGenerator() {
 		Assertions.assertThatThrownBy(() -> createGenerator("doubles")).isInstanceOf(JqwikException.class);
@@ -113,5 +132,12 @@ class ExhaustiveShrinkablesGeneratorTests {
 		public void iterables(@ForAll @Size(2) Iterable<@IntRange(min = 0, max = 1) Integer> iterable) {}
 
 		public void doubles(@ForAll double aDouble) {}
+
+		public void evenIntFrom0to6(@ForAll("evenInts") int anInt) {}
+
+		@Provide
+		Arbitrary<Integer> evenInts() {
+			return Arbitraries.integers().between(0, 6).filter(i -> i % 2 == 0);
+		}
 	}
 }
@@ -1,10 +1,14 @@
 package net.jqwik.engine.properties;
 
+import java.lang.reflect.*;
+import java.time.*;
 import java.util.*;
+import java.util.concurrent.*;
 import java.util.concurrent.atomic.*;
 import java.util.function.*;
 import java.util.stream.*;
 
+import org.junit.platform.engine.*;
 import org.opentest4j.*;
 
 import net.jqwik.*;
@@ -13,6 +17,7 @@ import net.jqwik.api.lifecycle.*;
 import net.jqwik.engine.*;
 import net.jqwik.engine.descriptor.*;
 import net.jqwik.engine.execution.*;
+import net.jqwik.engine.execution.lifecycle.*;
 
 import static org.assertj.core.api.Assertions.*;
 
@@ -500,6 +505,444 @@ class GenericPropertyTests {
 
 	}
 
+	@Group
+	class InParallel {
+
+		@Example
+		void allTriesAreExecuted() {
+			ForAllSpy forAllFunction = new ForAllSpy(trie -> true);
+			ParametersGenerator shrinkablesGenerator = finiteShrinkablesGenerator(IntStream.rangeClosed(1, 50).toArray());
+
+			PropertyConfiguration configuration = aConfig().withParallelism(4).build();
+			GenericProperty property = new GenericProperty("parallel property", configuration, shrinkablesGenerator, forAllFunction, tryLifecycleContextSupplier);
+			PropertyCheckResult result = property.check(TestHelper.reporter(), new Reporting[0]);
+
+			assertThat(forAllFunction.countCalls()).isEqualTo(50);
+			assertThat(result.checkStatus()).isEqualTo(PropertyCheckResult.CheckStatus.SUCCESSFUL);
+			assertThat(result.countTries()).isEqualTo(50);
+			assertThat(result.countChecks()).isEqualTo(50);
+		}
+
+		@Example
+		void triesAreExecutedConcurrently() {
+			CountDownLatch allTriesStarted = new CountDownLatch(4);
+			TryLifecycleExecutor waitForOtherTries = (context, parameters) -> {
+				allTriesStarted.countDown();
+				try {
+					boolean allStarted = allTriesStarted.await(10, TimeUnit.SECONDS);
+					return allStarted ? TryExecutionResult.satisfied() : TryExecutionResult.falsified(null);
+				} catch (InterruptedException e) {
+					return TryExecutionResult.falsified(e);
+				}
+			};
+			ParametersGenerator shrinkablesGenerator = finiteShrinkablesGenerator(1, 2, 3, 4);
+
+			PropertyConfiguration configuration = aConfig().withParallelism(4).withShrinking(OFF).build();
+			GenericProperty property = new GenericProperty("parallel property", configuration, shrinkablesGenerator, waitForOtherTries, tryLifecycleContextSupplier);
+			PropertyCheckResult result = property.check(TestHelper.reporter(), new Reporting[0]);
+
+			assertThat(result.checkStatus()).isEqualTo(PropertyCheckResult.CheckStatus.SUCCESSFUL);
+			assertThat(result.countTries()).isEqualTo(4);
+		}
+
+		@Example
+		void triesCanBeExecutedOnVirtualThreads() {
+			Set<String> threadNames = ConcurrentHashMap.newKeySet();
+			Set<Optional<Boolean>> virtualThreads = ConcurrentHashMap.newKeySet();
+			TryLifecycleExecutor collectThreadNames = (context, parameters) -> {
+				threadNames.add(Thread.currentThread().getName());
+				virtualThreads.add(isVirtual(Thread.currentThread()));
+				return TryExecutionResult.satisfied();
+			};
+			ParametersGenerator shrinkablesGenerator = finiteShrinkablesGenerator(IntStream.rangeClosed(1, 100).toArray());
+
+			PropertyConfiguration configuration = aConfig().withParallelism(50).withVirtualThreadTries(true).build();
+			GenericProperty property = new GenericProperty("virtual threads property", configuration, shrinkablesGenerator, collectThreadNames, tryLifecycleContextSupplier);
+			PropertyCheckResult result = property.check(TestHelper.reporter(), new Reporting[0]);
+
+			assertThat(result.checkStatus()).isEqualTo(PropertyCheckResult.CheckStatus.SUCCESSFUL);
+			assertThat(result.countTries()).isEqualTo(100);
+			assertThat(threadNames).allMatch(name -> name.startsWith("jqwik-try-"));
+			// Without virtual threads (before JDK 21) platform threads are used as fallback
+			assertThat(virtualThreads).allMatch(virtual -> virtual.orElse(true));
+		}
+
+		private Optional<Boolean> isVirtual(Thread thread) {
+			try {
+				Method isVirtual = Thread.class.getMethod("isVirtual");
+				return Optional.of((Boolean) isVirtual.invoke(thread));
+			} catch (NoSuchMethodException e) {
+				return Optional.empty();
+			} catch (IllegalAccessException | InvocationTargetException e) {
+				throw new RuntimeException(e);
+			}
+		}
+
+		@Example
+		void earliestFalsifiedTryIsReported() {
+			TryLifecycleExecutor laterTriesFinishFirst = (context, parameters) -> {
+				int value = (int) parameters.get(0);
+				try {
+					Thread.sleep(Math.max(0, 20 - value));
+				} catch (InterruptedException ignore) {
+				}
+				return value % 5 == 0 ? TryExecutionResult.falsified(null) : TryExecutionResult.satisfied();
+			};
+			ParametersGenerator shrinkablesGenerator = finiteShrinkablesGenerator(IntStream.rangeClosed(1, 20).toArray());
+
+			PropertyConfiguration configuration = aConfig().withParallelism(8).withShrinking(OFF).build();
+			GenericProperty property = new GenericProperty("parallel property", configuration, shrinkablesGenerator, laterTriesFinishFirst, tryLifecycleContextSupplier);
+			PropertyCheckResult result = property.check(TestHelper.reporter(), new Reporting[0]);
+
+			assertThat(result.checkStatus()).isEqualTo(PropertyCheckResult.CheckStatus.FAILED);
+			assertThat(result.falsifiedParameters().get()).containsExactly(5);
+			assertThat(result.countTries()).isEqualTo(5);
+			assertThat(result.countChecks()).isEqualTo(5);
+		}
+
+		@Example
+		void sameSeedGeneratesSameSamplesAsSequentialExecution() {
+			List<Object> sequentialSamples = Collections.synchronizedList(new ArrayList<>());
+			List<Object> parallelSamples = Collections.synchronizedList(new ArrayList<>());
+
+			checkWithSeed("42", aConfig().withTries(100).build(), sequentialSamples);
+			checkWithSeed("42", aConfig().withTries(100).withParallelism(4).build(), parallelSamples);
+
+			assertThat(parallelSamples).hasSize(100);
+			assertThat(parallelSamples).containsExactlyInAnyOrderElementsOf(sequentialSamples);
+		}
+
+		@Example
+		void eachTryUsesItsOwnTryStoresDuringGenerationAndExecution() {
+			ScopedStore<Integer> tryStore = tryStore();
+			List<List<Object>> generatedAndExecuted = Collections.synchronizedList(new ArrayList<>());
+			TryLifecycleExecutor collectStoreValues = (context, parameters) -> {
+				generatedAndExecuted.add(Arrays.asList(parameters.get(0), tryStore.get()));
+				return TryExecutionResult.satisfied();
+			};
+
+			PropertyConfiguration configuration = aConfig().withTries(50).withParallelism(4).build();
+			GenericProperty property = new GenericProperty(
+				"parallel property", configuration, tryStoreCountingGenerator(tryStore), collectStoreValues, tryLifecycleContextSupplier
+			);
+			property.check(TestHelper.reporter(), new Reporting[0]);
+
+			assertThat(generatedAndExecuted).hasSize(50);
+			assertThat(generatedAndExecuted).allMatch(values -> values.equals(Arrays.asList(1, 1)));
+			assertThat(tryStore.get()).isEqualTo(0);
+		}
+
+		@Example
+		void sameSeedLeadsToSameRandomnessWithinEachTry() {
+			PropertyConfiguration configuration = aConfig().withSeed("42").withParallelism(4).build();
+
+			Map<Object, Long> randomValuesPerTry = checkCollectingRandomValues(configuration);
+
+			assertThat(randomValuesPerTry).hasSize(50);
+			assertThat(new HashSet<>(randomValuesPerTry.values())).hasSize(50);
+			assertThat(checkCollectingRandomValues(configuration)).isEqualTo(randomValuesPerTry);
+		}
+	}
+
+	@Group
+	class WithTimeBudget {
+
+		private final TryLifecycleExecutor slowTry = (context, parameters) -> {
+			try {
+				Thread.sleep(5);
+			} catch (InterruptedException ignore) {
+			}
+			return TryExecutionResult.satisfied();
+		};
+
+		@Example
+		void triesAreRunUntilDurationIsUsedUp() {
+			PropertyConfiguration configuration = aConfig().withDuration("100ms").build();
+			GenericProperty property = new GenericProperty("timed property", configuration, anyIntegerGenerator(), slowTry, tryLifecycleContextSupplier);
+			PropertyCheckResult result = property.check(TestHelper.reporter(), new Reporting[0]);
+
+			assertThat(result.checkStatus()).isEqualTo(PropertyCheckResult.CheckStatus.SUCCESSFUL);
+			assertThat(result.countTries()).isBetween(2, TestHelper.DEFAULT_TRIES - 1);
+			assertThat(result.countChecks()).isEqualTo(result.countTries());
+			assertThat(result.timeBudget()).hasValueSatisfying(timeBudget -> {
+				assertThat(timeBudget.budget()).isEqualTo(Duration.ofMillis(100));
+				assertThat(timeBudget.elapsed()).isGreaterThanOrEqualTo(Duration.ofMillis(100));
+				assertThat(timeBudget.triesPerSecond(result.countTries())).isPositive();
+			});
+		}
+
+		@Example
+		void globalDurationIsUsedWhenTriesAreNotSet() {
+			PropertyConfiguration configuration = aConfig().withDefaultDuration("50ms").build();
+			GenericProperty property = new GenericProperty("timed property", configuration, anyIntegerGenerator(), slowTry, tryLifecycleContextSupplier);
+			PropertyCheckResult result = property.check(TestHelper.reporter(), new Reporting[0]);
+
+			assertThat(result.checkStatus()).isEqualTo(PropertyCheckResult.CheckStatus.SUCCESSFUL);
+			assertThat(result.timeBudget()).isPresent();
+		}
+
+		@Example
+		void globalDurationIsIgnoredWhenTriesAreSet() {
+			ForAllSpy forAllFunction = new ForAllSpy(trie -> true);
+			PropertyConfiguration configuration = aConfig().withTries(10).withDefaultDuration("1h").build();
+			GenericProperty property = new GenericProperty("timed property", configuration, anyIntegerGenerator(), forAllFunction, tryLifecycleContextSupplier);
+			PropertyCheckResult result = property.check(TestHelper.reporter(), new Reporting[0]);
+
+			assertThat(result.countTries()).isEqualTo(10);
+			assertThat(result.timeBudget()).isEmpty();
+		}
+
+		@Example
+		void concurrentTriesAreRunUntilDurationIsUsedUp() {
+			PropertyConfiguration configuration = aConfig().withDuration("100ms").withParallelism(4).build();
+			GenericProperty property = new GenericProperty("timed property", configuration, anyIntegerGenerator(), slowTry, tryLifecycleContextSupplier);
+			PropertyCheckResult result = property.check(TestHelper.reporter(), new Reporting[0]);
+
+			assertThat(result.checkStatus()).isEqualTo(PropertyCheckResult.CheckStatus.SUCCESSFUL);
+			assertThat(result.countTries()).isBetween(2, TestHelper.DEFAULT_TRIES - 1);
+			assertThat(result.timeBudget()).isPresent();
+		}
+
+		@Example
+		void falsifiedTryEndsTimedProperty() {
+			ForAllSpy forAllFunction = new ForAllSpy(trie -> trie < 5);
+			PropertyConfiguration configuration = aConfig().withDuration("1h").withShrinking(OFF).build();
+			ParametersGenerator shrinkablesGenerator = finiteShrinkablesGenerator(1, 2, 3, 4, 5, 6);
+			GenericProperty property = new GenericProperty("timed property", configuration, shrinkablesGenerator, forAllFunction, tryLifecycleContextSupplier);
+			PropertyCheckResult result = property.check(TestHelper.reporter(), new Reporting[0]);
+
+			assertThat(result.checkStatus()).isEqualTo(PropertyCheckResult.CheckStatus.FAILED);
+			assertThat(result.countTries()).isEqualTo(5);
+			assertThat(result.timeBudget()).isPresent();
+		}
+
+		@Example
+		void budgetBeyondNanosecondRangeCanBeUsed() {
+			ForAllSpy forAllFunction = new ForAllSpy(trie -> trie < 3);
+			PropertyConfiguration configuration = aConfig().withDuration("200000d").withShrinking(OFF).build();
+			ParametersGenerator shrinkablesGenerator = finiteShrinkablesGenerator(1, 2, 3, 4);
+			GenericProperty property = new GenericProperty("timed property", configuration, shrinkablesGenerator, forAllFunction, tryLifecycleContextSupplier);
+			PropertyCheckResult result = property.check(TestHelper.reporter(), new Reporting[0]);
+
+			assertThat(result.checkStatus()).isEqualTo(PropertyCheckResult.CheckStatus.FAILED);
+			assertThat(result.countTries()).isEqualTo(3);
+			assertThat(result.timeBudget()).hasValueSatisfying(
+				timeBudget -> assertThat(timeBudget.budget()).isEqualTo(Duration.ofDays(200000))
+			);
+		}
+
+		@Example
+		void invalidDurationIsRejected() {
+			PropertyConfiguration configuration = aConfig().withDuration("30 seconds").build();
+			GenericProperty property = new GenericProperty("timed property", configuration, anyIntegerGenerator(), slowTry, tryLifecycleContextSupplier);
+
+			assertThatThrownBy(() -> property.check(TestHelper.reporter(), new Reporting[0]))
+				.isInstanceOf(JqwikException.class)
+				.hasMessageContaining("30 seconds");
+		}
+
+		private ParametersGenerator anyIntegerGenerator() {
+			return randomizedShrinkablesGenerator(Arbitraries.integers().asGeneric());
+		}
+	}
+
+	@Group
+	class WithPrefetchedTries {
+
+		@Example
+		void allTriesAreExecuted() {
+			ForAllSpy forAllFunction = new ForAllSpy(trie -> true);
+			ParametersGenerator shrinkablesGenerator = finiteShrinkablesGenerator(IntStream.rangeClosed(1, 50).toArray());
+
+			PropertyConfiguration configuration = aConfig().withPrefetchedTries(5).build();
+			GenericProperty property = new GenericProperty("prefetched property", configuration, shrinkablesGenerator, forAllFunction, tryLifecycleContextSupplier);
+			PropertyCheckResult result = property.check(TestHelper.reporter(), new Reporting[0]);
+
+			assertThat(forAllFunction.countCalls()).isEqualTo(50);
+			assertThat(result.checkStatus()).isEqualTo(PropertyCheckResult.CheckStatus.SUCCESSFUL);
+			assertThat(result.countTries()).isEqualTo(50);
+		}
+
+		@Example
+		void parametersAreGeneratedOnPrefetchingThread() {
+			Set<String> generatingThreads = ConcurrentHashMap.newKeySet();
+			Arbitrary<Object> arbitrary = Arbitraries.integers().map(i -> {
+				generatingThreads.add(Thread.currentThread().getName());
+				return i;
+			}).asGeneric();
+
+			PropertyConfiguration configuration = aConfig().withTries(10).withPrefetchedTries(5).build();
+			GenericProperty property = new GenericProperty(
+				"prefetched property", configuration, randomizedShrinkablesGenerator(arbitrary), new ForAllSpy(trie -> true), tryLifecycleContextSupplier
+			);
+			property.check(TestHelper.reporter(), new Reporting[0]);
+
+			assertThat(generatingThreads).isNotEmpty();
+			assertThat(generatingThreads).allMatch(name -> name.startsWith("jqwik-prefetch-"));
+		}
+
+		@Example
+		void sameSeedGeneratesSamplesInSameOrder() {
+			List<Object> directSamples = new ArrayList<>();
+			List<Object> prefetchedSamples = new ArrayList<>();
+
+			checkWithSeed("42", aConfig().withTries(100).build(), directSamples);
+			checkWithSeed("42", aConfig().withTries(100).withPrefetchedTries(8).build(), prefetchedSamples);
+
+			assertThat(prefetchedSamples).hasSize(100);
+			assertThat(prefetchedSamples).containsExactlyElementsOf(directSamples);
+		}
+
+		@Example
+		void eachTryUsesItsOwnTryStoresDuringGenerationAndExecution() {
+			ScopedStore<Integer> tryStore = tryStore();
+			List<List<Object>> generatedAndExecuted = new ArrayList<>();
+			TryLifecycleExecutor collectStoreValuesAndReset = (context, parameters) -> {
+				generatedAndExecuted.add(Arrays.asList(parameters.get(0), tryStore.get()));
+				tryStore.reset();
+				return TryExecutionResult.satisfied();
+			};
+
+			PropertyConfiguration configuration = aConfig().withTries(50).withPrefetchedTries(10).build();
+			GenericProperty property = new GenericProperty(
+				"prefetched property", configuration, tryStoreCountingGenerator(tryStore), collectStoreValuesAndReset, tryLifecycleContextSupplier
+			);
+			property.check(TestHelper.reporter(), new Reporting[0]);
+
+			assertThat(generatedAndExecuted).hasSize(50);
+			assertThat(generatedAndExecuted).allMatch(values -> values.equals(Arrays.asList(1, 1)));
+			assertThat(tryStore.get()).isEqualTo(0);
+		}
+
+		@Example
+		void sameSeedLeadsToSameRandomnessWithinEachTry() {
+			PropertyConfiguration configuration = aConfig().withSeed("42").withPrefetchedTries(10).build();
+
+			Map<Object, Long> randomValuesPerTry = checkCollectingRandomValues(configuration);
+
+			assertThat(randomValuesPerTry).hasSize(50);
+			assertThat(checkCollectingRandomValues(configuration)).isEqualTo(randomValuesPerTry);
+
+			PropertyConfiguration concurrentConfiguration = aConfig().withSeed("42").withPrefetchedTries(10).withParallelism(4).build();
+			assertThat(checkCollectingRandomValues(concurrentConfiguration)).isEqualTo(randomValuesPerTry);
+		}
+
+		@Example
+		void generationInfoOfFalsifiedTryIsReported() {
+			ForAllSpy forAllFunction = new ForAllSpy(trie -> trie < 5);
+			ParametersGenerator shrinkablesGenerator = finiteShrinkablesGenerator(IntStream.rangeClosed(1, 50).toArray());
+
+			PropertyConfiguration configuration = aConfig().withPrefetchedTries(20).withShrinking(OFF).build();
+			GenericProperty property = new GenericProperty("prefetched property", configuration, shrinkablesGenerator, forAllFunction, tryLifecycleContextSupplier);
+			PropertyCheckResult result = property.check(TestHelper.reporter(), new Reporting[0]);
+
+			assertThat(result.checkStatus()).isEqualTo(PropertyCheckResult.CheckStatus.FAILED);
+			assertThat(result.falsifiedParameters().get()).containsExactly(5);
+			assertThat(result.generationInfo().generationIndex()).isEqualTo(5);
+		}
+
+		@Example
+		void prefetchingCanBeCombinedWithConcurrentTries() {
+			ForAllSpy forAllFunction = new ForAllSpy(trie -> true);
+			ParametersGenerator shrinkablesGenerator = finiteShrinkablesGenerator(IntStream.rangeClosed(1, 50).toArray());
+
+			PropertyConfiguration configuration = aConfig().withPrefetchedTries(10).withParallelism(4).build();
+			GenericProperty property = new GenericProperty("prefetched property", configuration, shrinkablesGenerator, forAllFunction, tryLifecycleContextSupplier);
+			PropertyCheckResult result = property.check(TestHelper.reporter(), new Reporting[0]);
+
+			assertThat(forAllFunction.countCalls()).isEqualTo(50);
+			assertThat(result.checkStatus()).isEqualTo(PropertyCheckResult.CheckStatus.SUCCESSFUL);
+		}
+
+		@Example
+		void generationErrorIsReportedAsExhausted() {
+			Arbitrary<Object> neverMatching = Arbitraries.integers().filter(i -> false).asGeneric();
+
+			PropertyConfiguration configuration = aConfig().withTries(10).withPrefetchedTries(5).build();
+			GenericProperty property = new GenericProperty(
+				"prefetched property", configuration, randomizedShrinkablesGenerator(neverMatching), new ForAllSpy(trie -> true), tryLifecycleContextSupplier
+			);
+			PropertyCheckResult result = property.check(TestHelper.reporter(), new Reporting[0]);
+
+			assertThat(result.checkStatus()).isEqualTo(PropertyCheckResult.CheckStatus.EXHAUSTED);
+			assertThat(result.throwable()).containsInstanceOf(TooManyFilterMissesException.class);
+		}
+	}
+
+	private void checkWithSeed(String seed, PropertyConfiguration configuration, List<Object> samples) {
+		SourceOfRandomness.create(seed);
+		Arbitrary<Object> arbitrary = Arbitraries.integers().between(-1000, 1000).asGeneric();
+		TryLifecycleExecutor collectSamples = (context, parameters) -> {
+			samples.add(parameters.get(0));
+			return TryExecutionResult.satisfied();
+		};
+		GenericProperty property = new GenericProperty(
+			"seeded property", configuration, randomizedShrinkablesGenerator(arbitrary), collectSamples, tryLifecycleContextSupplier
+		);
+		property.check(TestHelper.reporter(), new Reporting[0]);
+	}
+
+	private Map<Object, Long> checkCollectingRandomValues(PropertyConfiguration configuration) {
+		Map<Object, Long> randomValuesPerTry = new ConcurrentHashMap<>();
+		TryLifecycleExecutor collectRandomValues = (context, parameters) -> {
+			randomValuesPerTry.put(parameters.get(0), SourceOfRandomness.current().nextLong());
+			return TryExecutionResult.satisfied();
+		};
+		ParametersGenerator shrinkablesGenerator = finiteShrinkablesGenerator(IntStream.rangeClosed(1, 50).toArray());
+		GenericProperty property = new GenericProperty(
+			"random property", configuration, shrinkablesGenerator, collectRandomValues, tryLifecycleContextSupplier
+		);
+		property.check(TestHelper.reporter(), new Reporting[0]);
+		return randomValuesPerTry;
+	}
+
+	private ScopedStore<Integer> tryStore() {
+		TestDescriptor engine = TestDescriptorBuilder.forEngine(new JqwikTestEngine()).build();
+		return new ScopedStore<>("tryStore", Lifespan.TRY, engine, () -> 0);
+	}
+
+	/**
+	 * Counts generated tries in a TRY store and uses the count as parameter.
+	 */
+	private ParametersGenerator tryStoreCountingGenerator(Store<Integer> tryStore) {
+		return new ParametersGenerator() {
+
+			private int index = 0;
+
+			@Override
+			public boolean hasNext() {
+				return true;
+			}
+
+			@Override
+			public List<Shrinkable<Object>> next(TryLifecycleContext context) {
+				index++;
+				tryStore.update(count -> count + 1);
+				return Collections.singletonList(Shrinkable.unshrinkable(tryStore.get()));
+			}
+
+			@Override
+			public int edgeCasesTotal() {
+				return 0;
+			}
+
+			@Override
+			public int edgeCasesTried() {
+				return 0;
+			}
+
+			@Override
+			public GenerationInfo generationInfo(String randomSeed) {
+				return new GenerationInfo(randomSeed, index);
+			}
+
+			@Override
+			public void reset() {
+				index = 0;
+			}
+		};
+	}
+
 	private ParametersGenerator randomizedShrinkablesGenerator(Arbitrary<Object>... arbitraries) {
 		Random random = SourceOfRandomness.current();
 		List<Arbitrary<Object>> arbitraryList = Arrays.stream(arbitraries).collect(Collectors.toList());
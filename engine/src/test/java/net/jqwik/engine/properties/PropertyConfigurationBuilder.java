@@ -22,6 +22,11 @@ class PropertyConfigurationBuilder {
 	private AfterFailureMode afterFailureMode = null;
 	private EdgeCasesMode edgeCasesMode = null;
 	private FixedSeedMode fixedSeedMode = null;
+	private Integer parallelism = null;
+	private boolean virtualThreadTries = false;
+	private String duration = null;
+	private String defaultDuration = Property.DURATION_NOT_SET;
+	private int prefetchedTries = 0;
 
 	PropertyConfigurationBuilder withSeed(String seed) {
 		this.seed = seed;
@@ -68,6 +73,31 @@ class PropertyConfigurationBuilder {
 		return this;
 	}
 
+	public PropertyConfigurationBuilder withParallelism(int parallelism) {
+		this.parallelism = parallelism;
+		return this;
+	}
+
+	public PropertyConfigurationBuilder withVirtualThreadTries(boolean virtualThreadTries) {
+		this.virtualThreadTries = virtualThreadTries;
+		return this;
+	}
+
+	public PropertyConfigurationBuilder withDuration(String duration) {
+		this.duration = duration;
+		return this;
+	}
+
+	public PropertyConfigurationBuilder withDefaultDuration(String defaultDuration) {
+		this.defaultDuration = defaultDuration;
+		return this;
+	}
+
+	public PropertyConfigurationBuilder withPrefetchedTries(int prefetchedTries) {
+		this.prefetchedTries = prefetchedTries;
+		return this;
+	}
+
 	PropertyConfiguration build() {
 		PropertyAttributes propertyAttributes = new DefaultPropertyAttributes(
 			tries,
@@ -78,12 +108,14 @@ class PropertyConfigurationBuilder {
 			edgeCasesMode,
 			null,
 			seed,
-			fixedSeedMode
+			fixedSeedMode,
+			parallelism,
+			duration
 		);
 
 		return new PropertyConfiguration(
 			propertyAttributes,
-			TestHelper.propertyAttributesDefaults(),
+			TestHelper.propertyAttributesDefaults(virtualThreadTries, defaultDuration, prefetchedTries),
 			generationInfo,
 			seed,
 			tries,
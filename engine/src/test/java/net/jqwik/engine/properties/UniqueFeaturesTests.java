@@ -0,0 +1,89 @@
+package net.jqwik.engine.properties;
+
+import java.util.*;
+
+import net.jqwik.api.*;
+import net.jqwik.api.constraints.*;
+
+import static java.util.Arrays.*;
+import static org.assertj.core.api.Assertions.*;
+
+class UniqueFeaturesTests {
+
+	private final FeatureExtractor<String> firstChar = s -> s.charAt(0);
+	private final FeatureExtractor<String> length = String::length;
+
+	@Example
+	void withoutExtractorsEverythingIsUnique() {
+		UniqueFeatures<String> features = new UniqueFeatures<>(Collections.emptySet());
+
+		assertThat(features.addIfUnique("a")).isTrue();
+		assertThat(features.addIfUnique("a")).isTrue();
+		assertThat(features.isUniqueReplacement("a", "a")).isTrue();
+	}
+
+	@Example
+	void addOnlyValuesWithUniqueFeatures() {
+		UniqueFeatures<String> features = new UniqueFeatures<>(asList(firstChar, length));
+
+		assertThat(features.addIfUnique("a")).isTrue();
+		assertThat(features.addIfUnique("ab")).isFalse();
+		assertThat(features.addIfUnique("b")).isFalse();
+		assertThat(features.addIfUnique("bc")).isTrue();
+		assertThat(features.addIfUnique("cde")).isTrue();
+	}
+
+	@Example
+	void rejectedValueIsNotTracked() {
+		UniqueFeatures<String> features = new UniqueFeatures<>(asList(firstChar, length));
+		features.addIfUnique("a");
+
+		assertThat(features.addIfUnique("ab")).isFalse();
+		// Length of rejected "ab" must not be tracked
+		assertThat(features.addIfUnique("bb")).isTrue();
+	}
+
+	@Example
+	void nullPointerInExtractorIsTreatedAsNullFeature() {
+		UniqueFeatures<String> features = new UniqueFeatures<>(Collections.singleton(length));
+
+		assertThat(features.addIfUnique(null)).isTrue();
+		assertThat(features.addIfUnique(null)).isFalse();
+		assertThat(features.addIfUnique("a")).isTrue();
+	}
+
+	@Example
+	void replacementMayHaveFeatureOfReplacedElement() {
+		UniqueFeatures<String> features = UniqueFeatures.of(Collections.singleton(firstChar), asList("aa", "bb", "cc"));
+
+		assertThat(features.isUniqueReplacement("bb", "b")).isTrue();
+		assertThat(features.isUniqueReplacement("bb", "d")).isTrue();
+		assertThat(features.isUniqueReplacement("bb", "a")).isFalse();
+	}
+
+	@Example
+	void replacementOfDuplicateElementIsNotUnique() {
+		UniqueFeatures<String> features = UniqueFeatures.of(Collections.singleton(firstChar), asList("aa", "ab", "cc"));
+
+		assertThat(features.isUniqueReplacement("ab", "a")).isFalse();
+		assertThat(features.isUniqueReplacement("cc", "a")).isFalse();
+	}
+
+	@Property
+	void sameResultAsFeatureExtractor(
+		@ForAll @Size(max = 20) List<@IntRange(max = 30) Integer> values,
+		@ForAll @IntRange(min = 1, max = 5) int modulo
+	) {
+		FeatureExtractor<Integer> extractor = i -> i % modulo;
+		UniqueFeatures<Integer> features = new UniqueFeatures<>(Collections.singleton(extractor));
+
+		List<Integer> added = new ArrayList<>();
+		for (Integer value : values) {
+			boolean expected = extractor.isUniqueIn(value, added);
+			assertThat(features.addIfUnique(value)).isEqualTo(expected);
+			if (expected) {
+				added.add(value);
+			}
+		}
+	}
+}
@@ -6,6 +6,8 @@ import java.util.function.*;
 import net.jqwik.api.*;
 import net.jqwik.api.arbitraries.*;
 import net.jqwik.api.edgeCases.*;
+import net.jqwik.engine.*;
+import net.jqwik.engine.properties.arbitraries.randomized.*;
 import net.jqwik.testing.*;
 
 import static org.assertj.core.api.Assertions.*;
@@ -265,4 +267,56 @@ class DefaultCharacterArbitraryTests implements GenericGenerationProperties, Gen
 
 	}
 
+
+	@Group
+	class ValueOnlyGeneration {
+
+		@Property(tries = 100)
+		void charGeneratorDrawsSameCharsAsGenerator(@ForAll("characterArbitraries") DefaultCharacterArbitrary arbitrary, @ForAll long seed) {
+			CharGenerator charGenerator = arbitrary.charGenerator().get();
+			assertSameCharsDrawn(charGenerator, arbitrary.generator(1, false), seed);
+		}
+
+		@Provide
+		Arbitrary<DefaultCharacterArbitrary> characterArbitraries() {
+			return Arbitraries.of(
+				new DefaultCharacterArbitrary(),
+				(DefaultCharacterArbitrary) new DefaultCharacterArbitrary().range('a', 'z'),
+				(DefaultCharacterArbitrary) new DefaultCharacterArbitrary().with('x', 'y', 'z'),
+				(DefaultCharacterArbitrary) new DefaultCharacterArbitrary().whitespace(),
+				(DefaultCharacterArbitrary) new DefaultCharacterArbitrary().alpha(),
+				(DefaultCharacterArbitrary) new DefaultCharacterArbitrary().alpha().numeric().with('_', '-'),
+				(DefaultCharacterArbitrary) new DefaultCharacterArbitrary().range('a', 'z').range('z', 'a')
+			);
+		}
+
+		@Property(tries = 100)
+		void rangeCharGeneratorDrawsSameCharsAsGenerator(@ForAll long seed) {
+			CharacterRangeArbitrary arbitrary = new CharacterRangeArbitrary('\u0100', '\u0200');
+			assertSameCharsDrawn(arbitrary.charGenerator(), arbitrary.generator(1, false), seed);
+		}
+
+		@Property(tries = 100)
+		void chooseCharGeneratorDrawsSameCharsAsGenerator(@ForAll long seed) {
+			ChooseCharacterArbitrary arbitrary = new ChooseCharacterArbitrary("abc123".toCharArray());
+			assertSameCharsDrawn(arbitrary.charGenerator(), arbitrary.generator(1, false), seed);
+		}
+
+		@Property(tries = 100)
+		void filteredCharGeneratorDrawsSameCharsAsFilteredGenerator(@ForAll long seed) {
+			DefaultCharacterArbitrary arbitrary = (DefaultCharacterArbitrary) new DefaultCharacterArbitrary().alpha();
+			CharGenerator charGenerator = RandomGenerators.filterCharValues(arbitrary.charGenerator().get(), c -> c != 'x', 10000);
+			assertSameCharsDrawn(charGenerator, arbitrary.filter(c -> c != 'x').generator(1, false), seed);
+		}
+
+		private void assertSameCharsDrawn(CharGenerator charGenerator, RandomGenerator<Character> generator, long seed) {
+			Random charRandom = SourceOfRandomness.newRandom(seed);
+			Random generatorRandom = SourceOfRandomness.newRandom(seed);
+			for (int i = 0; i < 100; i++) {
+				assertThat(charGenerator.next(charRandom)).isEqualTo(generator.next(generatorRandom).value());
+			}
+			// Both must also have used up the same random values
+			assertThat(charRandom.nextLong()).isEqualTo(generatorRandom.nextLong());
+		}
+	}
 }
@@ -357,6 +357,16 @@ class DefaultStringArbitraryTests implements GenericEdgeCasesProperties, Generic
 			);
 		}
 
+		@Property
+		void charsOfAllCharacterArbitrariesAreShrunk(@ForAll Random random) {
+			assertAllValuesAreShrunkTo(Arbitraries.strings().ofLength(2), random, "\u0000\u0000");
+			assertAllValuesAreShrunkTo(Arbitraries.strings().withCharRange('a', 'z').ofLength(3), random, "aaa");
+			assertAllValuesAreShrunkTo(Arbitraries.strings().withChars("xyz").ofLength(3), random, "xxx");
+			assertAllValuesAreShrunkTo(Arbitraries.strings().numeric().alpha().ofLength(3), random, "000");
+			assertAllValuesAreShrunkTo(Arbitraries.strings().withCharRange('a', 'z').excludeChars('a').ofLength(3), random, "bbb");
+			assertAllValuesAreShrunkTo(Arbitraries.strings().withCharRange('c', 'z').uniqueChars().ofLength(3), random, "cde");
+		}
+
 		private void assertWhileShrinking(Random random, Arbitrary<String> arbitrary, Predicate<String> holdsWhileShrinking) {
 			Shrinkable<String> shrinkable = arbitrary.generator(10, true).next(random);
 			ShrinkingSupport.assertWhileShrinking(shrinkable, holdsWhileShrinking);
@@ -0,0 +1,116 @@
+package net.jqwik.engine.properties.arbitraries.exhaustive;
+
+import java.util.*;
+
+import net.jqwik.api.*;
+import net.jqwik.engine.support.*;
+
+import static java.util.Arrays.*;
+import static org.assertj.core.api.Assertions.*;
+
+class IndexedExhaustiveGeneratorTests {
+
+	@Example
+	void integralRanges() {
+		IndexedExhaustiveGenerator<Integer> generator = indexed(Arbitraries.integers().between(-3, 3));
+
+		assertThat(generator.maxCount()).isEqualTo(7);
+		assertThat(generator.get(0)).isEqualTo(-3);
+		assertThat(generator.get(6)).isEqualTo(3);
+		assertThatThrownBy(() -> generator.get(7)).isInstanceOf(IndexOutOfBoundsException.class);
+
+		IndexedExhaustiveGenerator<Long> longs = indexed(Arbitraries.longs().between(Long.MAX_VALUE - 2, Long.MAX_VALUE));
+		assertThat(longs.get(2)).isEqualTo(Long.MAX_VALUE);
+	}
+
+	@Example
+	void rangesCanBeSplit() {
+		IndexedExhaustiveGenerator<Character> generator = indexed(Arbitraries.chars().range('a', 'e'));
+
+		assertThat(generator.iterator(0, 2)).toIterable().containsExactly('a', 'b');
+		assertThat(generator.iterator(2, 5)).toIterable().containsExactly('c', 'd', 'e');
+		assertThatThrownBy(() -> generator.iterator(3, 6)).isInstanceOf(IndexOutOfBoundsException.class);
+	}
+
+	@Example
+	void listsAreDecodedInIterationOrder() {
+		IndexedExhaustiveGenerator<List<Integer>> generator = indexed(Arbitraries.of(1, 2, 3).list().ofMinSize(1).ofMaxSize(3));
+
+		assertAddressedInOrder(generator, Combinatorics.listCombinations(asList(1, 2, 3), 1, 3));
+	}
+
+	@Example
+	void setsAreDecodedInIterationOrder() {
+		IndexedExhaustiveGenerator<Set<Integer>> generator = indexed(Arbitraries.integers().between(1, 6).set().ofMaxSize(4));
+
+		assertAddressedInOrder(generator, Combinatorics.setCombinations(asList(1, 2, 3, 4, 5, 6), 0, 4));
+	}
+
+	@Example
+	void permutationsAreDecodedInIterationOrder() {
+		IndexedExhaustiveGenerator<List<Integer>> generator = indexed(Arbitraries.shuffle(1, 2, 3, 4, 5));
+
+		assertAddressedInOrder(generator, Combinatorics.listPermutations(asList(1, 2, 3, 4, 5)));
+	}
+
+	@Example
+	void combinationsAreDecodedInIterationOrder() {
+		Arbitrary<String> combined = Combinators.combine(
+			Arbitraries.of("a", "b"),
+			Arbitraries.integers().between(1, 3),
+			Arbitraries.of(true, false)
+		).as((s, i, b) -> s + i + b);
+		IndexedExhaustiveGenerator<String> generator = indexed(combined);
+
+		assertThat(generator.get(0)).isEqualTo("a1true");
+		assertThat(generator.get(1)).isEqualTo("a1false");
+		assertThat(generator.get(2)).isEqualTo("a2true");
+		assertThat(generator.get(11)).isEqualTo("b3false");
+	}
+
+	@Example
+	void mappingAndNullInjectionKeepIndexes() {
+		ExhaustiveGenerator<String> withNull = indexed(Arbitraries.integers().between(1, 3).map(i -> Integer.toString(i))).injectNull();
+		IndexedExhaustiveGenerator<String> generator = IndexedExhaustiveGenerator.indexed(withNull).get();
+
+		assertThat(generator.maxCount()).isEqualTo(4);
+		assertThat(generator.get(0)).isNull();
+		assertThat(generator.get(3)).isEqualTo("3");
+	}
+
+	@Example
+	void filteringCannotBeIndexed() {
+		ExhaustiveGenerator<Integer> filtered = Arbitraries.integers().between(1, 10).filter(i -> i % 2 == 0).exhaustive().get();
+		assertThat(IndexedExhaustiveGenerator.indexed(filtered)).isEmpty();
+
+		ExhaustiveGenerator<List<Integer>> uniqueList = Arbitraries.integers().between(1, 3).list().ofMaxSize(3).uniqueElements().exhaustive().get();
+		assertThat(IndexedExhaustiveGenerator.indexed(uniqueList)).isEmpty();
+	}
+
+	@Example
+	void setsWithCollidingElementsCannotBeIndexed() {
+		Arbitrary<Set<Integer>> sets = Arbitraries.integers().between(0, 5).map(i -> i / 2).set().ofSize(2);
+		ExhaustiveGenerator<Set<Integer>> generator = sets.exhaustive().get();
+
+		assertThat(IndexedExhaustiveGenerator.indexed(generator)).isEmpty();
+		assertThat(generator).containsExactly(
+			new HashSet<>(asList(0, 1)),
+			new HashSet<>(asList(0, 2)),
+			new HashSet<>(asList(1, 2))
+		);
+	}
+
+	private <T> IndexedExhaustiveGenerator<T> indexed(Arbitrary<T> arbitrary) {
+		Optional<IndexedExhaustiveGenerator<T>> indexed = arbitrary.exhaustive().flatMap(IndexedExhaustiveGenerator::indexed);
+		assertThat(indexed).isPresent();
+		return indexed.get();
+	}
+
+	private <T> void assertAddressedInOrder(IndexedExhaustiveGenerator<T> generator, Iterator<T> expected) {
+		long index = 0;
+		while (expected.hasNext()) {
+			assertThat(generator.get(index++)).isEqualTo(expected.next());
+		}
+		assertThat(generator.maxCount()).isEqualTo(index);
+	}
+}
@@ -51,6 +51,69 @@ public class RandomDistributionProperties {
 		Assertions.assertThat(value1).isEqualTo(value2);
 	}
 
+	@Property(edgeCases = EdgeCasesMode.MIXIN)
+	void longGeneratorsOnlyGenerateValuesWithinRange(
+		@ForAll("distributions") RandomDistribution distribution,
+		@ForAll @IntRange(min = 1, max = 10000) int genSize,
+		@ForAll("distributionConfigValues") Tuple3<BigInteger, BigInteger, BigInteger> minMaxCenter,
+		@ForAll Random random
+	) {
+		long min = minMaxCenter.get1().longValueExact();
+		long max = minMaxCenter.get2().longValueExact();
+		long center = minMaxCenter.get3().longValueExact();
+
+		LongNumericGenerator generator = ((LongRandomDistribution) distribution).createLongGenerator(genSize, min, max, center);
+
+		for (int i = 0; i < 50; i++) {
+			long value = generator.next(random);
+			Assertions.assertThat(value).isBetween(min, max);
+		}
+	}
+
+	@Property(tries = 100, edgeCases = EdgeCasesMode.MIXIN)
+	void longGeneratorsGenerateSameValuesAsBigIntegerGenerators(
+		@ForAll("nonGaussianDistributions") RandomDistribution distribution,
+		@ForAll @IntRange(min = 1, max = 10000) int genSize,
+		@ForAll("distributionConfigValues") Tuple3<BigInteger, BigInteger, BigInteger> minMaxCenter,
+		@ForAll long randomSeed
+	) {
+		BigInteger min = minMaxCenter.get1();
+		BigInteger max = minMaxCenter.get2();
+		BigInteger center = minMaxCenter.get3();
+
+		RandomNumericGenerator generator = distribution.createGenerator(genSize, min, max, center);
+		LongNumericGenerator longGenerator = ((LongRandomDistribution) distribution).createLongGenerator(
+			genSize, min.longValueExact(), max.longValueExact(), center.longValueExact()
+		);
+
+		Random random = new Random(randomSeed);
+		Random longRandom = new Random(randomSeed);
+		for (int i = 0; i < 20; i++) {
+			Assertions.assertThat(longGenerator.next(longRandom)).isEqualTo(generator.next(random).longValueExact());
+		}
+	}
+
+	@Example
+	void biasedGeneratorsAreCachedByRangeCenterAndGenSize() {
+		BiasedRandomDistribution biased = new BiasedRandomDistribution();
+		BigInteger min = BigInteger.valueOf(-1000000);
+		BigInteger max = BigInteger.valueOf(1000000);
+
+		RandomNumericGenerator generator = biased.createGenerator(100, min, max, BigInteger.ZERO);
+		Assertions.assertThat(biased.createGenerator(100, min, max, BigInteger.ZERO)).isSameAs(generator);
+		Assertions.assertThat(biased.createGenerator(100, min, max, BigInteger.ONE)).isNotSameAs(generator);
+		Assertions.assertThat(biased.createGenerator(1000, min, max, BigInteger.ZERO)).isNotSameAs(generator);
+
+		LongNumericGenerator longGenerator = biased.createLongGenerator(100, -1000000L, 1000000L, 0L);
+		Assertions.assertThat(biased.createLongGenerator(100, -1000000L, 1000000L, 0L)).isSameAs(longGenerator);
+		Assertions.assertThat(biased.createLongGenerator(100, -1000000L, 1000001L, 0L)).isNotSameAs(longGenerator);
+	}
+
+	@Provide
+	Arbitrary<RandomDistribution> nonGaussianDistributions() {
+		return Arbitraries.of(RandomDistribution.uniform(), RandomDistribution.biased());
+	}
+
 	@Provide
 	Arbitrary<RandomDistribution> distributions() {
 		return Arbitraries.oneOf(
@@ -2,11 +2,18 @@ package net.jqwik.engine.properties.arbitraries.randomized;
 
 import java.math.*;
 import java.util.*;
+import java.util.concurrent.atomic.*;
+import java.util.stream.*;
 
 import org.assertj.core.api.*;
 
 import net.jqwik.api.*;
+import net.jqwik.api.arbitraries.*;
+import net.jqwik.api.constraints.*;
+import net.jqwik.engine.*;
 import net.jqwik.engine.properties.*;
+import net.jqwik.engine.properties.arbitraries.*;
+import net.jqwik.testing.*;
 
 import static java.math.BigInteger.*;
 import static org.assertj.core.api.Assertions.*;
@@ -31,6 +38,194 @@ class RandomGeneratorsTests {
 				  .isInstanceOf(JqwikException.class);
 	}
 
+	@Group
+	class LazyContainerGeneration {
+
+		private final IntegerArbitrary integers = Arbitraries.integers().between(0, 100);
+
+		private ValueGenerator<Integer> integerValues() {
+			return ValueGeneratingArbitrary.valueGeneratorOf(integers, 1000, false).get();
+		}
+
+		@Example
+		void elementShrinkablesAreOnlyCreatedWhenShrinkingStarts(@ForAll Random random) {
+			AtomicInteger elementCalls = new AtomicInteger(0);
+			RandomGenerator<Integer> integerGenerator = integers.generator(1000);
+			RandomGenerator<Integer> countingGenerator = r -> {
+				elementCalls.incrementAndGet();
+				return integerGenerator.next(r);
+			};
+			RandomGenerator<List<Integer>> generator = RandomGenerators.lazyList(
+				countingGenerator, integerValues(), 5, 5, 101, 1000, null, Collections.emptySet(), integers, null
+			);
+
+			Shrinkable<List<Integer>> shrinkable = generator.next(random);
+			List<Integer> value = shrinkable.value();
+			assertThat(value).hasSize(5);
+			assertThat(shrinkable.value()).isEqualTo(value);
+			assertThat(elementCalls.get()).isEqualTo(0);
+
+			shrinkable.shrink().findFirst();
+			assertThat(elementCalls.get()).isGreaterThanOrEqualTo(5);
+			assertThat(shrinkable.value()).isEqualTo(value);
+		}
+
+		@Example
+		void lazyListsAreShrunk(@ForAll Random random) {
+			RandomGenerator<List<Integer>> generator = RandomGenerators.lazyList(
+				integers.generator(1000), integerValues(), 0, 20, 101, 1000, null, Collections.emptySet(), integers, null
+			);
+			Shrinkable<List<Integer>> shrinkable =
+				generator.stream(random)
+						 .filter(s -> s.value().stream().anyMatch(i -> i >= 10))
+						 .findFirst().get();
+
+			TestingFalsifier<List<Integer>> falsifier = list -> list.stream().allMatch(i -> i < 10);
+			List<Integer> shrunkValue = ShrinkingSupport.shrink(shrinkable, falsifier, null);
+			assertThat(shrunkValue).containsExactly(10);
+		}
+
+		@Example
+		void lazySetsAreShrunk(@ForAll Random random) {
+			RandomGenerator<Set<Integer>> generator = RandomGenerators.lazySet(
+				integers.generator(1000), integerValues(), 2, 10, 1000, null, Collections.emptySet(), integers, null
+			);
+			checkAllGenerated(generator, random, set -> set.size() >= 2 && set.size() <= 10);
+
+			Shrinkable<Set<Integer>> shrinkable = generator.next(random);
+			Set<Integer> shrunkValue = ShrinkingSupport.shrink(shrinkable, TestingFalsifier.alwaysFalsify(), null);
+			assertThat(shrunkValue).containsExactlyInAnyOrder(0, 1);
+		}
+
+		@Property(tries = 100)
+		void recreatedElementsMatchGeneratedValues(
+			@ForAll("integralContainers") Arbitrary<?> containers,
+			@ForAll boolean withEdgeCases,
+			@ForAll long seed
+		) {
+			RandomGenerator<?> generator = containers.generator(1000, withEdgeCases);
+			Random random = SourceOfRandomness.newRandom(seed);
+			for (int i = 0; i < 20; i++) {
+				Shrinkable<?> shrinkable = generator.next(random);
+				Object value = shrinkable.value();
+				// Recreates element shrinkables of lazy containers and fails if they differ from kept values
+				shrinkable.distance();
+				assertThat(shrinkable.value()).isEqualTo(value);
+			}
+		}
+
+		@Provide
+		Arbitrary<Arbitrary<?>> integralContainers() {
+			return Arbitraries.of(
+				Arbitraries.integers().list().ofMaxSize(20),
+				Arbitraries.longs().between(-5, 50).list().ofMaxSize(20).uniqueElements(l -> l % 20),
+				Arbitraries.shorts().set().ofMaxSize(20),
+				Arbitraries.bytes().between((byte) 0, (byte) 9).set().ofSize(8),
+				Arbitraries.integers().between(0, 9).list().ofSize(8).uniqueElements()
+			);
+		}
+
+		@Property(tries = 100)
+		void integralValueGeneratorsDrawSameValuesAsGenerators(
+			@ForAll("integralArbitraries") Arbitrary<?> arbitrary,
+			@ForAll boolean withEdgeCases,
+			@ForAll long seed
+		) {
+			assertSameValuesDrawn(arbitrary, withEdgeCases, seed);
+		}
+
+		@Provide
+		Arbitrary<Arbitrary<?>> integralArbitraries() {
+			return Arbitraries.of(
+				Arbitraries.integers(),
+				Arbitraries.integers().between(-10, 1000).shrinkTowards(5),
+				Arbitraries.longs().withDistribution(RandomDistribution.uniform()),
+				Arbitraries.shorts().between((short) 1, (short) 1),
+				Arbitraries.bytes().edgeCases(config -> config.add((byte) 42))
+			);
+		}
+
+		private <T> void assertSameValuesDrawn(Arbitrary<T> arbitrary, boolean withEdgeCases, long seed) {
+			ValueGenerator<T> valueGenerator = ValueGeneratingArbitrary.valueGeneratorOf(arbitrary, 100, withEdgeCases).get();
+			RandomGenerator<T> generator = arbitrary.generator(100, withEdgeCases);
+			Random valueRandom = SourceOfRandomness.newRandom(seed);
+			Random generatorRandom = SourceOfRandomness.newRandom(seed);
+			for (int i = 0; i < 100; i++) {
+				assertThat(valueGenerator.next(valueRandom)).isEqualTo(generator.next(generatorRandom).value());
+			}
+			// Both must also have used up the same random values
+			assertThat(valueRandom.nextLong()).isEqualTo(generatorRandom.nextLong());
+		}
+	}
+
+	@Group
+	class DrawingWithoutReplacement {
+
+		private final RandomGenerator<Integer> failingGenerator = ignore -> {
+			throw new AssertionError("element generator must not be used");
+		};
+
+		private IndexedDomain<Integer> domainOf(int size) {
+			return new IndexedDomain<Integer>() {
+				@Override
+				public long size() {
+					return size;
+				}
+
+				@Override
+				public Shrinkable<Integer> shrinkableAt(long index) {
+					return Shrinkable.unshrinkable((int) index);
+				}
+			};
+		}
+
+		@Example
+		void allValuesOfDomainAreDrawnWithoutElementGenerator(@ForAll Random random) {
+			RandomGenerator<List<Integer>> generator = RandomGenerators.list(
+				failingGenerator, 10, 10, 10, 1000, null,
+				Collections.singleton(FeatureExtractor.identity()), null, domainOf(10)
+			);
+
+			assertAllGenerated(generator, random, list -> {
+				assertThat(list).containsExactlyInAnyOrder(0, 1, 2, 3, 4, 5, 6, 7, 8, 9);
+			});
+			checkAtLeastOneGenerated(generator, random, list -> list.get(0) != 0);
+		}
+
+		@Example
+		void containerSizeIsLimitedByDomainSize(@ForAll Random random) {
+			RandomGenerator<Set<Integer>> generator = RandomGenerators.set(
+				failingGenerator, 4, 20, 1000, RandomDistribution.uniform(),
+				Collections.emptySet(), null, domainOf(8)
+			);
+
+			checkAllGenerated(generator, random, set -> set.size() <= 8);
+			checkAtLeastOneGenerated(generator, random, set -> set.size() == 8);
+		}
+
+		@Example
+		void smallContainersUseElementGenerator(@ForAll Random random) {
+			RandomGenerator<List<Integer>> generator = RandomGenerators.list(
+				RandomGenerators.integers(100, 120), 5, 5, 21, 1000, null,
+				Collections.singleton(FeatureExtractor.identity()), null, domainOf(21)
+			);
+
+			assertAllGenerated(generator, random, list -> {
+				assertThat(list).hasSize(5).doesNotHaveDuplicates().allMatch(i -> i >= 100);
+			});
+		}
+
+		@Example
+		void domainSmallerThanMinSizeFails(@ForAll Random random) {
+			RandomGenerator<List<Integer>> generator = RandomGenerators.list(
+				RandomGenerators.integers(0, 4), 6, 6, 5, 1000, null,
+				Collections.singleton(FeatureExtractor.identity()), null, domainOf(5)
+			);
+
+			assertThatThrownBy(() -> generator.next(random)).isInstanceOf(TooManyFilterMissesException.class);
+		}
+	}
+
 	@Group
 	class IntegralGeneration {
 
@@ -162,6 +357,145 @@ class RandomGeneratorsTests {
 
 	}
 
+	@Group
+	class LongGeneration {
+
+		@Example
+		void withinFullLongRange(@ForAll Random random) {
+			RandomGenerator<Long> generator = RandomIntegralGenerators.longs(
+				1000, Long.MIN_VALUE, Long.MAX_VALUE, 0L, RandomDistribution.uniform()
+			);
+			checkAtLeastOneGenerated(generator, random, value -> value < Integer.MIN_VALUE);
+			checkAtLeastOneGenerated(generator, random, value -> value > Integer.MAX_VALUE);
+		}
+
+		@Example
+		void fullLongRangeWithBiasedDistribution(@ForAll Random random) {
+			RandomGenerator<Long> generator = RandomIntegralGenerators.longs(
+				1000, Long.MIN_VALUE, Long.MAX_VALUE, 0L, RandomDistribution.biased()
+			);
+			checkAtLeastOneGenerated(generator, random, value -> Math.abs(value) < 1000);
+			checkAtLeastOneGenerated(generator, random, value -> value > Integer.MAX_VALUE);
+		}
+
+		@Example
+		void rangeWithGaussianDistribution(@ForAll Random random) {
+			RandomGenerator<Long> generator = RandomIntegralGenerators.longs(
+				1000, -1000L, 1000L, 0L, RandomDistribution.gaussian()
+			);
+			checkAllGenerated(generator, random, value -> value >= -1000L && value <= 1000L);
+		}
+
+		@Example
+		void singularRange(@ForAll Random random) {
+			RandomGenerator<Long> generator = RandomIntegralGenerators.longs(
+				1000, 42L, 42L, 42L, RandomDistribution.uniform()
+			);
+			checkAllGenerated(generator, random, value -> value == 42L);
+		}
+
+		@Example
+		void customDistributionFallsBackToBigIntegerGeneration(@ForAll Random random) {
+			RandomDistribution maxOnly = new RandomDistribution() {
+				@Override
+				public RandomDistribution.RandomNumericGenerator createGenerator(int genSize, BigInteger min, BigInteger max, BigInteger center) {
+					return ignored -> max;
+				}
+			};
+			RandomGenerator<Long> generator = RandomIntegralGenerators.longs(
+				1000, -10L, Long.MAX_VALUE, 0L, maxOnly
+			);
+			checkAllGenerated(generator, random, value -> value == Long.MAX_VALUE);
+		}
+
+		@Example
+		void shrinkingTargetOutsideRangeFails() {
+			assertThatThrownBy(
+				() -> RandomIntegralGenerators.longs(1000, 1L, 10L, 0L, RandomDistribution.uniform())
+			).isInstanceOf(JqwikException.class);
+		}
+	}
+
+	@Group
+	class FloatingPointGeneration {
+
+		@Property(tries = 200)
+		void doublesAreSameAsMappedBigDecimals(
+			@ForAll("ranges") Range<BigDecimal> range,
+			@ForAll @IntRange(max = 25) int scale,
+			@ForAll("distributions") RandomDistribution distribution,
+			@ForAll long seed
+		) {
+			Assume.that(range.min.scale() <= scale && range.max.scale() <= scale);
+			BigDecimal shrinkingTarget = RandomDecimalGenerators.defaultShrinkingTarget(range, scale);
+			RandomGenerator<BigDecimal> bigDecimals = RandomDecimalGenerators.bigDecimals(1000, range, scale, distribution, shrinkingTarget);
+			RandomGenerator<Double> doubles = RandomDecimalGenerators.doubles(1000, range, scale, distribution, shrinkingTarget);
+
+			Random bigDecimalRandom = new Random(seed);
+			Random doubleRandom = new Random(seed);
+			for (int i = 0; i < 20; i++) {
+				Shrinkable<Double> shrinkable = doubles.next(doubleRandom);
+				Shrinkable<BigDecimal> expected = bigDecimals.next(bigDecimalRandom);
+				assertThat(shrinkable.value()).isEqualTo(expected.value().doubleValue());
+				assertThat(shrinkable.distance()).isEqualTo(expected.distance());
+			}
+		}
+
+		@Property(tries = 200)
+		void floatsAreSameAsMappedBigDecimals(
+			@ForAll("ranges") Range<BigDecimal> range,
+			@ForAll @IntRange(max = 12) int scale,
+			@ForAll("distributions") RandomDistribution distribution,
+			@ForAll long seed
+		) {
+			Assume.that(range.min.scale() <= scale && range.max.scale() <= scale);
+			BigDecimal shrinkingTarget = RandomDecimalGenerators.defaultShrinkingTarget(range, scale);
+			RandomGenerator<BigDecimal> bigDecimals = RandomDecimalGenerators.bigDecimals(1000, range, scale, distribution, shrinkingTarget);
+			RandomGenerator<Float> floats = RandomDecimalGenerators.floats(1000, range, scale, distribution, shrinkingTarget);
+
+			Random bigDecimalRandom = new Random(seed);
+			Random floatRandom = new Random(seed);
+			for (int i = 0; i < 20; i++) {
+				assertThat(floats.next(floatRandom).value()).isEqualTo(bigDecimals.next(bigDecimalRandom).value().floatValue());
+			}
+		}
+
+		@Example
+		void shrinkingCandidatesAreSameAsMappedBigDecimals(@ForAll Random random) {
+			Range<BigDecimal> range = Range.of(new BigDecimal("-1000.5"), new BigDecimal("5000.25"));
+			BigDecimal shrinkingTarget = new BigDecimal("100.1");
+			long seed = random.nextLong();
+			Shrinkable<Double> shrinkable = RandomDecimalGenerators
+												.doubles(1000, range, 2, RandomDistribution.uniform(), shrinkingTarget)
+												.next(new Random(seed));
+			Shrinkable<BigDecimal> expected = RandomDecimalGenerators
+												  .bigDecimals(1000, range, 2, RandomDistribution.uniform(), shrinkingTarget)
+												  .next(new Random(seed));
+
+			assertThat(shrinkable.shrink().map(Shrinkable::value))
+				.containsExactlyElementsOf(expected.shrink().map(s -> s.value().doubleValue()).collect(Collectors.toList()));
+		}
+
+		@Provide
+		Arbitrary<Range<BigDecimal>> ranges() {
+			Arbitrary<BigDecimal> bounds = Arbitraries.oneOf(
+				Arbitraries.bigDecimals().between(new BigDecimal(-1000), new BigDecimal(1000)).ofScale(2),
+				Arbitraries.bigDecimals().between(new BigDecimal(-1e12), new BigDecimal(1e12)).ofScale(1),
+				Arbitraries.of(new BigDecimal(Double.toString(Double.MAX_VALUE)), new BigDecimal(Double.toString(-Float.MAX_VALUE)))
+			);
+			return Combinators.combine(bounds, bounds, Arbitraries.of(true, false))
+							  .filter((first, second, included) -> first.compareTo(second) != 0)
+							  .as((first, second, included) -> first.compareTo(second) < 0
+																   ? Range.of(first, included, second, true)
+																   : Range.of(second, true, first, included));
+		}
+
+		@Provide
+		Arbitrary<RandomDistribution> distributions() {
+			return Arbitraries.of(RandomDistribution.uniform(), RandomDistribution.biased());
+		}
+	}
+
 	@Group
 	class BigDecimalGeneration {
 
@@ -306,6 +306,62 @@ class PropertyShrinkerTests {
 		}
 	}
 
+	@Group
+	class SpeculativeShrinking {
+
+		@Property(tries = 100)
+		void sameResultAsSequentialShrinking(
+			@ForAll @IntRange(max = 100) int i1,
+			@ForAll @IntRange(max = 100) int i2,
+			@ForAll @IntRange(max = 100) int i3
+		) {
+			Assume.that(i1 + i2 + i3 >= 50);
+			TestingFalsifier<List<Object>> falsifier = params -> {
+				int a = (int) params.get(0);
+				int b = (int) params.get(1);
+				int c = (int) params.get(2);
+				return a + b + c < 50 || a > b;
+			};
+
+			PropertyShrinker sequentialShrinker = createShrinker(toFalsifiedSample(listOfFullShrinkables(i1, i2, i3), null), ShrinkingMode.FULL);
+			ShrunkFalsifiedSample sequentialSample = sequentialShrinker.shrink(falsifier);
+
+			PropertyShrinker speculativeShrinker = createSpeculativeShrinker(toFalsifiedSample(listOfFullShrinkables(i1, i2, i3), null), 4);
+			ShrunkFalsifiedSample speculativeSample = speculativeShrinker.shrink(falsifier);
+
+			assertThat(speculativeSample.parameters()).isEqualTo(sequentialSample.parameters());
+			assertThat(speculativeSample.countShrinkingSteps()).isEqualTo(sequentialSample.countShrinkingSteps());
+			assertThat(speculativeShrinker.shrinkingSequence()).isEqualTo(sequentialShrinker.shrinkingSequence());
+		}
+
+		@Example
+		void candidatesAreEvaluatedConcurrently() {
+			Set<String> threadNames = Collections.synchronizedSet(new LinkedHashSet<>());
+			TestingFalsifier<List<Object>> falsifier = params -> {
+				threadNames.add(Thread.currentThread().getName());
+				return ((int) params.get(0)) < 10;
+			};
+
+			PropertyShrinker shrinker = createSpeculativeShrinker(toFalsifiedSample(listOfOneStepShrinkables(50), null), 4);
+			ShrunkFalsifiedSample sample = shrinker.shrink(falsifier);
+
+			assertThat(sample.parameters()).containsExactly(10);
+			assertThat(threadNames).allMatch(name -> name.startsWith("jqwik-try-"));
+		}
+
+		private PropertyShrinker createSpeculativeShrinker(FalsifiedSample originalSample, int parallelism) {
+			return new PropertyShrinker(
+				originalSample,
+				ShrinkingMode.FULL,
+				10,
+				falsifiedSampleReporter,
+				null,
+				parallelism,
+				false
+			);
+		}
+	}
+
 	@Group
 	class FalsifiedSampleReporting {
 
@@ -0,0 +1,135 @@
+package net.jqwik.engine.properties.shrinking;
+
+import java.util.*;
+import java.util.stream.*;
+
+import net.jqwik.api.*;
+import net.jqwik.api.Tuple.*;
+import net.jqwik.engine.properties.*;
+import net.jqwik.engine.properties.shrinking.ShrinkableIntegralArray.*;
+import net.jqwik.testing.*;
+
+import static org.assertj.core.api.Assertions.*;
+
+import static net.jqwik.testing.ShrinkingSupport.*;
+
+@Group
+@Label("ShrinkableIntegralArray")
+class ShrinkableIntegralArrayTests {
+
+	private final Range<Long> byteRange = Range.of((long) Byte.MIN_VALUE, (long) Byte.MAX_VALUE);
+
+	@Example
+	void creation() {
+		Shrinkable<int[]> shrinkable = new ShrinkableIntegralArray<>(new int[]{0, 1, 2, 3}, ArrayType.INTS, Range.of(-10L, 10L), 0, 0, 10);
+		assertThat(shrinkable.value()).containsExactly(0, 1, 2, 3);
+		assertThat(shrinkable.distance()).isEqualTo(ShrinkingDistance.of(4, 6));
+	}
+
+	@Example
+	void valueIsCopied() {
+		Shrinkable<byte[]> shrinkable = new ShrinkableIntegralArray<>(new byte[]{1, 2}, ArrayType.BYTES, byteRange, 0, 0, 10);
+		shrinkable.value()[0] = 42;
+		assertThat(shrinkable.value()).containsExactly(1, 2);
+	}
+
+	@Example
+	void emptyArrayHasSameDistanceAsEmptyList() {
+		Shrinkable<long[]> shrinkable = new ShrinkableIntegralArray<>(new long[0], ArrayType.LONGS, Range.of(0L, 10L), 0, 0, 10);
+		assertThat(shrinkable.distance()).isEqualTo(ShrinkingDistance.forCollection(Collections.emptyList()));
+		assertThat(shrinkable.shrink()).isEmpty();
+	}
+
+	@Example
+	void shrinkToEmptyArray() {
+		Shrinkable<short[]> shrinkable = new ShrinkableIntegralArray<>(new short[]{5, 7, 3}, ArrayType.SHORTS, Range.of(0L, 10L), 0, 0, 10);
+
+		short[] shrunkValue = shrink(shrinkable, TestingFalsifier.alwaysFalsify(), null);
+		assertThat(shrunkValue).isEmpty();
+	}
+
+	@Example
+	void shrinkSizeAndElements() {
+		Shrinkable<int[]> shrinkable = new ShrinkableIntegralArray<>(new int[]{10, 20, 30, 40, 50}, ArrayType.INTS, Range.of(0L, 100L), 0, 2, 10);
+
+		TestingFalsifier<int[]> falsifier = array -> Arrays.stream(array).sum() < 25;
+		int[] shrunkValue = shrink(shrinkable, falsifier, null);
+		assertThat(shrunkValue).containsExactly(0, 25);
+	}
+
+	@Example
+	void growByElementsOfOtherArray() {
+		Range<Long> range = Range.of(0L, 10L);
+		Shrinkable<int[]> shrinkable = new ShrinkableIntegralArray<>(new int[]{1}, ArrayType.INTS, range, 0, 0, 5);
+		Shrinkable<int[]> before = new ShrinkableIntegralArray<>(new int[]{2, 3, 4}, ArrayType.INTS, range, 0, 0, 5);
+		Shrinkable<int[]> after = new ShrinkableIntegralArray<>(new int[]{3}, ArrayType.INTS, range, 0, 0, 5);
+
+		Optional<Shrinkable<int[]>> grown = shrinkable.grow(before, after);
+		assertThat(grown).hasValueSatisfying(value -> assertThat(value.value()).containsExactly(4, 2, 1));
+	}
+
+	@Example
+	void cannotGrowByElementsOfOtherKind() {
+		Shrinkable<int[]> shrinkable = new ShrinkableIntegralArray<>(new int[]{1}, ArrayType.INTS, Range.of(0L, 10L), 0, 0, 5);
+		Shrinkable<int[]> before = new ShrinkableIntegralArray<>(new int[]{2, 3, 4}, ArrayType.INTS, Range.of(0L, 20L), 0, 0, 5);
+		Shrinkable<int[]> after = new ShrinkableIntegralArray<>(new int[]{3}, ArrayType.INTS, Range.of(0L, 20L), 0, 0, 5);
+
+		assertThat(shrinkable.grow(before, after)).isEmpty();
+	}
+
+	@Group
+	class SameBehaviourAsShrinkableList {
+
+		@Property
+		void sameDistance(@ForAll("arrayRangeAndTarget") Tuple3<long[], Range<Long>, Long> config) {
+			assertThat(shrinkableArray(config, 0).distance()).isEqualTo(shrinkableList(config, 0).distance());
+		}
+
+		@Property
+		void sameShrinkingCandidatesInSameOrder(
+			@ForAll("arrayRangeAndTarget") Tuple3<long[], Range<Long>, Long> config,
+			@ForAll boolean withMinSize
+		) {
+			int minSize = withMinSize ? config.get1().length / 2 : 0;
+			Stream<List<Long>> arrayCandidates = shrinkableArray(config, minSize).shrink().map(s -> asList(s.value()));
+			Stream<List<Long>> listCandidates = shrinkableList(config, minSize).shrink().map(Shrinkable::value);
+			assertThat(arrayCandidates.limit(2000)).containsExactlyElementsOf(listCandidates.limit(2000).collect(Collectors.toList()));
+		}
+
+		@Property
+		void sameGrowingCandidates(@ForAll("arrayRangeAndTarget") Tuple3<long[], Range<Long>, Long> config) {
+			Stream<List<Long>> arrayCandidates = shrinkableArray(config, 0).grow().map(s -> asList(s.value()));
+			Stream<List<Long>> listCandidates = shrinkableList(config, 0).grow().map(Shrinkable::value);
+			assertThat(arrayCandidates).containsExactlyElementsOf(listCandidates.collect(Collectors.toList()));
+		}
+
+		@Provide
+		Arbitrary<Tuple3<long[], Range<Long>, Long>> arrayRangeAndTarget() {
+			Arbitrary<Tuple3<Long, Long, Long>> rangeAndTarget =
+				Arbitraries.longs().between(-1000, 1000).list().ofSize(3).map(values -> {
+					values.sort(Comparator.naturalOrder());
+					return Tuple.of(values.get(0), values.get(2), values.get(1));
+				});
+			return rangeAndTarget.flatMap(
+				config -> Arbitraries.longs().between(config.get1(), config.get2())
+									 .array(long[].class).ofMaxSize(12)
+									 .map(array -> Tuple.of(array, Range.of(config.get1(), config.get2()), config.get3()))
+			);
+		}
+
+		private Shrinkable<long[]> shrinkableArray(Tuple3<long[], Range<Long>, Long> config, int minSize) {
+			return new ShrinkableIntegralArray<>(config.get1(), ArrayType.LONGS, config.get2(), config.get3(), minSize, 20);
+		}
+
+		private Shrinkable<List<Long>> shrinkableList(Tuple3<long[], Range<Long>, Long> config, int minSize) {
+			List<Shrinkable<Long>> elements = LongStream.of(config.get1())
+														.mapToObj(value -> (Shrinkable<Long>) new ShrinkableLong(value, config.get2(), config.get3()))
+														.collect(Collectors.toList());
+			return new ShrinkableList<>(elements, minSize, 20);
+		}
+
+		private List<Long> asList(long[] array) {
+			return LongStream.of(array).boxed().collect(Collectors.toList());
+		}
+	}
+}
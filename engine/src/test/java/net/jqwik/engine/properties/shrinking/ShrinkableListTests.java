@@ -2,6 +2,7 @@ package net.jqwik.engine.properties.shrinking;
 
 import java.math.*;
 import java.util.*;
+import java.util.concurrent.atomic.*;
 import java.util.function.*;
 import java.util.stream.*;
 
@@ -439,6 +440,69 @@ class ShrinkableListTests {
 
 	}
 
+	@Group
+	class LazyElements {
+
+		@Example
+		void valueDoesNotCreateElementShrinkables() {
+			AtomicInteger supplierCalls = new AtomicInteger(0);
+			Shrinkable<List<Integer>> shrinkable = new ShrinkableList<>(
+				asList(1, 2, 3),
+				() -> {
+					supplierCalls.incrementAndGet();
+					return integerShrinkables(asList(1, 2, 3));
+				},
+				0, 3, Collections.emptySet(), null
+			);
+
+			assertThat(shrinkable.value()).containsExactly(1, 2, 3);
+			assertThat(shrinkable.value()).containsExactly(1, 2, 3);
+			assertThat(supplierCalls.get()).isEqualTo(0);
+
+			assertThat(shrinkable.distance()).isEqualTo(ShrinkingDistance.of(3, 6));
+			assertThat(shrinkable.shrink().findFirst()).isPresent();
+			assertThat(shrinkable.value()).containsExactly(1, 2, 3);
+			assertThat(supplierCalls.get()).isEqualTo(1);
+		}
+
+		@Property(tries = 100)
+		void shrinkLikeEagerShrinkableList(
+			@ForAll @Size(max = 10) List<@IntRange(max = 100) Integer> values,
+			@ForAll @IntRange(max = 100) int limit
+		) {
+			Shrinkable<List<Integer>> lazy = new ShrinkableList<>(values, () -> integerShrinkables(values), 0, 10, Collections.emptySet(), null);
+			Shrinkable<List<Integer>> eager = new ShrinkableList<>(integerShrinkables(values), 0, 10, Collections.emptySet(), null);
+
+			TestingFalsifier<List<Integer>> falsifier = list -> list.stream().mapToInt(i -> i).sum() < limit;
+			assertThat(shrink(lazy, falsifier, null)).isEqualTo(shrink(eager, falsifier, null));
+		}
+
+		@Example
+		void differentElementValuesFromSupplierFailLoudly() {
+			Shrinkable<List<Integer>> shrinkable = new ShrinkableList<>(
+				asList(5, 6, 7), () -> integerShrinkables(asList(5, 6, 8)),
+				0, 3, Collections.emptySet(), null
+			);
+
+			assertThat(shrinkable.value()).containsExactly(5, 6, 7);
+			assertThatThrownBy(shrinkable::distance)
+				.isInstanceOf(JqwikException.class)
+				.hasMessageContaining("differ from generated values");
+		}
+
+		@Example
+		void differentNumberOfElementsFromSupplierFailLoudly() {
+			Shrinkable<List<Integer>> shrinkable = new ShrinkableList<>(
+				asList(5, 6, 7), () -> integerShrinkables(asList(5, 6)),
+				0, 3, Collections.emptySet(), null
+			);
+
+			assertThatThrownBy(shrinkable::distance)
+				.isInstanceOf(JqwikException.class)
+				.hasMessageContaining("differ from generated values");
+		}
+	}
+
 	@SuppressWarnings("unchecked")
 	private Shrinkable<List<Integer>> createShrinkableList(Integer... listValues) {
 		return createShrinkableList(Arrays.asList(listValues), 0, listValues.length);
@@ -451,15 +515,17 @@ class ShrinkableListTests {
 			int max,
 			FeatureExtractor<Integer>... extractors
 	) {
-		List<Shrinkable<Integer>> elementShrinkables =
-				listValues.stream()
-						  .map(i -> new ShrinkableBigInteger(
-								  BigInteger.valueOf(i),
-								  Range.of(BigInteger.ZERO, BigInteger.valueOf(100)),
-								  BigInteger.valueOf(0)
-						  ).map(BigInteger::intValueExact))
-						  .collect(Collectors.toList());
-		return new ShrinkableList<>(elementShrinkables, min, max, Arrays.asList(extractors), null);
+		return new ShrinkableList<>(integerShrinkables(listValues), min, max, Arrays.asList(extractors), null);
+	}
+
+	private static List<Shrinkable<Integer>> integerShrinkables(List<Integer> listValues) {
+		return listValues.stream()
+						 .map(i -> new ShrinkableBigInteger(
+							 BigInteger.valueOf(i),
+							 Range.of(BigInteger.ZERO, BigInteger.valueOf(100)),
+							 BigInteger.valueOf(0)
+						 ).map(BigInteger::intValueExact))
+						 .collect(Collectors.toList());
 	}
 
 	private AssertionError failAndCatch(String message) {
@@ -0,0 +1,158 @@
+package net.jqwik.engine.properties.shrinking;
+
+import java.math.*;
+import java.util.*;
+import java.util.stream.*;
+
+import net.jqwik.api.*;
+import net.jqwik.api.Tuple.*;
+import net.jqwik.engine.properties.*;
+import net.jqwik.testing.*;
+
+import static org.assertj.core.api.Assertions.*;
+
+import static net.jqwik.testing.ShrinkingSupport.*;
+
+@Group
+@Label("ShrinkableLong")
+class ShrinkableLongTests {
+
+	@Example
+	void creation() {
+		Shrinkable<Long> shrinkable = new ShrinkableLong(25, Range.of(-100L, 100L), 0);
+		assertThat(shrinkable.value()).isEqualTo(25L);
+		assertThat(shrinkable.distance()).isEqualTo(ShrinkingDistance.of(25));
+	}
+
+	@Example
+	void cannotCreateValueOutsideRange() {
+		assertThatThrownBy(
+			() -> new ShrinkableLong(25, Range.of(50L, 100L), 50))
+			.isInstanceOf(JqwikException.class);
+	}
+
+	@Example
+	void shrinkingDistanceIsCappedAtLongMaxValue() {
+		Range<Long> fullRange = Range.of(Long.MIN_VALUE, Long.MAX_VALUE);
+		assertThat(new ShrinkableLong(Long.MIN_VALUE, fullRange, 0).distance())
+			.isEqualTo(ShrinkingDistance.of(Long.MAX_VALUE));
+		assertThat(new ShrinkableLong(Long.MAX_VALUE, fullRange, -1).distance())
+			.isEqualTo(ShrinkingDistance.of(Long.MAX_VALUE));
+		assertThat(new ShrinkableLong(Long.MIN_VALUE, fullRange, Long.MAX_VALUE).distance())
+			.isEqualTo(ShrinkingDistance.of(Long.MAX_VALUE));
+	}
+
+	@Example
+	void downAllTheWay() {
+		Shrinkable<Long> shrinkable = new ShrinkableLong(100000, Range.of(5L, 500000L), 5);
+
+		TestingFalsifier<Long> falsifier = aLong -> aLong <= 1000;
+		Long shrunkValue = shrink(shrinkable, falsifier, null);
+		assertThat(shrunkValue).isEqualTo(1001L);
+	}
+
+	@Example
+	void shrinkNegativeToPositive() {
+		Shrinkable<Long> shrinkable = new ShrinkableLong(-1000, Range.of(-1000L, 1000L), 0);
+
+		TestingFalsifier<Long> falsifier = aLong -> Math.abs(aLong) < 100;
+		Long shrunkValue = shrink(shrinkable, falsifier, null);
+		assertThat(shrunkValue).isEqualTo(100L);
+	}
+
+	@Example
+	void shrinkFromExtremesOfLongRange() {
+		Range<Long> fullRange = Range.of(Long.MIN_VALUE, Long.MAX_VALUE);
+
+		TestingFalsifier<Long> falsifier = aLong -> aLong > -42;
+		assertThat(shrink(new ShrinkableLong(Long.MIN_VALUE + 1, fullRange, 0), falsifier, null)).isEqualTo(-42L);
+
+		TestingFalsifier<Long> positiveFalsifier = aLong -> aLong < 42;
+		assertThat(shrink(new ShrinkableLong(Long.MAX_VALUE, fullRange, 0), positiveFalsifier, null)).isEqualTo(42L);
+	}
+
+	@Example
+	void growUpToMax() {
+		Shrinkable<Long> shrinkable = new ShrinkableLong(100000, Range.of(5L, 500000L), 5);
+
+		Stream<Long> grownValues = shrinkable.grow().map(Shrinkable::value);
+		assertThat(grownValues).containsExactlyInAnyOrder(100001L, 100010L, 300000L, 500000L);
+	}
+
+	@Example
+	void growDownToMinOfLongRange() {
+		Shrinkable<Long> shrinkable = new ShrinkableLong(Long.MIN_VALUE + 5, Range.of(Long.MIN_VALUE, Long.MAX_VALUE), 0);
+
+		Stream<Long> grownValues = shrinkable.grow().map(Shrinkable::value);
+		assertThat(grownValues).containsExactlyInAnyOrder(Long.MIN_VALUE, Long.MIN_VALUE + 3, Long.MIN_VALUE + 4);
+	}
+
+	@Group
+	class SameBehaviourAsShrinkableBigInteger {
+
+		@Property
+		void sameShrinkingCandidatesInSameOrder(@ForAll("valueRangeAndTarget") Tuple4<Long, Long, Long, Long> config) {
+			ShrinkableLong shrinkableLong = shrinkableLong(config);
+			ShrinkableBigInteger shrinkableBigInteger = shrinkableBigInteger(config);
+
+			assertThat(shrinkableLong.distance()).isEqualTo(shrinkableBigInteger.distance());
+			assertThat(shrinkableLong.shrink().map(Shrinkable::value))
+				.containsExactlyElementsOf(bigIntegerValues(shrinkableBigInteger.shrink()));
+		}
+
+		@Property
+		void sameGrowingCandidates(@ForAll("valueRangeAndTarget") Tuple4<Long, Long, Long, Long> config) {
+			ShrinkableLong shrinkableLong = shrinkableLong(config);
+			ShrinkableBigInteger shrinkableBigInteger = shrinkableBigInteger(config);
+
+			assertThat(shrinkableLong.grow().map(Shrinkable::value))
+				.containsExactlyElementsOf(bigIntegerValues(shrinkableBigInteger.grow()));
+		}
+
+		@Property
+		void sameGrowingFromOtherShrinkables(
+			@ForAll("valueRangeAndTarget") Tuple4<Long, Long, Long, Long> config,
+			@ForAll long before,
+			@ForAll long after
+		) {
+			ShrinkableLong shrinkableLong = shrinkableLong(config);
+			ShrinkableBigInteger shrinkableBigInteger = shrinkableBigInteger(config);
+			Shrinkable<Long> beforeShrinkable = Shrinkable.unshrinkable(before);
+			Shrinkable<Long> afterShrinkable = Shrinkable.unshrinkable(after);
+
+			Optional<Long> grownLong = shrinkableLong.grow(beforeShrinkable, afterShrinkable).map(Shrinkable::value);
+			Optional<Long> grownBigInteger = shrinkableBigInteger.grow(beforeShrinkable, afterShrinkable)
+																 .map(grown -> grown.value().longValueExact());
+			assertThat(grownLong).isEqualTo(grownBigInteger);
+		}
+
+		@Provide
+		Arbitrary<Tuple4<Long, Long, Long, Long>> valueRangeAndTarget() {
+			return Arbitraries.longs().list().ofSize(4).map(values -> {
+				values.sort(Comparator.naturalOrder());
+				long min = values.get(0);
+				long max = values.get(3);
+				// value and target can be on either side of each other
+				return values.get(1) % 2 == 0
+						   ? Tuple.of(values.get(1), min, max, values.get(2))
+						   : Tuple.of(values.get(2), min, max, values.get(1));
+			});
+		}
+
+		private ShrinkableLong shrinkableLong(Tuple4<Long, Long, Long, Long> config) {
+			return new ShrinkableLong(config.get1(), Range.of(config.get2(), config.get3()), config.get4());
+		}
+
+		private ShrinkableBigInteger shrinkableBigInteger(Tuple4<Long, Long, Long, Long> config) {
+			return new ShrinkableBigInteger(
+				BigInteger.valueOf(config.get1()),
+				Range.of(BigInteger.valueOf(config.get2()), BigInteger.valueOf(config.get3())),
+				BigInteger.valueOf(config.get4())
+			);
+		}
+
+		private List<Long> bigIntegerValues(Stream<Shrinkable<BigInteger>> shrinkables) {
+			return shrinkables.map(shrinkable -> shrinkable.value().longValueExact()).collect(Collectors.toList());
+		}
+	}
+}
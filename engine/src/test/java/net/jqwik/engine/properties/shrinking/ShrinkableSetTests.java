@@ -2,10 +2,12 @@ package net.jqwik.engine.properties.shrinking;
 
 import java.math.*;
 import java.util.*;
+import java.util.concurrent.atomic.*;
 import java.util.function.*;
 import java.util.stream.*;
 
 import net.jqwik.api.*;
+import net.jqwik.api.constraints.*;
 import net.jqwik.api.lifecycle.*;
 import net.jqwik.api.support.*;
 import net.jqwik.engine.properties.*;
@@ -176,21 +178,56 @@ class ShrinkableSetTests {
 		return new LinkedHashSet<>(moduloList).size() == list.size();
 	}
 
+	@Example
+	void lazyElementsAreOnlyCreatedForShrinking() {
+		AtomicInteger supplierCalls = new AtomicInteger(0);
+		Shrinkable<Set<Integer>> shrinkable = new ShrinkableSet<>(
+			asList(3, 1, 2),
+			() -> {
+				supplierCalls.incrementAndGet();
+				return integerShrinkables(asList(3, 1, 2));
+			},
+			2, 3, Collections.emptySet(), null
+		);
+
+		assertThat(shrinkable.value()).containsExactly(3, 1, 2);
+		assertThat(supplierCalls.get()).isEqualTo(0);
+
+		Set<Integer> shrunkValue = shrink(shrinkable, alwaysFalsify(), null);
+		assertThat(shrunkValue).containsExactlyInAnyOrder(0, 1);
+		assertThat(supplierCalls.get()).isEqualTo(1);
+	}
+
+	@Property(tries = 100)
+	void lazyElementsShrinkLikeEagerElements(
+		@ForAll @Size(max = 10) Set<@IntRange(max = 100) Integer> values,
+		@ForAll @IntRange(max = 100) int limit
+	) {
+		List<Integer> valueList = new ArrayList<>(values);
+		Shrinkable<Set<Integer>> lazy = new ShrinkableSet<>(valueList, () -> integerShrinkables(valueList), 0, 10, Collections.emptySet(), null);
+		Shrinkable<Set<Integer>> eager = new ShrinkableSet<>(integerShrinkables(valueList), 0, 10, Collections.emptySet(), null);
+
+		TestingFalsifier<Set<Integer>> falsifier = set -> set.stream().mapToInt(i -> i).sum() < limit;
+		assertThat(shrink(lazy, falsifier, null)).isEqualTo(shrink(eager, falsifier, null));
+	}
+
 	@SafeVarargs
 	private final Shrinkable<Set<Integer>> createShrinkableSet(
 		List<Integer> listValues,
 		int min,
 		FeatureExtractor<Integer>... extractors
 	) {
-		List<Shrinkable<Integer>> elementShrinkables =
-			listValues.stream()
-					  .map(i -> new ShrinkableBigInteger(
-						  BigInteger.valueOf(i),
-						  Range.of(BigInteger.ZERO, BigInteger.valueOf(100)),
-						  BigInteger.valueOf(0)
-					  ).map(BigInteger::intValueExact))
-					  .collect(Collectors.toList());
-		return new ShrinkableSet<>(elementShrinkables, min, listValues.size(), Arrays.asList(extractors), null);
+		return new ShrinkableSet<>(integerShrinkables(listValues), min, listValues.size(), Arrays.asList(extractors), null);
+	}
+
+	private static List<Shrinkable<Integer>> integerShrinkables(List<Integer> listValues) {
+		return listValues.stream()
+						 .map(i -> new ShrinkableBigInteger(
+							 BigInteger.valueOf(i),
+							 Range.of(BigInteger.ZERO, BigInteger.valueOf(100)),
+							 BigInteger.valueOf(0)
+						 ).map(BigInteger::intValueExact))
+						 .collect(Collectors.toList());
 	}
 
 	private AssertionError failAndCatch(String message) {
@@ -1,6 +1,7 @@
 package net.jqwik.engine.properties.shrinking;
 
 import java.util.*;
+import java.util.concurrent.atomic.*;
 import java.util.stream.*;
 
 import net.jqwik.api.*;
@@ -138,15 +139,65 @@ public class ShrinkableStringTests {
 
 	}
 
+	@Group
+	class CompactStrings {
+
+		@Example
+		void valueDoesNotCreateCharacterShrinkables() {
+			AtomicInteger supplierCalls = new AtomicInteger(0);
+			Shrinkable<String> shrinkable = new ShrinkableString(
+				"abcd".toCharArray(),
+				() -> {
+					supplierCalls.incrementAndGet();
+					return characterShrinkables("abcd");
+				},
+				0, 4, null, false
+			);
+
+			assertThat(shrinkable.value()).isEqualTo("abcd");
+			assertThat(supplierCalls.get()).isEqualTo(0);
+
+			assertThat(shrinkable.distance()).isEqualTo(ShrinkingDistance.of(4, 6));
+			assertThat(shrinkable.value()).isEqualTo("abcd");
+			assertThat(supplierCalls.get()).isEqualTo(1);
+		}
+
+		@Property(tries = 100)
+		void shrinkLikeEagerShrinkableString(
+			@ForAll @CharRange(from = 'a', to = 'z') @StringLength(max = 20) String aString,
+			@ForAll @CharRange(from = 'a', to = 'z') char forbidden
+		) {
+			Shrinkable<String> lazy = new ShrinkableString(aString.toCharArray(), () -> characterShrinkables(aString), 0, 20, null, false);
+			Shrinkable<String> eager = new ShrinkableString(characterShrinkables(aString), 0, 20, null, false);
+
+			TestingFalsifier<String> falsifier = string -> string.indexOf(forbidden) < 0;
+			assertThat(shrink(lazy, falsifier, null)).isEqualTo(shrink(eager, falsifier, null));
+		}
+
+		@Example
+		void differentCharsFromSupplierFailLoudly() {
+			Shrinkable<String> shrinkable = new ShrinkableString(
+				"xyz".toCharArray(), () -> characterShrinkables("abc"),
+				0, 3, null, false
+			);
+
+			assertThat(shrinkable.value()).isEqualTo("xyz");
+			assertThatThrownBy(shrinkable::distance)
+				.isInstanceOf(JqwikException.class)
+				.hasMessageContaining("differ from generated values");
+		}
+	}
+
 	public static Shrinkable<String> createShrinkableString(String aString, int minSize, boolean uniqueChars) {
-		List<Shrinkable<Character>> elementShrinkables =
-			aString
+		return new ShrinkableString(characterShrinkables(aString), minSize, aString.length(), null, uniqueChars);
+	}
+
+	private static List<Shrinkable<Character>> characterShrinkables(String aString) {
+		return aString
 				.chars()
 				.mapToObj(aChar -> new OneStepShrinkable(aChar, 'a', 'z'))
 				.map(shrinkable -> shrinkable.map(anInt -> (char) (int) anInt))
 				.collect(Collectors.toList());
-
-		return new ShrinkableString(elementShrinkables, minSize, aString.length(), null, uniqueChars);
 	}
 
 }
@@ -0,0 +1,57 @@
+package net.jqwik.engine.recording;
+
+import java.io.*;
+import java.time.*;
+import java.util.*;
+
+import org.junit.platform.engine.*;
+
+import net.jqwik.api.*;
+import net.jqwik.api.lifecycle.PropertyExecutionResult.*;
+import net.jqwik.engine.execution.*;
+
+import static org.assertj.core.api.Assertions.*;
+
+class TestRunTests {
+
+	// A failed run of [engine:jqwik]/[method:aProperty] with seed 42 and generation index 7
+	// as serialized by versions that did not record durations
+	private static final String RUN_WITHOUT_DURATION =
+		"rO0ABXNyACJuZXQuanF3aWsuZW5naW5lLnJlY29yZGluZy5UZXN0UnVub1qZ9Eo+NJgCAANJAA1zdGF0dXNPcmRpbmFsTAAOZ2VuZXJhdGlvbkluZm90ACtM" +
+			"bmV0L2pxd2lrL2VuZ2luZS9leGVjdXRpb24vR2VuZXJhdGlvbkluZm87TAAOdW5pcXVlSWRTdHJpbmd0ABJMamF2YS9sYW5nL1N0cmluZzt4cAAAAAJzcgAp" +
+			"bmV0Lmpxd2lrLmVuZ2luZS5leGVjdXRpb24uR2VuZXJhdGlvbkluZm+0+QbrbRW7XgIAA0kAD2dlbmVyYXRpb25JbmRleEwADWJ5dGVTZXF1ZW5jZXN0ABBM" +
+			"amF2YS91dGlsL0xpc3Q7TAAKcmFuZG9tU2VlZHEAfgACeHAAAAAHc3IAH2phdmEudXRpbC5Db2xsZWN0aW9ucyRFbXB0eUxpc3R6uBe0PKee3gIAAHhwdAAC" +
+			"NDJ0ACFbZW5naW5lOmpxd2lrXS9bbWV0aG9kOmFQcm9wZXJ0eV0=";
+
+	@Example
+	void runsRecordedWithoutDurationCanBeRead() throws Exception {
+		byte[] bytes = Base64.getDecoder().decode(RUN_WITHOUT_DURATION);
+		TestRun testRun;
+		try (ObjectInputStream in = new ObjectInputStream(new ByteArrayInputStream(bytes))) {
+			testRun = (TestRun) in.readObject();
+		}
+
+		assertThat(testRun.getUniqueId()).isEqualTo(UniqueId.forEngine("jqwik").append("method", "aProperty"));
+		assertThat(testRun.getStatus()).isEqualTo(Status.FAILED);
+		assertThat(testRun.generationInfo().randomSeed()).hasValue("42");
+		assertThat(testRun.generationInfo().generationIndex()).isEqualTo(7);
+		assertThat(testRun.duration()).isEmpty();
+	}
+
+	@Example
+	void durationSurvivesSerialization() throws Exception {
+		TestRun original = new TestRun(
+			UniqueId.forEngine("jqwik"), Status.SUCCESSFUL, new GenerationInfo("42"), Duration.ofMillis(1234)
+		);
+		ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+		try (ObjectOutputStream out = new ObjectOutputStream(bytes)) {
+			out.writeObject(original);
+		}
+
+		TestRun testRun;
+		try (ObjectInputStream in = new ObjectInputStream(new ByteArrayInputStream(bytes.toByteArray()))) {
+			testRun = (TestRun) in.readObject();
+		}
+		assertThat(testRun.duration()).hasValue(Duration.ofMillis(1234));
+	}
+}
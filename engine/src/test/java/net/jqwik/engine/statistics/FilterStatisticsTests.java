@@ -0,0 +1,93 @@
+package net.jqwik.engine.statistics;
+
+import java.util.*;
+
+import net.jqwik.api.*;
+import net.jqwik.api.lifecycle.*;
+import net.jqwik.api.statistics.*;
+
+import static org.assertj.core.api.Assertions.*;
+
+class FilterStatisticsTests {
+
+	@Property(tries = 20, edgeCases = EdgeCasesMode.NONE)
+	@AddLifecycleHook(CheckEvenFilter.class)
+	void filtersAreCountedDuringProperty(@ForAll("evenNumbers") int anInt) {
+		List<FilterStatistics> filters = Statistics.filters();
+		assertThat(filters).hasSize(1);
+		assertThat(filters.get(0).countAccepted()).isPositive();
+	}
+
+	@Provide
+	Arbitrary<Integer> evenNumbers() {
+		return Arbitraries.integers().between(0, 1000).filter(i -> i % 2 == 0);
+	}
+
+	private static class CheckEvenFilter implements AroundPropertyHook {
+		@Override
+		public PropertyExecutionResult aroundProperty(PropertyLifecycleContext context, PropertyExecutor property) {
+			PropertyExecutionResult result = property.execute();
+
+			List<FilterStatistics> filters = Statistics.filters();
+			assertThat(filters).hasSize(1);
+			FilterStatistics evenFilter = filters.get(0);
+			assertThat(evenFilter.label()).contains("lambda in " + FilterStatisticsTests.class.getName());
+			assertThat(evenFilter.countAccepted()).isEqualTo(20);
+			assertThat(evenFilter.countGenerated()).isGreaterThanOrEqualTo(20);
+			assertThat(evenFilter.acceptanceRate()).isBetween(0.0, 1.0);
+			assertThat(evenFilter.timeSpent()).isPositive();
+
+			return result;
+		}
+	}
+
+	@Property(tries = 10, edgeCases = EdgeCasesMode.NONE)
+	@AddLifecycleHook(CheckFiltersSortedByAcceptance.class)
+	void filtersWithLowestAcceptanceComeFirst(
+		@ForAll("rarelyAccepted") int rare,
+		@ForAll("mostlyAccepted") int often
+	) {
+	}
+
+	@Provide
+	Arbitrary<Integer> rarelyAccepted() {
+		return Arbitraries.integers().between(0, 99).filter(i -> i == 0);
+	}
+
+	@Provide
+	Arbitrary<Integer> mostlyAccepted() {
+		return Arbitraries.integers().between(0, 99).filter(Predicates.greaterThan(0));
+	}
+
+	private static class CheckFiltersSortedByAcceptance implements AroundPropertyHook {
+		@Override
+		public PropertyExecutionResult aroundProperty(PropertyLifecycleContext context, PropertyExecutor property) {
+			PropertyExecutionResult result = property.execute();
+
+			List<FilterStatistics> filters = Statistics.filters();
+			assertThat(filters).hasSize(2);
+			assertThat(filters.get(0).label()).contains("lambda");
+			assertThat(filters.get(0).acceptanceRate()).isLessThan(filters.get(1).acceptanceRate());
+			assertThat(filters.get(1).label()).isEqualTo("filter(RangePredicate<]0..[>)");
+
+			return result;
+		}
+	}
+
+	@Property(tries = 10)
+	void noFiltersNoStatistics(@ForAll int anInt) {
+		assertThat(Statistics.filters()).isEmpty();
+	}
+
+	@Example
+	void filtersUsedInPropertyMethodAreCounted(@ForAll Random random) {
+		RandomGenerator<Integer> generator = Arbitraries.integers().filter(i -> i > 0).generator(100);
+
+		for (int i = 0; i < 10; i++) {
+			generator.next(random);
+		}
+
+		assertThat(Statistics.filters()).hasSize(1);
+		assertThat(Statistics.filters().get(0).countAccepted()).isEqualTo(10);
+	}
+}
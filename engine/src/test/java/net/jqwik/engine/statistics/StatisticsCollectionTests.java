@@ -1,6 +1,7 @@
 package net.jqwik.engine.statistics;
 
 import java.util.*;
+import java.util.concurrent.*;
 
 import net.jqwik.api.*;
 import net.jqwik.engine.hooks.statistics.*;
@@ -66,6 +67,32 @@ class StatisticsCollectionTests {
 			assertThatThrownBy(() -> collector.collect("just a string")).isInstanceOf(IllegalArgumentException.class);
 			assertThatThrownBy(() -> collector.collect("a string", 3, new Object())).isInstanceOf(IllegalArgumentException.class);
 		}
+
+		@Example
+		void countConcurrentlyCollectedValues() throws Exception {
+			StatisticsCollectorImpl collector = new StatisticsCollectorImpl("a label");
+
+			ExecutorService executor = Executors.newFixedThreadPool(8);
+			try {
+				List<Future<?>> futures = new ArrayList<>();
+				for (int i = 0; i < 8; i++) {
+					futures.add(executor.submit(() -> {
+						for (int j = 0; j < 1000; j++) {
+							collector.collect(j % 2 == 0 ? "even" : "odd");
+						}
+					}));
+				}
+				for (Future<?> future : futures) {
+					future.get();
+				}
+			} finally {
+				executor.shutdown();
+			}
+
+			assertThat(collector.count("even")).isEqualTo(4000);
+			assertThat(collector.count("odd")).isEqualTo(4000);
+			assertThat(collector.countAllCollects()).isEqualTo(8000);
+		}
 	}
 
 	@Group
@@ -3,6 +3,7 @@ package net.jqwik.engine.statistics;
 import java.util.*;
 
 import net.jqwik.api.*;
+import net.jqwik.api.constraints.*;
 import net.jqwik.api.lifecycle.*;
 import net.jqwik.api.statistics.*;
 import net.jqwik.testing.*;
@@ -51,6 +52,13 @@ class StatisticsHookTests {
 		}
 	}
 
+	@Property(tries = 1000, parallelism = 8)
+	void collectingFromConcurrentTries(@ForAll @IntRange(min = 0, max = 100_000) int anInt) {
+		Statistics.collect("try");
+		Statistics.label("label " + anInt % 10).collect(anInt % 10);
+		Statistics.coverage(checker -> checker.check("try").count(c -> c == 1000));
+	}
+
 	private class FirstFormat implements StatisticsReportFormat {
 		@Override
 		public List<String> formatReport(List<StatisticsEntry> entries) {
@@ -0,0 +1,92 @@
+package net.jqwik.engine.support;
+
+import java.util.*;
+
+import net.jqwik.api.*;
+import net.jqwik.api.Tuple.*;
+import net.jqwik.api.constraints.*;
+
+import static org.assertj.core.api.Assertions.*;
+
+class ChooseRandomlyByFrequencyTests {
+
+	@Example
+	void singleValueIsAlwaysChosen(@ForAll Random random) {
+		ChooseRandomlyByFrequency<String> choose = new ChooseRandomlyByFrequency<>(Collections.singletonList(Tuple.of(5, "a")));
+		for (int i = 0; i < 100; i++) {
+			assertThat(choose.apply(random)).isEqualTo("a");
+		}
+	}
+
+	@Example
+	void valuesWithoutPositiveFrequencyAreNeverChosen(@ForAll Random random) {
+		ChooseRandomlyByFrequency<String> choose = new ChooseRandomlyByFrequency<>(Arrays.asList(
+			Tuple.of(0, "zero"),
+			Tuple.of(1, "one"),
+			Tuple.of(-1, "negative"),
+			Tuple.of(2, "two")
+		));
+		for (int i = 0; i < 1000; i++) {
+			assertThat(choose.apply(random)).isIn("one", "two");
+		}
+	}
+
+	@Example
+	void failsWithoutAnyPositiveFrequency() {
+		assertThatThrownBy(
+			() -> new ChooseRandomlyByFrequency<>(Arrays.asList(Tuple.of(0, "zero"), Tuple.of(-1, "negative")))
+		).isInstanceOf(JqwikException.class);
+	}
+
+	@Example
+	void uniformFrequenciesNeedOnlyOneRandomNumber() {
+		ChooseRandomlyByFrequency<String> choose = new ChooseRandomlyByFrequency<>(Arrays.asList(
+			Tuple.of(3, "a"),
+			Tuple.of(3, "b"),
+			Tuple.of(3, "c")
+		));
+		assertThat(choose.apply(new FixedRandom(0))).isEqualTo("a");
+		assertThat(choose.apply(new FixedRandom(1))).isEqualTo("b");
+		assertThat(choose.apply(new FixedRandom(2))).isEqualTo("c");
+	}
+
+	@Property(tries = 100)
+	void everyValueIsChosenWithExactProbabilityOfItsFrequency(
+		@ForAll @Size(min = 1, max = 30) List<@IntRange(min = 0, max = 50) Integer> frequencies
+	) {
+		Assume.that(frequencies.stream().anyMatch(frequency -> frequency > 0));
+		List<Tuple2<Integer, Integer>> valuesWithFrequencies = new ArrayList<>();
+		for (int i = 0; i < frequencies.size(); i++) {
+			valuesWithFrequencies.add(Tuple.of(frequencies.get(i), i));
+		}
+		ChooseRandomlyByFrequency<Integer> choose = new ChooseRandomlyByFrequency<>(valuesWithFrequencies);
+
+		int columns = (int) frequencies.stream().filter(frequency -> frequency > 0).count();
+		int totalFrequency = frequencies.stream().mapToInt(Integer::intValue).sum();
+		int[] counts = new int[frequencies.size()];
+		// Every combination of column and threshold is equally probable
+		for (int column = 0; column < columns; column++) {
+			for (int threshold = 0; threshold < totalFrequency; threshold++) {
+				counts[choose.apply(new FixedRandom(column, threshold))]++;
+			}
+		}
+
+		for (int i = 0; i < frequencies.size(); i++) {
+			assertThat(counts[i]).isEqualTo(frequencies.get(i) * columns);
+		}
+	}
+
+	private static class FixedRandom extends Random {
+		private final int[] values;
+		private int index = 0;
+
+		private FixedRandom(int... values) {
+			this.values = values;
+		}
+
+		@Override
+		public int nextInt(int bound) {
+			return values[index++];
+		}
+	}
+}
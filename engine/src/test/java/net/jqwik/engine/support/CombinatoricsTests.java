@@ -296,6 +296,75 @@ class CombinatoricsTests {
 
 	}
 
+	@Group
+	@Label("combineDiagonally")
+	class CombineDiagonally {
+
+		@Example
+		void combineNoLists() {
+			List<List<Integer>> lists = asList();
+			Iterator<List<Integer>> iterator = Combinatorics.combineDiagonally(lists, 10);
+
+			assertThat(iterator).toIterable().containsExactly(
+				asList()
+			);
+		}
+
+		@Example
+		void combinationsAreOrderedBySumOfIndices() {
+			List<List<Object>> lists = asList(
+				asList(1, 2, 3),
+				asList('a', 'b', 'c')
+			);
+			Iterator<List<Object>> iterator = Combinatorics.combineDiagonally(lists, Long.MAX_VALUE);
+
+			assertThat(iterator).toIterable().containsExactly(
+				asList(1, 'a'),
+				asList(1, 'b'), asList(2, 'a'),
+				asList(1, 'c'), asList(2, 'b'), asList(3, 'a'),
+				asList(2, 'c'), asList(3, 'b'),
+				asList(3, 'c')
+			);
+		}
+
+		@Example
+		void stopsAfterMaxCount() {
+			List<List<Integer>> lists = asList(
+				asList(1, 2, 3),
+				asList(1, 2, 3),
+				asList(1, 2, 3)
+			);
+			Iterator<List<Integer>> iterator = Combinatorics.combineDiagonally(lists, 4);
+
+			assertThat(iterator).toIterable().containsExactly(
+				asList(1, 1, 1), asList(1, 1, 2), asList(1, 2, 1), asList(2, 1, 1)
+			);
+			assertThatThrownBy(() -> iterator.next()).isInstanceOf(NoSuchElementException.class);
+		}
+
+		@Example
+		void oneListIsEmpty() {
+			List<List<Integer>> lists = asList(
+				asList(1, 2, 3),
+				Collections.emptyList()
+			);
+			Iterator<List<Integer>> iterator = Combinatorics.combineDiagonally(lists, 10);
+
+			assertThat(iterator.hasNext()).isFalse();
+		}
+
+		@Property(tries = 100)
+		@Label("produces same combinations as combine()")
+		void sameCombinationsAsCombine(@ForAll @Size(max = 4) List<@Size(min = 1, max = 4) List<Integer>> listOfLists) {
+			List<Iterable<Integer>> iterables = new ArrayList<>(listOfLists);
+			List<List<Integer>> expected = new ArrayList<>();
+			Combinatorics.combine(iterables).forEachRemaining(expected::add);
+
+			Iterator<List<Integer>> iterator = Combinatorics.combineDiagonally(listOfLists, Long.MAX_VALUE);
+			assertThat(iterator).toIterable().containsExactlyInAnyOrderElementsOf(expected);
+		}
+	}
+
 	@Group
 	@Label("combine")
 	class Combine {
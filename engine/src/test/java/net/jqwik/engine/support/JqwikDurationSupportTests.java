@@ -0,0 +1,59 @@
+package net.jqwik.engine.support;
+
+import java.time.*;
+
+import net.jqwik.api.*;
+
+import static org.assertj.core.api.Assertions.*;
+
+class JqwikDurationSupportTests {
+
+	@Example
+	void parseSingleUnits() {
+		assertThat(JqwikDurationSupport.parse("500ms")).isEqualTo(Duration.ofMillis(500));
+		assertThat(JqwikDurationSupport.parse("30s")).isEqualTo(Duration.ofSeconds(30));
+		assertThat(JqwikDurationSupport.parse("2m")).isEqualTo(Duration.ofMinutes(2));
+		assertThat(JqwikDurationSupport.parse("1h")).isEqualTo(Duration.ofHours(1));
+		assertThat(JqwikDurationSupport.parse("1d")).isEqualTo(Duration.ofDays(1));
+	}
+
+	@Example
+	void parseCombinedUnits() {
+		assertThat(JqwikDurationSupport.parse("1h30m")).isEqualTo(Duration.ofMinutes(90));
+		assertThat(JqwikDurationSupport.parse(" 1M30S ")).isEqualTo(Duration.ofSeconds(90));
+	}
+
+	@Example
+	void parseIsoDurations() {
+		assertThat(JqwikDurationSupport.parse("PT30S")).isEqualTo(Duration.ofSeconds(30));
+		assertThat(JqwikDurationSupport.parse("pt1m")).isEqualTo(Duration.ofMinutes(1));
+	}
+
+	@Example
+	void invalidDurationsAreRejected() {
+		assertThatThrownBy(() -> JqwikDurationSupport.parse("")).isInstanceOf(JqwikException.class);
+		assertThatThrownBy(() -> JqwikDurationSupport.parse("30")).isInstanceOf(JqwikException.class);
+		assertThatThrownBy(() -> JqwikDurationSupport.parse("30 s")).isInstanceOf(JqwikException.class);
+		assertThatThrownBy(() -> JqwikDurationSupport.parse("s30")).isInstanceOf(JqwikException.class);
+		assertThatThrownBy(() -> JqwikDurationSupport.parse("PTxyz")).isInstanceOf(JqwikException.class);
+	}
+
+	@Example
+	void durationMustBePositive() {
+		assertThatThrownBy(() -> JqwikDurationSupport.parse("0s")).isInstanceOf(JqwikException.class);
+		assertThatThrownBy(() -> JqwikDurationSupport.parse("PT-1S")).isInstanceOf(JqwikException.class);
+	}
+
+	@Example
+	void displayString() {
+		assertThat(JqwikDurationSupport.displayString(Duration.ofMillis(1500))).isEqualTo(String.format("%.3fs", 1.5));
+		assertThat(JqwikDurationSupport.displayString(Duration.ofDays(200000))).isEqualTo(String.format("%.3fs", 17_280_000_000.0));
+	}
+
+	@Example
+	void tooLongDurationsAreRejected() {
+		assertThatThrownBy(() -> JqwikDurationSupport.parse("99999999999999999999s")).isInstanceOf(JqwikException.class);
+		assertThatThrownBy(() -> JqwikDurationSupport.parse("9999999999999999d")).isInstanceOf(JqwikException.class);
+		assertThatThrownBy(() -> JqwikDurationSupport.parse("9223372036854775807s1s")).isInstanceOf(JqwikException.class);
+	}
+}